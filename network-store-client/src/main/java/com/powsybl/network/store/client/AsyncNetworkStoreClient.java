@@ -0,0 +1,39 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+import com.powsybl.network.store.model.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking access to the network store: every operation returns immediately a future completed when the server
+ * has answered, so that many network loads can be in flight without holding a thread each.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public interface AsyncNetworkStoreClient {
+
+    CompletableFuture<List<NetworkInfos>> getNetworksInfos();
+
+    CompletableFuture<Optional<Resource<NetworkAttributes>>> getNetwork(UUID networkUuid, int variantNum);
+
+    CompletableFuture<Void> deleteNetwork(UUID networkUuid);
+
+    <T extends IdentifiableAttributes> CompletableFuture<List<Resource<T>>> getResources(UUID networkUuid, int variantNum, ResourceType resourceType);
+
+    <T extends IdentifiableAttributes> CompletableFuture<Optional<Resource<T>>> getResource(UUID networkUuid, int variantNum, ResourceType resourceType, String id);
+
+    <T extends IdentifiableAttributes> CompletableFuture<Void> createResources(UUID networkUuid, ResourceType resourceType, List<Resource<T>> resources);
+
+    <T extends IdentifiableAttributes> CompletableFuture<Void> updateResources(UUID networkUuid, ResourceType resourceType, List<Resource<T>> resources, AttributeFilter attributeFilter);
+
+    CompletableFuture<Void> removeResources(UUID networkUuid, int variantNum, ResourceType resourceType, List<String> ids);
+}
@@ -0,0 +1,74 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+import com.powsybl.network.store.model.*;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link RestClient}: requests are sent without waiting for the response, which is
+ * delivered by the returned future. No thread is held while a request is in flight. Request bodies are serialized
+ * before the methods return, so the given resources may be modified as soon as the future has been created.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public interface AsyncRestClient {
+
+    <T extends IdentifiableAttributes> CompletableFuture<Void> createAll(String url, List<Resource<T>> resources, Object... uriVariables);
+
+    /**
+     * Same as {@link #createAll(String, List, Object...)}, the key being sent so that the server does not create the
+     * resources twice if the request is replayed. Implementations not supporting keys ignore it.
+     * @param idempotencyKey key of the request, null to send it without key
+     */
+    default <T extends IdentifiableAttributes> CompletableFuture<Void> createAll(IdempotencyKey idempotencyKey, String url, List<Resource<T>> resources, Object... uriVariables) {
+        return createAll(url, resources, uriVariables);
+    }
+
+    <T extends IdentifiableAttributes> CompletableFuture<Optional<Resource<T>>> getOne(String target, String url, Object... uriVariables);
+
+    CompletableFuture<Optional<ExtensionAttributes>> getOneExtensionAttributes(String url, Object... uriVariables);
+
+    CompletableFuture<Optional<OperationalLimitsGroupAttributes>> getOneOperationalLimitsGroupAttributes(String url, Object... uriVariables);
+
+    <T extends IdentifiableAttributes> CompletableFuture<List<Resource<T>>> getAll(String target, String url, Object... uriVariables);
+
+    <T extends IdentifiableAttributes> CompletableFuture<Optional<List<Resource<T>>>> findAll(String target, HttpMethod method, String url, Object body, Object... uriVariables);
+
+    <T extends Attributes> CompletableFuture<Void> updateAll(String url, List<Resource<T>> resources, Class<?> viewClass, Object... uriVariables);
+
+    <E> CompletableFuture<E> get(String url, ParameterizedTypeReference<E> responseType, Object... uriVariables);
+
+    <E> CompletableFuture<Optional<E>> find(String url, ParameterizedTypeReference<E> responseType, Object... uriVariables);
+
+    CompletableFuture<Void> put(String url, Object... uriVariables);
+
+    /**
+     * Same as {@link #put(String, Object...)}, with an idempotency key (may be null).
+     */
+    default CompletableFuture<Void> put(IdempotencyKey idempotencyKey, String url, Object... uriVariables) {
+        return put(url, uriVariables);
+    }
+
+    CompletableFuture<Void> delete(String url, Object... uriVariables);
+
+    CompletableFuture<Void> post(String url, Object... uriVariables);
+
+    /**
+     * Same as {@link #post(String, Object...)}, with an idempotency key (may be null).
+     */
+    default CompletableFuture<Void> post(IdempotencyKey idempotencyKey, String url, Object... uriVariables) {
+        return post(url, uriVariables);
+    }
+
+    <T> CompletableFuture<Void> deleteAll(String url, T ids, Object... uriVariables);
+}
@@ -0,0 +1,337 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.network.store.model.*;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * {@link AsyncRestClient} implementation based on the JDK HTTP client. Documents are exchanged in JSON, request
+ * bodies are compressed and responses decompressed like with {@link CompressionInterceptor}, and error statuses are
+ * mapped to the same exceptions as {@link RestTemplateResponseErrorHandler}. Transport failures complete the futures
+ * with a {@link ResourceAccessException}, as with a {@code RestTemplate}.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class AsyncRestClientImpl implements AsyncRestClient {
+
+    private final HttpClient httpClient;
+
+    private final String baseUri;
+
+    private final ObjectMapper objectMapper;
+
+    private final Compression compression;
+
+    private final int compressionThreshold;
+
+    private final String acceptEncoding;
+
+    /**
+     * Response timeout, null for no timeout.
+     */
+    private final Duration readTimeout;
+
+    private record Response(HttpStatusCode statusCode, byte[] body) {
+    }
+
+    public AsyncRestClientImpl(String baseUri) {
+        this(new NetworkStoreConfig(baseUri));
+    }
+
+    public AsyncRestClientImpl(NetworkStoreConfig config) {
+        this(createHttpClient(config), config);
+    }
+
+    public AsyncRestClientImpl(HttpClient httpClient, NetworkStoreConfig config) {
+        this.httpClient = Objects.requireNonNull(httpClient);
+        Objects.requireNonNull(config);
+        this.baseUri = UriComponentsBuilder.fromUriString(config.getBaseUrl())
+                .path(NetworkStoreApi.VERSION)
+                .toUriString();
+        // same mapper as the one of the RestTemplate converter
+        this.objectMapper = RestClientImpl.createObjectMapper().enable(MapperFeature.DEFAULT_VIEW_INCLUSION);
+        this.compression = config.getCompression();
+        compression.checkAvailable();
+        if (config.getCompressionThreshold() < 0) {
+            throw new IllegalArgumentException("Compression threshold has to be positive: " + config.getCompressionThreshold());
+        }
+        this.compressionThreshold = config.getCompressionThreshold();
+        // we are always able to decode gzip, zstd only if the library is there
+        acceptEncoding = Compression.isZstdAvailable() ? "zstd, gzip" : "gzip";
+        this.readTimeout = config.getReadTimeout() > 0 ? Duration.ofMillis(config.getReadTimeout()) : null;
+    }
+
+    /**
+     * Create a JDK HTTP client with the protocol version and the connect timeout of the config.
+     */
+    static HttpClient createHttpClient(NetworkStoreConfig config) {
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .version(config.getHttpVersion() == HttpVersion.HTTP_2 ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .followRedirects(HttpClient.Redirect.NORMAL);
+        if (config.getConnectTimeout() > 0) {
+            builder.connectTimeout(Duration.ofMillis(config.getConnectTimeout()));
+        }
+        return builder.build();
+    }
+
+    private URI expand(String url, Object... uriVariables) {
+        return UriComponentsBuilder.fromUriString(baseUri + url)
+                .buildAndExpand(uriVariables)
+                .encode()
+                .toUri();
+    }
+
+    private byte[] writeBody(Object body, Class<?> viewClass) {
+        ObjectWriter writer = viewClass != null ? objectMapper.writerWithView(viewClass) : objectMapper.writer();
+        try {
+            return writer.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private CompletableFuture<Response> exchange(String method, String url, Object body, Class<?> viewClass, IdempotencyKey idempotencyKey,
+                                                 Object... uriVariables) {
+        URI uri = expand(url, uriVariables);
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        if (idempotencyKey != null) {
+            builder.header(IdempotencyKey.HEADER, idempotencyKey.value());
+        }
+        if (readTimeout != null) {
+            builder.timeout(readTimeout);
+        }
+        HttpRequest.BodyPublisher bodyPublisher;
+        if (body != null) {
+            byte[] bytes = writeBody(body, viewClass);
+            if (compression != Compression.NONE && bytes.length >= compressionThreshold) {
+                bytes = compression.compress(bytes);
+                builder.header(HttpHeaders.CONTENT_ENCODING, compression.getEncoding());
+            }
+            builder.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+            bodyPublisher = HttpRequest.BodyPublishers.ofByteArray(bytes);
+        } else {
+            bodyPublisher = HttpRequest.BodyPublishers.noBody();
+        }
+        return httpClient.sendAsync(builder.method(method, bodyPublisher).build(), HttpResponse.BodyHandlers.ofByteArray())
+                .handle((httpResponse, e) -> {
+                    if (e != null) {
+                        throw new CompletionException(wrapTransportError(method, uri, e));
+                    }
+                    return toResponse(httpResponse);
+                });
+    }
+
+    private static Throwable wrapTransportError(String method, URI uri, Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof IOException ioException) {
+            return new ResourceAccessException("I/O error on " + method + " request for \"" + uri + "\": " + ioException.getMessage(), ioException);
+        }
+        return cause;
+    }
+
+    private static Response toResponse(HttpResponse<byte[]> httpResponse) {
+        Compression responseCompression = httpResponse.headers().firstValue(HttpHeaders.CONTENT_ENCODING)
+                .map(Compression::fromEncoding)
+                .orElse(null);
+        byte[] body = decompress(httpResponse.body(), responseCompression);
+        HttpStatusCode statusCode = HttpStatusCode.valueOf(httpResponse.statusCode());
+        if (statusCode.isError()) {
+            String statusText = statusCode instanceof HttpStatus status ? status.getReasonPhrase() : "";
+            RestTemplateResponseErrorHandler.handleError(statusCode, statusText, body);
+        }
+        return new Response(statusCode, body);
+    }
+
+    private static byte[] decompress(byte[] body, Compression compression) {
+        // an empty body is not a valid compressed stream
+        if (compression == null || body.length == 0) {
+            return body;
+        }
+        try (InputStream is = compression.decompress(new ByteArrayInputStream(body))) {
+            return is.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private <E> E read(Response response, ParameterizedTypeReference<E> type) {
+        try {
+            return objectMapper.readValue(response.body(), objectMapper.getTypeFactory().constructType(type.getType()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static PowsyblException createHttpException(String url, String method, HttpStatusCode httpStatusCode) {
+        return new PowsyblException("Fail to " + method + " at " + url + ", status: " + httpStatusCode);
+    }
+
+    private static void checkStatus(Response response, HttpStatus expectedStatus, String url, String method) {
+        if (response.statusCode() != expectedStatus) {
+            throw createHttpException(url, method, response.statusCode());
+        }
+    }
+
+    @Override
+    public <T extends IdentifiableAttributes> CompletableFuture<Void> createAll(String url, List<Resource<T>> resources, Object... uriVariables) {
+        return exchange("POST", url, resources, null, null, uriVariables)
+                .thenAccept(response -> checkStatus(response, HttpStatus.CREATED, url, "post"));
+    }
+
+    @Override
+    public <T extends IdentifiableAttributes> CompletableFuture<Void> createAll(IdempotencyKey idempotencyKey, String url, List<Resource<T>> resources, Object... uriVariables) {
+        return exchange("POST", url, resources, null, idempotencyKey, uriVariables)
+                .thenAccept(response -> checkStatus(response, HttpStatus.CREATED, url, "post"));
+    }
+
+    @Override
+    public <T extends IdentifiableAttributes> CompletableFuture<Optional<Resource<T>>> getOne(String target, String url, Object... uriVariables) {
+        return getOneDocument(url, new ParameterizedTypeReference<TopLevelDocument<T>>() {
+        }, uriVariables);
+    }
+
+    @Override
+    public CompletableFuture<Optional<ExtensionAttributes>> getOneExtensionAttributes(String url, Object... uriVariables) {
+        return getOneDocument(url, new ParameterizedTypeReference<ExtensionAttributesTopLevelDocument>() {
+        }, uriVariables);
+    }
+
+    @Override
+    public CompletableFuture<Optional<OperationalLimitsGroupAttributes>> getOneOperationalLimitsGroupAttributes(String url, Object... uriVariables) {
+        return getOneDocument(url, new ParameterizedTypeReference<OperationalLimitsGroupAttributesTopLevelDocument>() {
+        }, uriVariables);
+    }
+
+    private <T, D extends AbstractTopLevelDocument<T>> CompletableFuture<Optional<T>> getOneDocument(String url, ParameterizedTypeReference<D> parameterizedTypeReference, Object... uriVariables) {
+        return exchange("GET", url, null, null, null, uriVariables).thenApply(response -> {
+            if (response.statusCode() == HttpStatus.OK) {
+                AbstractTopLevelDocument<T> document = read(response, parameterizedTypeReference);
+                return Optional.of(document.getData().get(0));
+            } else if (response.statusCode() == HttpStatus.NOT_FOUND) {
+                return Optional.empty();
+            } else {
+                throw createHttpException(url, "get", response.statusCode());
+            }
+        });
+    }
+
+    @Override
+    public <T extends IdentifiableAttributes> CompletableFuture<List<Resource<T>>> getAll(String target, String url, Object... uriVariables) {
+        return exchange("GET", url, null, null, null, uriVariables).thenApply(response -> {
+            checkStatus(response, HttpStatus.OK, url, "get");
+            TopLevelDocument<T> document = read(response, new ParameterizedTypeReference<>() {
+            });
+            return document.getData();
+        });
+    }
+
+    @Override
+    public <T extends IdentifiableAttributes> CompletableFuture<Optional<List<Resource<T>>>> findAll(String target, HttpMethod method, String url, Object body,
+                                                                                                      Object... uriVariables) {
+        return exchange(method.name(), url, body, null, null, uriVariables).thenApply(response -> {
+            if (response.statusCode() == HttpStatus.NOT_FOUND) {
+                return Optional.empty();
+            }
+            checkStatus(response, HttpStatus.OK, url, method.name().toLowerCase(Locale.ROOT));
+            TopLevelDocument<T> document = read(response, new ParameterizedTypeReference<>() {
+            });
+            return Optional.of(document.getData());
+        });
+    }
+
+    @Override
+    public <T extends Attributes> CompletableFuture<Void> updateAll(String url, List<Resource<T>> resources, Class<?> viewClass, Object... uriVariables) {
+        return exchange("PUT", url, resources, viewClass, null, uriVariables)
+                .thenAccept(response -> checkStatus(response, HttpStatus.OK, url, "put"));
+    }
+
+    @Override
+    public <E> CompletableFuture<E> get(String url, ParameterizedTypeReference<E> responseType, Object... uriVariables) {
+        return exchange("GET", url, null, null, null, uriVariables).thenApply(response -> {
+            checkStatus(response, HttpStatus.OK, url, "get");
+            return response.body().length > 0 ? read(response, responseType) : null;
+        });
+    }
+
+    @Override
+    public <E> CompletableFuture<Optional<E>> find(String url, ParameterizedTypeReference<E> responseType, Object... uriVariables) {
+        return exchange("GET", url, null, null, null, uriVariables).thenApply(response -> {
+            if (response.statusCode() == HttpStatus.NOT_FOUND) {
+                return Optional.empty();
+            }
+            checkStatus(response, HttpStatus.OK, url, "get");
+            return response.body().length > 0 ? Optional.of(read(response, responseType)) : Optional.empty();
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> put(String url, Object... uriVariables) {
+        return exchange("PUT", url, null, null, null, uriVariables)
+                .thenAccept(response -> checkStatus(response, HttpStatus.OK, url, "put"));
+    }
+
+    @Override
+    public CompletableFuture<Void> put(IdempotencyKey idempotencyKey, String url, Object... uriVariables) {
+        return exchange("PUT", url, null, null, idempotencyKey, uriVariables)
+                .thenAccept(response -> checkStatus(response, HttpStatus.OK, url, "put"));
+    }
+
+    @Override
+    public CompletableFuture<Void> delete(String url, Object... uriVariables) {
+        return exchange("DELETE", url, null, null, null, uriVariables)
+                .thenAccept(response -> checkStatus(response, HttpStatus.OK, url, "delete"));
+    }
+
+    @Override
+    public CompletableFuture<Void> post(String url, Object... uriVariables) {
+        return exchange("POST", url, null, null, null, uriVariables)
+                .thenAccept(response -> checkStatus(response, HttpStatus.OK, url, "post"));
+    }
+
+    @Override
+    public CompletableFuture<Void> post(IdempotencyKey idempotencyKey, String url, Object... uriVariables) {
+        return exchange("POST", url, null, null, idempotencyKey, uriVariables)
+                .thenAccept(response -> checkStatus(response, HttpStatus.OK, url, "post"));
+    }
+
+    @Override
+    public <T> CompletableFuture<Void> deleteAll(String url, T ids, Object... uriVariables) {
+        return exchange("DELETE", url, ids, null, null, uriVariables)
+                .thenAccept(response -> checkStatus(response, HttpStatus.OK, url, "delete"));
+    }
+}
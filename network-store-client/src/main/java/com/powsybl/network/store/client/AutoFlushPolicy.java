@@ -0,0 +1,172 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.io.ByteStreams;
+import com.google.common.io.CountingOutputStream;
+import com.powsybl.network.store.model.Resource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Decide when the buffers of a network have to be flushed without waiting for an explicit flush, so that the client
+ * memory stays bounded while a large network is created or modified. A flush is needed once the number of buffered
+ * resources, their estimated serialized size or the age of the oldest buffered modification reaches its threshold,
+ * a zero threshold being disabled.
+ * <p>
+ * Modifications are counted as they come, a resource modified several times being counted several times, so the
+ * exact number of buffered resources is only computed when the counter reaches a threshold. The serialized size is
+ * extrapolated from a sample of the modified resources. Thresholds are only checked on modifications: buffers are
+ * not thread safe, so there is no background flush of idle buffers.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+class AutoFlushPolicy {
+
+    /**
+     * One modified resource out of this interval is serialized to estimate the buffered size.
+     */
+    static final int SAMPLING_INTERVAL = 64;
+
+    private final int maxResources;
+
+    private final long maxBytes;
+
+    private final long maxAgeNanos;
+
+    private final ObjectMapper objectMapper;
+
+    private final LongSupplier nanoTime;
+
+    private static final class NetworkStats {
+
+        private long resourceCount;
+
+        private long modificationCount;
+
+        private long sampledResourceCount;
+
+        private long sampledBytes;
+
+        private long firstModificationNanos;
+
+        private long getEstimatedBytes() {
+            return sampledResourceCount > 0 ? resourceCount * sampledBytes / sampledResourceCount : 0;
+        }
+    }
+
+    private final Map<UUID, NetworkStats> statsByNetwork = new HashMap<>();
+
+    AutoFlushPolicy(NetworkStoreConfig config, ObjectMapper objectMapper) {
+        this(config.getAutoFlushMaxResources(), config.getAutoFlushMaxBytes(), config.getAutoFlushMaxAge(), objectMapper, System::nanoTime);
+    }
+
+    AutoFlushPolicy(int maxResources, long maxBytes, long maxAge, ObjectMapper objectMapper, LongSupplier nanoTime) {
+        if (maxResources < 0) {
+            throw new IllegalArgumentException("Auto flush max resources has to be positive: " + maxResources);
+        }
+        if (maxBytes < 0) {
+            throw new IllegalArgumentException("Auto flush max bytes has to be positive: " + maxBytes);
+        }
+        if (maxAge < 0) {
+            throw new IllegalArgumentException("Auto flush max age has to be positive: " + maxAge);
+        }
+        this.maxResources = maxResources;
+        this.maxBytes = maxBytes;
+        this.maxAgeNanos = TimeUnit.MILLISECONDS.toNanos(maxAge);
+        this.objectMapper = Objects.requireNonNull(objectMapper);
+        this.nanoTime = Objects.requireNonNull(nanoTime);
+    }
+
+    boolean isEnabled() {
+        return maxResources > 0 || maxBytes > 0 || maxAgeNanos > 0;
+    }
+
+    /**
+     * Record the creation or update of resources.
+     * @param bufferedResourceCount exact number of buffered resources of the network, only called to confirm that a
+     *                              threshold has been reached
+     * @return true if the buffers of the network have to be flushed
+     */
+    boolean onModification(UUID networkUuid, List<? extends Resource<?>> resources, LongSupplier bufferedResourceCount) {
+        if (!isEnabled() || resources.isEmpty()) {
+            return false;
+        }
+        NetworkStats stats = record(networkUuid, resources.size());
+        if (maxBytes > 0) {
+            for (Resource<?> resource : resources) {
+                if (stats.modificationCount++ % SAMPLING_INTERVAL == 0) {
+                    stats.sampledBytes += getSerializedSize(resource);
+                    stats.sampledResourceCount++;
+                }
+            }
+        }
+        return isThresholdReached(stats, bufferedResourceCount);
+    }
+
+    /**
+     * Record the removal of resources.
+     * @return true if the buffers of the network have to be flushed
+     */
+    boolean onRemoval(UUID networkUuid, int resourceCount, LongSupplier bufferedResourceCount) {
+        if (!isEnabled() || resourceCount == 0) {
+            return false;
+        }
+        return isThresholdReached(record(networkUuid, resourceCount), bufferedResourceCount);
+    }
+
+    /**
+     * Forget the modifications of a network, once its buffers have been flushed or dropped.
+     */
+    void reset(UUID networkUuid) {
+        statsByNetwork.remove(networkUuid);
+    }
+
+    private NetworkStats record(UUID networkUuid, int resourceCount) {
+        NetworkStats stats = statsByNetwork.computeIfAbsent(networkUuid, k -> new NetworkStats());
+        if (stats.resourceCount == 0) {
+            stats.firstModificationNanos = nanoTime.getAsLong();
+        }
+        stats.resourceCount += resourceCount;
+        return stats;
+    }
+
+    private boolean isThresholdReached(NetworkStats stats, LongSupplier bufferedResourceCount) {
+        if (maxAgeNanos > 0 && nanoTime.getAsLong() - stats.firstModificationNanos >= maxAgeNanos) {
+            return true;
+        }
+        if (isSizeThresholdReached(stats)) {
+            // the counter is an upper bound, check with the exact count before flushing
+            stats.resourceCount = bufferedResourceCount.getAsLong();
+            return isSizeThresholdReached(stats);
+        }
+        return false;
+    }
+
+    private boolean isSizeThresholdReached(NetworkStats stats) {
+        return maxResources > 0 && stats.resourceCount >= maxResources
+                || maxBytes > 0 && stats.getEstimatedBytes() >= maxBytes;
+    }
+
+    private long getSerializedSize(Resource<?> resource) {
+        try (CountingOutputStream os = new CountingOutputStream(ByteStreams.nullOutputStream())) {
+            objectMapper.writeValue(os, resource);
+            return os.getCount();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+import com.powsybl.network.store.model.*;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+
+/**
+ * {@link RestClient} waiting for the responses of an {@link AsyncRestClient}, so that the synchronous client stack
+ * ({@link RestNetworkStoreClient}, {@link BufferedNetworkStoreClient}...) can share the non-blocking HTTP client.
+ * Exceptions completing the futures are rethrown as is.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class BlockingRestClient implements RestClient {
+
+    private final AsyncRestClient asyncRestClient;
+
+    public BlockingRestClient(AsyncRestClient asyncRestClient) {
+        this.asyncRestClient = Objects.requireNonNull(asyncRestClient);
+    }
+
+    public AsyncRestClient getAsyncRestClient() {
+        return asyncRestClient;
+    }
+
+    private static <R> R join(CompletableFuture<R> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public <T extends IdentifiableAttributes> void createAll(String url, List<Resource<T>> resources, Object... uriVariables) {
+        join(asyncRestClient.createAll(url, resources, uriVariables));
+    }
+
+    @Override
+    public <T extends IdentifiableAttributes> void createAll(IdempotencyKey idempotencyKey, String url, List<Resource<T>> resources, Object... uriVariables) {
+        join(asyncRestClient.createAll(idempotencyKey, url, resources, uriVariables));
+    }
+
+    @Override
+    public <T extends IdentifiableAttributes> Optional<Resource<T>> getOne(String target, String url, Object... uriVariables) {
+        return join(asyncRestClient.getOne(target, url, uriVariables));
+    }
+
+    @Override
+    public Optional<ExtensionAttributes> getOneExtensionAttributes(String url, Object... uriVariables) {
+        return join(asyncRestClient.getOneExtensionAttributes(url, uriVariables));
+    }
+
+    @Override
+    public Optional<OperationalLimitsGroupAttributes> getOneOperationalLimitsGroupAttributes(String url, Object... uriVariables) {
+        return join(asyncRestClient.getOneOperationalLimitsGroupAttributes(url, uriVariables));
+    }
+
+    @Override
+    public <T extends IdentifiableAttributes> List<Resource<T>> getAll(String target, String url, Object... uriVariables) {
+        return join(asyncRestClient.getAll(target, url, uriVariables));
+    }
+
+    @Override
+    public <T extends IdentifiableAttributes> Optional<List<Resource<T>>> findAll(String target, HttpMethod method, String url, Object body, Object... uriVariables) {
+        return join(asyncRestClient.findAll(target, method, url, body, uriVariables));
+    }
+
+    /**
+     * The response is fully read by the asynchronous client, resources are then passed one by one to the consumer.
+     */
+    @Override
+    public <T extends IdentifiableAttributes> int streamAll(String target, String url, Consumer<Resource<T>> consumer, Object... uriVariables) {
+        Objects.requireNonNull(consumer);
+        List<Resource<T>> resources = getAll(target, url, uriVariables);
+        resources.forEach(consumer);
+        return resources.size();
+    }
+
+    @Override
+    public <T extends Attributes> void updateAll(String url, List<Resource<T>> resources, Class<?> viewClass, Object... uriVariables) {
+        join(asyncRestClient.updateAll(url, resources, viewClass, uriVariables));
+    }
+
+    @Override
+    public <E> E get(String url, ParameterizedTypeReference<E> responseType, Object... uriVariables) {
+        return join(asyncRestClient.get(url, responseType, uriVariables));
+    }
+
+    @Override
+    public <E> Optional<E> find(String url, ParameterizedTypeReference<E> responseType, Object... uriVariables) {
+        return join(asyncRestClient.find(url, responseType, uriVariables));
+    }
+
+    @Override
+    public void put(String url, Object... uriVariables) {
+        join(asyncRestClient.put(url, uriVariables));
+    }
+
+    @Override
+    public void put(IdempotencyKey idempotencyKey, String url, Object... uriVariables) {
+        join(asyncRestClient.put(idempotencyKey, url, uriVariables));
+    }
+
+    @Override
+    public void delete(String url, Object... uriVariables) {
+        join(asyncRestClient.delete(url, uriVariables));
+    }
+
+    @Override
+    public void post(String url, Object... uriVariables) {
+        join(asyncRestClient.post(url, uriVariables));
+    }
+
+    @Override
+    public void post(IdempotencyKey idempotencyKey, String url, Object... uriVariables) {
+        join(asyncRestClient.post(idempotencyKey, url, uriVariables));
+    }
+
+    @Override
+    public <T> void deleteAll(String url, T ids, Object... uriVariables) {
+        join(asyncRestClient.deleteAll(url, ids, uriVariables));
+    }
+}
@@ -0,0 +1,568 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.powsybl.network.store.model.AttributeFilter;
+import com.powsybl.network.store.model.IdentifiableAttributes;
+import com.powsybl.network.store.model.Resource;
+import com.powsybl.network.store.model.ResourceType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only journal on local disk of the modifications buffered by a {@link BufferedNetworkStoreClient}, so that
+ * they can be replayed into a new client when the process has been stopped before they are flushed.
+ * <p>
+ * The journal of a network is a directory of numbered segment files. Each record is written with its length and its
+ * checksum, so that a record partially written when the process was stopped is detected and ignored on replay, and
+ * resources are encoded with Smile, the binary JSON format. Enumerations are recorded by name or by a stable code, so
+ * that a journal can be replayed by another version. Records are written to the segment as they are appended, so they
+ * survive the process, while forcing them to the storage device, so that they survive the machine, is done by a
+ * background thread once per sync interval.
+ * <p>
+ * A flush starts a new segment with {@link #checkpoint(UUID)}, the segments up to it being deleted with
+ * {@link #truncate(UUID, long)} once the flush has succeeded.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class BufferJournal implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BufferJournal.class);
+
+    private static final int MAGIC = 0x4e534a32; // "NSJ2"
+
+    private static final String SEGMENT_EXTENSION = ".journal";
+
+    private static final TypeReference<List<Resource<IdentifiableAttributes>>> RESOURCES_TYPE = new TypeReference<>() {
+    };
+
+    private static final TypeReference<Resource<IdentifiableAttributes>> RESOURCE_TYPE = new TypeReference<>() {
+    };
+
+    private static final TypeReference<Map<String, Map<Integer, Set<String>>>> OPERATIONAL_LIMITS_GROUPS_TYPE = new TypeReference<>() {
+    };
+
+    private static final TypeReference<Map<String, Set<String>>> EXTENSIONS_TYPE = new TypeReference<>() {
+    };
+
+    enum Operation {
+        CREATE(1),
+        UPDATE(2),
+        UPDATE_ATTRIBUTES(3),
+        REMOVE(4),
+        REMOVE_OPERATIONAL_LIMITS_GROUPS(5),
+        REMOVE_EXTENSIONS(6),
+        CLONE_VARIANT(7),
+        DELETE_VARIANT(8);
+
+        /**
+         * Code of the operation in the records, which must never change.
+         */
+        private final int code;
+
+        Operation(int code) {
+            this.code = code;
+        }
+
+        static Operation fromCode(int code) {
+            for (Operation operation : values()) {
+                if (operation.code == code) {
+                    return operation;
+                }
+            }
+            throw new IllegalArgumentException("Unknown journal operation code: " + code);
+        }
+    }
+
+    /**
+     * Receives the records of a journal when it is replayed.
+     */
+    interface Listener {
+
+        void onCreate(List<Resource<IdentifiableAttributes>> resources);
+
+        /**
+         * @param attributeNames null if the records hold the whole resources, otherwise the names of the only
+         *                       attributes they hold, the other attributes having their default values
+         */
+        void onUpdate(List<Resource<IdentifiableAttributes>> resources, AttributeFilter attributeFilter, Set<String> attributeNames);
+
+        void onRemove(int variantNum, ResourceType resourceType, List<String> ids);
+
+        void onRemoveOperationalLimitsGroups(int variantNum, ResourceType resourceType, Map<String, Map<Integer, Set<String>>> operationalLimitsGroups);
+
+        void onRemoveExtensions(int variantNum, ResourceType resourceType, Map<String, Set<String>> extensions);
+
+        void onCloneVariant(int sourceVariantNum, int targetVariantNum, String targetVariantId);
+
+        void onDeleteVariant(int variantNum);
+    }
+
+    @FunctionalInterface
+    private interface RecordWriter {
+
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    private static final class Segment {
+
+        private final long num;
+
+        private final FileChannel channel;
+
+        private boolean synced = true;
+
+        private Segment(long num, FileChannel channel) {
+            this.num = num;
+            this.channel = channel;
+        }
+    }
+
+    private final Path directory;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Segment being written of each network, guarded by this.
+     */
+    private final Map<UUID, Segment> segments = new HashMap<>();
+
+    /**
+     * Syncs the journals once per sync interval, null if each record is synced when appended.
+     */
+    private final ScheduledExecutorService syncScheduler;
+
+    /**
+     * @param directory    directory of the journals, in which a sub directory is created for each network
+     * @param syncInterval time in milliseconds between two syncs of the journals to the storage device, 0 to sync
+     *                     each record
+     */
+    public BufferJournal(Path directory, long syncInterval) {
+        this.directory = Objects.requireNonNull(directory);
+        if (syncInterval < 0) {
+            throw new IllegalArgumentException("Journal sync interval has to be positive: " + syncInterval);
+        }
+        this.objectMapper = BufferedNetworkStoreClient.createObjectMapper().copyWith(WireFormat.SMILE.createFactory());
+        if (syncInterval > 0) {
+            syncScheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                    .setNameFormat("journal-sync-%d")
+                    .setDaemon(true)
+                    .build());
+            syncScheduler.scheduleWithFixedDelay(this::syncAll, syncInterval, syncInterval, TimeUnit.MILLISECONDS);
+        } else {
+            syncScheduler = null;
+        }
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    private Path getNetworkDirectory(UUID networkUuid) {
+        return directory.resolve(networkUuid.toString());
+    }
+
+    private static long getSegmentNum(Path file) {
+        String fileName = file.getFileName().toString();
+        return Long.parseLong(fileName.substring(0, fileName.length() - SEGMENT_EXTENSION.length()));
+    }
+
+    private static List<Path> listSegments(Path networkDirectory) throws IOException {
+        if (!Files.isDirectory(networkDirectory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(networkDirectory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(SEGMENT_EXTENSION))
+                    .sorted(Comparator.comparingLong(BufferJournal::getSegmentNum))
+                    .toList();
+        }
+    }
+
+    /**
+     * @return the networks having a journal, modifications of which may not have been flushed
+     */
+    public synchronized Set<UUID> getNetworkUuids() {
+        if (!Files.isDirectory(directory)) {
+            return Set.of();
+        }
+        Set<UUID> networkUuids = new TreeSet<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path networkDirectory : files.filter(Files::isDirectory).toList()) {
+                UUID networkUuid = parseUuid(networkDirectory.getFileName().toString());
+                if (networkUuid != null && !listSegments(networkDirectory).isEmpty()) {
+                    networkUuids.add(networkUuid);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return networkUuids;
+    }
+
+    private static UUID parseUuid(String name) {
+        try {
+            return UUID.fromString(name);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private Segment getSegment(UUID networkUuid) throws IOException {
+        Segment segment = segments.get(networkUuid);
+        if (segment == null) {
+            // never append to an existing segment, its last record may be partially written
+            Path networkDirectory = getNetworkDirectory(networkUuid);
+            List<Path> existingSegments = listSegments(networkDirectory);
+            long num = existingSegments.isEmpty() ? 0 : getSegmentNum(existingSegments.getLast()) + 1;
+            Files.createDirectories(networkDirectory);
+            FileChannel channel = FileChannel.open(networkDirectory.resolve(String.format("%020d", num) + SEGMENT_EXTENSION),
+                    StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+            segment = new Segment(num, channel);
+            writeFully(channel, ByteBuffer.allocate(Integer.BYTES).putInt(MAGIC).flip());
+            segments.put(networkUuid, segment);
+        }
+        return segment;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * The record is encoded before taking the lock, which is only held to write it.
+     */
+    private void append(UUID networkUuid, Operation operation, RecordWriter recordWriter) {
+        Objects.requireNonNull(networkUuid);
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                out.writeByte(operation.code);
+                recordWriter.write(out);
+            }
+            byte[] body = bytes.toByteArray();
+            CRC32 crc = new CRC32();
+            crc.update(body);
+            ByteBuffer buffer = ByteBuffer.allocate(2 * Integer.BYTES + body.length)
+                    .putInt(body.length)
+                    .putInt((int) crc.getValue())
+                    .put(body)
+                    .flip();
+            synchronized (this) {
+                Segment segment = getSegment(networkUuid);
+                writeFully(segment.channel, buffer);
+                segment.synced = false;
+                if (syncScheduler == null) {
+                    sync(segment);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void sync(Segment segment) throws IOException {
+        if (!segment.synced) {
+            segment.channel.force(false);
+            segment.synced = true;
+        }
+    }
+
+    private synchronized void syncAll() {
+        for (Map.Entry<UUID, Segment> e : segments.entrySet()) {
+            try {
+                sync(e.getValue());
+            } catch (IOException ex) {
+                LOGGER.error("Sync of the journal of network {} failed", e.getKey(), ex);
+            }
+        }
+    }
+
+    private void writeBytes(DataOutputStream out, Object value) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(value);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private <T> T readBytes(DataInputStream in, TypeReference<T> type) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return objectMapper.readValue(bytes, type);
+    }
+
+    private static void writeAttributeFilter(DataOutputStream out, AttributeFilter attributeFilter) throws IOException {
+        out.writeUTF(attributeFilter != null ? attributeFilter.name() : "");
+    }
+
+    private static AttributeFilter readAttributeFilter(DataInputStream in) throws IOException {
+        String name = in.readUTF();
+        return !name.isEmpty() ? AttributeFilter.valueOf(name) : null;
+    }
+
+    private static void writeResourceType(DataOutputStream out, ResourceType resourceType) throws IOException {
+        out.writeUTF(resourceType.name());
+    }
+
+    private static ResourceType readResourceType(DataInputStream in) throws IOException {
+        return ResourceType.valueOf(in.readUTF());
+    }
+
+    private static void writeStrings(DataOutputStream out, Collection<String> strings) throws IOException {
+        out.writeInt(strings.size());
+        for (String s : strings) {
+            out.writeUTF(s);
+        }
+    }
+
+    private static List<String> readStrings(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        List<String> strings = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            strings.add(in.readUTF());
+        }
+        return strings;
+    }
+
+    public <T extends IdentifiableAttributes> void appendCreate(UUID networkUuid, List<Resource<T>> resources) {
+        append(networkUuid, Operation.CREATE, out -> writeBytes(out, resources));
+    }
+
+    public <T extends IdentifiableAttributes> void appendUpdate(UUID networkUuid, List<Resource<T>> resources, AttributeFilter attributeFilter) {
+        append(networkUuid, Operation.UPDATE, out -> {
+            writeAttributeFilter(out, attributeFilter);
+            writeBytes(out, resources);
+        });
+    }
+
+    /**
+     * Only the given attributes of the resource are recorded, as they are sent to the server.
+     */
+    public <T extends IdentifiableAttributes> void appendUpdateAttributes(UUID networkUuid, Resource<T> resource, AttributeFilter attributeFilter,
+                                                                          Set<String> attributeNames) {
+        append(networkUuid, Operation.UPDATE_ATTRIBUTES, out -> {
+            writeAttributeFilter(out, attributeFilter);
+            writeStrings(out, attributeNames);
+            writeBytes(out, new ResourceAttributesPatch<>(resource, attributeNames).toBody());
+        });
+    }
+
+    public void appendRemove(UUID networkUuid, int variantNum, ResourceType resourceType, List<String> ids) {
+        append(networkUuid, Operation.REMOVE, out -> {
+            out.writeInt(variantNum);
+            writeResourceType(out, resourceType);
+            writeStrings(out, ids);
+        });
+    }
+
+    public void appendRemoveOperationalLimitsGroups(UUID networkUuid, int variantNum, ResourceType resourceType,
+                                                    Map<String, Map<Integer, Set<String>>> operationalLimitsGroups) {
+        append(networkUuid, Operation.REMOVE_OPERATIONAL_LIMITS_GROUPS, out -> {
+            out.writeInt(variantNum);
+            writeResourceType(out, resourceType);
+            writeBytes(out, operationalLimitsGroups);
+        });
+    }
+
+    public void appendRemoveExtensions(UUID networkUuid, int variantNum, ResourceType resourceType, Map<String, Set<String>> extensions) {
+        append(networkUuid, Operation.REMOVE_EXTENSIONS, out -> {
+            out.writeInt(variantNum);
+            writeResourceType(out, resourceType);
+            writeBytes(out, extensions);
+        });
+    }
+
+    public void appendCloneVariant(UUID networkUuid, int sourceVariantNum, int targetVariantNum, String targetVariantId) {
+        append(networkUuid, Operation.CLONE_VARIANT, out -> {
+            out.writeInt(sourceVariantNum);
+            out.writeInt(targetVariantNum);
+            out.writeUTF(targetVariantId);
+        });
+    }
+
+    public void appendDeleteVariant(UUID networkUuid, int variantNum) {
+        append(networkUuid, Operation.DELETE_VARIANT, out -> out.writeInt(variantNum));
+    }
+
+    /**
+     * Close the segment being written of a network, so that the records appended from now go to a new segment.
+     *
+     * @return the number of the last segment holding the records appended so far, -1 if there is none
+     */
+    public synchronized long checkpoint(UUID networkUuid) {
+        Segment segment = segments.remove(networkUuid);
+        try {
+            if (segment != null) {
+                sync(segment);
+                segment.channel.close();
+                return segment.num;
+            }
+            List<Path> existingSegments = listSegments(getNetworkDirectory(networkUuid));
+            return existingSegments.isEmpty() ? -1 : getSegmentNum(existingSegments.getLast());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Delete the segments of a network up to the given one, once the records they hold have been flushed.
+     */
+    public synchronized void truncate(UUID networkUuid, long lastSegmentNum) {
+        try {
+            for (Path file : listSegments(getNetworkDirectory(networkUuid))) {
+                if (getSegmentNum(file) <= lastSegmentNum) {
+                    Files.delete(file);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Delete the whole journal of a network, for instance because the network has been deleted.
+     */
+    public synchronized void delete(UUID networkUuid) {
+        try {
+            Segment segment = segments.remove(networkUuid);
+            if (segment != null) {
+                segment.channel.close();
+            }
+            Path networkDirectory = getNetworkDirectory(networkUuid);
+            for (Path file : listSegments(networkDirectory)) {
+                Files.delete(file);
+            }
+            Files.deleteIfExists(networkDirectory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Read the records of the journal of a network in the order they have been appended. Reading of a segment stops at
+     * its first incomplete or corrupted record, which can only be the last one written before the process was stopped,
+     * the next segments having been written by a later process.
+     *
+     * @return the number of records read
+     */
+    public synchronized int replay(UUID networkUuid, Listener listener) {
+        Objects.requireNonNull(listener);
+        int count = 0;
+        try {
+            for (Path file : listSegments(getNetworkDirectory(networkUuid))) {
+                try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+                    if (in.readInt() != MAGIC) {
+                        throw new IOException("Invalid journal segment " + file);
+                    }
+                    byte[] body;
+                    while ((body = readRecord(in)) != null) {
+                        replayRecord(body, listener);
+                        count++;
+                    }
+                } catch (EOFException e) {
+                    LOGGER.warn("Journal segment {} ends with an incomplete record, ignoring it", file);
+                } catch (CorruptedRecordException e) {
+                    LOGGER.warn("Journal segment {} has a corrupted record, ignoring the next records of the segment", file);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return count;
+    }
+
+    private static final class CorruptedRecordException extends IOException {
+    }
+
+    private static byte[] readRecord(DataInputStream in) throws IOException {
+        int length;
+        try {
+            length = in.readInt();
+        } catch (EOFException e) {
+            // end of segment between two records
+            return null;
+        }
+        int checksum = in.readInt();
+        if (length <= 0) {
+            throw new CorruptedRecordException();
+        }
+        byte[] body = new byte[length];
+        in.readFully(body);
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        if ((int) crc.getValue() != checksum) {
+            throw new CorruptedRecordException();
+        }
+        return body;
+    }
+
+    private void replayRecord(byte[] body, Listener listener) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(body));
+        Operation operation = Operation.fromCode(in.readByte());
+        switch (operation) {
+            case CREATE -> listener.onCreate(readBytes(in, RESOURCES_TYPE));
+            case UPDATE -> {
+                AttributeFilter attributeFilter = readAttributeFilter(in);
+                listener.onUpdate(readBytes(in, RESOURCES_TYPE), attributeFilter, null);
+            }
+            case UPDATE_ATTRIBUTES -> {
+                AttributeFilter attributeFilter = readAttributeFilter(in);
+                Set<String> attributeNames = new HashSet<>(readStrings(in));
+                listener.onUpdate(List.of(readBytes(in, RESOURCE_TYPE)), attributeFilter, attributeNames);
+            }
+            case REMOVE -> {
+                int variantNum = in.readInt();
+                ResourceType resourceType = readResourceType(in);
+                listener.onRemove(variantNum, resourceType, readStrings(in));
+            }
+            case REMOVE_OPERATIONAL_LIMITS_GROUPS -> {
+                int variantNum = in.readInt();
+                ResourceType resourceType = readResourceType(in);
+                listener.onRemoveOperationalLimitsGroups(variantNum, resourceType, readBytes(in, OPERATIONAL_LIMITS_GROUPS_TYPE));
+            }
+            case REMOVE_EXTENSIONS -> {
+                int variantNum = in.readInt();
+                ResourceType resourceType = readResourceType(in);
+                listener.onRemoveExtensions(variantNum, resourceType, readBytes(in, EXTENSIONS_TYPE));
+            }
+            case CLONE_VARIANT -> listener.onCloneVariant(in.readInt(), in.readInt(), in.readUTF());
+            case DELETE_VARIANT -> listener.onDeleteVariant(in.readInt());
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (syncScheduler != null) {
+            syncScheduler.shutdownNow();
+        }
+        try {
+            for (Segment segment : segments.values()) {
+                sync(segment);
+                segment.channel.close();
+            }
+            segments.clear();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -11,18 +11,24 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.google.common.base.Stopwatch;
+import com.google.common.collect.Lists;
 import com.powsybl.commons.json.JsonUtil;
 import com.powsybl.network.store.client.util.ExecutorUtil;
 import com.powsybl.network.store.iidm.impl.AbstractForwardingNetworkStoreClient;
 import com.powsybl.network.store.iidm.impl.NetworkCollectionIndex;
+import com.powsybl.network.store.iidm.impl.NetworkStoreClient;
 import com.powsybl.network.store.model.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 import static com.powsybl.network.store.model.ResourceType.*;
@@ -32,7 +38,7 @@ import static com.powsybl.network.store.model.ResourceType.*;
  * @author Franck Lecuyer <franck.lecuyer at rte-france.com>
  * @author Etienne Homer <etienne.homer at rte-france.com>
  */
-public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreClient<RestNetworkStoreClient> {
+public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreClient<RestNetworkStoreClient> implements NetworkStoreClient {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(BufferedNetworkStoreClient.class);
 
@@ -42,6 +48,19 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
         return RESOURCE_TYPES_WITH_OPERATIONAL_LIMITS.contains(resourceType);
     }
 
+    /**
+     * Equipment buffers are flushed stage by stage, so that the server never receives an equipment before its
+     * container: substations before voltage levels, voltage levels before the equipments they contain, and HVDC
+     * lines, tie lines and areas after the equipments they refer to. Removals are sent in the reverse order, before
+     * the creations and updates. This makes any flushed state consistent, which is needed by the automatic flush.
+     */
+    private static final List<Set<ResourceType>> FLUSH_STAGES = List.of(
+            EnumSet.of(NETWORK),
+            EnumSet.of(SUBSTATION),
+            EnumSet.of(VOLTAGE_LEVEL),
+            EnumSet.complementOf(EnumSet.of(NETWORK, SUBSTATION, VOLTAGE_LEVEL, HVDC_LINE, TIE_LINE, AREA)),
+            EnumSet.of(HVDC_LINE, TIE_LINE, AREA));
+
     // equipment buffers
     private final NetworkCollectionIndex<CollectionBuffer<NetworkAttributes>> networkResourcesToFlush
             = new NetworkCollectionIndex<>(() -> new CollectionBuffer<>((networkUuid, resources) -> delegate.createNetworks(resources),
@@ -51,102 +70,122 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
     private final NetworkCollectionIndex<CollectionBuffer<SubstationAttributes>> substationResourcesToFlush
             = new NetworkCollectionIndex<>(() -> new CollectionBuffer<>(delegate::createSubstations,
                 delegate::updateSubstations,
-                delegate::removeSubstations));
+                delegate::removeSubstations,
+                delegate::patchResources));
 
     private final NetworkCollectionIndex<CollectionBuffer<VoltageLevelAttributes>> voltageLevelResourcesToFlush
             = new NetworkCollectionIndex<>(() -> new CollectionBuffer<>(delegate::createVoltageLevels,
                 delegate::updateVoltageLevels,
-                delegate::removeVoltageLevels));
+                delegate::removeVoltageLevels,
+                delegate::patchResources));
 
     private final NetworkCollectionIndex<CollectionBuffer<GeneratorAttributes>> generatorResourcesToFlush
             = new NetworkCollectionIndex<>(() -> new CollectionBuffer<>(delegate::createGenerators,
                 delegate::updateGenerators,
-                delegate::removeGenerators));
+                delegate::removeGenerators,
+                delegate::patchResources));
 
     private final NetworkCollectionIndex<CollectionBuffer<BatteryAttributes>> batteryResourcesToFlush
             = new NetworkCollectionIndex<>(() -> new CollectionBuffer<>(delegate::createBatteries,
                 delegate::updateBatteries,
-                delegate::removeBatteries));
+                delegate::removeBatteries,
+                delegate::patchResources));
 
     private final NetworkCollectionIndex<CollectionBuffer<LoadAttributes>> loadResourcesToFlush
             = new NetworkCollectionIndex<>(() -> new CollectionBuffer<>(delegate::createLoads,
                 delegate::updateLoads,
-                delegate::removeLoads));
+                delegate::removeLoads,
+                delegate::patchResources));
 
     private final NetworkCollectionIndex<CollectionBuffer<BusbarSectionAttributes>> busbarSectionResourcesToFlush
             = new NetworkCollectionIndex<>(() -> new CollectionBuffer<>(delegate::createBusbarSections,
                 delegate::updateBusbarSections,
-                delegate::removeBusBarSections));
+                delegate::removeBusBarSections,
+                delegate::patchResources));
 
     private final NetworkCollectionIndex<CollectionBuffer<SwitchAttributes>> switchResourcesToFlush
             = new NetworkCollectionIndex<>(() -> new CollectionBuffer<>(delegate::createSwitches,
                 delegate::updateSwitches,
-                delegate::removeSwitches));
+                delegate::removeSwitches,
+                delegate::patchResources));
 
     private final NetworkCollectionIndex<CollectionBuffer<ShuntCompensatorAttributes>> shuntCompensatorResourcesToFlush
             = new NetworkCollectionIndex<>(() -> new CollectionBuffer<>(delegate::createShuntCompensators,
                 delegate::updateShuntCompensators,
-                delegate::removeShuntCompensators));
+                delegate::removeShuntCompensators,
+                delegate::patchResources));
 
     private final NetworkCollectionIndex<CollectionBuffer<VscConverterStationAttributes>> vscConverterStationResourcesToFlush
             = new NetworkCollectionIndex<>(() -> new CollectionBuffer<>(delegate::createVscConverterStations,
                 delegate::updateVscConverterStations,
-                delegate::removeVscConverterStations));
+                delegate::removeVscConverterStations,
+                delegate::patchResources));
 
     private final NetworkCollectionIndex<CollectionBuffer<LccConverterStationAttributes>> lccConverterStationResourcesToFlush
             = new NetworkCollectionIndex<>(() -> new CollectionBuffer<>(delegate::createLccConverterStations,
                 delegate::updateLccConverterStations,
-                delegate::removeLccConverterStations));
+                delegate::removeLccConverterStations,
+                delegate::patchResources));
 
     private final NetworkCollectionIndex<CollectionBuffer<StaticVarCompensatorAttributes>> svcResourcesToFlush
             = new NetworkCollectionIndex<>(() -> new CollectionBuffer<>(delegate::createStaticVarCompensators,
                 delegate::updateStaticVarCompensators,
-                delegate::removeStaticVarCompensators));
+                delegate::removeStaticVarCompensators,
+                delegate::patchResources));
 
     private final NetworkCollectionIndex<CollectionBuffer<HvdcLineAttributes>> hvdcLineResourcesToFlush
             = new NetworkCollectionIndex<>(() -> new CollectionBuffer<>(delegate::createHvdcLines,
                 delegate::updateHvdcLines,
-                delegate::removeHvdcLines));
+                delegate::removeHvdcLines,
+                delegate::patchResources));
 
     private final NetworkCollectionIndex<CollectionBuffer<BoundaryLineAttributes>> boundaryLineResourcesToFlush
             = new NetworkCollectionIndex<>(() -> new CollectionBuffer<>(delegate::createBoundaryLines,
                 delegate::updateBoundaryLines,
-                delegate::removeBoundaryLines));
+                delegate::removeBoundaryLines,
+                delegate::patchResources));
 
     private final NetworkCollectionIndex<CollectionBuffer<GroundAttributes>> groundResourcesToFlush
             = new NetworkCollectionIndex<>(() -> new CollectionBuffer<>(delegate::createGrounds,
                 delegate::updateGrounds,
-                delegate::removeGrounds));
+                delegate::removeGrounds,
+                delegate::patchResources));
 
     private final NetworkCollectionIndex<CollectionBuffer<TwoWindingsTransformerAttributes>> twoWindingsTransformerResourcesToFlush
             = new NetworkCollectionIndex<>(() -> new CollectionBuffer<>(delegate::createTwoWindingsTransformers,
                 delegate::updateTwoWindingsTransformers,
-                delegate::removeTwoWindingsTransformers));
+                delegate::removeTwoWindingsTransformers,
+                delegate::patchResources));
 
     private final NetworkCollectionIndex<CollectionBuffer<ThreeWindingsTransformerAttributes>> threeWindingsTransformerResourcesToFlush
             = new NetworkCollectionIndex<>(() -> new CollectionBuffer<>(delegate::createThreeWindingsTransformers,
                 delegate::updateThreeWindingsTransformers,
-                delegate::removeThreeWindingsTransformers));
+                delegate::removeThreeWindingsTransformers,
+                delegate::patchResources));
 
     private final NetworkCollectionIndex<CollectionBuffer<LineAttributes>> lineResourcesToFlush
             = new NetworkCollectionIndex<>(() -> new CollectionBuffer<>(delegate::createLines,
                 delegate::updateLines,
-                delegate::removeLines));
+                delegate::removeLines,
+                delegate::patchResources));
 
     private final NetworkCollectionIndex<CollectionBuffer<ConfiguredBusAttributes>> busResourcesToFlush
             = new NetworkCollectionIndex<>(() -> new CollectionBuffer<>(delegate::createConfiguredBuses,
                 delegate::updateConfiguredBuses,
-                delegate::removeConfiguredBuses));
+                delegate::removeConfiguredBuses,
+                delegate::patchResources));
 
     private final NetworkCollectionIndex<CollectionBuffer<TieLineAttributes>> tieLineResourcesToFlush
             = new NetworkCollectionIndex<>(() -> new CollectionBuffer<>(delegate::createTieLines,
                 delegate::updateTieLines,
-                delegate::removeTieLines));
+                delegate::removeTieLines,
+                delegate::patchResources));
 
     private final NetworkCollectionIndex<CollectionBuffer<AreaAttributes>> areaResourcesToFlush
             = new NetworkCollectionIndex<>(() -> new CollectionBuffer<>(delegate::createAreas,
                 delegate::updateAreas,
-                delegate::removeAreas));
+                delegate::removeAreas,
+                delegate::patchResources));
 
     // operational limits and extensions have their owned buffer only used to remove them in the server on flush
     // it is used because powsybl api expose method to delete them particularly. these buffers allow removing them very efficiently,
@@ -161,9 +200,48 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
 
     private final ExecutorService executorService;
 
+    /**
+     * Last asynchronous flush of each network, kept until it completes so that the next flushes are sent after it.
+     */
+    private final Map<UUID, CompletableFuture<Void>> pendingFlushes = new ConcurrentHashMap<>();
+
+    /**
+     * First failure of the asynchronous flushes of each network, kept until it is reported by {@link #flush(UUID)}.
+     */
+    private final Map<UUID, Throwable> flushFailures = new ConcurrentHashMap<>();
+
+    /**
+     * Object mapper used to estimate the size of the buffered resources.
+     */
+    private final ObjectMapper sizeObjectMapper = createObjectMapper();
+
+    private final AutoFlushPolicy autoFlushPolicy;
+
+    /**
+     * Journal of the buffered modifications, null if they are only kept in memory.
+     */
+    private final BufferJournal journal;
+
     public BufferedNetworkStoreClient(RestNetworkStoreClient delegate, ExecutorService executorService) {
+        this(delegate, executorService, new NetworkStoreConfig());
+    }
+
+    /**
+     * @param config auto flush thresholds, buffers are only flushed explicitly if they are all disabled
+     */
+    public BufferedNetworkStoreClient(RestNetworkStoreClient delegate, ExecutorService executorService, NetworkStoreConfig config) {
+        this(delegate, executorService, config, null);
+    }
+
+    /**
+     * @param journal journal in which the modifications are recorded until they are flushed, null to disable
+     */
+    public BufferedNetworkStoreClient(RestNetworkStoreClient delegate, ExecutorService executorService, NetworkStoreConfig config,
+                                      BufferJournal journal) {
         super(delegate);
         this.executorService = Objects.requireNonNull(executorService);
+        this.autoFlushPolicy = new AutoFlushPolicy(config, sizeObjectMapper);
+        this.journal = journal;
         allBuffers.put(NETWORK, networkResourcesToFlush);
         allBuffers.put(SUBSTATION, substationResourcesToFlush);
         allBuffers.put(VOLTAGE_LEVEL, voltageLevelResourcesToFlush);
@@ -187,27 +265,150 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
         allBuffers.put(AREA, areaResourcesToFlush);
     }
 
+    /**
+     * Record created resources in the journal and in the buffers, which may then be flushed automatically. All the
+     * creations go through this method.
+     */
+    private <T extends IdentifiableAttributes> void bufferCreations(NetworkCollectionIndex<CollectionBuffer<T>> buffer, UUID networkUuid,
+                                                                    List<Resource<T>> resources) {
+        if (journal != null) {
+            journal.appendCreate(networkUuid, resources);
+        }
+        for (Resource<T> resource : resources) {
+            buffer.getCollection(networkUuid, resource.getVariantNum()).create(resource);
+        }
+        autoFlushIfNeeded(networkUuid, resources);
+    }
+
+    /**
+     * Same as {@link #bufferCreations} for updated resources, all the updates going through this method.
+     *
+     * @param attributeNames JSON property names of the modified attributes, null if any attribute may have been
+     *                       modified
+     */
+    private <T extends IdentifiableAttributes> void bufferUpdates(NetworkCollectionIndex<CollectionBuffer<T>> buffer, UUID networkUuid,
+                                                                  List<Resource<T>> resources, AttributeFilter attributeFilter, Set<String> attributeNames) {
+        if (journal != null) {
+            if (attributeNames != null) {
+                resources.forEach(resource -> journal.appendUpdateAttributes(networkUuid, resource, attributeFilter, attributeNames));
+            } else {
+                journal.appendUpdate(networkUuid, resources, attributeFilter);
+            }
+        }
+        for (Resource<T> resource : resources) {
+            buffer.getCollection(networkUuid, resource.getVariantNum()).update(resource, attributeFilter, attributeNames);
+        }
+        autoFlushIfNeeded(networkUuid, resources);
+    }
+
+    private <T extends IdentifiableAttributes> void bufferUpdates(NetworkCollectionIndex<CollectionBuffer<T>> buffer, UUID networkUuid,
+                                                                  List<Resource<T>> resources, AttributeFilter attributeFilter) {
+        bufferUpdates(buffer, networkUuid, resources, attributeFilter, null);
+    }
+
+    private long checkpointJournal(UUID networkUuid) {
+        return journal != null ? journal.checkpoint(networkUuid) : -1;
+    }
+
+    private void truncateJournal(UUID networkUuid, long journalSegmentNum) {
+        if (journal != null) {
+            journal.truncate(networkUuid, journalSegmentNum);
+        }
+    }
+
+    /**
+     * Buffer again the modifications of a network recorded in the journal by a previous client which has not flushed
+     * them, for instance because its process has been stopped. It has to be called before any modification of the
+     * network with this client, the records staying in the journal until the next flush.
+     *
+     * @return the number of replayed records, 0 if there is no journal
+     */
+    public int replayJournal(UUID networkUuid) {
+        if (journal == null) {
+            return 0;
+        }
+        int count = journal.replay(networkUuid, new BufferJournal.Listener() {
+            @Override
+            public void onCreate(List<Resource<IdentifiableAttributes>> resources) {
+                for (Resource<IdentifiableAttributes> resource : resources) {
+                    getBuffer(resource.getType()).getCollection(networkUuid, resource.getVariantNum()).create(resource);
+                }
+            }
+
+            @Override
+            public void onUpdate(List<Resource<IdentifiableAttributes>> resources, AttributeFilter attributeFilter, Set<String> attributeNames) {
+                for (Resource<IdentifiableAttributes> resource : resources) {
+                    CollectionBuffer<IdentifiableAttributes> buffer = getBuffer(resource.getType()).getCollection(networkUuid, resource.getVariantNum());
+                    Resource<IdentifiableAttributes> bufferedResource = buffer.getBufferedResource(resource.getId());
+                    if (attributeNames != null && bufferedResource != null) {
+                        // the record only holds the modified attributes, the other ones are kept from the buffer
+                        new ResourceAttributesPatch<>(resource, attributeNames).applyTo(bufferedResource);
+                        buffer.update(bufferedResource, attributeFilter, attributeNames);
+                    } else {
+                        // the records hold distinct copies of the resources, the last one having the last values
+                        buffer.update(resource, attributeFilter, attributeNames);
+                    }
+                }
+            }
+
+            @Override
+            public void onRemove(int variantNum, ResourceType resourceType, List<String> ids) {
+                bufferRemovals(getBuffer(resourceType), networkUuid, variantNum, ids, resourceType);
+            }
+
+            @Override
+            public void onRemoveOperationalLimitsGroups(int variantNum, ResourceType resourceType, Map<String, Map<Integer, Set<String>>> operationalLimitsGroups) {
+                operationalLimitsToRemoveOnFlush.getCollection(networkUuid, variantNum).remove(operationalLimitsGroups, resourceType);
+            }
+
+            @Override
+            public void onRemoveExtensions(int variantNum, ResourceType resourceType, Map<String, Set<String>> extensions) {
+                extensionsToRemoveOnFlush.getCollection(networkUuid, variantNum).remove(extensions, resourceType);
+            }
+
+            @Override
+            public void onCloneVariant(int sourceVariantNum, int targetVariantNum, String targetVariantId) {
+                // the variant has already been cloned on server side
+                cloneBuffers(networkUuid, sourceVariantNum, targetVariantNum, targetVariantId);
+            }
+
+            @Override
+            public void onDeleteVariant(int variantNum) {
+                removeVariantBuffers(networkUuid, variantNum);
+            }
+        });
+        LOGGER.info("{} journal records of network {} replayed", count, networkUuid);
+        return count;
+    }
+
+    @SuppressWarnings("unchecked")
+    private NetworkCollectionIndex<CollectionBuffer<IdentifiableAttributes>> getBuffer(ResourceType resourceType) {
+        return (NetworkCollectionIndex<CollectionBuffer<IdentifiableAttributes>>) allBuffers.get(resourceType);
+    }
+
     @Override
     public void createNetworks(List<Resource<NetworkAttributes>> networkResources) {
         for (Resource<NetworkAttributes> networkResource : networkResources) {
-            UUID networkUuid = networkResource.getAttributes().getUuid();
-            int variantNum = networkResource.getVariantNum();
-            networkResourcesToFlush.getCollection(networkUuid, variantNum).create(networkResource);
+            bufferCreations(networkResourcesToFlush, networkResource.getAttributes().getUuid(), List.of(networkResource));
         }
     }
 
     @Override
     public void updateNetworks(List<Resource<NetworkAttributes>> networkResources, AttributeFilter attributeFilter) {
         for (Resource<NetworkAttributes> networkResource : networkResources) {
-            UUID networkUuid = networkResource.getAttributes().getUuid();
-            int variantNum = networkResource.getVariantNum();
-            networkResourcesToFlush.getCollection(networkUuid, variantNum).update(networkResource, attributeFilter);
+            bufferUpdates(networkResourcesToFlush, networkResource.getAttributes().getUuid(), List.of(networkResource), attributeFilter);
         }
     }
 
     @Override
     public void deleteNetwork(UUID networkUuid) {
         delegate.deleteNetwork(networkUuid);
+        pendingFlushes.remove(networkUuid);
+        flushFailures.remove(networkUuid);
+        autoFlushPolicy.reset(networkUuid);
+        if (journal != null) {
+            journal.delete(networkUuid);
+        }
         // clear buffers as server side delete network already remove all equipments of the network
         allBuffers.values().forEach(buffer -> buffer.removeCollection(networkUuid));
         operationalLimitsToRemoveOnFlush.removeCollection(networkUuid);
@@ -217,6 +418,13 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
     @Override
     public void deleteNetwork(UUID networkUuid, int variantNum) {
         delegate.deleteNetwork(networkUuid, variantNum);
+        if (journal != null) {
+            journal.appendDeleteVariant(networkUuid, variantNum);
+        }
+        removeVariantBuffers(networkUuid, variantNum);
+    }
+
+    private void removeVariantBuffers(UUID networkUuid, int variantNum) {
         // clear buffers as server side delete network already remove all equipments of the network
         allBuffers.values().forEach(buffer -> buffer.removeCollection(networkUuid, variantNum));
         operationalLimitsToRemoveOnFlush.removeCollection(networkUuid, variantNum);
@@ -225,16 +433,12 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
 
     @Override
     public void createSubstations(UUID networkUuid, List<Resource<SubstationAttributes>> substationResources) {
-        for (Resource<SubstationAttributes> substationResource : substationResources) {
-            substationResourcesToFlush.getCollection(networkUuid, substationResource.getVariantNum()).create(substationResource);
-        }
+        bufferCreations(substationResourcesToFlush, networkUuid, substationResources);
     }
 
     @Override
     public void updateSubstations(UUID networkUuid, List<Resource<SubstationAttributes>> substationResources, AttributeFilter attributeFilter) {
-        for (Resource<SubstationAttributes> substationResource : substationResources) {
-            substationResourcesToFlush.getCollection(networkUuid, substationResource.getVariantNum()).update(substationResource, attributeFilter);
-        }
+        bufferUpdates(substationResourcesToFlush, networkUuid, substationResources, attributeFilter);
     }
 
     @Override
@@ -244,16 +448,12 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
 
     @Override
     public void createVoltageLevels(UUID networkUuid, List<Resource<VoltageLevelAttributes>> voltageLevelResources) {
-        for (Resource<VoltageLevelAttributes> voltageLevelResource : voltageLevelResources) {
-            voltageLevelResourcesToFlush.getCollection(networkUuid, voltageLevelResource.getVariantNum()).create(voltageLevelResource);
-        }
+        bufferCreations(voltageLevelResourcesToFlush, networkUuid, voltageLevelResources);
     }
 
     @Override
     public void updateVoltageLevels(UUID networkUuid, List<Resource<VoltageLevelAttributes>> voltageLevelResources, AttributeFilter attributeFilter) {
-        for (Resource<VoltageLevelAttributes> voltageLevelResource : voltageLevelResources) {
-            voltageLevelResourcesToFlush.getCollection(networkUuid, voltageLevelResource.getVariantNum()).update(voltageLevelResource, attributeFilter);
-        }
+        bufferUpdates(voltageLevelResourcesToFlush, networkUuid, voltageLevelResources, attributeFilter);
     }
 
     @Override
@@ -263,16 +463,12 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
 
     @Override
     public void createSwitches(UUID networkUuid, List<Resource<SwitchAttributes>> switchResources) {
-        for (Resource<SwitchAttributes> switchResource : switchResources) {
-            switchResourcesToFlush.getCollection(networkUuid, switchResource.getVariantNum()).create(switchResource);
-        }
+        bufferCreations(switchResourcesToFlush, networkUuid, switchResources);
     }
 
     @Override
     public void updateSwitches(UUID networkUuid, List<Resource<SwitchAttributes>> switchResources, AttributeFilter attributeFilter) {
-        for (Resource<SwitchAttributes> switchResource : switchResources) {
-            switchResourcesToFlush.getCollection(networkUuid, switchResource.getVariantNum()).update(switchResource, attributeFilter);
-        }
+        bufferUpdates(switchResourcesToFlush, networkUuid, switchResources, attributeFilter);
     }
 
     @Override
@@ -282,16 +478,12 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
 
     @Override
     public void createBusbarSections(UUID networkUuid, List<Resource<BusbarSectionAttributes>> busbarSectionResources) {
-        for (Resource<BusbarSectionAttributes> busbarSectionResource : busbarSectionResources) {
-            busbarSectionResourcesToFlush.getCollection(networkUuid, busbarSectionResource.getVariantNum()).create(busbarSectionResource);
-        }
+        bufferCreations(busbarSectionResourcesToFlush, networkUuid, busbarSectionResources);
     }
 
     @Override
     public void updateBusbarSections(UUID networkUuid, List<Resource<BusbarSectionAttributes>> busbarSectionResources, AttributeFilter attributeFilter) {
-        for (Resource<BusbarSectionAttributes> busbarSectionResource : busbarSectionResources) {
-            busbarSectionResourcesToFlush.getCollection(networkUuid, busbarSectionResource.getVariantNum()).update(busbarSectionResource, attributeFilter);
-        }
+        bufferUpdates(busbarSectionResourcesToFlush, networkUuid, busbarSectionResources, attributeFilter);
     }
 
     @Override
@@ -301,16 +493,12 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
 
     @Override
     public void createLoads(UUID networkUuid, List<Resource<LoadAttributes>> loadResources) {
-        for (Resource<LoadAttributes> loadResource : loadResources) {
-            loadResourcesToFlush.getCollection(networkUuid, loadResource.getVariantNum()).create(loadResource);
-        }
+        bufferCreations(loadResourcesToFlush, networkUuid, loadResources);
     }
 
     @Override
     public void updateLoads(UUID networkUuid, List<Resource<LoadAttributes>> loadResources, AttributeFilter attributeFilter) {
-        for (Resource<LoadAttributes> loadResource : loadResources) {
-            loadResourcesToFlush.getCollection(networkUuid, loadResource.getVariantNum()).update(loadResource, attributeFilter);
-        }
+        bufferUpdates(loadResourcesToFlush, networkUuid, loadResources, attributeFilter);
     }
 
     @Override
@@ -320,16 +508,12 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
 
     @Override
     public void createGenerators(UUID networkUuid, List<Resource<GeneratorAttributes>> generatorResources) {
-        for (Resource<GeneratorAttributes> generatorResource : generatorResources) {
-            generatorResourcesToFlush.getCollection(networkUuid, generatorResource.getVariantNum()).create(generatorResource);
-        }
+        bufferCreations(generatorResourcesToFlush, networkUuid, generatorResources);
     }
 
     @Override
     public void updateGenerators(UUID networkUuid, List<Resource<GeneratorAttributes>> generatorResources, AttributeFilter attributeFilter) {
-        for (Resource<GeneratorAttributes> generatorResource : generatorResources) {
-            generatorResourcesToFlush.getCollection(networkUuid, generatorResource.getVariantNum()).update(generatorResource, attributeFilter);
-        }
+        bufferUpdates(generatorResourcesToFlush, networkUuid, generatorResources, attributeFilter);
     }
 
     @Override
@@ -339,16 +523,12 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
 
     @Override
     public void createBatteries(UUID networkUuid, List<Resource<BatteryAttributes>> batteryResources) {
-        for (Resource<BatteryAttributes> batteryResource : batteryResources) {
-            batteryResourcesToFlush.getCollection(networkUuid, batteryResource.getVariantNum()).create(batteryResource);
-        }
+        bufferCreations(batteryResourcesToFlush, networkUuid, batteryResources);
     }
 
     @Override
     public void updateBatteries(UUID networkUuid, List<Resource<BatteryAttributes>> batteryResources, AttributeFilter attributeFilter) {
-        for (Resource<BatteryAttributes> batteryResource : batteryResources) {
-            batteryResourcesToFlush.getCollection(networkUuid, batteryResource.getVariantNum()).update(batteryResource, attributeFilter);
-        }
+        bufferUpdates(batteryResourcesToFlush, networkUuid, batteryResources, attributeFilter);
     }
 
     @Override
@@ -358,16 +538,12 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
 
     @Override
     public void createTwoWindingsTransformers(UUID networkUuid, List<Resource<TwoWindingsTransformerAttributes>> twoWindingsTransformerResources) {
-        for (Resource<TwoWindingsTransformerAttributes> twoWindingsTransformerResource : twoWindingsTransformerResources) {
-            twoWindingsTransformerResourcesToFlush.getCollection(networkUuid, twoWindingsTransformerResource.getVariantNum()).create(twoWindingsTransformerResource);
-        }
+        bufferCreations(twoWindingsTransformerResourcesToFlush, networkUuid, twoWindingsTransformerResources);
     }
 
     @Override
     public void updateTwoWindingsTransformers(UUID networkUuid, List<Resource<TwoWindingsTransformerAttributes>> twoWindingsTransformerResources, AttributeFilter attributeFilter) {
-        for (Resource<TwoWindingsTransformerAttributes> twoWindingsTransformerResource : twoWindingsTransformerResources) {
-            twoWindingsTransformerResourcesToFlush.getCollection(networkUuid, twoWindingsTransformerResource.getVariantNum()).update(twoWindingsTransformerResource, attributeFilter);
-        }
+        bufferUpdates(twoWindingsTransformerResourcesToFlush, networkUuid, twoWindingsTransformerResources, attributeFilter);
     }
 
     @Override
@@ -380,16 +556,12 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
 
     @Override
     public void createGrounds(UUID networkUuid, List<Resource<GroundAttributes>> groundResources) {
-        for (Resource<GroundAttributes> groundResource : groundResources) {
-            groundResourcesToFlush.getCollection(networkUuid, groundResource.getVariantNum()).create(groundResource);
-        }
+        bufferCreations(groundResourcesToFlush, networkUuid, groundResources);
     }
 
     @Override
     public void updateGrounds(UUID networkUuid, List<Resource<GroundAttributes>> groundResources, AttributeFilter attributeFilter) {
-        for (Resource<GroundAttributes> groundResource : groundResources) {
-            groundResourcesToFlush.getCollection(networkUuid, groundResource.getVariantNum()).update(groundResource, attributeFilter);
-        }
+        bufferUpdates(groundResourcesToFlush, networkUuid, groundResources, attributeFilter);
     }
 
     @Override
@@ -400,16 +572,12 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
     // 3 windings transformer
     @Override
     public void createThreeWindingsTransformers(UUID networkUuid, List<Resource<ThreeWindingsTransformerAttributes>> threeWindingsTransformerResources) {
-        for (Resource<ThreeWindingsTransformerAttributes> threeWindingsTransformerResource : threeWindingsTransformerResources) {
-            threeWindingsTransformerResourcesToFlush.getCollection(networkUuid, threeWindingsTransformerResource.getVariantNum()).create(threeWindingsTransformerResource);
-        }
+        bufferCreations(threeWindingsTransformerResourcesToFlush, networkUuid, threeWindingsTransformerResources);
     }
 
     @Override
     public void updateThreeWindingsTransformers(UUID networkUuid, List<Resource<ThreeWindingsTransformerAttributes>> threeWindingsTransformerResources, AttributeFilter attributeFilter) {
-        for (Resource<ThreeWindingsTransformerAttributes> threeWindingsTransformerResource : threeWindingsTransformerResources) {
-            threeWindingsTransformerResourcesToFlush.getCollection(networkUuid, threeWindingsTransformerResource.getVariantNum()).update(threeWindingsTransformerResource, attributeFilter);
-        }
+        bufferUpdates(threeWindingsTransformerResourcesToFlush, networkUuid, threeWindingsTransformerResources, attributeFilter);
     }
 
     @Override
@@ -419,16 +587,12 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
 
     @Override
     public void createLines(UUID networkUuid, List<Resource<LineAttributes>> lineResources) {
-        for (Resource<LineAttributes> lineResource : lineResources) {
-            lineResourcesToFlush.getCollection(networkUuid, lineResource.getVariantNum()).create(lineResource);
-        }
+        bufferCreations(lineResourcesToFlush, networkUuid, lineResources);
     }
 
     @Override
     public void updateLines(UUID networkUuid, List<Resource<LineAttributes>> lineResources, AttributeFilter attributeFilter) {
-        for (Resource<LineAttributes> lineResource : lineResources) {
-            lineResourcesToFlush.getCollection(networkUuid, lineResource.getVariantNum()).update(lineResource, attributeFilter);
-        }
+        bufferUpdates(lineResourcesToFlush, networkUuid, lineResources, attributeFilter);
     }
 
     @Override
@@ -438,16 +602,12 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
 
     @Override
     public void createShuntCompensators(UUID networkUuid, List<Resource<ShuntCompensatorAttributes>> shuntCompensatorResources) {
-        for (Resource<ShuntCompensatorAttributes> shuntCompensatorResource : shuntCompensatorResources) {
-            shuntCompensatorResourcesToFlush.getCollection(networkUuid, shuntCompensatorResource.getVariantNum()).create(shuntCompensatorResource);
-        }
+        bufferCreations(shuntCompensatorResourcesToFlush, networkUuid, shuntCompensatorResources);
     }
 
     @Override
     public void updateShuntCompensators(UUID networkUuid, List<Resource<ShuntCompensatorAttributes>> shuntCompensatorResources, AttributeFilter attributeFilter) {
-        for (Resource<ShuntCompensatorAttributes> shuntCompensatorResource : shuntCompensatorResources) {
-            shuntCompensatorResourcesToFlush.getCollection(networkUuid, shuntCompensatorResource.getVariantNum()).update(shuntCompensatorResource, attributeFilter);
-        }
+        bufferUpdates(shuntCompensatorResourcesToFlush, networkUuid, shuntCompensatorResources, attributeFilter);
     }
 
     @Override
@@ -458,16 +618,12 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
 
     @Override
     public void createVscConverterStations(UUID networkUuid, List<Resource<VscConverterStationAttributes>> vscConverterStationResources) {
-        for (Resource<VscConverterStationAttributes> vscConverterStationResource : vscConverterStationResources) {
-            vscConverterStationResourcesToFlush.getCollection(networkUuid, vscConverterStationResource.getVariantNum()).create(vscConverterStationResource);
-        }
+        bufferCreations(vscConverterStationResourcesToFlush, networkUuid, vscConverterStationResources);
     }
 
     @Override
     public void updateVscConverterStations(UUID networkUuid, List<Resource<VscConverterStationAttributes>> vscConverterStationResources, AttributeFilter attributeFilter) {
-        for (Resource<VscConverterStationAttributes> vscConverterStationResource : vscConverterStationResources) {
-            vscConverterStationResourcesToFlush.getCollection(networkUuid, vscConverterStationResource.getVariantNum()).update(vscConverterStationResource, attributeFilter);
-        }
+        bufferUpdates(vscConverterStationResourcesToFlush, networkUuid, vscConverterStationResources, attributeFilter);
     }
 
     @Override
@@ -478,16 +634,12 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
 
     @Override
     public void createLccConverterStations(UUID networkUuid, List<Resource<LccConverterStationAttributes>> lccConverterStationResources) {
-        for (Resource<LccConverterStationAttributes> lccConverterStationResource : lccConverterStationResources) {
-            lccConverterStationResourcesToFlush.getCollection(networkUuid, lccConverterStationResource.getVariantNum()).create(lccConverterStationResource);
-        }
+        bufferCreations(lccConverterStationResourcesToFlush, networkUuid, lccConverterStationResources);
     }
 
     @Override
     public void updateLccConverterStations(UUID networkUuid, List<Resource<LccConverterStationAttributes>> lccConverterStationResources, AttributeFilter attributeFilter) {
-        for (Resource<LccConverterStationAttributes> lccConverterStationResource : lccConverterStationResources) {
-            lccConverterStationResourcesToFlush.getCollection(networkUuid, lccConverterStationResource.getVariantNum()).update(lccConverterStationResource, attributeFilter);
-        }
+        bufferUpdates(lccConverterStationResourcesToFlush, networkUuid, lccConverterStationResources, attributeFilter);
     }
 
     @Override
@@ -498,16 +650,12 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
 
     @Override
     public void createStaticVarCompensators(UUID networkUuid, List<Resource<StaticVarCompensatorAttributes>> svcResources) {
-        for (Resource<StaticVarCompensatorAttributes> svcResource : svcResources) {
-            svcResourcesToFlush.getCollection(networkUuid, svcResource.getVariantNum()).create(svcResource);
-        }
+        bufferCreations(svcResourcesToFlush, networkUuid, svcResources);
     }
 
     @Override
     public void updateStaticVarCompensators(UUID networkUuid, List<Resource<StaticVarCompensatorAttributes>> svcResources, AttributeFilter attributeFilter) {
-        for (Resource<StaticVarCompensatorAttributes> svcResource : svcResources) {
-            svcResourcesToFlush.getCollection(networkUuid, svcResource.getVariantNum()).update(svcResource, attributeFilter);
-        }
+        bufferUpdates(svcResourcesToFlush, networkUuid, svcResources, attributeFilter);
     }
 
     @Override
@@ -518,16 +666,12 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
 
     @Override
     public void createHvdcLines(UUID networkUuid, List<Resource<HvdcLineAttributes>> hvdcLineResources) {
-        for (Resource<HvdcLineAttributes> hvdcLineResource : hvdcLineResources) {
-            hvdcLineResourcesToFlush.getCollection(networkUuid, hvdcLineResource.getVariantNum()).create(hvdcLineResource);
-        }
+        bufferCreations(hvdcLineResourcesToFlush, networkUuid, hvdcLineResources);
     }
 
     @Override
     public void updateHvdcLines(UUID networkUuid, List<Resource<HvdcLineAttributes>> hvdcLineResources, AttributeFilter attributeFilter) {
-        for (Resource<HvdcLineAttributes> hvdcLineResource : hvdcLineResources) {
-            hvdcLineResourcesToFlush.getCollection(networkUuid, hvdcLineResource.getVariantNum()).update(hvdcLineResource, attributeFilter);
-        }
+        bufferUpdates(hvdcLineResourcesToFlush, networkUuid, hvdcLineResources, attributeFilter);
     }
 
     @Override
@@ -537,16 +681,12 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
 
     @Override
     public void createBoundaryLines(UUID networkUuid, List<Resource<BoundaryLineAttributes>> boundaryLineResources) {
-        for (Resource<BoundaryLineAttributes> boundaryLineResource : boundaryLineResources) {
-            boundaryLineResourcesToFlush.getCollection(networkUuid, boundaryLineResource.getVariantNum()).create(boundaryLineResource);
-        }
+        bufferCreations(boundaryLineResourcesToFlush, networkUuid, boundaryLineResources);
     }
 
     @Override
     public void updateBoundaryLines(UUID networkUuid, List<Resource<BoundaryLineAttributes>> boundaryLineResources, AttributeFilter attributeFilter) {
-        for (Resource<BoundaryLineAttributes> boundaryLineResource : boundaryLineResources) {
-            boundaryLineResourcesToFlush.getCollection(networkUuid, boundaryLineResource.getVariantNum()).update(boundaryLineResource, attributeFilter);
-        }
+        bufferUpdates(boundaryLineResourcesToFlush, networkUuid, boundaryLineResources, attributeFilter);
     }
 
     @Override
@@ -556,16 +696,12 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
 
     @Override
     public void createConfiguredBuses(UUID networkUuid, List<Resource<ConfiguredBusAttributes>> busResources) {
-        for (Resource<ConfiguredBusAttributes> busResource : busResources) {
-            busResourcesToFlush.getCollection(networkUuid, busResource.getVariantNum()).create(busResource);
-        }
+        bufferCreations(busResourcesToFlush, networkUuid, busResources);
     }
 
     @Override
     public void updateConfiguredBuses(UUID networkUuid, List<Resource<ConfiguredBusAttributes>> busResources, AttributeFilter attributeFilter) {
-        for (Resource<ConfiguredBusAttributes> busResource : busResources) {
-            busResourcesToFlush.getCollection(networkUuid, busResource.getVariantNum()).update(busResource, attributeFilter);
-        }
+        bufferUpdates(busResourcesToFlush, networkUuid, busResources, attributeFilter);
     }
 
     @Override
@@ -575,16 +711,12 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
 
     @Override
     public void createTieLines(UUID networkUuid, List<Resource<TieLineAttributes>> tieLineResources) {
-        for (Resource<TieLineAttributes> tieLineResource : tieLineResources) {
-            tieLineResourcesToFlush.getCollection(networkUuid, tieLineResource.getVariantNum()).create(tieLineResource);
-        }
+        bufferCreations(tieLineResourcesToFlush, networkUuid, tieLineResources);
     }
 
     @Override
     public void updateTieLines(UUID networkUuid, List<Resource<TieLineAttributes>> tieLineResources, AttributeFilter attributeFilter) {
-        for (Resource<TieLineAttributes> tieLineResource : tieLineResources) {
-            tieLineResourcesToFlush.getCollection(networkUuid, tieLineResource.getVariantNum()).update(tieLineResource, attributeFilter);
-        }
+        bufferUpdates(tieLineResourcesToFlush, networkUuid, tieLineResources, attributeFilter);
     }
 
     @Override
@@ -595,16 +727,12 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
     // Areas
     @Override
     public void createAreas(UUID networkUuid, List<Resource<AreaAttributes>> areaResources) {
-        for (Resource<AreaAttributes> areaResource : areaResources) {
-            areaResourcesToFlush.getCollection(networkUuid, areaResource.getVariantNum()).create(areaResource);
-        }
+        bufferCreations(areaResourcesToFlush, networkUuid, areaResources);
     }
 
     @Override
     public void updateAreas(UUID networkUuid, List<Resource<AreaAttributes>> areaResources, AttributeFilter attributeFilter) {
-        for (Resource<AreaAttributes> areaResource : areaResources) {
-            areaResourcesToFlush.getCollection(networkUuid, areaResource.getVariantNum()).update(areaResource, attributeFilter);
-        }
+        bufferUpdates(areaResourcesToFlush, networkUuid, areaResources, attributeFilter);
     }
 
     @Override
@@ -618,6 +746,9 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
         Set<String> createdEquipmentIds = allBuffers.get(resourceType).getCollection(networkUuid, variantNum).getCreateResourcesIds();
         Map<String, Map<Integer, Set<String>>> finalOperationalLimitsGroupsToDelete = new HashMap<>(operationalLimitsGroupsToDelete);
         finalOperationalLimitsGroupsToDelete.keySet().removeAll(createdEquipmentIds);
+        if (journal != null) {
+            journal.appendRemoveOperationalLimitsGroups(networkUuid, variantNum, resourceType, finalOperationalLimitsGroupsToDelete);
+        }
         operationalLimitsToRemoveOnFlush.getCollection(networkUuid, variantNum).remove(finalOperationalLimitsGroupsToDelete, resourceType);
     }
 
@@ -627,11 +758,33 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
         Set<String> createdEquipmentIds = allBuffers.get(resourceType).getCollection(networkUuid, variantNum).getCreateResourcesIds();
         Map<String, Set<String>> finalExtensionsByIdentifiableIds = new HashMap<>(extensionsByIdentifiableId);
         finalExtensionsByIdentifiableIds.keySet().removeAll(createdEquipmentIds);
+        if (journal != null) {
+            journal.appendRemoveExtensions(networkUuid, variantNum, resourceType, finalExtensionsByIdentifiableIds);
+        }
         extensionsToRemoveOnFlush.getCollection(networkUuid, variantNum).remove(finalExtensionsByIdentifiableIds, resourceType);
     }
 
+    @Override
+    public <T extends IdentifiableAttributes> void updateResources(UUID networkUuid, ResourceType resourceType, List<Resource<T>> resources,
+                                                                  AttributeFilter attributeFilter) {
+        // dispatch to the collection update methods so that the resources are buffered
+        NetworkStoreClient.super.updateResources(networkUuid, resourceType, resources, attributeFilter);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends IdentifiableAttributes> void updateResourceAttributes(UUID networkUuid, Resource<T> resource, AttributeFilter attributeFilter,
+                                                                           Set<String> attributeNames) {
+        ResourceAttributesPatch.checkAttributeNames(resource, attributeNames);
+        bufferUpdates((NetworkCollectionIndex<CollectionBuffer<T>>) (NetworkCollectionIndex<?>) allBuffers.get(resource.getType()), networkUuid,
+                List.of(resource), attributeFilter, attributeNames);
+    }
+
     @Override
     public void flush(UUID networkUuid) {
+        waitForPendingFlush(networkUuid);
+        reportFlushFailure(networkUuid);
+        long journalSegmentNum = checkpointJournal(networkUuid);
         Stopwatch stopwatch = Stopwatch.createStarted();
         // olg and extension buffers must be flushed before equipments buffers.
         // because in server deleting olg/extensions can interact with updating equipment containing olg/extensions
@@ -641,27 +794,171 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
         externalBuffersFutures.add(executorService.submit(() ->
                 extensionsToRemoveOnFlush.applyToCollection(networkUuid, (variantNum, b) -> b.flush(networkUuid, variantNum))));
         ExecutorUtil.waitAllFutures(externalBuffersFutures);
-        List<Future<?>> futures = new ArrayList<>(allBuffers.size());
-        for (var buffer : allBuffers.values()) {
-            futures.add(executorService.submit(() -> buffer.applyToCollection(networkUuid, (variantNum, b) -> b.flush(networkUuid, variantNum))));
+        Map<ResourceType, Map<Integer, CollectionBuffer<?>>> buffers = new EnumMap<>(ResourceType.class);
+        allBuffers.forEach((resourceType, buffer) -> buffer.applyToCollection(networkUuid,
+            (variantNum, b) -> buffers.computeIfAbsent(resourceType, k -> new LinkedHashMap<>()).put(variantNum, b)));
+        for (List<Runnable> step : createFlushSteps(networkUuid, buffers)) {
+            List<Future<?>> futures = new ArrayList<>(step.size());
+            for (Runnable task : step) {
+                futures.add(executorService.submit(task));
+            }
+            ExecutorUtil.waitAllFutures(futures);
         }
-        ExecutorUtil.waitAllFutures(futures);
+        autoFlushPolicy.reset(networkUuid);
+        truncateJournal(networkUuid, journalSegmentNum);
         stopwatch.stop();
         LOGGER.info("All buffers flushed in {} ms", stopwatch.elapsed(TimeUnit.MILLISECONDS));
     }
 
+    /**
+     * The buffers of the network are detached and copied in the calling thread, so that new modifications go to new
+     * buffers and do not interfere with the resources being sent. As for the synchronous flush, operational limits
+     * groups and extensions removals are sent before the equipments, which are sent stage by stage.
+     * <p>
+     * The detached buffers are not restored on failure: part of them may already have been sent, and sending them
+     * again could create resources twice. The network is put in a failed state instead: the failure is logged and
+     * reported by the future, and then by the next synchronous flush. The following asynchronous flushes are still
+     * sent, once the failed one has completed.
+     */
+    @Override
+    public CompletableFuture<Void> flushAsync(UUID networkUuid) {
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        long journalSegmentNum = checkpointJournal(networkUuid);
+        Map<Integer, OperationalLimitsGroupsRemovalBuffer> operationalLimitsToRemove = operationalLimitsToRemoveOnFlush.detachCollections(networkUuid);
+        Map<Integer, ExtensionsRemovalBuffer> extensionsToRemove = extensionsToRemoveOnFlush.detachCollections(networkUuid);
+        Map<ResourceType, Map<Integer, CollectionBuffer<?>>> bufferSnapshots = new EnumMap<>(ResourceType.class);
+        allBuffers.forEach((resourceType, buffer) -> bufferSnapshots.put(resourceType, snapshotBuffers(buffer, networkUuid)));
+        autoFlushPolicy.reset(networkUuid);
+        stopwatch.stop();
+        LOGGER.info("Buffers copied for asynchronous flush in {} ms", stopwatch.elapsed(TimeUnit.MILLISECONDS));
+
+        CompletableFuture<Void> previousFlush = pendingFlushes.getOrDefault(networkUuid, CompletableFuture.completedFuture(null));
+        // sent after the previous flush whatever its outcome, its failure being reported on its own
+        CompletableFuture<Void> chain = previousFlush
+                .handle((v, e) -> null)
+                .thenCompose(v -> runAllAsync(List.of(
+                    () -> operationalLimitsToRemove.forEach((variantNum, b) -> b.flush(networkUuid, variantNum)),
+                    () -> extensionsToRemove.forEach((variantNum, b) -> b.flush(networkUuid, variantNum)))));
+        for (List<Runnable> step : createFlushSteps(networkUuid, bufferSnapshots)) {
+            chain = chain.thenCompose(v -> runAllAsync(step));
+        }
+        CompletableFuture<Void> flush = chain.whenComplete((v, e) -> {
+            if (e == null) {
+                truncateJournal(networkUuid, journalSegmentNum);
+                LOGGER.info("All buffers flushed asynchronously");
+            } else {
+                flushFailures.putIfAbsent(networkUuid, e instanceof CompletionException ? e.getCause() : e);
+                LOGGER.error("Asynchronous flush of network {} failed, the changes it contains have been dropped", networkUuid, e);
+            }
+        });
+        pendingFlushes.put(networkUuid, flush);
+        // if other flushes have been chained meanwhile, the last one removes the entry
+        flush.whenComplete((v, e) -> pendingFlushes.remove(networkUuid, flush));
+        return flush;
+    }
+
+    private Map<Integer, CollectionBuffer<?>> snapshotBuffers(NetworkCollectionIndex<? extends CollectionBuffer<? extends IdentifiableAttributes>> buffer, UUID networkUuid) {
+        Map<Integer, CollectionBuffer<?>> snapshots = new LinkedHashMap<>();
+        buffer.detachCollections(networkUuid).forEach((variantNum, b) -> snapshots.put(variantNum, b.snapshot(variantNum)));
+        return snapshots;
+    }
+
+    /**
+     * @return the tasks flushing the given buffers, tasks of a step being run in parallel and steps one after the
+     * other, following {@link #FLUSH_STAGES}
+     */
+    private static List<List<Runnable>> createFlushSteps(UUID networkUuid, Map<ResourceType, Map<Integer, CollectionBuffer<?>>> buffers) {
+        List<List<Runnable>> steps = new ArrayList<>(FLUSH_STAGES.size() * 2);
+        for (Set<ResourceType> stage : Lists.reverse(FLUSH_STAGES)) {
+            addFlushStep(steps, stage, buffers, (variantNum, b) -> b.flushRemovals(networkUuid, variantNum));
+        }
+        for (Set<ResourceType> stage : FLUSH_STAGES) {
+            addFlushStep(steps, stage, buffers, (variantNum, b) -> b.flushCreationsAndUpdates(networkUuid, variantNum));
+        }
+        return steps;
+    }
+
+    private static void addFlushStep(List<List<Runnable>> steps, Set<ResourceType> stage, Map<ResourceType, Map<Integer, CollectionBuffer<?>>> buffers,
+                                     BiConsumer<Integer, CollectionBuffer<?>> flushFct) {
+        List<Runnable> step = new ArrayList<>(stage.size());
+        for (ResourceType resourceType : stage) {
+            Map<Integer, CollectionBuffer<?>> buffersByVariant = buffers.get(resourceType);
+            if (buffersByVariant != null && !buffersByVariant.isEmpty()) {
+                step.add(() -> buffersByVariant.forEach(flushFct));
+            }
+        }
+        if (!step.isEmpty()) {
+            steps.add(step);
+        }
+    }
+
+    private <T extends IdentifiableAttributes> void autoFlushIfNeeded(UUID networkUuid, List<Resource<T>> resources) {
+        if (autoFlushPolicy.onModification(networkUuid, resources, () -> getBufferedResourceCount(networkUuid))) {
+            autoFlush(networkUuid);
+        }
+    }
+
+    private void autoFlush(UUID networkUuid) {
+        LOGGER.info("Buffers of network {} reached an auto flush threshold", networkUuid);
+        flush(networkUuid);
+    }
+
+    private long getBufferedResourceCount(UUID networkUuid) {
+        long[] count = new long[1];
+        for (var buffer : allBuffers.values()) {
+            buffer.applyToCollection(networkUuid, (variantNum, b) -> count[0] += b.size());
+        }
+        return count[0];
+    }
+
+    private CompletableFuture<Void> runAllAsync(List<Runnable> tasks) {
+        return CompletableFuture.allOf(tasks.stream()
+                .map(task -> CompletableFuture.runAsync(task, executorService))
+                .toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * Wait for the asynchronous flushes of a network, so that what is sent or read next comes after them. Their
+     * failures are recorded once they complete, see {@link #reportFlushFailure(UUID)}.
+     */
+    private void waitForPendingFlush(UUID networkUuid) {
+        CompletableFuture<Void> pendingFlush = pendingFlushes.get(networkUuid);
+        if (pendingFlush != null) {
+            pendingFlush.handle((v, e) -> null).join();
+        }
+    }
+
+    /**
+     * Report the first failure of the completed asynchronous flushes of a network, once.
+     */
+    private void reportFlushFailure(UUID networkUuid) {
+        Throwable failure = flushFailures.remove(networkUuid);
+        if (failure instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        } else if (failure != null) {
+            throw new CompletionException(failure);
+        }
+    }
+
+    static ObjectMapper createObjectMapper() {
+        return JsonUtil.createObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .configure(SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS, false)
+            .configure(DeserializationFeature.READ_DATE_TIMESTAMPS_AS_NANOSECONDS, false);
+    }
+
     private static <T extends IdentifiableAttributes> void cloneBuffer(NetworkCollectionIndex<CollectionBuffer<T>> buffer, UUID networkUuid,
-                                                                       int sourceVariantNum, int targetVariantNum, ObjectMapper objectMapper,
+                                                                       int sourceVariantNum, int targetVariantNum,
                                                                        Consumer<Resource<T>> resourcePostProcessor) {
         // clone resources from source variant collection
         var clonedCollection = buffer.getCollection(networkUuid, sourceVariantNum)
-            .clone(objectMapper, targetVariantNum, resourcePostProcessor);
+            .clone(targetVariantNum, resourcePostProcessor);
         buffer.addCollection(networkUuid, targetVariantNum, clonedCollection);
     }
 
     private static <T extends IdentifiableAttributes> void cloneBuffer(NetworkCollectionIndex<CollectionBuffer<T>> buffer, UUID networkUuid,
-                                                                       int sourceVariantNum, int targetVariantNum, ObjectMapper objectMapper) {
-        cloneBuffer(buffer, networkUuid, sourceVariantNum, targetVariantNum, objectMapper, null);
+                                                                       int sourceVariantNum, int targetVariantNum) {
+        cloneBuffer(buffer, networkUuid, sourceVariantNum, targetVariantNum, null);
     }
 
     private static void cloneExtensionsBuffer(NetworkCollectionIndex<ExtensionsRemovalBuffer> extensionsBufferCollection, UUID networkUuid, int sourceVariantNum, int targetVariantNum) {
@@ -674,39 +971,56 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
         limitsBufferCollection.addCollection(networkUuid, targetVariantNum, limitsClonedCollection);
     }
 
+    /**
+     * Buffered resources attributes are shared with the source variant and copied on write, see
+     * {@link #prepareResourceUpdate(UUID, Resource)}, except for the network resource which is modified for the new variant.
+     */
     @Override
     public void cloneNetwork(UUID networkUuid, int sourceVariantNum, int targetVariantNum, String targetVariantId) {
+        // the server clones the source variant as it is, so the changes being flushed have to be sent first
+        waitForPendingFlush(networkUuid);
         delegate.cloneNetwork(networkUuid, sourceVariantNum, targetVariantNum, targetVariantId);
+        if (journal != null) {
+            journal.appendCloneVariant(networkUuid, sourceVariantNum, targetVariantNum, targetVariantId);
+        }
+        cloneBuffers(networkUuid, sourceVariantNum, targetVariantNum, targetVariantId);
+    }
 
-        var objectMapper = JsonUtil.createObjectMapper()
-            .registerModule(new JavaTimeModule())
-            .configure(SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS, false)
-            .configure(DeserializationFeature.READ_DATE_TIMESTAMPS_AS_NANOSECONDS, false);
+    @Override
+    public <T extends IdentifiableAttributes> void prepareResourceUpdate(UUID networkUuid, Resource<T> resource) {
+        delegate.prepareResourceUpdate(networkUuid, resource);
+        getBuffer(resource.getType()).applyToCollection(networkUuid, (variantNum, buffer) -> {
+            if (variantNum != resource.getVariantNum()) {
+                buffer.copySharedAttributes(resource.getId(), resource.getAttributes());
+            }
+        });
+    }
 
+    private void cloneBuffers(UUID networkUuid, int sourceVariantNum, int targetVariantNum, String targetVariantId) {
         //can't use allBuffers because of generics compile error...
-        cloneBuffer(switchResourcesToFlush, networkUuid, sourceVariantNum, targetVariantNum, objectMapper);
-        cloneBuffer(busbarSectionResourcesToFlush, networkUuid, sourceVariantNum, targetVariantNum, objectMapper);
-        cloneBuffer(loadResourcesToFlush, networkUuid, sourceVariantNum, targetVariantNum, objectMapper);
-        cloneBuffer(generatorResourcesToFlush, networkUuid, sourceVariantNum, targetVariantNum, objectMapper);
-        cloneBuffer(batteryResourcesToFlush, networkUuid, sourceVariantNum, targetVariantNum, objectMapper);
-        cloneBuffer(groundResourcesToFlush, networkUuid, sourceVariantNum, targetVariantNum, objectMapper);
-        cloneBuffer(twoWindingsTransformerResourcesToFlush, networkUuid, sourceVariantNum, targetVariantNum, objectMapper);
-        cloneBuffer(threeWindingsTransformerResourcesToFlush, networkUuid, sourceVariantNum, targetVariantNum, objectMapper);
-        cloneBuffer(lineResourcesToFlush, networkUuid, sourceVariantNum, targetVariantNum, objectMapper);
-        cloneBuffer(shuntCompensatorResourcesToFlush, networkUuid, sourceVariantNum, targetVariantNum, objectMapper);
-        cloneBuffer(vscConverterStationResourcesToFlush, networkUuid, sourceVariantNum, targetVariantNum, objectMapper);
-        cloneBuffer(lccConverterStationResourcesToFlush, networkUuid, sourceVariantNum, targetVariantNum, objectMapper);
-        cloneBuffer(svcResourcesToFlush, networkUuid, sourceVariantNum, targetVariantNum, objectMapper);
-        cloneBuffer(hvdcLineResourcesToFlush, networkUuid, sourceVariantNum, targetVariantNum, objectMapper);
-        cloneBuffer(boundaryLineResourcesToFlush, networkUuid, sourceVariantNum, targetVariantNum, objectMapper);
-        cloneBuffer(busResourcesToFlush, networkUuid, sourceVariantNum, targetVariantNum, objectMapper);
-        cloneBuffer(substationResourcesToFlush, networkUuid, sourceVariantNum, targetVariantNum, objectMapper);
-        cloneBuffer(voltageLevelResourcesToFlush, networkUuid, sourceVariantNum, targetVariantNum, objectMapper);
-        cloneBuffer(tieLineResourcesToFlush, networkUuid, sourceVariantNum, targetVariantNum, objectMapper);
-        cloneBuffer(areaResourcesToFlush, networkUuid, sourceVariantNum, targetVariantNum, objectMapper);
+        cloneBuffer(switchResourcesToFlush, networkUuid, sourceVariantNum, targetVariantNum);
+        cloneBuffer(busbarSectionResourcesToFlush, networkUuid, sourceVariantNum, targetVariantNum);
+        cloneBuffer(loadResourcesToFlush, networkUuid, sourceVariantNum, targetVariantNum);
+        cloneBuffer(generatorResourcesToFlush, networkUuid, sourceVariantNum, targetVariantNum);
+        cloneBuffer(batteryResourcesToFlush, networkUuid, sourceVariantNum, targetVariantNum);
+        cloneBuffer(groundResourcesToFlush, networkUuid, sourceVariantNum, targetVariantNum);
+        cloneBuffer(twoWindingsTransformerResourcesToFlush, networkUuid, sourceVariantNum, targetVariantNum);
+        cloneBuffer(threeWindingsTransformerResourcesToFlush, networkUuid, sourceVariantNum, targetVariantNum);
+        cloneBuffer(lineResourcesToFlush, networkUuid, sourceVariantNum, targetVariantNum);
+        cloneBuffer(shuntCompensatorResourcesToFlush, networkUuid, sourceVariantNum, targetVariantNum);
+        cloneBuffer(vscConverterStationResourcesToFlush, networkUuid, sourceVariantNum, targetVariantNum);
+        cloneBuffer(lccConverterStationResourcesToFlush, networkUuid, sourceVariantNum, targetVariantNum);
+        cloneBuffer(svcResourcesToFlush, networkUuid, sourceVariantNum, targetVariantNum);
+        cloneBuffer(hvdcLineResourcesToFlush, networkUuid, sourceVariantNum, targetVariantNum);
+        cloneBuffer(boundaryLineResourcesToFlush, networkUuid, sourceVariantNum, targetVariantNum);
+        cloneBuffer(busResourcesToFlush, networkUuid, sourceVariantNum, targetVariantNum);
+        cloneBuffer(substationResourcesToFlush, networkUuid, sourceVariantNum, targetVariantNum);
+        cloneBuffer(voltageLevelResourcesToFlush, networkUuid, sourceVariantNum, targetVariantNum);
+        cloneBuffer(tieLineResourcesToFlush, networkUuid, sourceVariantNum, targetVariantNum);
+        cloneBuffer(areaResourcesToFlush, networkUuid, sourceVariantNum, targetVariantNum);
         cloneExtensionsBuffer(extensionsToRemoveOnFlush, networkUuid, sourceVariantNum, targetVariantNum);
         cloneLimitsBuffer(operationalLimitsToRemoveOnFlush, networkUuid, sourceVariantNum, targetVariantNum);
-        cloneBuffer(networkResourcesToFlush, networkUuid, sourceVariantNum, targetVariantNum, objectMapper,
+        cloneBuffer(networkResourcesToFlush, networkUuid, sourceVariantNum, targetVariantNum,
                 networkResource -> {
                     NetworkAttributes networkAttributes = networkResource.getAttributes();
                     networkAttributes.setVariantId(targetVariantId);
@@ -716,8 +1030,17 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
                 });
     }
 
+    @Override
+    public Optional<NetworkChanges> refresh(UUID networkUuid, int variantNum) {
+        // the changes being sent by an asynchronous flush have to be on the server before comparing with it
+        waitForPendingFlush(networkUuid);
+        return super.refresh(networkUuid, variantNum);
+    }
+
     @Override
     public List<String> getIdentifiablesIds(UUID networkUuid, int variantNum) {
+        // resources being created by an asynchronous flush are neither in the buffers nor surely on the server yet
+        waitForPendingFlush(networkUuid);
         List<String> identifiablesIds = super.getIdentifiablesIds(networkUuid, variantNum);
         for (var buffer : allBuffers.values()) {
             CollectionBuffer<? extends IdentifiableAttributes> collection = buffer.getCollection(networkUuid, variantNum);
@@ -727,8 +1050,50 @@ public class BufferedNetworkStoreClient extends AbstractForwardingNetworkStoreCl
         return identifiablesIds;
     }
 
+    /**
+     * As for {@link #getIdentifiablesIds}, the buffers are taken into account: resources created in the buffers are
+     * taken from them and resources removed in the buffers are not requested from the server.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Resource<IdentifiableAttributes>> getIdentifiables(UUID networkUuid, int variantNum, Collection<String> ids) {
+        // resources being created by an asynchronous flush are neither in the buffers nor surely on the server yet
+        waitForPendingFlush(networkUuid);
+        List<Resource<IdentifiableAttributes>> resources = new ArrayList<>();
+        Set<String> idsToLoad = new LinkedHashSet<>(ids);
+        Set<String> removedIds = new HashSet<>();
+        for (var buffer : allBuffers.values()) {
+            CollectionBuffer<? extends IdentifiableAttributes> collection = buffer.getCollection(networkUuid, variantNum);
+            Iterator<String> it = idsToLoad.iterator();
+            while (it.hasNext()) {
+                Resource<? extends IdentifiableAttributes> resource = collection.getCreateResource(it.next());
+                if (resource != null) {
+                    resources.add((Resource<IdentifiableAttributes>) (Resource<?>) resource);
+                    it.remove();
+                }
+            }
+            removedIds.addAll(collection.getRemoveResourcesIds());
+        }
+        idsToLoad.removeAll(removedIds);
+        if (!idsToLoad.isEmpty()) {
+            resources.addAll(delegate.getIdentifiables(networkUuid, variantNum, idsToLoad));
+        }
+        return resources;
+    }
+
     private <T extends IdentifiableAttributes> void removeFromAllBuffers(
             NetworkCollectionIndex<CollectionBuffer<T>> collectionIndex, UUID networkUuid, int variantNum, List<String> ids, ResourceType resourceType) {
+        if (journal != null) {
+            journal.appendRemove(networkUuid, variantNum, resourceType, ids);
+        }
+        bufferRemovals(collectionIndex, networkUuid, variantNum, ids, resourceType);
+        if (autoFlushPolicy.onRemoval(networkUuid, ids.size(), () -> getBufferedResourceCount(networkUuid))) {
+            autoFlush(networkUuid);
+        }
+    }
+
+    private <T extends IdentifiableAttributes> void bufferRemovals(
+            NetworkCollectionIndex<CollectionBuffer<T>> collectionIndex, UUID networkUuid, int variantNum, List<String> ids, ResourceType resourceType) {
         collectionIndex.getCollection(networkUuid, variantNum).remove(ids);
         extensionsToRemoveOnFlush.getCollection(networkUuid, variantNum).clearPendingRemovalsForResources(ids, resourceType);
         if (hasOperationalLimits(resourceType)) {
@@ -6,7 +6,6 @@
  */
 package com.powsybl.network.store.client;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.powsybl.network.store.model.AttributeFilter;
 import com.powsybl.network.store.model.IdentifiableAttributes;
 import com.powsybl.network.store.model.Resource;
@@ -28,23 +27,35 @@ public class CollectionBuffer<T extends IdentifiableAttributes> {
 
     private final TriConsumer<UUID, Integer, List<String>> removeFct;
 
+    private final TriConsumer<UUID, List<ResourceAttributesPatch<T>>, AttributeFilter> patchFct;
+
     private final Map<String, Resource<T>> createResources = new LinkedHashMap<>();
 
     private static final class ResourceAndFilter<T extends IdentifiableAttributes> {
 
-        private final Resource<T> resource;
+        private Resource<T> resource;
 
         private AttributeFilter attributeFilter;
 
-        private ResourceAndFilter(Resource<T> resource, AttributeFilter attributeFilter) {
+        /**
+         * Names of the modified attributes, null if the whole resource has to be updated.
+         */
+        private Set<String> attributeNames;
+
+        private ResourceAndFilter(Resource<T> resource, AttributeFilter attributeFilter, Set<String> attributeNames) {
             this.resource = Objects.requireNonNull(resource);
             this.attributeFilter = attributeFilter;
+            this.attributeNames = attributeNames != null ? new HashSet<>(attributeNames) : null;
         }
 
         private Resource<T> getResource() {
             return resource;
         }
 
+        private void setResource(Resource<T> resource) {
+            this.resource = Objects.requireNonNull(resource);
+        }
+
         private AttributeFilter getAttributeFilter() {
             return attributeFilter;
         }
@@ -52,6 +63,18 @@ public class CollectionBuffer<T extends IdentifiableAttributes> {
         private void setAttributeFilter(AttributeFilter attributeFilter) {
             this.attributeFilter = attributeFilter;
         }
+
+        private Set<String> getAttributeNames() {
+            return attributeNames;
+        }
+
+        private void addAttributeNames(Set<String> attributeNames) {
+            if (attributeNames == null) {
+                this.attributeNames = null;
+            } else if (this.attributeNames != null) {
+                this.attributeNames.addAll(attributeNames);
+            }
+        }
     }
 
     private final Map<String, ResourceAndFilter<T>> updateResources = new LinkedHashMap<>();
@@ -61,9 +84,21 @@ public class CollectionBuffer<T extends IdentifiableAttributes> {
     public CollectionBuffer(BiConsumer<UUID, List<Resource<T>>> createFct,
                             TriConsumer<UUID, List<Resource<T>>, AttributeFilter> updateFct,
                             TriConsumer<UUID, Integer, List<String>> removeFct) {
+        this(createFct, updateFct, removeFct, null);
+    }
+
+    /**
+     * @param patchFct function sending the modified attributes only of resources updated with
+     *                 {@link #update(Resource, AttributeFilter, Set)}, null to update the whole resources
+     */
+    public CollectionBuffer(BiConsumer<UUID, List<Resource<T>>> createFct,
+                            TriConsumer<UUID, List<Resource<T>>, AttributeFilter> updateFct,
+                            TriConsumer<UUID, Integer, List<String>> removeFct,
+                            TriConsumer<UUID, List<ResourceAttributesPatch<T>>, AttributeFilter> patchFct) {
         this.createFct = Objects.requireNonNull(createFct);
         this.updateFct = updateFct;
         this.removeFct = removeFct;
+        this.patchFct = patchFct;
     }
 
     void create(Resource<T> resource) {
@@ -75,20 +110,58 @@ public class CollectionBuffer<T extends IdentifiableAttributes> {
     }
 
     void update(Resource<T> resource, AttributeFilter attributeFilter) {
+        update(resource, attributeFilter, null);
+    }
+
+    /**
+     * The buffered instance of the resource is replaced by the given one, which holds the last values, as they may
+     * differ since a buffer clone or when the resource is read back from a journal.
+     *
+     * @param attributeNames JSON property names of the modified attributes, null if any attribute may have been
+     *                       modified
+     */
+    void update(Resource<T> resource, AttributeFilter attributeFilter, Set<String> attributeNames) {
         // do not update the resource if a creation resource is already in the buffer
         // (so we don't need to generate an update as the resource has not yet been created
-        // on server side and is still on client buffer)
-        if (!createResources.containsKey(resource.getId())) {
+        // on server side and is still on client buffer), only replace the created instance
+        if (createResources.containsKey(resource.getId())) {
+            createResources.put(resource.getId(), resource);
+        } else {
             ResourceAndFilter<T> resourceAndFilter = updateResources.get(resource.getId());
             if (resourceAndFilter == null) {
-                updateResources.put(resource.getId(), new ResourceAndFilter<>(resource, attributeFilter));
+                updateResources.put(resource.getId(), new ResourceAndFilter<>(resource, attributeFilter, attributeNames));
             } else {
+                resourceAndFilter.setResource(resource);
                 // Keep the covering (broader) filter.
                 resourceAndFilter.setAttributeFilter(AttributeFilter.covering(resourceAndFilter.getAttributeFilter(), attributeFilter));
+                resourceAndFilter.addAttributeNames(attributeNames);
             }
         }
     }
 
+    /**
+     * Give a copy of the attributes of a buffered resource if they are the given ones, shared since a buffer clone
+     * with a resource of another variant which is going to be modified in place.
+     */
+    void copySharedAttributes(String resourceId, T attributes) {
+        Resource<T> resource = getBufferedResource(resourceId);
+        if (resource != null && resource.getAttributes() == attributes) {
+            Resource.copyAttributes(resource);
+        }
+    }
+
+    /**
+     * @return the buffered instance of a created or updated resource, null if none
+     */
+    Resource<T> getBufferedResource(String resourceId) {
+        Resource<T> resource = createResources.get(resourceId);
+        if (resource == null) {
+            ResourceAndFilter<T> resourceAndFilter = updateResources.get(resourceId);
+            resource = resourceAndFilter != null ? resourceAndFilter.getResource() : null;
+        }
+        return resource;
+    }
+
     void remove(String resourceId) {
         remove(Collections.singletonList(resourceId));
     }
@@ -106,17 +179,37 @@ public class CollectionBuffer<T extends IdentifiableAttributes> {
     }
 
     void flush(UUID networkUuid, int variantNum) {
+        flushRemovals(networkUuid, variantNum);
+        flushCreationsAndUpdates(networkUuid, variantNum);
+    }
+
+    /**
+     * Send the removals only, so that they can be sent before the creations and updates of other buffers.
+     */
+    void flushRemovals(UUID networkUuid, int variantNum) {
         if (removeFct != null && !removeResourcesIds.isEmpty()) {
             removeFct.accept(networkUuid, variantNum, new ArrayList<>(removeResourcesIds));
         }
+        removeResourcesIds.clear();
+    }
+
+    /**
+     * Send the creations and updates, removals of the buffer having to be flushed before as a removed resource may
+     * have been created again.
+     */
+    void flushCreationsAndUpdates(UUID networkUuid, int variantNum) {
         if (!createResources.isEmpty()) {
             createFct.accept(networkUuid, new ArrayList<>(createResources.values()));
         }
         if (updateFct != null && !updateResources.isEmpty()) {
             List<Resource<T>> primaryResources = new ArrayList<>();
             Map<AttributeFilter, List<Resource<T>>> filteredResources = new EnumMap<>(AttributeFilter.class);
+            Map<AttributeFilter, List<ResourceAttributesPatch<T>>> patches = new EnumMap<>(AttributeFilter.class);
             for (ResourceAndFilter<T> resource : updateResources.values()) {
-                if (resource.getAttributeFilter() == AttributeFilter.PRIMARY_AS_NULL) {
+                if (patchFct != null && resource.getAttributeNames() != null) {
+                    patches.computeIfAbsent(resource.getAttributeFilter(), k -> new ArrayList<>())
+                            .add(new ResourceAttributesPatch<>(resource.getResource(), resource.getAttributeNames()));
+                } else if (resource.getAttributeFilter() == AttributeFilter.PRIMARY_AS_NULL) {
                     primaryResources.add(resource.getResource());
                 } else {
                     filteredResources.computeIfAbsent(resource.getAttributeFilter(), k -> new ArrayList<>())
@@ -140,42 +233,95 @@ public class CollectionBuffer<T extends IdentifiableAttributes> {
             // - for a line operational limit group (excluded from PRIMARY), we chose that the only way to delete it
             //   is to call remove(olg_id) and that update() never removes absent data.
             //   => the server doesn't need to know why data is absent, it's always 'don't write'
-            updateFct.accept(networkUuid, primaryResources, AttributeFilter.PRIMARY_AS_NULL);
+            if (!primaryResources.isEmpty() || patches.isEmpty()) {
+                updateFct.accept(networkUuid, primaryResources, AttributeFilter.PRIMARY_AS_NULL);
+            }
             for (var e : filteredResources.entrySet()) {
                 updateFct.accept(networkUuid, new ArrayList<>(e.getValue()), e.getKey());
             }
+            for (var e : patches.entrySet()) {
+                patchFct.accept(networkUuid, e.getValue(), e.getKey());
+            }
         }
         createResources.clear();
         updateResources.clear();
-        removeResourcesIds.clear();
     }
 
     /**
-     * Buffer deep copy.
+     * @return the number of resources to create, update or remove
+     */
+    int size() {
+        return createResources.size() + updateResources.size() + removeResourcesIds.size();
+    }
+
+    /**
+     * Buffer copy. Without resource post processor, the attributes of the resources are shared with the clone and
+     * copied on write, see {@link #copySharedAttributes(String, IdentifiableAttributes)}. Otherwise they
+     * are deep copied as the post processor modifies them.
      *
-     * @param objectMapper a object mapper to help cloning resources
      * @param newVariantNum new variant num for all resources of the cloned buffer
-     * @param resourcePostProcessor a resource post processor
+     * @param resourcePostProcessor a resource post processor, null if none
      * @return the buffer clone
      */
-    public CollectionBuffer<T> clone(ObjectMapper objectMapper, int newVariantNum, Consumer<Resource<T>> resourcePostProcessor) {
-        List<Resource<T>> clonedCreateResources = Resource.cloneResourcesToVariant(createResources.values(), newVariantNum, objectMapper, resourcePostProcessor);
-        List<Resource<T>> clonedUpdateResources = Resource.cloneResourcesToVariant(updateResources.values().stream().map(ResourceAndFilter::getResource).collect(Collectors.toList()), newVariantNum,
-                objectMapper, resourcePostProcessor);
+    public CollectionBuffer<T> clone(int newVariantNum, Consumer<Resource<T>> resourcePostProcessor) {
+        List<Resource<T>> updatedResources = updateResources.values().stream().map(ResourceAndFilter::getResource).collect(Collectors.toList());
+        List<Resource<T>> clonedCreateResources;
+        List<Resource<T>> clonedUpdateResources;
+        if (resourcePostProcessor == null) {
+            clonedCreateResources = Resource.shareResourcesToVariant(createResources.values(), newVariantNum);
+            clonedUpdateResources = Resource.shareResourcesToVariant(updatedResources, newVariantNum);
+        } else {
+            clonedCreateResources = Resource.cloneResourcesToVariant(createResources.values(), newVariantNum, resourcePostProcessor);
+            clonedUpdateResources = Resource.cloneResourcesToVariant(updatedResources, newVariantNum, resourcePostProcessor);
+        }
 
-        var clonedBuffer = new CollectionBuffer<>(createFct, updateFct, removeFct);
+        var clonedBuffer = new CollectionBuffer<>(createFct, updateFct, removeFct, patchFct);
         for (Resource<T> clonedResource : clonedCreateResources) {
             clonedBuffer.createResources.put(clonedResource.getId(), clonedResource);
         }
         for (Resource<T> clonedResource : clonedUpdateResources) {
             // TODO Why are we not preserving the ResourceAndFilter here ? It forces us to send everything.
-            clonedBuffer.updateResources.put(clonedResource.getId(), new ResourceAndFilter<>(clonedResource, AttributeFilter.FULL));
+            clonedBuffer.updateResources.put(clonedResource.getId(), new ResourceAndFilter<>(clonedResource, AttributeFilter.FULL, null));
         }
         clonedBuffer.removeResourcesIds.addAll(removeResourcesIds);
 
         return clonedBuffer;
     }
 
+    /**
+     * Buffer deep copy keeping the attribute filters, so that the copy can be flushed while the buffered resources
+     * keep being modified.
+     *
+     * @param variantNum the variant num of the resources of the buffer
+     * @return the buffer copy
+     */
+    CollectionBuffer<T> snapshot(int variantNum) {
+        var snapshotBuffer = new CollectionBuffer<>(createFct, updateFct, removeFct, patchFct);
+        if (!createResources.isEmpty()) {
+            for (Resource<T> clonedResource : Resource.cloneResourcesToVariant(createResources.values(), variantNum, null)) {
+                snapshotBuffer.createResources.put(clonedResource.getId(), clonedResource);
+            }
+        }
+        if (!updateResources.isEmpty()) {
+            List<ResourceAndFilter<T>> resourcesAndFilters = new ArrayList<>(updateResources.values());
+            List<Resource<T>> clonedUpdateResources = Resource.cloneResourcesToVariant(resourcesAndFilters.stream().map(ResourceAndFilter::getResource).toList(), variantNum, null);
+            for (int i = 0; i < clonedUpdateResources.size(); i++) {
+                Resource<T> clonedResource = clonedUpdateResources.get(i);
+                ResourceAndFilter<T> resourceAndFilter = resourcesAndFilters.get(i);
+                snapshotBuffer.updateResources.put(clonedResource.getId(), new ResourceAndFilter<>(clonedResource, resourceAndFilter.getAttributeFilter(), resourceAndFilter.getAttributeNames()));
+            }
+        }
+        snapshotBuffer.removeResourcesIds.addAll(removeResourcesIds);
+        return snapshotBuffer;
+    }
+
+    /**
+     * @return the resource created in the buffer with the given id, null if none
+     */
+    public Resource<T> getCreateResource(String resourceId) {
+        return createResources.get(resourceId);
+    }
+
     public Set<String> getCreateResourcesIds() {
         return createResources.keySet();
     }
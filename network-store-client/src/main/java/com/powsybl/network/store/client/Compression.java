@@ -0,0 +1,109 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+import com.powsybl.commons.PowsyblException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Content coding of request bodies sent to the network store server. Zstandard needs the optional
+ * com.github.luben:zstd-jni dependency.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public enum Compression {
+    NONE(null),
+    GZIP("gzip"),
+    ZSTD("zstd");
+
+    private final String encoding;
+
+    Compression(String encoding) {
+        this.encoding = encoding;
+    }
+
+    /**
+     * @return the content coding name, as used in Content-Encoding and Accept-Encoding headers, null if no compression.
+     */
+    public String getEncoding() {
+        return encoding;
+    }
+
+    static boolean isZstdAvailable() {
+        try {
+            Class.forName("com.github.luben.zstd.Zstd");
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    void checkAvailable() {
+        if (this == ZSTD && !isZstdAvailable()) {
+            throw new PowsyblException("Zstandard compression requires com.github.luben:zstd-jni in the classpath");
+        }
+    }
+
+    byte[] compress(byte[] bytes) {
+        return switch (this) {
+            case NONE -> bytes;
+            case GZIP -> {
+                ByteArrayOutputStream os = new ByteArrayOutputStream(bytes.length / 4);
+                try (GZIPOutputStream gzipOs = new GZIPOutputStream(os)) {
+                    gzipOs.write(bytes);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                yield os.toByteArray();
+            }
+            case ZSTD -> ZstdCodec.compress(bytes);
+        };
+    }
+
+    InputStream decompress(InputStream is) throws IOException {
+        return switch (this) {
+            case NONE -> is;
+            case GZIP -> new GZIPInputStream(is);
+            case ZSTD -> ZstdCodec.decompress(is);
+        };
+    }
+
+    /**
+     * @return the compression corresponding to a content coding name, null if not supported.
+     */
+    static Compression fromEncoding(String encoding) {
+        for (Compression compression : values()) {
+            if (compression.encoding != null && compression.encoding.equalsIgnoreCase(encoding.trim())) {
+                return compression;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Zstandard calls are isolated here so that the optional library is only loaded when actually used.
+     */
+    private static final class ZstdCodec {
+
+        private ZstdCodec() {
+        }
+
+        private static byte[] compress(byte[] bytes) {
+            return com.github.luben.zstd.Zstd.compress(bytes);
+        }
+
+        private static InputStream decompress(InputStream is) throws IOException {
+            return new com.github.luben.zstd.ZstdInputStream(is);
+        }
+    }
+}
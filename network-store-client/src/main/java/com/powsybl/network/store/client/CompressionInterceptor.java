@@ -0,0 +1,122 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.util.Objects;
+
+/**
+ * Compress request bodies larger than a threshold and decompress responses according to their Content-Encoding.
+ * Request compression is opt-in because the server has to be able to decode the request body.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class CompressionInterceptor implements ClientHttpRequestInterceptor {
+
+    public static final int DEFAULT_THRESHOLD = 1024;
+
+    private final Compression compression;
+
+    private final int threshold;
+
+    private final String acceptEncoding;
+
+    public CompressionInterceptor(Compression compression, int threshold) {
+        this.compression = Objects.requireNonNull(compression);
+        if (threshold < 0) {
+            throw new IllegalArgumentException("Compression threshold has to be positive: " + threshold);
+        }
+        this.threshold = threshold;
+        compression.checkAvailable();
+        // we are always able to decode gzip, zstd only if the library is there
+        acceptEncoding = Compression.isZstdAvailable() ? "zstd, gzip" : "gzip";
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        HttpHeaders headers = request.getHeaders();
+        byte[] requestBody = body;
+        if (compression != Compression.NONE && body.length >= threshold && !headers.containsKey(HttpHeaders.CONTENT_ENCODING)) {
+            requestBody = compression.compress(body);
+            headers.set(HttpHeaders.CONTENT_ENCODING, compression.getEncoding());
+            headers.setContentLength(requestBody.length);
+        }
+        if (!headers.containsKey(HttpHeaders.ACCEPT_ENCODING)) {
+            headers.set(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        ClientHttpResponse response = execution.execute(request, requestBody);
+        String contentEncoding = response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING);
+        Compression responseCompression = contentEncoding != null ? Compression.fromEncoding(contentEncoding) : null;
+        return responseCompression != null ? new DecompressingResponse(response, responseCompression) : response;
+    }
+
+    private static final class DecompressingResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse response;
+
+        private final Compression compression;
+
+        private final HttpHeaders headers;
+
+        private InputStream body;
+
+        private DecompressingResponse(ClientHttpResponse response, Compression compression) {
+            this.response = response;
+            this.compression = compression;
+            // the body is given decoded to the converters
+            headers = new HttpHeaders();
+            headers.putAll(response.getHeaders());
+            headers.remove(HttpHeaders.CONTENT_ENCODING);
+            headers.remove(HttpHeaders.CONTENT_LENGTH);
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return response.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return response.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            if (body == null) {
+                // an empty body is not a valid compressed stream, so check it before creating the decoder
+                PushbackInputStream is = new PushbackInputStream(response.getBody());
+                int b = is.read();
+                if (b == -1) {
+                    body = InputStream.nullInputStream();
+                } else {
+                    is.unread(b);
+                    body = compression.decompress(is);
+                }
+            }
+            return body;
+        }
+
+        @Override
+        public void close() {
+            response.close();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToIntFunction;
+
+/**
+ * Pool of persistent HTTP/1.1 connections to the network store server, bounded in total and per route, and whose
+ * idle connections are closed after a while. Preloading loads all the collections of a network in parallel, so the
+ * limits have to be greater than the number of resource types for these loads not to wait for a connection.
+ * The pool statistics are published as the {@code network.store.client.connections} gauges, tagged by pool and by
+ * state, and removed from the registry when the pool is closed.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class ConnectionPool implements MeterBinder, AutoCloseable {
+
+    static final String CONNECTIONS_METRIC = "network.store.client.connections";
+
+    private static final AtomicInteger POOL_COUNT = new AtomicInteger();
+
+    /**
+     * Snapshot of the pool state.
+     *
+     * @param leased connections currently used by a request
+     * @param pending requests waiting for a connection
+     * @param available idle connections ready to be reused
+     * @param max maximum number of connections
+     */
+    public record Stats(int leased, int pending, int available, int max) {
+    }
+
+    private final PoolingHttpClientConnectionManager connectionManager;
+
+    private final CloseableHttpClient httpClient;
+
+    /**
+     * Value of the pool tag of the gauges, so that the gauges of several pools bound to the same registry are distinct.
+     */
+    private final String id = Integer.toString(POOL_COUNT.incrementAndGet());
+
+    /**
+     * Removal of the gauges from the registries the pool has been bound to.
+     */
+    private final List<Runnable> gaugeRemovals = new ArrayList<>();
+
+    public ConnectionPool(NetworkStoreConfig config) {
+        Objects.requireNonNull(config);
+        connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(config.getMaxConnections())
+                .setMaxConnPerRoute(config.getMaxConnectionsPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(toTimeout(config.getConnectTimeout()))
+                        .setSocketTimeout(toTimeout(config.getReadTimeout()))
+                        .build())
+                .build();
+        httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(config.getConnectionIdleTimeout()))
+                // responses are decoded by CompressionInterceptor
+                .disableContentCompression()
+                .build();
+    }
+
+    private static Timeout toTimeout(long millis) {
+        return millis > 0 ? Timeout.ofMilliseconds(millis) : Timeout.DISABLED;
+    }
+
+    public ClientHttpRequestFactory createRequestFactory() {
+        return new HttpComponentsClientHttpRequestFactory(httpClient);
+    }
+
+    public Stats getStats() {
+        PoolStats stats = connectionManager.getTotalStats();
+        return new Stats(stats.getLeased(), stats.getPending(), stats.getAvailable(), stats.getMax());
+    }
+
+    String getId() {
+        return id;
+    }
+
+    private void registerGauge(MeterRegistry registry, String state, ToIntFunction<Stats> value) {
+        Gauge gauge = Gauge.builder(CONNECTIONS_METRIC, this, pool -> value.applyAsInt(pool.getStats()))
+                .tag("pool", id)
+                .tag("state", state)
+                .register(registry);
+        gaugeRemovals.add(() -> registry.remove(gauge));
+    }
+
+    @Override
+    public synchronized void bindTo(MeterRegistry registry) {
+        registerGauge(registry, "leased", Stats::leased);
+        registerGauge(registry, "pending", Stats::pending);
+        registerGauge(registry, "available", Stats::available);
+        registerGauge(registry, "max", Stats::max);
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            gaugeRemovals.forEach(Runnable::run);
+            gaugeRemovals.clear();
+        }
+        try {
+            httpClient.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
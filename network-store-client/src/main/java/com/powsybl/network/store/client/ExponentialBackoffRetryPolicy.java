@@ -0,0 +1,115 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Retries I/O failures and transient server errors (502, 503 and 504) with an exponential backoff and full jitter:
+ * the delay before the n-th retry is drawn uniformly between 0 and {@code min(maxDelay, initialDelay * 2^(n-1))}, so
+ * that clients failing at the same time do not retry at the same time.
+ * <p>
+ * Retries are also limited by a budget: each request deposits {@code budgetRatio} token and each retry withdraws
+ * one, so that when the server is down, retries do not multiply the load by the number of attempts but by
+ * {@code 1 + budgetRatio} at most.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class ExponentialBackoffRetryPolicy implements RetryPolicy {
+
+    /**
+     * Number of retries allowed before any request has been sent, and maximum number of tokens in the budget.
+     */
+    static final double MAX_BUDGET = 10;
+
+    private final int maxRetries;
+
+    private final long initialDelay;
+
+    private final long maxDelay;
+
+    private final double budgetRatio;
+
+    private final DoubleSupplier random;
+
+    private double budget = MAX_BUDGET;
+
+    public ExponentialBackoffRetryPolicy(NetworkStoreConfig config) {
+        this(config.getMaxRetries(), config.getRetryInitialDelay(), config.getRetryMaxDelay(), config.getRetryBudgetRatio());
+    }
+
+    public ExponentialBackoffRetryPolicy(int maxRetries, long initialDelay, long maxDelay, double budgetRatio) {
+        this(maxRetries, initialDelay, maxDelay, budgetRatio, () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    ExponentialBackoffRetryPolicy(int maxRetries, long initialDelay, long maxDelay, double budgetRatio, DoubleSupplier random) {
+        if (maxRetries < 0) {
+            throw new IllegalArgumentException("Max retries has to be positive: " + maxRetries);
+        }
+        if (initialDelay < 0) {
+            throw new IllegalArgumentException("Retry initial delay has to be positive: " + initialDelay);
+        }
+        if (maxDelay < initialDelay) {
+            throw new IllegalArgumentException("Retry max delay has to be greater or equal to initial delay: " + maxDelay);
+        }
+        if (budgetRatio < 0) {
+            throw new IllegalArgumentException("Retry budget ratio has to be positive: " + budgetRatio);
+        }
+        this.maxRetries = maxRetries;
+        this.initialDelay = initialDelay;
+        this.maxDelay = maxDelay;
+        this.budgetRatio = budgetRatio;
+        this.random = random;
+    }
+
+    static boolean isRetryable(RuntimeException failure) {
+        if (failure instanceof ResourceAccessException) {
+            return true;
+        }
+        if (failure instanceof HttpServerErrorException e) {
+            int status = e.getStatusCode().value();
+            return status == HttpStatus.BAD_GATEWAY.value()
+                    || status == HttpStatus.SERVICE_UNAVAILABLE.value()
+                    || status == HttpStatus.GATEWAY_TIMEOUT.value();
+        }
+        return false;
+    }
+
+    @Override
+    public synchronized void onRequest() {
+        budget = Math.min(MAX_BUDGET, budget + budgetRatio);
+    }
+
+    private synchronized boolean withdraw() {
+        if (budget < 1) {
+            return false;
+        }
+        budget--;
+        return true;
+    }
+
+    synchronized double getBudget() {
+        return budget;
+    }
+
+    @Override
+    public Optional<Duration> getRetryDelay(int retry, RuntimeException failure) {
+        if (retry > maxRetries || !isRetryable(failure) || !withdraw()) {
+            return Optional.empty();
+        }
+        // cap the shift to avoid overflowing, the delay is bounded by maxDelay anyway
+        long ceiling = Math.min(maxDelay, initialDelay << Math.min(retry - 1, 30));
+        return Optional.of(Duration.ofMillis((long) (random.getAsDouble() * ceiling)));
+    }
+}
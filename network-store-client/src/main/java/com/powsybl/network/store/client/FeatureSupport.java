@@ -0,0 +1,98 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Support by the server of an optional request. The request is sent until the server answers that it does not support
+ * it, the client then falling back to requests supported by all the servers, for this call and the following ones.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+class FeatureSupport {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FeatureSupport.class);
+
+    private final String feature;
+
+    private final String fallbackDescription;
+
+    private volatile boolean supported;
+
+    /**
+     * @param feature description of the optional request, for logging
+     * @param fallbackDescription description of the fallback requests, for logging
+     */
+    FeatureSupport(String feature, String fallbackDescription) {
+        this(feature, fallbackDescription, true);
+    }
+
+    /**
+     * @param supported false if the optional request is disabled by configuration
+     */
+    FeatureSupport(String feature, String fallbackDescription, boolean supported) {
+        this.feature = Objects.requireNonNull(feature);
+        this.fallbackDescription = Objects.requireNonNull(fallbackDescription);
+        this.supported = supported;
+    }
+
+    boolean isSupported() {
+        return supported;
+    }
+
+    /**
+     * Send the optional request if supported. A server supporting it answers not found too when the target of the
+     * request (network, voltage level...) does not exist, so a not found answer only means that the request is not
+     * supported when the target exists.
+     *
+     * @param request the optional request, empty if the server answered not found
+     * @param targetExists true if the target of the request exists
+     * @param missingTargetResult the result when the target does not exist
+     * @param fallback the requests supported by all the servers
+     */
+    <R> R execute(Supplier<Optional<R>> request, BooleanSupplier targetExists, Supplier<R> missingTargetResult, Supplier<R> fallback) {
+        if (supported) {
+            Optional<R> result = request.get();
+            if (result.isPresent()) {
+                return result.get();
+            }
+            if (!targetExists.getAsBoolean()) {
+                return missingTargetResult.get();
+            }
+            unsupported();
+        }
+        return fallback.get();
+    }
+
+    /**
+     * Send the optional request if supported.
+     *
+     * @param request the optional request, false if the server answered that it does not support it
+     * @param fallback the requests supported by all the servers
+     */
+    void execute(BooleanSupplier request, Runnable fallback) {
+        if (supported) {
+            if (request.getAsBoolean()) {
+                return;
+            }
+            unsupported();
+        }
+        fallback.run();
+    }
+
+    private void unsupported() {
+        LOGGER.warn("Server does not support {}, falling back to {}", feature, fallbackDescription);
+        supported = false;
+    }
+}
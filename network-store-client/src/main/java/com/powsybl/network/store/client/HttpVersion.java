@@ -0,0 +1,25 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+/**
+ * HTTP protocol version used to talk to the network store server.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public enum HttpVersion {
+    /**
+     * Requests are sent over a pool of persistent connections, see {@link ConnectionPool}.
+     */
+    HTTP_1_1,
+
+    /**
+     * Requests are multiplexed over a single connection per server, falling back to HTTP/1.1 if the server does not
+     * support HTTP/2.
+     */
+    HTTP_2
+}
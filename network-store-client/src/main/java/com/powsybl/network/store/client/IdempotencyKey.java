@@ -0,0 +1,30 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Client generated key sent with a non idempotent request, so that the server recognizes a replay of a request it
+ * has already processed (for instance when the response has been lost) and does not apply it twice. The same key
+ * has to be sent for all the attempts of a request.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public record IdempotencyKey(String value) {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    public IdempotencyKey {
+        Objects.requireNonNull(value);
+    }
+
+    public static IdempotencyKey random() {
+        return new IdempotencyKey(UUID.randomUUID().toString());
+    }
+}
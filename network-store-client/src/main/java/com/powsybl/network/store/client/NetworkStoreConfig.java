@@ -9,6 +9,7 @@ package com.powsybl.network.store.client;
 import com.powsybl.commons.config.ModuleConfig;
 import com.powsybl.commons.config.PlatformConfig;
 
+import java.nio.file.Path;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -21,10 +22,106 @@ public final class NetworkStoreConfig {
 
     private static final PreloadingStrategy DEFAULT_PRELOADING_STRATEGY = PreloadingStrategy.NONE;
 
+    private static final WireFormat DEFAULT_WIRE_FORMAT = WireFormat.JSON;
+
+    private static final Compression DEFAULT_COMPRESSION = Compression.NONE;
+
+    private static final int DEFAULT_PARTITION_CONCURRENCY = 1;
+
+    private static final long DEFAULT_MAX_PARTITION_BYTES = 4L * 1024 * 1024;
+
+    private static final int DEFAULT_MAX_PARTITION_SIZE = 10000;
+
+    private static final HttpVersion DEFAULT_HTTP_VERSION = HttpVersion.HTTP_1_1;
+
+    private static final int DEFAULT_MAX_CONNECTIONS = 64;
+
+    private static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 32;
+
+    private static final long DEFAULT_CONNECTION_IDLE_TIMEOUT = 30000;
+
+    private static final long DEFAULT_CONNECT_TIMEOUT = 10000;
+
+    private static final long DEFAULT_READ_TIMEOUT = 0;
+
+    private static final int DEFAULT_MAX_RETRIES = 3;
+
+    private static final long DEFAULT_RETRY_INITIAL_DELAY = 100;
+
+    private static final long DEFAULT_RETRY_MAX_DELAY = 5000;
+
+    private static final double DEFAULT_RETRY_BUDGET_RATIO = 0.2;
+
+    private static final boolean DEFAULT_IDEMPOTENCY_KEYS = false;
+
+    private static final int DEFAULT_AUTO_FLUSH_MAX_RESOURCES = 0;
+
+    private static final long DEFAULT_AUTO_FLUSH_MAX_BYTES = 0;
+
+    private static final long DEFAULT_AUTO_FLUSH_MAX_AGE = 0;
+
+    private static final boolean DEFAULT_SV_COLUMNS = false;
+
+    private static final long DEFAULT_JOURNAL_SYNC_INTERVAL = 1000;
+
+    private static final long DEFAULT_CACHE_MAX_RESOURCES = 0;
+
+    private static final long DEFAULT_SHARED_CACHE_MAX_RESOURCES = 0;
+
     private String baseUrl;
 
     private PreloadingStrategy preloadingStrategy = DEFAULT_PRELOADING_STRATEGY;
 
+    private WireFormat wireFormat = DEFAULT_WIRE_FORMAT;
+
+    private Compression compression = DEFAULT_COMPRESSION;
+
+    private int compressionThreshold = CompressionInterceptor.DEFAULT_THRESHOLD;
+
+    private int partitionConcurrency = DEFAULT_PARTITION_CONCURRENCY;
+
+    private long maxPartitionBytes = DEFAULT_MAX_PARTITION_BYTES;
+
+    private int maxPartitionSize = DEFAULT_MAX_PARTITION_SIZE;
+
+    private HttpVersion httpVersion = DEFAULT_HTTP_VERSION;
+
+    private int maxConnections = DEFAULT_MAX_CONNECTIONS;
+
+    private int maxConnectionsPerRoute = DEFAULT_MAX_CONNECTIONS_PER_ROUTE;
+
+    private long connectionIdleTimeout = DEFAULT_CONNECTION_IDLE_TIMEOUT;
+
+    private long connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+
+    private long readTimeout = DEFAULT_READ_TIMEOUT;
+
+    private int maxRetries = DEFAULT_MAX_RETRIES;
+
+    private long retryInitialDelay = DEFAULT_RETRY_INITIAL_DELAY;
+
+    private long retryMaxDelay = DEFAULT_RETRY_MAX_DELAY;
+
+    private double retryBudgetRatio = DEFAULT_RETRY_BUDGET_RATIO;
+
+    private boolean idempotencyKeys = DEFAULT_IDEMPOTENCY_KEYS;
+
+    private int autoFlushMaxResources = DEFAULT_AUTO_FLUSH_MAX_RESOURCES;
+
+    private long autoFlushMaxBytes = DEFAULT_AUTO_FLUSH_MAX_BYTES;
+
+    private long autoFlushMaxAge = DEFAULT_AUTO_FLUSH_MAX_AGE;
+
+    private boolean svColumns = DEFAULT_SV_COLUMNS;
+
+    private Path journalDirectory;
+
+    private long journalSyncInterval = DEFAULT_JOURNAL_SYNC_INTERVAL;
+
+    private long cacheMaxResources = DEFAULT_CACHE_MAX_RESOURCES;
+
+    private long sharedCacheMaxResources = DEFAULT_SHARED_CACHE_MAX_RESOURCES;
+
     public NetworkStoreConfig(String baseUrl) {
         this.baseUrl = Objects.requireNonNull(baseUrl);
     }
@@ -40,8 +137,83 @@ public final class NetworkStoreConfig {
                 .orElse(DEFAULT_BASE_URL);
         PreloadingStrategy preloadingStrategy = moduleConfig.flatMap(mc -> mc.getOptionalEnumProperty("preloading-strategy", PreloadingStrategy.class))
                 .orElse(DEFAULT_PRELOADING_STRATEGY);
+        WireFormat wireFormat = moduleConfig.flatMap(mc -> mc.getOptionalEnumProperty("wire-format", WireFormat.class))
+                .orElse(DEFAULT_WIRE_FORMAT);
+        Compression compression = moduleConfig.flatMap(mc -> mc.getOptionalEnumProperty("compression", Compression.class))
+                .orElse(DEFAULT_COMPRESSION);
+        int compressionThreshold = moduleConfig.map(mc -> mc.getIntProperty("compression-threshold", CompressionInterceptor.DEFAULT_THRESHOLD))
+                .orElse(CompressionInterceptor.DEFAULT_THRESHOLD);
+        int partitionConcurrency = moduleConfig.map(mc -> mc.getIntProperty("partition-concurrency", DEFAULT_PARTITION_CONCURRENCY))
+                .orElse(DEFAULT_PARTITION_CONCURRENCY);
+        long maxPartitionBytes = moduleConfig.map(mc -> mc.getLongProperty("max-partition-bytes", DEFAULT_MAX_PARTITION_BYTES))
+                .orElse(DEFAULT_MAX_PARTITION_BYTES);
+        int maxPartitionSize = moduleConfig.map(mc -> mc.getIntProperty("max-partition-size", DEFAULT_MAX_PARTITION_SIZE))
+                .orElse(DEFAULT_MAX_PARTITION_SIZE);
+        HttpVersion httpVersion = moduleConfig.flatMap(mc -> mc.getOptionalEnumProperty("http-version", HttpVersion.class))
+                .orElse(DEFAULT_HTTP_VERSION);
+        int maxConnections = moduleConfig.map(mc -> mc.getIntProperty("max-connections", DEFAULT_MAX_CONNECTIONS))
+                .orElse(DEFAULT_MAX_CONNECTIONS);
+        int maxConnectionsPerRoute = moduleConfig.map(mc -> mc.getIntProperty("max-connections-per-route", DEFAULT_MAX_CONNECTIONS_PER_ROUTE))
+                .orElse(DEFAULT_MAX_CONNECTIONS_PER_ROUTE);
+        long connectionIdleTimeout = moduleConfig.map(mc -> mc.getLongProperty("connection-idle-timeout", DEFAULT_CONNECTION_IDLE_TIMEOUT))
+                .orElse(DEFAULT_CONNECTION_IDLE_TIMEOUT);
+        long connectTimeout = moduleConfig.map(mc -> mc.getLongProperty("connect-timeout", DEFAULT_CONNECT_TIMEOUT))
+                .orElse(DEFAULT_CONNECT_TIMEOUT);
+        long readTimeout = moduleConfig.map(mc -> mc.getLongProperty("read-timeout", DEFAULT_READ_TIMEOUT))
+                .orElse(DEFAULT_READ_TIMEOUT);
+        int maxRetries = moduleConfig.map(mc -> mc.getIntProperty("max-retries", DEFAULT_MAX_RETRIES))
+                .orElse(DEFAULT_MAX_RETRIES);
+        long retryInitialDelay = moduleConfig.map(mc -> mc.getLongProperty("retry-initial-delay", DEFAULT_RETRY_INITIAL_DELAY))
+                .orElse(DEFAULT_RETRY_INITIAL_DELAY);
+        long retryMaxDelay = moduleConfig.map(mc -> mc.getLongProperty("retry-max-delay", DEFAULT_RETRY_MAX_DELAY))
+                .orElse(DEFAULT_RETRY_MAX_DELAY);
+        double retryBudgetRatio = moduleConfig.map(mc -> mc.getDoubleProperty("retry-budget-ratio", DEFAULT_RETRY_BUDGET_RATIO))
+                .orElse(DEFAULT_RETRY_BUDGET_RATIO);
+        boolean idempotencyKeys = moduleConfig.map(mc -> mc.getBooleanProperty("idempotency-keys", DEFAULT_IDEMPOTENCY_KEYS))
+                .orElse(DEFAULT_IDEMPOTENCY_KEYS);
+        int autoFlushMaxResources = moduleConfig.map(mc -> mc.getIntProperty("auto-flush-max-resources", DEFAULT_AUTO_FLUSH_MAX_RESOURCES))
+                .orElse(DEFAULT_AUTO_FLUSH_MAX_RESOURCES);
+        long autoFlushMaxBytes = moduleConfig.map(mc -> mc.getLongProperty("auto-flush-max-bytes", DEFAULT_AUTO_FLUSH_MAX_BYTES))
+                .orElse(DEFAULT_AUTO_FLUSH_MAX_BYTES);
+        long autoFlushMaxAge = moduleConfig.map(mc -> mc.getLongProperty("auto-flush-max-age", DEFAULT_AUTO_FLUSH_MAX_AGE))
+                .orElse(DEFAULT_AUTO_FLUSH_MAX_AGE);
+        boolean svColumns = moduleConfig.map(mc -> mc.getBooleanProperty("sv-columns", DEFAULT_SV_COLUMNS))
+                .orElse(DEFAULT_SV_COLUMNS);
+        Path journalDirectory = moduleConfig.flatMap(mc -> mc.getOptionalPathProperty("journal-directory"))
+                .orElse(null);
+        long journalSyncInterval = moduleConfig.map(mc -> mc.getLongProperty("journal-sync-interval", DEFAULT_JOURNAL_SYNC_INTERVAL))
+                .orElse(DEFAULT_JOURNAL_SYNC_INTERVAL);
+        long cacheMaxResources = moduleConfig.map(mc -> mc.getLongProperty("cache-max-resources", DEFAULT_CACHE_MAX_RESOURCES))
+                .orElse(DEFAULT_CACHE_MAX_RESOURCES);
+        long sharedCacheMaxResources = moduleConfig.map(mc -> mc.getLongProperty("shared-cache-max-resources", DEFAULT_SHARED_CACHE_MAX_RESOURCES))
+                .orElse(DEFAULT_SHARED_CACHE_MAX_RESOURCES);
         return new NetworkStoreConfig(baseUrl)
-                .setPreloadingStrategy(preloadingStrategy);
+                .setPreloadingStrategy(preloadingStrategy)
+                .setWireFormat(wireFormat)
+                .setCompression(compression)
+                .setCompressionThreshold(compressionThreshold)
+                .setPartitionConcurrency(partitionConcurrency)
+                .setMaxPartitionBytes(maxPartitionBytes)
+                .setMaxPartitionSize(maxPartitionSize)
+                .setHttpVersion(httpVersion)
+                .setMaxConnections(maxConnections)
+                .setMaxConnectionsPerRoute(maxConnectionsPerRoute)
+                .setConnectionIdleTimeout(connectionIdleTimeout)
+                .setConnectTimeout(connectTimeout)
+                .setReadTimeout(readTimeout)
+                .setMaxRetries(maxRetries)
+                .setRetryInitialDelay(retryInitialDelay)
+                .setRetryMaxDelay(retryMaxDelay)
+                .setRetryBudgetRatio(retryBudgetRatio)
+                .setIdempotencyKeys(idempotencyKeys)
+                .setAutoFlushMaxResources(autoFlushMaxResources)
+                .setAutoFlushMaxBytes(autoFlushMaxBytes)
+                .setAutoFlushMaxAge(autoFlushMaxAge)
+                .setSvColumns(svColumns)
+                .setJournalDirectory(journalDirectory)
+                .setJournalSyncInterval(journalSyncInterval)
+                .setCacheMaxResources(cacheMaxResources)
+                .setSharedCacheMaxResources(sharedCacheMaxResources);
     }
 
     public String getBaseUrl() {
@@ -61,4 +233,342 @@ public final class NetworkStoreConfig {
         this.preloadingStrategy = Objects.requireNonNull(preloadingStrategy);
         return this;
     }
+
+    public WireFormat getWireFormat() {
+        return wireFormat;
+    }
+
+    public NetworkStoreConfig setWireFormat(WireFormat wireFormat) {
+        this.wireFormat = Objects.requireNonNull(wireFormat);
+        return this;
+    }
+
+    public Compression getCompression() {
+        return compression;
+    }
+
+    public NetworkStoreConfig setCompression(Compression compression) {
+        this.compression = Objects.requireNonNull(compression);
+        return this;
+    }
+
+    public int getCompressionThreshold() {
+        return compressionThreshold;
+    }
+
+    public NetworkStoreConfig setCompressionThreshold(int compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+        return this;
+    }
+
+    public int getPartitionConcurrency() {
+        return partitionConcurrency;
+    }
+
+    public NetworkStoreConfig setPartitionConcurrency(int partitionConcurrency) {
+        if (partitionConcurrency < 1) {
+            throw new IllegalArgumentException("Partition concurrency has to be greater or equal to 1: " + partitionConcurrency);
+        }
+        this.partitionConcurrency = partitionConcurrency;
+        return this;
+    }
+
+    public long getMaxPartitionBytes() {
+        return maxPartitionBytes;
+    }
+
+    public NetworkStoreConfig setMaxPartitionBytes(long maxPartitionBytes) {
+        if (maxPartitionBytes < 1) {
+            throw new IllegalArgumentException("Max partition bytes has to be greater or equal to 1: " + maxPartitionBytes);
+        }
+        this.maxPartitionBytes = maxPartitionBytes;
+        return this;
+    }
+
+    public int getMaxPartitionSize() {
+        return maxPartitionSize;
+    }
+
+    public NetworkStoreConfig setMaxPartitionSize(int maxPartitionSize) {
+        if (maxPartitionSize < 1) {
+            throw new IllegalArgumentException("Max partition size has to be greater or equal to 1: " + maxPartitionSize);
+        }
+        this.maxPartitionSize = maxPartitionSize;
+        return this;
+    }
+
+    public HttpVersion getHttpVersion() {
+        return httpVersion;
+    }
+
+    public NetworkStoreConfig setHttpVersion(HttpVersion httpVersion) {
+        this.httpVersion = Objects.requireNonNull(httpVersion);
+        return this;
+    }
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    public NetworkStoreConfig setMaxConnections(int maxConnections) {
+        if (maxConnections < 1) {
+            throw new IllegalArgumentException("Max connections has to be greater or equal to 1: " + maxConnections);
+        }
+        this.maxConnections = maxConnections;
+        return this;
+    }
+
+    public int getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+
+    public NetworkStoreConfig setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        if (maxConnectionsPerRoute < 1) {
+            throw new IllegalArgumentException("Max connections per route has to be greater or equal to 1: " + maxConnectionsPerRoute);
+        }
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+        return this;
+    }
+
+    /**
+     * @return time in milliseconds after which an idle pooled connection is closed
+     */
+    public long getConnectionIdleTimeout() {
+        return connectionIdleTimeout;
+    }
+
+    public NetworkStoreConfig setConnectionIdleTimeout(long connectionIdleTimeout) {
+        if (connectionIdleTimeout < 1) {
+            throw new IllegalArgumentException("Connection idle timeout has to be greater or equal to 1: " + connectionIdleTimeout);
+        }
+        this.connectionIdleTimeout = connectionIdleTimeout;
+        return this;
+    }
+
+    /**
+     * @return connect timeout in milliseconds, 0 for no timeout
+     */
+    public long getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public NetworkStoreConfig setConnectTimeout(long connectTimeout) {
+        if (connectTimeout < 0) {
+            throw new IllegalArgumentException("Connect timeout has to be positive: " + connectTimeout);
+        }
+        this.connectTimeout = connectTimeout;
+        return this;
+    }
+
+    /**
+     * @return response read timeout in milliseconds, 0 for no timeout
+     */
+    public long getReadTimeout() {
+        return readTimeout;
+    }
+
+    public NetworkStoreConfig setReadTimeout(long readTimeout) {
+        if (readTimeout < 0) {
+            throw new IllegalArgumentException("Read timeout has to be positive: " + readTimeout);
+        }
+        this.readTimeout = readTimeout;
+        return this;
+    }
+
+    /**
+     * @return maximum number of retries of a failed request, 0 to disable retries
+     */
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    public NetworkStoreConfig setMaxRetries(int maxRetries) {
+        if (maxRetries < 0) {
+            throw new IllegalArgumentException("Max retries has to be positive: " + maxRetries);
+        }
+        this.maxRetries = maxRetries;
+        return this;
+    }
+
+    /**
+     * @return upper bound in milliseconds of the delay before the first retry, doubled at each following retry
+     */
+    public long getRetryInitialDelay() {
+        return retryInitialDelay;
+    }
+
+    public NetworkStoreConfig setRetryInitialDelay(long retryInitialDelay) {
+        if (retryInitialDelay < 0) {
+            throw new IllegalArgumentException("Retry initial delay has to be positive: " + retryInitialDelay);
+        }
+        this.retryInitialDelay = retryInitialDelay;
+        return this;
+    }
+
+    /**
+     * @return upper bound in milliseconds of the delay before any retry
+     */
+    public long getRetryMaxDelay() {
+        return retryMaxDelay;
+    }
+
+    public NetworkStoreConfig setRetryMaxDelay(long retryMaxDelay) {
+        if (retryMaxDelay < 0) {
+            throw new IllegalArgumentException("Retry max delay has to be positive: " + retryMaxDelay);
+        }
+        this.retryMaxDelay = retryMaxDelay;
+        return this;
+    }
+
+    /**
+     * @return number of retries allowed per request sent, averaged over the traffic
+     */
+    public double getRetryBudgetRatio() {
+        return retryBudgetRatio;
+    }
+
+    public NetworkStoreConfig setRetryBudgetRatio(double retryBudgetRatio) {
+        if (retryBudgetRatio < 0) {
+            throw new IllegalArgumentException("Retry budget ratio has to be positive: " + retryBudgetRatio);
+        }
+        this.retryBudgetRatio = retryBudgetRatio;
+        return this;
+    }
+
+    /**
+     * @return true if creation and clone requests are sent with an {@link IdempotencyKey}, which makes them safe to
+     * retry. Disabled by default, creations and clones are then not retried: a server ignoring the keys would apply
+     * a retried write twice.
+     */
+    public boolean isIdempotencyKeys() {
+        return idempotencyKeys;
+    }
+
+    public NetworkStoreConfig setIdempotencyKeys(boolean idempotencyKeys) {
+        this.idempotencyKeys = idempotencyKeys;
+        return this;
+    }
+
+    /**
+     * @return number of buffered resources of a network from which they are flushed before the explicit flush, 0 to
+     * disable
+     */
+    public int getAutoFlushMaxResources() {
+        return autoFlushMaxResources;
+    }
+
+    public NetworkStoreConfig setAutoFlushMaxResources(int autoFlushMaxResources) {
+        if (autoFlushMaxResources < 0) {
+            throw new IllegalArgumentException("Auto flush max resources has to be positive: " + autoFlushMaxResources);
+        }
+        this.autoFlushMaxResources = autoFlushMaxResources;
+        return this;
+    }
+
+    /**
+     * @return estimated serialized size in bytes of the buffered resources of a network from which they are flushed
+     * before the explicit flush, 0 to disable
+     */
+    public long getAutoFlushMaxBytes() {
+        return autoFlushMaxBytes;
+    }
+
+    public NetworkStoreConfig setAutoFlushMaxBytes(long autoFlushMaxBytes) {
+        if (autoFlushMaxBytes < 0) {
+            throw new IllegalArgumentException("Auto flush max bytes has to be positive: " + autoFlushMaxBytes);
+        }
+        this.autoFlushMaxBytes = autoFlushMaxBytes;
+        return this;
+    }
+
+    /**
+     * @return time in milliseconds after which the buffered modifications of a network are flushed before the
+     * explicit flush, 0 to disable
+     */
+    public long getAutoFlushMaxAge() {
+        return autoFlushMaxAge;
+    }
+
+    public NetworkStoreConfig setAutoFlushMaxAge(long autoFlushMaxAge) {
+        if (autoFlushMaxAge < 0) {
+            throw new IllegalArgumentException("Auto flush max age has to be positive: " + autoFlushMaxAge);
+        }
+        this.autoFlushMaxAge = autoFlushMaxAge;
+        return this;
+    }
+
+    /**
+     * @return true if state variables updates are sent by column, with a single list of values per attribute for all
+     * the resources of a type, instead of one object per resource. Falls back to updates by resource with a server not
+     * supporting it.
+     */
+    public boolean isSvColumns() {
+        return svColumns;
+    }
+
+    public NetworkStoreConfig setSvColumns(boolean svColumns) {
+        this.svColumns = svColumns;
+        return this;
+    }
+
+    /**
+     * @return directory of the journals of the buffered modifications, which can be replayed after the process has
+     * been stopped before flushing them, null to disable
+     */
+    public Path getJournalDirectory() {
+        return journalDirectory;
+    }
+
+    public NetworkStoreConfig setJournalDirectory(Path journalDirectory) {
+        this.journalDirectory = journalDirectory;
+        return this;
+    }
+
+    /**
+     * @return minimum time in milliseconds between two syncs of a journal to the storage device, 0 to sync each
+     * modification
+     */
+    public long getJournalSyncInterval() {
+        return journalSyncInterval;
+    }
+
+    public NetworkStoreConfig setJournalSyncInterval(long journalSyncInterval) {
+        if (journalSyncInterval < 0) {
+            throw new IllegalArgumentException("Journal sync interval has to be positive: " + journalSyncInterval);
+        }
+        this.journalSyncInterval = journalSyncInterval;
+        return this;
+    }
+
+    /**
+     * @return maximum number of resources kept in the caches of all the networks of a service, above which the least
+     * recently used collections which can be loaded again are dropped, 0 for unbounded caches
+     */
+    public long getCacheMaxResources() {
+        return cacheMaxResources;
+    }
+
+    public NetworkStoreConfig setCacheMaxResources(long cacheMaxResources) {
+        if (cacheMaxResources < 0) {
+            throw new IllegalArgumentException("Cache max resources has to be positive: " + cacheMaxResources);
+        }
+        this.cacheMaxResources = cacheMaxResources;
+        return this;
+    }
+
+    /**
+     * @return maximum number of resources of the collections shared by all the networks of a service, so that a
+     * collection which has not changed on the server is not loaded again for each network, 0 to disable sharing
+     */
+    public long getSharedCacheMaxResources() {
+        return sharedCacheMaxResources;
+    }
+
+    public NetworkStoreConfig setSharedCacheMaxResources(long sharedCacheMaxResources) {
+        if (sharedCacheMaxResources < 0) {
+            throw new IllegalArgumentException("Shared cache max resources has to be positive: " + sharedCacheMaxResources);
+        }
+        this.sharedCacheMaxResources = sharedCacheMaxResources;
+        return this;
+    }
 }
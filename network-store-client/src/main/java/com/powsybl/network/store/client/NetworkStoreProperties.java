@@ -0,0 +1,331 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+/**
+ * Spring settings of the network store client, bound from the {@code powsybl.services.network-store-server}
+ * properties (for instance {@code powsybl.services.network-store-server.max-partition-size}). Defaults are the ones of
+ * {@link NetworkStoreConfig}, except for the base URI.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+@Component
+@ConfigurationProperties(prefix = "powsybl.services.network-store-server")
+public class NetworkStoreProperties {
+
+    private static final String DEFAULT_BASE_URI = "http://network-store-server/";
+
+    private static final NetworkStoreConfig DEFAULT_CONFIG = new NetworkStoreConfig();
+
+    private String baseUri = DEFAULT_BASE_URI;
+
+    private PreloadingStrategy preloadingStrategy = DEFAULT_CONFIG.getPreloadingStrategy();
+
+    private WireFormat wireFormat = DEFAULT_CONFIG.getWireFormat();
+
+    private Compression compression = DEFAULT_CONFIG.getCompression();
+
+    private int compressionThreshold = DEFAULT_CONFIG.getCompressionThreshold();
+
+    private HttpVersion httpVersion = DEFAULT_CONFIG.getHttpVersion();
+
+    private int maxConnections = DEFAULT_CONFIG.getMaxConnections();
+
+    private int maxConnectionsPerRoute = DEFAULT_CONFIG.getMaxConnectionsPerRoute();
+
+    private long connectionIdleTimeout = DEFAULT_CONFIG.getConnectionIdleTimeout();
+
+    private long connectTimeout = DEFAULT_CONFIG.getConnectTimeout();
+
+    private long readTimeout = DEFAULT_CONFIG.getReadTimeout();
+
+    private int partitionConcurrency = DEFAULT_CONFIG.getPartitionConcurrency();
+
+    private long maxPartitionBytes = DEFAULT_CONFIG.getMaxPartitionBytes();
+
+    private int maxPartitionSize = DEFAULT_CONFIG.getMaxPartitionSize();
+
+    private int maxRetries = DEFAULT_CONFIG.getMaxRetries();
+
+    private long retryInitialDelay = DEFAULT_CONFIG.getRetryInitialDelay();
+
+    private long retryMaxDelay = DEFAULT_CONFIG.getRetryMaxDelay();
+
+    private double retryBudgetRatio = DEFAULT_CONFIG.getRetryBudgetRatio();
+
+    private boolean idempotencyKeys = DEFAULT_CONFIG.isIdempotencyKeys();
+
+    private int autoFlushMaxResources = DEFAULT_CONFIG.getAutoFlushMaxResources();
+
+    private long autoFlushMaxBytes = DEFAULT_CONFIG.getAutoFlushMaxBytes();
+
+    private long autoFlushMaxAge = DEFAULT_CONFIG.getAutoFlushMaxAge();
+
+    private boolean svColumns = DEFAULT_CONFIG.isSvColumns();
+
+    private Path journalDirectory;
+
+    private long journalSyncInterval = DEFAULT_CONFIG.getJournalSyncInterval();
+
+    private long cacheMaxResources = DEFAULT_CONFIG.getCacheMaxResources();
+
+    private long sharedCacheMaxResources = DEFAULT_CONFIG.getSharedCacheMaxResources();
+
+    public String getBaseUri() {
+        return baseUri;
+    }
+
+    public void setBaseUri(String baseUri) {
+        this.baseUri = baseUri;
+    }
+
+    public PreloadingStrategy getPreloadingStrategy() {
+        return preloadingStrategy;
+    }
+
+    public void setPreloadingStrategy(PreloadingStrategy preloadingStrategy) {
+        this.preloadingStrategy = preloadingStrategy;
+    }
+
+    public WireFormat getWireFormat() {
+        return wireFormat;
+    }
+
+    public void setWireFormat(WireFormat wireFormat) {
+        this.wireFormat = wireFormat;
+    }
+
+    public Compression getCompression() {
+        return compression;
+    }
+
+    public void setCompression(Compression compression) {
+        this.compression = compression;
+    }
+
+    public int getCompressionThreshold() {
+        return compressionThreshold;
+    }
+
+    public void setCompressionThreshold(int compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    public HttpVersion getHttpVersion() {
+        return httpVersion;
+    }
+
+    public void setHttpVersion(HttpVersion httpVersion) {
+        this.httpVersion = httpVersion;
+    }
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    public void setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    public int getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+
+    public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+    }
+
+    public long getConnectionIdleTimeout() {
+        return connectionIdleTimeout;
+    }
+
+    public void setConnectionIdleTimeout(long connectionIdleTimeout) {
+        this.connectionIdleTimeout = connectionIdleTimeout;
+    }
+
+    public long getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public void setConnectTimeout(long connectTimeout) {
+        this.connectTimeout = connectTimeout;
+    }
+
+    public long getReadTimeout() {
+        return readTimeout;
+    }
+
+    public void setReadTimeout(long readTimeout) {
+        this.readTimeout = readTimeout;
+    }
+
+    public int getPartitionConcurrency() {
+        return partitionConcurrency;
+    }
+
+    public void setPartitionConcurrency(int partitionConcurrency) {
+        this.partitionConcurrency = partitionConcurrency;
+    }
+
+    public long getMaxPartitionBytes() {
+        return maxPartitionBytes;
+    }
+
+    public void setMaxPartitionBytes(long maxPartitionBytes) {
+        this.maxPartitionBytes = maxPartitionBytes;
+    }
+
+    public int getMaxPartitionSize() {
+        return maxPartitionSize;
+    }
+
+    public void setMaxPartitionSize(int maxPartitionSize) {
+        this.maxPartitionSize = maxPartitionSize;
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    public void setMaxRetries(int maxRetries) {
+        this.maxRetries = maxRetries;
+    }
+
+    public long getRetryInitialDelay() {
+        return retryInitialDelay;
+    }
+
+    public void setRetryInitialDelay(long retryInitialDelay) {
+        this.retryInitialDelay = retryInitialDelay;
+    }
+
+    public long getRetryMaxDelay() {
+        return retryMaxDelay;
+    }
+
+    public void setRetryMaxDelay(long retryMaxDelay) {
+        this.retryMaxDelay = retryMaxDelay;
+    }
+
+    public double getRetryBudgetRatio() {
+        return retryBudgetRatio;
+    }
+
+    public void setRetryBudgetRatio(double retryBudgetRatio) {
+        this.retryBudgetRatio = retryBudgetRatio;
+    }
+
+    public boolean isIdempotencyKeys() {
+        return idempotencyKeys;
+    }
+
+    public void setIdempotencyKeys(boolean idempotencyKeys) {
+        this.idempotencyKeys = idempotencyKeys;
+    }
+
+    public int getAutoFlushMaxResources() {
+        return autoFlushMaxResources;
+    }
+
+    public void setAutoFlushMaxResources(int autoFlushMaxResources) {
+        this.autoFlushMaxResources = autoFlushMaxResources;
+    }
+
+    public long getAutoFlushMaxBytes() {
+        return autoFlushMaxBytes;
+    }
+
+    public void setAutoFlushMaxBytes(long autoFlushMaxBytes) {
+        this.autoFlushMaxBytes = autoFlushMaxBytes;
+    }
+
+    public long getAutoFlushMaxAge() {
+        return autoFlushMaxAge;
+    }
+
+    public void setAutoFlushMaxAge(long autoFlushMaxAge) {
+        this.autoFlushMaxAge = autoFlushMaxAge;
+    }
+
+    public boolean isSvColumns() {
+        return svColumns;
+    }
+
+    public void setSvColumns(boolean svColumns) {
+        this.svColumns = svColumns;
+    }
+
+    public Path getJournalDirectory() {
+        return journalDirectory;
+    }
+
+    public void setJournalDirectory(Path journalDirectory) {
+        this.journalDirectory = journalDirectory;
+    }
+
+    public long getJournalSyncInterval() {
+        return journalSyncInterval;
+    }
+
+    public void setJournalSyncInterval(long journalSyncInterval) {
+        this.journalSyncInterval = journalSyncInterval;
+    }
+
+    public long getCacheMaxResources() {
+        return cacheMaxResources;
+    }
+
+    public void setCacheMaxResources(long cacheMaxResources) {
+        this.cacheMaxResources = cacheMaxResources;
+    }
+
+    public long getSharedCacheMaxResources() {
+        return sharedCacheMaxResources;
+    }
+
+    public void setSharedCacheMaxResources(long sharedCacheMaxResources) {
+        this.sharedCacheMaxResources = sharedCacheMaxResources;
+    }
+
+    /**
+     * Client configuration of these settings, validated by its setters.
+     */
+    public NetworkStoreConfig toConfig() {
+        return new NetworkStoreConfig(baseUri)
+                .setPreloadingStrategy(preloadingStrategy)
+                .setWireFormat(wireFormat)
+                .setCompression(compression)
+                .setCompressionThreshold(compressionThreshold)
+                .setHttpVersion(httpVersion)
+                .setMaxConnections(maxConnections)
+                .setMaxConnectionsPerRoute(maxConnectionsPerRoute)
+                .setConnectionIdleTimeout(connectionIdleTimeout)
+                .setConnectTimeout(connectTimeout)
+                .setReadTimeout(readTimeout)
+                .setPartitionConcurrency(partitionConcurrency)
+                .setMaxPartitionBytes(maxPartitionBytes)
+                .setMaxPartitionSize(maxPartitionSize)
+                .setMaxRetries(maxRetries)
+                .setRetryInitialDelay(retryInitialDelay)
+                .setRetryMaxDelay(retryMaxDelay)
+                .setRetryBudgetRatio(retryBudgetRatio)
+                .setIdempotencyKeys(idempotencyKeys)
+                .setAutoFlushMaxResources(autoFlushMaxResources)
+                .setAutoFlushMaxBytes(autoFlushMaxBytes)
+                .setAutoFlushMaxAge(autoFlushMaxAge)
+                .setSvColumns(svColumns)
+                .setJournalDirectory(journalDirectory)
+                .setJournalSyncInterval(journalSyncInterval)
+                .setCacheMaxResources(cacheMaxResources)
+                .setSharedCacheMaxResources(sharedCacheMaxResources);
+    }
+}
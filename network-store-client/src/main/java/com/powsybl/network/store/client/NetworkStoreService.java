@@ -6,6 +6,7 @@
  */
 package com.powsybl.network.store.client;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.powsybl.commons.PowsyblException;
 import com.powsybl.commons.datasource.DataSource;
 import com.powsybl.commons.datasource.ReadOnlyDataSource;
@@ -16,11 +17,15 @@ import com.powsybl.iidm.network.Importer;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.NetworkFactory;
 import com.powsybl.network.store.client.util.ExecutorUtil;
+import com.powsybl.network.store.iidm.impl.CacheBudget;
 import com.powsybl.network.store.iidm.impl.CachedNetworkStoreClient;
+import com.powsybl.network.store.iidm.impl.FilteredResourcesCache;
 import com.powsybl.network.store.iidm.impl.NetworkFactoryImpl;
 import com.powsybl.network.store.iidm.impl.NetworkImpl;
 import com.powsybl.network.store.iidm.impl.NetworkStoreClient;
+import com.powsybl.network.store.iidm.impl.SharedSnapshotCache;
 import com.powsybl.network.store.iidm.impl.util.TriFunction;
+import com.powsybl.network.store.model.AttributeFilter;
 import com.powsybl.network.store.model.NetworkInfos;
 import com.powsybl.network.store.model.Resource;
 import com.powsybl.network.store.model.ResourceType;
@@ -33,10 +38,11 @@ import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
@@ -61,46 +67,105 @@ public class NetworkStoreService implements AutoCloseable {
         Executors.newFixedThreadPool(ResourceType.values().length),
         contextSnapshotFactory::captureAll);
 
+    /**
+     * Settings of the clients created by the service: partitioning of bulk requests, retries, buffers auto flush,
+     * journal and caches.
+     */
+    private final NetworkStoreConfig config;
+
+    /**
+     * Shared by all the networks of the service, so that the retry budget applies to the whole traffic.
+     */
+    private final RetryPolicy retryPolicy;
+
+    /**
+     * Executor used to send partitions of bulk requests concurrently, null if they are sent sequentially. It has to
+     * be distinct from the flush executor, as flush tasks wait for their partitions.
+     */
+    private final ExecutorService partitionExecutorService;
+
+    /**
+     * true if the rest client has been created by this service, and so has to be closed with it.
+     */
+    private final boolean ownsRestClient;
+
+    /**
+     * Journal shared by the networks of the service, null if buffered modifications are only kept in memory.
+     */
+    private final BufferJournal journal;
+
+    /**
+     * Maximum number of resources cached for all the networks of the service, null if caches are unbounded.
+     */
+    private final CacheBudget cacheBudget;
+
+    /**
+     * Collections shared by all the networks of the service, null if each network loads its own collections.
+     */
+    private final SharedSnapshotCache sharedSnapshotCache;
+
     public NetworkStoreService(String baseUri) {
         this(baseUri, PreloadingStrategy.NONE);
     }
 
     public NetworkStoreService(String baseUri, PreloadingStrategy defaultPreloadingStrategy) {
-        this(new RestClientImpl(baseUri), defaultPreloadingStrategy);
+        this(new RestClientImpl(baseUri), defaultPreloadingStrategy, null, new NetworkStoreConfig(baseUri), true);
+    }
+
+    public NetworkStoreService(RestClient restClient, PreloadingStrategy defaultPreloadingStrategy) {
+        this(restClient, defaultPreloadingStrategy, null, new NetworkStoreConfig(), false);
     }
 
     @Autowired
-    public NetworkStoreService(RestClient restClient,
-                               @Value("${powsybl.services.network-store-server.preloading-strategy:NONE}") PreloadingStrategy defaultPreloadingStrategy) {
-        this(restClient, defaultPreloadingStrategy, NetworkStoreService::createStoreClient);
+    public NetworkStoreService(RestClient restClient, NetworkStoreProperties properties) {
+        this(restClient, properties.getPreloadingStrategy(), null, properties.toConfig(), false);
     }
 
     NetworkStoreService(RestClient restClient, PreloadingStrategy defaultPreloadingStrategy,
                         TriFunction<RestClient, PreloadingStrategy, ExecutorService, NetworkStoreClient> decorator) {
+        this(restClient, defaultPreloadingStrategy, Objects.requireNonNull(decorator), new NetworkStoreConfig(), false);
+    }
+
+    private NetworkStoreService(RestClient restClient, PreloadingStrategy defaultPreloadingStrategy,
+                                TriFunction<RestClient, PreloadingStrategy, ExecutorService, NetworkStoreClient> decorator,
+                                NetworkStoreConfig config, boolean ownsRestClient) {
         this.restClient = Objects.requireNonNull(restClient);
+        this.ownsRestClient = ownsRestClient;
         this.defaultPreloadingStrategy = Objects.requireNonNull(defaultPreloadingStrategy);
-        this.decorator = Objects.requireNonNull(decorator);
+        this.config = Objects.requireNonNull(config);
+        this.retryPolicy = new ExponentialBackoffRetryPolicy(config);
+        this.partitionExecutorService = config.getPartitionConcurrency() > 1
+            ? ContextExecutorService.wrap(Executors.newFixedThreadPool(config.getPartitionConcurrency()), contextSnapshotFactory::captureAll)
+            : null;
+        this.journal = config.getJournalDirectory() != null
+            ? new BufferJournal(config.getJournalDirectory(), config.getJournalSyncInterval())
+            : null;
+        this.cacheBudget = config.getCacheMaxResources() > 0 ? new CacheBudget(config.getCacheMaxResources()) : null;
+        this.sharedSnapshotCache = config.getSharedCacheMaxResources() > 0
+            ? new SharedSnapshotCache(config.getSharedCacheMaxResources())
+            : null;
+        this.decorator = decorator != null ? decorator : this::createStoreClient;
     }
 
     public NetworkStoreService(String baseUri, PreloadingStrategy defaultPreloadingStrategy,
                                TriFunction<RestClient, PreloadingStrategy, ExecutorService, NetworkStoreClient> decorator) {
-        this(new RestClientImpl(baseUri), defaultPreloadingStrategy, decorator);
+        this(new RestClientImpl(baseUri), defaultPreloadingStrategy, Objects.requireNonNull(decorator), new NetworkStoreConfig(baseUri), true);
     }
 
     public static NetworkStoreService create(NetworkStoreConfig config) {
         Objects.requireNonNull(config);
-        return new NetworkStoreService(config.getBaseUrl(), config.getPreloadingStrategy());
+        return new NetworkStoreService(new RestClientImpl(config), config.getPreloadingStrategy(), null, config, true);
     }
 
     private PreloadingStrategy getNonNullPreloadingStrategy(PreloadingStrategy preloadingStrategy) {
         return preloadingStrategy != null ? preloadingStrategy : defaultPreloadingStrategy;
     }
 
-    private static NetworkStoreClient createStoreClient(RestClient restClient, PreloadingStrategy preloadingStrategy,
-                                                        ExecutorService executorService) {
+    private NetworkStoreClient createStoreClient(RestClient restClient, PreloadingStrategy preloadingStrategy,
+                                                 ExecutorService executorService) {
         Objects.requireNonNull(preloadingStrategy);
         LOGGER.info("Preloading strategy: {}", preloadingStrategy);
-        var cachedClient = new CachedNetworkStoreClient(new BufferedNetworkStoreClient(new RestNetworkStoreClient(restClient), executorService));
+        var cachedClient = new CachedNetworkStoreClient(createBufferedStoreClient(executorService), cacheBudget, sharedSnapshotCache);
         return switch (preloadingStrategy) {
             case NONE -> cachedClient;
             case COLLECTION -> new PreloadingNetworkStoreClient(cachedClient, false, executorService);
@@ -109,6 +174,30 @@ public class NetworkStoreService implements AutoCloseable {
         };
     }
 
+    private BufferedNetworkStoreClient createBufferedStoreClient(ExecutorService executorService) {
+        return new BufferedNetworkStoreClient(new RestNetworkStoreClient(restClient, new ObjectMapper(), partitionExecutorService, config, retryPolicy),
+                executorService, config, journal);
+    }
+
+    /**
+     * Send the modifications recorded in the journal by previous processes which have been stopped before flushing
+     * them. It has to be called at startup, before any network of the journal is modified again.
+     *
+     * @return the networks whose modifications have been sent
+     */
+    public Set<UUID> recoverNetworks() {
+        if (journal == null) {
+            return Set.of();
+        }
+        Set<UUID> networkUuids = journal.getNetworkUuids();
+        for (UUID networkUuid : networkUuids) {
+            BufferedNetworkStoreClient storeClient = createBufferedStoreClient(executorService);
+            storeClient.replayJournal(networkUuid);
+            storeClient.flush(networkUuid);
+        }
+        return networkUuids;
+    }
+
     public NetworkFactory getNetworkFactory() {
         return getNetworkFactory(null);
     }
@@ -227,6 +316,15 @@ public class NetworkStoreService implements AutoCloseable {
         return new RestNetworkStoreClient(restClient).getVariantsInfos(networkId);
     }
 
+    /**
+     * Create a lightweight cache of the resources of any network, holding only the attributes of a subset filter
+     * (for instance {@link AttributeFilter#SV}), for consumers reading results without the IIDM API.
+     */
+    public FilteredResourcesCache createFilteredResourcesCache(AttributeFilter attributeFilter) {
+        return new FilteredResourcesCache(new RestNetworkStoreClient(restClient, new ObjectMapper(), partitionExecutorService, config, retryPolicy),
+                attributeFilter);
+    }
+
     public Network cloneNetwork(UUID sourceNetworkId, List<String> targetVariantIds) {
         RestNetworkStoreClient restStoreClient = new RestNetworkStoreClient(restClient);
         UUID targetNetworkUuid = UUID.randomUUID();
@@ -251,6 +349,37 @@ public class NetworkStoreService implements AutoCloseable {
         networkImpl.getIndex().getStoreClient().flush(networkImpl.getUuid());
     }
 
+    /**
+     * Release what the service holds for a network which is not used anymore, for instance its share of the cache
+     * budget. Changes not flushed yet are not sent, and the network cannot be used after this call.
+     */
+    public void closeNetwork(Network network) {
+        NetworkImpl networkImpl = getNetworkImpl(network);
+        networkImpl.getIndex().getStoreClient().closeNetwork(networkImpl.getUuid());
+    }
+
+    /**
+     * Send the changes of the network made so far in the background, the network being modifiable again as soon as
+     * this method returns. Flushes are sent in call order, {@link #flush} waiting for the previous asynchronous ones.
+     * If a flush fails, its changes are lost: the failure is reported by the returned future and then by the next
+     * {@link #flush}, and the network has to be loaded again to get back in sync with the server.
+     * @return a future completed once the changes have been sent
+     */
+    public CompletableFuture<Void> flushAsync(Network network) {
+        NetworkImpl networkImpl = getNetworkImpl(network);
+        return networkImpl.getIndex().getStoreClient().flushAsync(networkImpl.getUuid());
+    }
+
+    /**
+     * Flush the local changes of the network, then bring its working variant up to date with the changes made on the
+     * server by other clients. Cached collections which have not changed on the server are not transferred again.
+     */
+    public void refresh(Network network) {
+        NetworkImpl networkImpl = getNetworkImpl(network);
+        networkImpl.getIndex().getStoreClient().flush(networkImpl.getUuid());
+        networkImpl.getIndex().refresh();
+    }
+
     @PostConstruct
     public void start() {
         LOGGER.info(Version.getTableString());
@@ -260,6 +389,15 @@ public class NetworkStoreService implements AutoCloseable {
     @PreDestroy
     public void close() {
         ExecutorUtil.shutdownAndAwaitTermination(executorService);
+        if (partitionExecutorService != null) {
+            ExecutorUtil.shutdownAndAwaitTermination(partitionExecutorService);
+        }
+        if (ownsRestClient && restClient instanceof RestClientImpl restClientImpl) {
+            restClientImpl.close();
+        }
+        if (journal != null) {
+            journal.close();
+        }
     }
 
     public void cloneVariant(UUID networkUuid, String sourceVariantId, String targetVariantId) {
@@ -852,6 +852,13 @@ public class PreloadingNetworkStoreClient extends AbstractForwardingNetworkStore
         return delegate.getVoltageLevelConfiguredBuses(networkUuid, variantNum, voltageLevelId);
     }
 
+    @Override
+    public Map<ResourceType, List<Resource<IdentifiableAttributes>>> getVoltageLevelContents(UUID networkUuid, int variantNum, String voltageLevelId,
+                                                                                            Set<ResourceType> resourceTypes) {
+        resourceTypes.forEach(resourceType -> ensureCached(resourceType, networkUuid, variantNum));
+        return delegate.getVoltageLevelContents(networkUuid, variantNum, voltageLevelId, resourceTypes);
+    }
+
     @Override
     public Optional<Resource<ConfiguredBusAttributes>> getConfiguredBus(UUID networkUuid, int variantNum, String busId) {
         ensureCached(ResourceType.CONFIGURED_BUS, networkUuid, variantNum);
@@ -878,6 +885,12 @@ public class PreloadingNetworkStoreClient extends AbstractForwardingNetworkStore
         return delegate.getExtensionAttributes(networkUuid, variantNum, resourceType, identifiableId, extensionName);
     }
 
+    @Override
+    public Map<String, Map<String, ExtensionAttributes>> getAllExtensionsAttributesByResourceTypeAndExtensionNames(UUID networkUuid, int variantNum, ResourceType resourceType, Set<String> extensionNames) {
+        ensureCached(resourceType, networkUuid, variantNum);
+        return delegate.getAllExtensionsAttributesByResourceTypeAndExtensionNames(networkUuid, variantNum, resourceType, extensionNames);
+    }
+
     @Override
     public Map<String, ExtensionAttributes> getAllExtensionsAttributesByIdentifiableId(UUID networkUuid, int variantNum, ResourceType resourceType, String id) {
         delegate.loadAllExtensionsAttributesByResourceType(networkUuid, variantNum, resourceType);
@@ -891,6 +904,23 @@ public class PreloadingNetworkStoreClient extends AbstractForwardingNetworkStore
         return delegate.getOperationalLimitsGroupAttributes(networkUuid, variantNum, resourceType, branchId, operationalLimitGroupId, side);
     }
 
+    @Override
+    public Map<String, Map<Integer, Map<String, OperationalLimitsGroupAttributes>>> getVoltageLevelOperationalLimitsGroupAttributes(UUID networkUuid, int variantNum, ResourceType resourceType,
+                                                                                                                                  String voltageLevelId) {
+        ensureCached(resourceType, networkUuid, variantNum);
+        delegate.loadAllOperationalLimitsGroupAttributesByResourceType(networkUuid, variantNum, resourceType);
+        return delegate.getVoltageLevelOperationalLimitsGroupAttributes(networkUuid, variantNum, resourceType, voltageLevelId);
+    }
+
+    @Override
+    public Map<String, Map<Integer, Map<String, OperationalLimitsGroupAttributes>>> getSubstationOperationalLimitsGroupAttributes(UUID networkUuid, int variantNum, ResourceType resourceType,
+                                                                                                                                String substationId) {
+        ensureCached(resourceType, networkUuid, variantNum);
+        ensureCached(ResourceType.VOLTAGE_LEVEL, networkUuid, variantNum);
+        delegate.loadAllOperationalLimitsGroupAttributesByResourceType(networkUuid, variantNum, resourceType);
+        return delegate.getSubstationOperationalLimitsGroupAttributes(networkUuid, variantNum, resourceType, substationId);
+    }
+
     @Override
     public Optional<OperationalLimitsGroupAttributes> getSelectedOperationalLimitsGroupAttributes(UUID networkUuid, int variantNum, ResourceType resourceType, String branchId,
             String operationalLimitGroupId, int side) {
@@ -903,4 +933,24 @@ public class PreloadingNetworkStoreClient extends AbstractForwardingNetworkStore
         delegate.loadAllOperationalLimitsGroupAttributesByResourceType(networkUuid, variantNum, resourceType);
         return delegate.getOperationalLimitsGroupAttributesForBranchSide(networkUuid, variantNum, resourceType, branchId, side);
     }
+
+    @Override
+    public <T extends IdentifiableAttributes> void updateResources(UUID networkUuid, ResourceType resourceType, List<Resource<T>> resources,
+                                                                  AttributeFilter attributeFilter) {
+        if (resourceType != ResourceType.NETWORK) {
+            for (Resource<T> resource : resources) {
+                ensureCached(resourceType, networkUuid, resource.getVariantNum());
+            }
+        }
+        delegate.updateResources(networkUuid, resourceType, resources, attributeFilter);
+    }
+
+    @Override
+    public <T extends IdentifiableAttributes> void updateResourceAttributes(UUID networkUuid, Resource<T> resource, AttributeFilter attributeFilter,
+                                                                           Set<String> attributeNames) {
+        if (resource.getType() != ResourceType.NETWORK) {
+            ensureCached(resource.getType(), networkUuid, resource.getVariantNum());
+        }
+        delegate.updateResourceAttributes(networkUuid, resource, attributeFilter, attributeNames);
+    }
 }
@@ -0,0 +1,75 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Merges identical read requests running at the same time: the first caller sends the request, the other ones wait
+ * for its response instead of sending the same request again. All the callers get the same result, or the same
+ * exception. Each merged request is counted in the {@code network.store.client.coalesced.requests} counter, tagged by
+ * target.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+class RequestCoalescer {
+
+    static final String COALESCED_REQUESTS_METRIC = "network.store.client.coalesced.requests";
+
+    private record RequestKey(String url, List<Object> uriVariables) {
+    }
+
+    private final ConcurrentMap<RequestKey, CompletableFuture<Object>> inFlightRequests = new ConcurrentHashMap<>();
+
+    private final MeterRegistry meterRegistry;
+
+    RequestCoalescer(MeterRegistry meterRegistry) {
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+    }
+
+    /**
+     * Run a read request, or wait for the response of the identical one already in flight.
+     * @param url the url template, which with the uri variables identifies the request
+     */
+    @SuppressWarnings("unchecked")
+    <R> R execute(String target, String url, Object[] uriVariables, Supplier<R> request) {
+        RequestKey key = new RequestKey(url, Arrays.asList(uriVariables));
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> inFlightFuture = inFlightRequests.putIfAbsent(key, future);
+        if (inFlightFuture != null) {
+            meterRegistry.counter(COALESCED_REQUESTS_METRIC, "target", target).increment();
+            try {
+                return (R) inFlightFuture.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw e;
+            }
+        }
+        try {
+            R result = request.get();
+            future.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            // a request started after this point is sent again, so that it sees the latest state of the server
+            inFlightRequests.remove(key, future);
+        }
+    }
+}
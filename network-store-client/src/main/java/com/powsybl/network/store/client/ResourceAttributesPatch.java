@@ -0,0 +1,119 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.network.store.model.IdentifiableAttributes;
+import com.powsybl.network.store.model.Resource;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A resource of which only some attributes, given by their JSON property name, have to be sent to the server.
+ * The patch is sent as the resource with only these attributes, the values being read from the resource when the
+ * body is created, so that the last modifications are sent.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public record ResourceAttributesPatch<T extends IdentifiableAttributes>(Resource<T> resource, Set<String> attributeNames) {
+
+    private static final ObjectMapper INTROSPECTION_OBJECT_MAPPER = new ObjectMapper();
+
+    private static final Map<Class<?>, Map<String, AnnotatedMember>> ACCESSORS_BY_CLASS = new ConcurrentHashMap<>();
+
+    private static final Map<Class<?>, Map<String, AnnotatedMember>> MUTATORS_BY_CLASS = new ConcurrentHashMap<>();
+
+    public ResourceAttributesPatch {
+        Objects.requireNonNull(resource);
+        attributeNames = Set.copyOf(attributeNames);
+    }
+
+    private static Map<String, AnnotatedMember> getAccessors(Class<?> attributesClass) {
+        return ACCESSORS_BY_CLASS.computeIfAbsent(attributesClass, c -> {
+            BeanDescription description = INTROSPECTION_OBJECT_MAPPER.getSerializationConfig()
+                    .introspect(INTROSPECTION_OBJECT_MAPPER.constructType(c));
+            Map<String, AnnotatedMember> accessors = new HashMap<>();
+            for (BeanPropertyDefinition property : description.findProperties()) {
+                AnnotatedMember accessor = property.getAccessor();
+                if (accessor != null) {
+                    accessors.put(property.getName(), accessor);
+                }
+            }
+            return accessors;
+        });
+    }
+
+    private static Map<String, AnnotatedMember> getMutators(Class<?> attributesClass) {
+        return MUTATORS_BY_CLASS.computeIfAbsent(attributesClass, c -> {
+            BeanDescription description = INTROSPECTION_OBJECT_MAPPER.getDeserializationConfig()
+                    .introspect(INTROSPECTION_OBJECT_MAPPER.constructType(c));
+            Map<String, AnnotatedMember> mutators = new HashMap<>();
+            for (BeanPropertyDefinition property : description.findProperties()) {
+                AnnotatedMember mutator = property.getNonConstructorMutator();
+                if (mutator != null) {
+                    mutators.put(property.getName(), mutator);
+                }
+            }
+            return mutators;
+        });
+    }
+
+    /**
+     * Check that the attributes of a resource have a JSON property for each of the given names.
+     */
+    public static void checkAttributeNames(Resource<? extends IdentifiableAttributes> resource, Set<String> attributeNames) {
+        Map<String, AnnotatedMember> accessors = getAccessors(resource.getAttributes().getClass());
+        for (String attributeName : attributeNames) {
+            if (!accessors.containsKey(attributeName)) {
+                throw new PowsyblException("Unknown attribute '" + attributeName + "' of " + resource.getType() + " resources");
+            }
+        }
+    }
+
+    /**
+     * Copy the attributes of the patch to another instance of the resource, for instance when patches are read back
+     * from a journal.
+     */
+    void applyTo(Resource<T> target) {
+        Map<String, AnnotatedMember> accessors = getAccessors(resource.getAttributes().getClass());
+        Map<String, AnnotatedMember> mutators = getMutators(target.getAttributes().getClass());
+        for (String attributeName : attributeNames) {
+            AnnotatedMember accessor = accessors.get(attributeName);
+            AnnotatedMember mutator = mutators.get(attributeName);
+            if (accessor == null || mutator == null) {
+                throw new PowsyblException("Unknown attribute '" + attributeName + "' of " + resource.getType() + " resources");
+            }
+            mutator.setValue(target.getAttributes(), accessor.getValue(resource.getAttributes()));
+        }
+    }
+
+    /**
+     * @return the request body item: the resource with only the attributes of the patch
+     */
+    Map<String, Object> toBody() {
+        Map<String, AnnotatedMember> accessors = getAccessors(resource.getAttributes().getClass());
+        Map<String, Object> attributes = new TreeMap<>();
+        for (String attributeName : attributeNames) {
+            AnnotatedMember accessor = accessors.get(attributeName);
+            if (accessor == null) {
+                throw new PowsyblException("Unknown attribute '" + attributeName + "' of " + resource.getType() + " resources");
+            }
+            attributes.put(attributeName, accessor.getValue(resource.getAttributes()));
+        }
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("type", resource.getType());
+        body.put("id", resource.getId());
+        body.put("variantNum", resource.getVariantNum());
+        body.put("attributes", attributes);
+        return body;
+    }
+}
@@ -0,0 +1,114 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.google.common.io.ByteStreams;
+import com.google.common.io.CountingOutputStream;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Split the body of bulk requests into partitions bounded both by a serialized size budget and by a maximum item
+ * count, so that large resources do not exceed server request size limits and small ones are not sent with a
+ * per-request overhead.
+ * <p>
+ * Items are measured by serializing them with the view of the request into a single generator writing to a counting
+ * stream, which keeps nothing of their serialized form. The chosen partition sizes and bytes are recorded in the
+ * {@code network.store.client.partition.items} and {@code network.store.client.partition.bytes} distribution
+ * summaries.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+class ResourcePartitioner {
+
+    static final String PARTITION_ITEMS_METRIC = "network.store.client.partition.items";
+
+    static final String PARTITION_BYTES_METRIC = "network.store.client.partition.bytes";
+
+    private final ObjectMapper objectMapper;
+
+    private final long maxPartitionBytes;
+
+    private final int maxPartitionSize;
+
+    private final MeterRegistry meterRegistry;
+
+    ResourcePartitioner(ObjectMapper objectMapper, long maxPartitionBytes, int maxPartitionSize, MeterRegistry meterRegistry) {
+        this.objectMapper = Objects.requireNonNull(objectMapper);
+        if (maxPartitionBytes < 1) {
+            throw new IllegalArgumentException("Max partition bytes has to be greater or equal to 1: " + maxPartitionBytes);
+        }
+        if (maxPartitionSize < 1) {
+            throw new IllegalArgumentException("Max partition size has to be greater or equal to 1: " + maxPartitionSize);
+        }
+        this.maxPartitionBytes = maxPartitionBytes;
+        this.maxPartitionSize = maxPartitionSize;
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+    }
+
+    /**
+     * @param target the resource type label, used to tag metrics
+     * @param operation the request kind (create, update or delete), used to tag metrics
+     * @param items the items to split
+     * @param viewClass the serialization view of the request, or null to serialize all the attributes
+     * @return consecutive sub lists of items, an item bigger than the budget is alone in its partition
+     */
+    <T> List<List<T>> partition(String target, String operation, List<T> items, Class<?> viewClass) {
+        ObjectWriter writer = viewClass != null ? objectMapper.writerWithView(viewClass) : objectMapper.writer();
+        DistributionSummary itemsSummary = DistributionSummary.builder(PARTITION_ITEMS_METRIC)
+                .tag("target", target)
+                .tag("operation", operation)
+                .register(meterRegistry);
+        DistributionSummary bytesSummary = DistributionSummary.builder(PARTITION_BYTES_METRIC)
+                .baseUnit("bytes")
+                .tag("target", target)
+                .tag("operation", operation)
+                .register(meterRegistry);
+        List<List<T>> partitions = new ArrayList<>();
+        int partitionStart = 0;
+        long partitionBytes = 0;
+        try (CountingOutputStream os = new CountingOutputStream(ByteStreams.nullOutputStream());
+             JsonGenerator generator = writer.createGenerator(os)) {
+            // items are written as in the request array, so that their size includes the separator preceding them
+            generator.writeStartArray();
+            generator.flush();
+            for (int i = 0; i < items.size(); i++) {
+                long countBefore = os.getCount();
+                writer.writeValue(generator, items.get(i));
+                generator.flush();
+                // the first item is counted with a separator as well
+                long itemBytes = os.getCount() - countBefore + (i == 0 ? 1 : 0);
+                int partitionSize = i - partitionStart;
+                if (partitionSize > 0 && (partitionSize == maxPartitionSize || partitionBytes + itemBytes > maxPartitionBytes)) {
+                    partitions.add(items.subList(partitionStart, i));
+                    itemsSummary.record(partitionSize);
+                    bytesSummary.record(partitionBytes);
+                    partitionStart = i;
+                    partitionBytes = 0;
+                }
+                partitionBytes += itemBytes;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (partitionStart < items.size()) {
+            partitions.add(items.subList(partitionStart, items.size()));
+            itemsSummary.record(items.size() - (double) partitionStart);
+            bytesSummary.record(partitionBytes);
+        }
+        return partitions;
+    }
+}
@@ -0,0 +1,218 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+import com.google.common.base.Stopwatch;
+import com.powsybl.network.store.model.*;
+import io.micrometer.core.instrument.Metrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link AsyncNetworkStoreClient} implementation on top of an {@link AsyncRestClient}. Like with
+ * {@link RestNetworkStoreClient}, bulk requests are split into partitions and failed write requests are retried
+ * according to a {@link RetryPolicy}, but all the partitions are sent at the same time without holding any thread,
+ * even while waiting before a retry.
+ * Network resources are created and updated with the {@link ResourceType#NETWORK} type, but read and deleted with
+ * the network methods.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class RestAsyncNetworkStoreClient implements AsyncNetworkStoreClient {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RestAsyncNetworkStoreClient.class);
+
+    private static final String URL_NETWORK_UUID = "/networks/{networkUuid}";
+
+    private final AsyncRestClient restClient;
+
+    private final ResourcePartitioner partitioner;
+
+    private final RetryExecutor retryExecutor;
+
+    private final boolean idempotencyKeys;
+
+    public RestAsyncNetworkStoreClient(AsyncRestClient restClient) {
+        this(restClient, new NetworkStoreConfig());
+    }
+
+    public RestAsyncNetworkStoreClient(AsyncRestClient restClient, NetworkStoreConfig config) {
+        this(restClient, config, new ExponentialBackoffRetryPolicy(config));
+    }
+
+    /**
+     * @param config bulk request partitioning parameters (max partition bytes and size) and use of idempotency keys
+     * @param retryPolicy policy applied to failed write requests which can safely be replayed
+     */
+    public RestAsyncNetworkStoreClient(AsyncRestClient restClient, NetworkStoreConfig config, RetryPolicy retryPolicy) {
+        this.restClient = Objects.requireNonNull(restClient);
+        Objects.requireNonNull(config);
+        this.partitioner = new ResourcePartitioner(RestClientImpl.createObjectMapper(), config.getMaxPartitionBytes(), config.getMaxPartitionSize(), Metrics.globalRegistry);
+        this.retryExecutor = new RetryExecutor(retryPolicy, Metrics.globalRegistry);
+        this.idempotencyKeys = config.isIdempotencyKeys();
+    }
+
+    /**
+     * @return the path of the collection of a resource type, relative to a network (variant)
+     */
+    static String getCollectionPath(ResourceType resourceType) {
+        return switch (resourceType) {
+            case NETWORK -> throw new IllegalArgumentException("Networks are not a collection of a network");
+            case SUBSTATION -> "substations";
+            case VOLTAGE_LEVEL -> "voltage-levels";
+            case LOAD -> "loads";
+            case GENERATOR -> "generators";
+            case BATTERY -> "batteries";
+            case SHUNT_COMPENSATOR -> "shunt-compensators";
+            case VSC_CONVERTER_STATION -> "vsc-converter-stations";
+            case LCC_CONVERTER_STATION -> "lcc-converter-stations";
+            case STATIC_VAR_COMPENSATOR -> "static-var-compensators";
+            case BUSBAR_SECTION -> "busbar-sections";
+            case SWITCH -> "switches";
+            case TWO_WINDINGS_TRANSFORMER -> "2-windings-transformers";
+            case THREE_WINDINGS_TRANSFORMER -> "3-windings-transformers";
+            case LINE -> "lines";
+            case HVDC_LINE -> "hvdc-lines";
+            case BOUNDARY_LINE -> "boundary-lines";
+            case GROUND -> "grounds";
+            case CONFIGURED_BUS -> "configured-buses";
+            case TIE_LINE -> "tie-lines";
+            case AREA -> "areas";
+        };
+    }
+
+    private static CompletableFuture<Void> allOf(List<CompletableFuture<Void>> futures) {
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+    }
+
+    private <T extends IdentifiableAttributes> CompletableFuture<Void> create(String target, String url, List<Resource<T>> resources, Object... uriVariables) {
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (List<Resource<T>> resourcePartition : partitioner.partition(target, "create", resources, null)) {
+            if (LOGGER.isInfoEnabled()) {
+                LOGGER.info("Creating {} {} resources ({})...", resourcePartition.size(), target, UriComponentsBuilder.fromUriString(url).buildAndExpand(uriVariables));
+            }
+            Stopwatch stopwatch = Stopwatch.createStarted();
+            IdempotencyKey idempotencyKey = idempotencyKeys ? IdempotencyKey.random() : null;
+            futures.add(retryExecutor.executeAsync(target, "create", idempotencyKey != null,
+                    () -> restClient.createAll(idempotencyKey, url, resourcePartition, uriVariables))
+                    .thenRun(() -> LOGGER.info("{} {} resources created in {} ms", resourcePartition.size(), target, stopwatch.elapsed(TimeUnit.MILLISECONDS))));
+        }
+        return allOf(futures);
+    }
+
+    private <T extends IdentifiableAttributes> CompletableFuture<Void> updatePartition(String target, String url, AttributeFilter attributeFilter, List<Resource<T>> resources, Object... uriVariables) {
+        String suffix = AttributeFilter.getUrlSuffix(attributeFilter);
+        String effectiveUrl = url + suffix;
+        Class<?> viewClass = AttributeFilter.getViewClass(attributeFilter);
+        if (LOGGER.isInfoEnabled()) {
+            LOGGER.info("Updating {} {}{} resources ({})...", resources.size(), target, AttributeFilter.getLabelFromView(viewClass),
+                    UriComponentsBuilder.fromUriString(effectiveUrl).buildAndExpand(uriVariables));
+        }
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        return retryExecutor.executeAsync(target, "update", true, () -> {
+            if (suffix.isEmpty()) {
+                return restClient.updateAll(effectiveUrl, resources, viewClass, uriVariables);
+            }
+            // as in RestNetworkStoreClient, the server needs the filter in each resource to deserialize subset dtos,
+            // the body is serialized when the request is sent so the previous filters can be restored right after
+            List<AttributeFilter> previousFilters = new ArrayList<>(resources.size());
+            resources.forEach(resource -> {
+                previousFilters.add(resource.getFilter());
+                resource.setFilter(attributeFilter);
+            });
+            try {
+                return restClient.updateAll(effectiveUrl, resources, viewClass, uriVariables);
+            } finally {
+                for (int i = 0; i < previousFilters.size(); i++) {
+                    resources.get(i).setFilter(previousFilters.get(i));
+                }
+            }
+        }).thenRun(() -> LOGGER.info("{} {}{} resources updated in {} ms", resources.size(), target,
+                AttributeFilter.getLabelFromView(viewClass), stopwatch.elapsed(TimeUnit.MILLISECONDS)));
+    }
+
+    @Override
+    public CompletableFuture<List<NetworkInfos>> getNetworksInfos() {
+        return restClient.get("/networks", new ParameterizedTypeReference<>() {
+        });
+    }
+
+    @Override
+    public CompletableFuture<Optional<Resource<NetworkAttributes>>> getNetwork(UUID networkUuid, int variantNum) {
+        return restClient.getOne("network", "/networks/{networkUuid}/{variantNum}", networkUuid, variantNum);
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteNetwork(UUID networkUuid) {
+        return restClient.delete(URL_NETWORK_UUID, networkUuid);
+    }
+
+    @Override
+    public <T extends IdentifiableAttributes> CompletableFuture<List<Resource<T>>> getResources(UUID networkUuid, int variantNum, ResourceType resourceType) {
+        String target = getCollectionPath(resourceType);
+        String url = "/networks/{networkUuid}/{variantNum}/" + target;
+        if (LOGGER.isInfoEnabled()) {
+            LOGGER.info("Loading {} resources {}", target, UriComponentsBuilder.fromUriString(url).buildAndExpand(networkUuid, variantNum));
+        }
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        return restClient.<T>getAll(target, url, networkUuid, variantNum).thenApply(resources -> {
+            LOGGER.info("{} {} resources loaded in {} ms", resources.size(), target, stopwatch.elapsed(TimeUnit.MILLISECONDS));
+            return resources;
+        });
+    }
+
+    @Override
+    public <T extends IdentifiableAttributes> CompletableFuture<Optional<Resource<T>>> getResource(UUID networkUuid, int variantNum, ResourceType resourceType, String id) {
+        String target = getCollectionPath(resourceType);
+        return restClient.getOne(target, "/networks/{networkUuid}/{variantNum}/" + target + "/{id}", networkUuid, variantNum, id);
+    }
+
+    @Override
+    public <T extends IdentifiableAttributes> CompletableFuture<Void> createResources(UUID networkUuid, ResourceType resourceType, List<Resource<T>> resources) {
+        if (resourceType == ResourceType.NETWORK) {
+            return create("network", "/networks", resources);
+        }
+        String target = getCollectionPath(resourceType);
+        return create(target, "/networks/{networkUuid}/" + target, resources, networkUuid);
+    }
+
+    @Override
+    public <T extends IdentifiableAttributes> CompletableFuture<Void> updateResources(UUID networkUuid, ResourceType resourceType, List<Resource<T>> resources, AttributeFilter attributeFilter) {
+        if (resourceType == ResourceType.NETWORK) {
+            return allOf(resources.stream()
+                    .map(resource -> updatePartition("network", URL_NETWORK_UUID, attributeFilter, List.of(resource), networkUuid))
+                    .toList());
+        }
+        String target = getCollectionPath(resourceType);
+        String url = "/networks/{networkUuid}/" + target;
+        return allOf(partitioner.partition(target, "update", resources, AttributeFilter.getViewClass(attributeFilter)).stream()
+                .map(resourcePartition -> updatePartition(target, url, attributeFilter, resourcePartition, networkUuid))
+                .toList());
+    }
+
+    @Override
+    public CompletableFuture<Void> removeResources(UUID networkUuid, int variantNum, ResourceType resourceType, List<String> ids) {
+        String target = getCollectionPath(resourceType);
+        String url = "/networks/{networkUuid}/{variantNum}/" + target;
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (List<String> idsPartition : partitioner.partition(target, "delete", ids, null)) {
+            if (LOGGER.isInfoEnabled()) {
+                LOGGER.info("Deleting {} {} resources ({})...", idsPartition.size(), target, UriComponentsBuilder.fromUriString(url).buildAndExpand(networkUuid, variantNum));
+            }
+            Stopwatch stopwatch = Stopwatch.createStarted();
+            futures.add(retryExecutor.executeAsync(target, "delete", true, () -> restClient.deleteAll(url, idsPartition, networkUuid, variantNum))
+                    .thenRun(() -> LOGGER.info("{} {} resources deleted in {} ms", idsPartition.size(), target, stopwatch.elapsed(TimeUnit.MILLISECONDS))));
+        }
+        return allOf(futures);
+    }
+}
@@ -6,11 +6,15 @@
  */
 package com.powsybl.network.store.client;
 
+import com.powsybl.network.store.iidm.impl.RevisionedResources;
 import com.powsybl.network.store.model.*;
+import com.powsybl.network.store.model.svattributes.ColumnarSvAttributes;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
@@ -19,6 +23,15 @@ public interface RestClient {
 
     <T extends IdentifiableAttributes> void createAll(String url, List<Resource<T>> resources, Object... uriVariables);
 
+    /**
+     * Same as {@link #createAll(String, List, Object...)}, the key being sent so that the server does not create the
+     * resources twice if the request is replayed. Implementations not supporting keys ignore it.
+     * @param idempotencyKey key of the request, null to send it without key
+     */
+    default <T extends IdentifiableAttributes> void createAll(IdempotencyKey idempotencyKey, String url, List<Resource<T>> resources, Object... uriVariables) {
+        createAll(url, resources, uriVariables);
+    }
+
     <T extends IdentifiableAttributes> Optional<Resource<T>> getOne(String target, String url, Object... uriVariables);
 
     /**
@@ -36,15 +49,80 @@ public interface RestClient {
 
     <T extends IdentifiableAttributes> List<Resource<T>> getAll(String target, String url, Object... uriVariables);
 
+    /**
+     * Same as {@link #getAll(String, String, Object...)}, unless the resources have not changed on the server since
+     * the given revision. Implementations not supporting revisions always retrieve the resources.
+     * @param revision the entity tag of a previous response, null to retrieve the resources in any case
+     * @return the resources with the entity tag of the response, or an empty optional if the server answers not modified
+     */
+    default <T extends IdentifiableAttributes> Optional<RevisionedResources<T>> getAllIfModified(String target, String url, String revision, Object... uriVariables) {
+        return Optional.of(new RevisionedResources<>(getAll(target, url, uriVariables), null));
+    }
+
+    /**
+     * Retrieves all resources from the server, passing each resource to the consumer as soon as it has been
+     * deserialized from the response instead of building the full list first.
+     * @return the number of resources read.
+     */
+    <T extends IdentifiableAttributes> int streamAll(String target, String url, Consumer<Resource<T>> consumer, Object... uriVariables);
+
+    /**
+     * Retrieves resources from the server, the query being possibly sent as the request body when it is too large to
+     * fit in the url, for instance a list of ids.
+     * @param body the request body, null to send the request without body
+     * @return the resources, or an empty optional if the server answers not found, for instance because it does not
+     * expose the url
+     */
+    <T extends IdentifiableAttributes> Optional<List<Resource<T>>> findAll(String target, HttpMethod method, String url, Object body, Object... uriVariables);
+
     <T extends Attributes> void updateAll(String url, List<Resource<T>> resources, Class<?> viewClass, Object... uriVariables);
 
+    /**
+     * Partially updates resources, each item of the body only having the attributes to update, following the JSON
+     * merge patch semantics: an absent attribute is left unchanged, a null one is unset. Implementations not
+     * supporting partial updates return false.
+     * @return false if the server answers not found or method not allowed, because it does not support partial updates
+     */
+    default boolean patchAll(String url, List<?> patches, Object... uriVariables) {
+        return false;
+    }
+
+    /**
+     * Updates the state variables of resources given by column.
+     * @return false if the server answers not found or method not allowed, because it does not support columnar
+     * updates
+     */
+    default boolean updateSvColumns(String url, ColumnarSvAttributes columns, Object... uriVariables) {
+        return false;
+    }
+
     <E> E get(String url, ParameterizedTypeReference<E> responseType, Object... uriVariables);
 
+    /**
+     * Same as {@link #get(String, ParameterizedTypeReference, Object...)}, an empty optional being returned if the
+     * server answers not found.
+     */
+    <E> Optional<E> find(String url, ParameterizedTypeReference<E> responseType, Object... uriVariables);
+
     void put(String url, Object... uriVariables);
 
+    /**
+     * Same as {@link #put(String, Object...)}, with an idempotency key (may be null).
+     */
+    default void put(IdempotencyKey idempotencyKey, String url, Object... uriVariables) {
+        put(url, uriVariables);
+    }
+
     void delete(String url, Object... uriVariables);
 
     void post(String url, Object... uriVariables);
 
+    /**
+     * Same as {@link #post(String, Object...)}, with an idempotency key (may be null).
+     */
+    default void post(IdempotencyKey idempotencyKey, String url, Object... uriVariables) {
+        post(url, uriVariables);
+    }
+
     <T> void deleteAll(String url, T ids, Object... uriVariables);
 }
@@ -6,6 +6,8 @@
  */
 package com.powsybl.network.store.client;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -13,51 +15,155 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.powsybl.commons.PowsyblException;
 import com.powsybl.network.store.model.*;
+import com.powsybl.network.store.model.svattributes.ColumnarSvAttributes;
+import io.micrometer.core.instrument.Metrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.*;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.http.converter.AbstractJackson2HttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
  */
 @Component
-public class RestClientImpl implements RestClient {
+public class RestClientImpl implements RestClient, AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RestClientImpl.class);
 
     private final RestTemplate restTemplate;
 
+    private final ObjectMapper objectMapper;
+
+    private final WireFormat wireFormat;
+
+    /**
+     * Object mapper of the binary converter, null if the wire format is JSON.
+     */
+    private final ObjectMapper binaryObjectMapper;
+
+    /**
+     * true once the server has refused the binary wire format, all following exchanges are then done in JSON.
+     */
+    private volatile boolean binaryRefused = false;
+
+    /**
+     * Pool of the connections used by the rest template, null if the connections are not pooled.
+     */
+    private final ConnectionPool connectionPool;
+
     // Used for standalone (non-Spring) usage, e.g. from integration tests or external tools
     public RestClientImpl(String baseUri) {
-        this(createRestTemplateBuilder(baseUri));
+        this(new NetworkStoreConfig(baseUri));
+    }
+
+    public RestClientImpl(NetworkStoreConfig config) {
+        this(new RestTemplateBuilder(restTemplate1 -> restTemplate1.setMessageConverters(List.of(createMapping()))), config);
     }
 
     // Used in unit tests with a mock-backed RestTemplateBuilder
     public RestClientImpl(RestTemplateBuilder restTemplateBuilder) {
-        this.restTemplate = Objects.requireNonNull(restTemplateBuilder)
+        this(restTemplateBuilder, WireFormat.JSON);
+    }
+
+    public RestClientImpl(RestTemplateBuilder restTemplateBuilder, WireFormat wireFormat) {
+        this(Objects.requireNonNull(restTemplateBuilder)
             .errorHandler(new RestTemplateResponseErrorHandler())
             .additionalCustomizers(RestClientImpl::enableDefaultViewInclusion)
-            .build();
+            .build(), wireFormat, null);
+    }
+
+    public RestClientImpl(RestTemplateBuilder restTemplateBuilder, String baseUri) {
+        this(restTemplateBuilder, new NetworkStoreConfig(baseUri));
     }
 
     @Autowired
-    public RestClientImpl(RestTemplateBuilder restTemplateBuilder,
-                          @Value("${powsybl.services.network-store-server.base-uri:http://network-store-server/}") String baseUri) {
-        this.restTemplate = Objects.requireNonNull(restTemplateBuilder)
+    public RestClientImpl(RestTemplateBuilder restTemplateBuilder, NetworkStoreProperties properties) {
+        this(restTemplateBuilder, properties.toConfig());
+    }
+
+    /**
+     * Create a client whose connections are pooled with HTTP/1.1 or multiplexed with HTTP/2 according to the config.
+     * The builder must not already be configured with a base URI or a compression interceptor.
+     */
+    public RestClientImpl(RestTemplateBuilder restTemplateBuilder, NetworkStoreConfig config) {
+        this(restTemplateBuilder, config, config.getHttpVersion() == HttpVersion.HTTP_1_1 ? new ConnectionPool(config) : null);
+    }
+
+    private RestClientImpl(RestTemplateBuilder restTemplateBuilder, NetworkStoreConfig config, ConnectionPool connectionPool) {
+        this(Objects.requireNonNull(restTemplateBuilder)
             .errorHandler(new RestTemplateResponseErrorHandler())
             .uriTemplateHandler(new DefaultUriBuilderFactory(UriComponentsBuilder
-                .fromUriString(baseUri)
+                .fromUriString(config.getBaseUrl())
                 .path(NetworkStoreApi.VERSION)))
+            .requestFactory(() -> connectionPool != null ? connectionPool.createRequestFactory() : createHttp2RequestFactory(config))
+            .additionalInterceptors(new CompressionInterceptor(config.getCompression(), config.getCompressionThreshold()))
             .additionalCustomizers(RestClientImpl::enableDefaultViewInclusion)
-            .build();
+            .build(), config.getWireFormat(), connectionPool);
+    }
+
+    private RestClientImpl(RestTemplate restTemplate, WireFormat wireFormat, ConnectionPool connectionPool) {
+        this.restTemplate = restTemplate;
+        this.objectMapper = getObjectMapper(restTemplate);
+        this.wireFormat = Objects.requireNonNull(wireFormat);
+        if (wireFormat != WireFormat.JSON) {
+            // the binary converter is derived from the JSON one (including default view inclusion) so that
+            // serialization views are applied the same way whatever the format
+            AbstractJackson2HttpMessageConverter binaryConverter = wireFormat.createConverter(objectMapper);
+            restTemplate.getMessageConverters().add(0, binaryConverter);
+            this.binaryObjectMapper = binaryConverter.getObjectMapper();
+        } else {
+            this.binaryObjectMapper = null;
+        }
+        this.connectionPool = connectionPool;
+        if (connectionPool != null) {
+            connectionPool.bindTo(Metrics.globalRegistry);
+        }
+    }
+
+    private static ClientHttpRequestFactory createHttp2RequestFactory(NetworkStoreConfig config) {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(AsyncRestClientImpl.createHttpClient(config));
+        if (config.getReadTimeout() > 0) {
+            requestFactory.setReadTimeout(Duration.ofMillis(config.getReadTimeout()));
+        }
+        return requestFactory;
+    }
+
+    /**
+     * @return the statistics of the connection pool, empty if the connections are not pooled
+     */
+    public Optional<ConnectionPool.Stats> getConnectionPoolStats() {
+        return Optional.ofNullable(connectionPool).map(ConnectionPool::getStats);
+    }
+
+    @Override
+    public void close() {
+        if (connectionPool != null) {
+            connectionPool.close();
+        }
+    }
+
+    public static RestTemplateBuilder createRestTemplateBuilder(NetworkStoreConfig config) {
+        return createRestTemplateBuilder(config.getBaseUrl())
+            .additionalInterceptors(new CompressionInterceptor(config.getCompression(), config.getCompressionThreshold()));
     }
 
     public static RestTemplateBuilder createRestTemplateBuilder(String baseUri) {
@@ -66,7 +172,7 @@ public class RestClientImpl implements RestClient {
                         .path(NetworkStoreApi.VERSION)));
     }
 
-    private static ObjectMapper createObjectMapper() {
+    static ObjectMapper createObjectMapper() {
         ObjectMapper objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule())
             .configure(SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS, false)
@@ -112,12 +218,76 @@ public class RestClientImpl implements RestClient {
         }
     }
 
+    /**
+     * The object mapper of the Jackson converter, used to deserialize streamed responses exactly like
+     * the documents read by the converter itself.
+     */
+    private static ObjectMapper getObjectMapper(RestTemplate restTemplate) {
+        for (var converter : restTemplate.getMessageConverters()) {
+            if (converter instanceof MappingJackson2HttpMessageConverter c) {
+                return c.getObjectMapper();
+            }
+        }
+        return createObjectMapper();
+    }
+
+    private MediaType getMediaType() {
+        return wireFormat != WireFormat.JSON && !binaryRefused ? wireFormat.getMediaType() : MediaType.APPLICATION_JSON;
+    }
+
+    private static List<MediaType> getAcceptedMediaTypes(MediaType mediaType) {
+        return mediaType.equals(MediaType.APPLICATION_JSON)
+                ? List.of(MediaType.APPLICATION_JSON)
+                : List.of(mediaType, MediaType.APPLICATION_JSON);
+    }
+
+    /**
+     * Headers negotiating the wire format: with a binary format, JSON is still accepted so that a server which
+     * does not support it answers in JSON, and a body is sent in the binary format.
+     */
+    private HttpHeaders createHeaders(MediaType mediaType, boolean withBody) {
+        HttpHeaders headers = new HttpHeaders();
+        if (wireFormat != WireFormat.JSON) {
+            headers.setAccept(getAcceptedMediaTypes(mediaType));
+            if (withBody) {
+                headers.setContentType(mediaType);
+            }
+        }
+        return headers;
+    }
+
+    /**
+     * Run an exchange with the configured wire format and, if the server refuses it, run it again in JSON. The
+     * refusal is remembered so that following exchanges are directly done in JSON.
+     */
+    private <R> R exchangeWithFallback(Function<MediaType, R> exchange) {
+        MediaType mediaType = getMediaType();
+        try {
+            return exchange.apply(mediaType);
+        } catch (HttpClientErrorException e) {
+            if (mediaType.equals(MediaType.APPLICATION_JSON)
+                    || (e.getStatusCode() != HttpStatus.UNSUPPORTED_MEDIA_TYPE && e.getStatusCode() != HttpStatus.NOT_ACCEPTABLE)) {
+                throw e;
+            }
+            LOGGER.warn("Server refused {} wire format (status: {}), falling back to JSON", wireFormat, e.getStatusCode());
+            binaryRefused = true;
+            return exchange.apply(MediaType.APPLICATION_JSON);
+        }
+    }
+
+    private ObjectMapper getResponseObjectMapper(MediaType contentType) {
+        if (binaryObjectMapper != null && contentType != null && contentType.isCompatibleWith(wireFormat.getMediaType())) {
+            return binaryObjectMapper;
+        }
+        return objectMapper;
+    }
+
     private <T, D extends AbstractTopLevelDocument<T>> ResponseEntity<D> getDocument(String url, ParameterizedTypeReference<D> parameterizedTypeReference, Object... uriVariables) {
-        return restTemplate.exchange(url,
+        return exchangeWithFallback(mediaType -> restTemplate.exchange(url,
                 HttpMethod.GET,
-                new HttpEntity<>(new HttpHeaders()),
+                new HttpEntity<>(createHeaders(mediaType, false)),
                 parameterizedTypeReference,
-                uriVariables);
+                uriVariables));
     }
 
     private static <T, D extends AbstractTopLevelDocument<T>> D getBody(ResponseEntity<D> response) {
@@ -132,10 +302,22 @@ public class RestClientImpl implements RestClient {
         return new PowsyblException("Fail to " + method + " at " + url + ", status: " + httpStatusCode);
     }
 
+    private static HttpHeaders withIdempotencyKey(HttpHeaders headers, IdempotencyKey idempotencyKey) {
+        if (idempotencyKey != null) {
+            headers.set(IdempotencyKey.HEADER, idempotencyKey.value());
+        }
+        return headers;
+    }
+
     @Override
     public <T extends IdentifiableAttributes> void createAll(String url, List<Resource<T>> resources, Object... uriVariables) {
-        HttpEntity<?> entity = new HttpEntity<>(resources);
-        ResponseEntity<Void> response = restTemplate.exchange(url, HttpMethod.POST, entity, Void.class, uriVariables);
+        createAll(null, url, resources, uriVariables);
+    }
+
+    @Override
+    public <T extends IdentifiableAttributes> void createAll(IdempotencyKey idempotencyKey, String url, List<Resource<T>> resources, Object... uriVariables) {
+        ResponseEntity<Void> response = exchangeWithFallback(mediaType -> restTemplate.exchange(url, HttpMethod.POST,
+                new HttpEntity<>(resources, withIdempotencyKey(createHeaders(mediaType, true), idempotencyKey)), Void.class, uriVariables));
         if (response.getStatusCode() != HttpStatus.CREATED) {
             throw createHttpException(url, "post", response.getStatusCode());
         }
@@ -182,30 +364,147 @@ public class RestClientImpl implements RestClient {
         return body.getData();
     }
 
+    @Override
+    public <T extends IdentifiableAttributes> Optional<RevisionedResources<T>> getAllIfModified(String target, String url, String revision, Object... uriVariables) {
+        ResponseEntity<TopLevelDocument<T>> response = exchangeWithFallback(mediaType -> {
+            HttpHeaders headers = createHeaders(mediaType, false);
+            if (revision != null) {
+                headers.setIfNoneMatch(revision);
+            }
+            return restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), new ParameterizedTypeReference<TopLevelDocument<T>>() {
+            }, uriVariables);
+        });
+        if (response.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+            return Optional.empty();
+        } else if (response.getStatusCode() != HttpStatus.OK) {
+            throw createHttpException(url, "get", response.getStatusCode());
+        }
+        return Optional.of(new RevisionedResources<>(getBody(response).getData(), response.getHeaders().getETag()));
+    }
+
+    @Override
+    public <T extends IdentifiableAttributes> Optional<List<Resource<T>>> findAll(String target, HttpMethod method, String url, Object body, Object... uriVariables) {
+        ResponseEntity<TopLevelDocument<T>> response = exchangeWithFallback(mediaType -> restTemplate.exchange(url, method,
+                new HttpEntity<>(body, createHeaders(mediaType, body != null)), new ParameterizedTypeReference<TopLevelDocument<T>>() {
+                }, uriVariables));
+        if (response.getStatusCode() == HttpStatus.NOT_FOUND) {
+            return Optional.empty();
+        } else if (response.getStatusCode() != HttpStatus.OK) {
+            throw createHttpException(url, method.name().toLowerCase(Locale.ROOT), response.getStatusCode());
+        }
+        return Optional.of(getBody(response).getData());
+    }
+
+    @Override
+    public <T extends IdentifiableAttributes> int streamAll(String target, String url, Consumer<Resource<T>> consumer, Object... uriVariables) {
+        Objects.requireNonNull(consumer);
+        Integer count = exchangeWithFallback(mediaType -> restTemplate.execute(url,
+                HttpMethod.GET,
+                request -> request.getHeaders().setAccept(getAcceptedMediaTypes(mediaType)),
+                response -> {
+                    if (response.getStatusCode() != HttpStatus.OK) {
+                        throw createHttpException(url, "get", response.getStatusCode());
+                    }
+                    return readData(getResponseObjectMapper(response.getHeaders().getContentType()), response.getBody(), consumer);
+                },
+                uriVariables));
+        return count != null ? count : 0;
+    }
+
+    /**
+     * Read the data array of a top level document and deserialize its resources one by one, so that the whole
+     * document is never held in memory.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T extends IdentifiableAttributes> int readData(ObjectMapper objectMapper, InputStream is, Consumer<Resource<T>> consumer) throws IOException {
+        int count = 0;
+        try (JsonParser parser = objectMapper.getFactory().createParser(is)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new PowsyblException("Unexpected token " + parser.currentToken() + ", a top level document was expected");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                JsonToken token = parser.nextToken();
+                if ("data".equals(fieldName) && token == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        consumer.accept(objectMapper.readValue(parser, Resource.class));
+                        count++;
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return count;
+    }
+
     @Override
     public <T extends Attributes> void updateAll(String url, List<Resource<T>> resources, Class<?> viewClass, Object... uriVariables) {
-        HttpEntity<?> entity = wrapViewAware(viewClass, resources);
-        ResponseEntity<Void> response = restTemplate.exchange(url, HttpMethod.PUT, entity, Void.class, uriVariables);
+        ResponseEntity<Void> response = exchangeWithFallback(mediaType -> restTemplate.exchange(url, HttpMethod.PUT,
+                wrapViewAware(viewClass, resources, createHeaders(mediaType, true)), Void.class, uriVariables));
         if (response.getStatusCode() != HttpStatus.OK) {
             throw createHttpException(url, "put", response.getStatusCode());
         }
     }
 
-    private <T extends Attributes> HttpEntity<?> wrapViewAware(Class<?> viewClass, List<Resource<T>> resources) {
+    @Override
+    public boolean patchAll(String url, List<?> patches, Object... uriVariables) {
+        return exchangeIfSupported(url, HttpMethod.PATCH, patches, uriVariables);
+    }
+
+    @Override
+    public boolean updateSvColumns(String url, ColumnarSvAttributes columns, Object... uriVariables) {
+        return exchangeIfSupported(url, HttpMethod.PUT, columns, uriVariables);
+    }
+
+    /**
+     * @return false if the server does not support the request, answering not found or method not allowed
+     */
+    private boolean exchangeIfSupported(String url, HttpMethod method, Object body, Object... uriVariables) {
+        ResponseEntity<Void> response;
+        try {
+            response = exchangeWithFallback(mediaType -> restTemplate.exchange(url, method,
+                    new HttpEntity<>(body, createHeaders(mediaType, true)), Void.class, uriVariables));
+        } catch (HttpClientErrorException.MethodNotAllowed e) {
+            // the url is exposed for other methods only
+            return false;
+        }
+        if (response.getStatusCode() == HttpStatus.NOT_FOUND) {
+            return false;
+        } else if (response.getStatusCode() != HttpStatus.OK) {
+            throw createHttpException(url, method.name().toLowerCase(Locale.ROOT), response.getStatusCode());
+        }
+        return true;
+    }
+
+    private static <T extends Attributes> HttpEntity<?> wrapViewAware(Class<?> viewClass, List<Resource<T>> resources, HttpHeaders headers) {
         MappingJacksonValue jacksonValue = new MappingJacksonValue(resources);
         jacksonValue.setSerializationView(viewClass);
-        return new HttpEntity<>(jacksonValue);
+        return new HttpEntity<>(jacksonValue, headers);
     }
 
     @Override
     public <E> E get(String url, ParameterizedTypeReference<E> responseType, Object... uriVariables) {
-        ResponseEntity<E> response = restTemplate.exchange(url, HttpMethod.GET, null, responseType, uriVariables);
+        ResponseEntity<E> response = exchangeWithFallback(mediaType -> restTemplate.exchange(url, HttpMethod.GET,
+                new HttpEntity<>(createHeaders(mediaType, false)), responseType, uriVariables));
         if (response.getStatusCode() != HttpStatus.OK) {
             throw createHttpException(url, "get", response.getStatusCode());
         }
         return response.getBody();
     }
 
+    @Override
+    public <E> Optional<E> find(String url, ParameterizedTypeReference<E> responseType, Object... uriVariables) {
+        ResponseEntity<E> response = exchangeWithFallback(mediaType -> restTemplate.exchange(url, HttpMethod.GET,
+                new HttpEntity<>(createHeaders(mediaType, false)), responseType, uriVariables));
+        if (response.getStatusCode() == HttpStatus.NOT_FOUND) {
+            return Optional.empty();
+        } else if (response.getStatusCode() != HttpStatus.OK) {
+            throw createHttpException(url, "get", response.getStatusCode());
+        }
+        return Optional.ofNullable(response.getBody());
+    }
+
     @Override
     public void put(String url, Object... uriVariables) {
         ResponseEntity<Void> response = restTemplate.exchange(url, HttpMethod.PUT, null, Void.class, uriVariables);
@@ -214,6 +513,15 @@ public class RestClientImpl implements RestClient {
         }
     }
 
+    @Override
+    public void put(IdempotencyKey idempotencyKey, String url, Object... uriVariables) {
+        ResponseEntity<Void> response = restTemplate.exchange(url, HttpMethod.PUT,
+                new HttpEntity<>(withIdempotencyKey(new HttpHeaders(), idempotencyKey)), Void.class, uriVariables);
+        if (response.getStatusCode() != HttpStatus.OK) {
+            throw createHttpException(url, "put", response.getStatusCode());
+        }
+    }
+
     @Override
     public void post(String url, Object... uriVariables) {
         ResponseEntity<Void> response = restTemplate.exchange(url, HttpMethod.POST, null, Void.class, uriVariables);
@@ -222,6 +530,15 @@ public class RestClientImpl implements RestClient {
         }
     }
 
+    @Override
+    public void post(IdempotencyKey idempotencyKey, String url, Object... uriVariables) {
+        ResponseEntity<Void> response = restTemplate.exchange(url, HttpMethod.POST,
+                new HttpEntity<>(withIdempotencyKey(new HttpHeaders(), idempotencyKey)), Void.class, uriVariables);
+        if (response.getStatusCode() != HttpStatus.OK) {
+            throw createHttpException(url, "post", response.getStatusCode());
+        }
+    }
+
     @Override
     public void delete(String url, Object... uriVariables) {
         ResponseEntity<Void> response = restTemplate.exchange(url, HttpMethod.DELETE, null, Void.class, uriVariables);
@@ -232,8 +549,8 @@ public class RestClientImpl implements RestClient {
 
     @Override
     public <T> void deleteAll(String url, T body, Object... uriVariables) {
-        HttpEntity<T> requestEntity = new HttpEntity<>(body);
-        ResponseEntity<Void> response = restTemplate.exchange(url, HttpMethod.DELETE, requestEntity, Void.class, uriVariables);
+        ResponseEntity<Void> response = exchangeWithFallback(mediaType -> restTemplate.exchange(url, HttpMethod.DELETE,
+                new HttpEntity<>(body, createHeaders(mediaType, true)), Void.class, uriVariables));
         if (response.getStatusCode() != HttpStatus.OK) {
             throw createHttpException(url, "delete", response.getStatusCode());
         }
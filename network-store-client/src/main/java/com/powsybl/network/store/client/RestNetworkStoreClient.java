@@ -12,21 +12,31 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.google.common.base.Stopwatch;
-import com.google.common.collect.Iterables;
-import com.google.common.collect.Lists;
 import com.powsybl.commons.PowsyblException;
+import com.powsybl.network.store.client.util.ExecutorUtil;
 import com.powsybl.network.store.iidm.impl.NetworkStoreClient;
+import com.powsybl.network.store.iidm.impl.RevisionedResources;
 import com.powsybl.network.store.model.*;
+import com.powsybl.network.store.model.svattributes.ColumnarSvAttributes;
+import com.powsybl.network.store.model.utils.AttributesProjector;
+import io.micrometer.core.instrument.Metrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -37,12 +47,12 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(RestNetworkStoreClient.class);
 
-    private static final int RESOURCES_CREATION_CHUNK_SIZE = 1000;
     public static final String STR_RETRYING = "Retrying...";
     private static final String STR_NETWORK = "network";
     private static final String URL_NETWORK_UUID = "/networks/{networkUuid}";
     private static final String STR_SUBSTATION = "substation";
     private static final String STR_VOLTAGE_LEVEL = "voltage level";
+    private static final String STR_VOLTAGE_LEVEL_CONTENT = "voltage level content";
     private static final String STR_BUSBAR_SECTION = "busbar section";
     private static final String STR_SWITCH = "switch";
     private static final String STR_GENERATOR = "generator";
@@ -60,43 +70,168 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
     private static final String STR_GROUND = "ground";
     private static final String STR_OPERATIONAL_LIMITS_GROUP = "operational limits group";
     private static final String STR_EXTENSION = "extension";
+    private static final String STR_DELETE = "delete";
+    private static final String STR_IDENTIFIABLE = "identifiable";
+    private static final String STR_CLONE = "clone";
 
     private final RestClient restClient;
 
     private final ObjectMapper objectMapper;
 
+    /**
+     * Executor used to send partitions of a bulk request concurrently, null if partitions are sent sequentially.
+     */
+    private final ExecutorService partitionExecutor;
+
+    /**
+     * Maximum number of partitions of a single bulk request sent at the same time.
+     */
+    private final int partitionConcurrency;
+
+    private final ResourcePartitioner partitioner;
+
+    /**
+     * Merges identical read requests sent at the same time by several threads.
+     */
+    private final RequestCoalescer requestCoalescer;
+
+    private final RetryExecutor retryExecutor;
+
+    /**
+     * True if creations and clones are sent with an idempotency key, and so can be retried.
+     */
+    private final boolean idempotencyKeys;
+
+    private final FeatureSupport voltageLevelContentsSupport = new FeatureSupport("voltage level contents loading", "one request per resource type");
+
+    private final FeatureSupport identifiablesByIdsSupport = new FeatureSupport("identifiables loading by ids", "one request per identifiable");
+
+    private final FeatureSupport networkChangesSupport = new FeatureSupport("network changes tracking", "collections revalidation on refresh");
+
+    private final FeatureSupport filteredResourcesSupport = new FeatureSupport("loading resources with a subset attribute filter", "client side projection");
+
+    private final FeatureSupport containerOperationalLimitsGroupsSupport = new FeatureSupport("operational limits groups loading by container", "one request per branch side");
+
+    private final FeatureSupport extensionsByNamesSupport = new FeatureSupport("loading several extensions by names", "one request per extension name");
+
+    private final FeatureSupport patchSupport = new FeatureSupport("partial updates", "whole resource updates");
+
+    /**
+     * State variables updates by column, if enabled by configuration.
+     */
+    private final FeatureSupport svColumnsSupport;
+
+    /**
+     * Object mapper used to project loaded resources on a subset attribute filter when the server does not support it.
+     */
+    private final ObjectMapper projectionObjectMapper;
+
     public RestNetworkStoreClient(RestClient restClient) {
         this(restClient, new ObjectMapper());
     }
 
     public RestNetworkStoreClient(RestClient restClient, ObjectMapper objectMapper) {
+        this(restClient, objectMapper, null, new NetworkStoreConfig());
+    }
+
+    public RestNetworkStoreClient(RestClient restClient, ExecutorService partitionExecutor, NetworkStoreConfig config) {
+        this(restClient, new ObjectMapper(), partitionExecutor, config);
+    }
+
+    public RestNetworkStoreClient(RestClient restClient, ObjectMapper objectMapper, ExecutorService partitionExecutor, NetworkStoreConfig config) {
+        this(restClient, objectMapper, partitionExecutor, config, new ExponentialBackoffRetryPolicy(config));
+    }
+
+    /**
+     * @param partitionExecutor executor used to send partitions concurrently, may be null if the partition concurrency
+     *                          of the config is 1
+     * @param config bulk request partitioning parameters (concurrency, max partition bytes and size) and use of
+     *               idempotency keys
+     * @param retryPolicy policy applied to failed write requests which can safely be replayed
+     */
+    public RestNetworkStoreClient(RestClient restClient, ObjectMapper objectMapper, ExecutorService partitionExecutor, NetworkStoreConfig config,
+                                  RetryPolicy retryPolicy) {
         this.restClient = Objects.requireNonNull(restClient);
         this.objectMapper = Objects.requireNonNull(objectMapper);
+        Objects.requireNonNull(config);
+        if (config.getPartitionConcurrency() > 1) {
+            Objects.requireNonNull(partitionExecutor);
+        }
+        this.partitionExecutor = partitionExecutor;
+        this.partitionConcurrency = config.getPartitionConcurrency();
         objectMapper.registerModule(new JavaTimeModule())
             .configure(SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS, false)
             .configure(DeserializationFeature.READ_DATE_TIMESTAMPS_AS_NANOSECONDS, false);
-
+        this.partitioner = new ResourcePartitioner(objectMapper, config.getMaxPartitionBytes(), config.getMaxPartitionSize(), Metrics.globalRegistry);
+        // views are hierarchical, see AttributeFilter.JsonViews
+        this.projectionObjectMapper = AttributesProjector.createObjectMapper(objectMapper);
+        this.retryExecutor = new RetryExecutor(retryPolicy, Metrics.globalRegistry);
+        this.requestCoalescer = new RequestCoalescer(Metrics.globalRegistry);
+        this.idempotencyKeys = config.isIdempotencyKeys();
+        this.svColumnsSupport = new FeatureSupport("state variables updates by column", "updates by resource", config.isSvColumns());
+    }
+
+    /**
+     * @return a new key for a creation or clone request, null if keys are disabled and the request must not be retried
+     */
+    private IdempotencyKey createIdempotencyKey() {
+        return idempotencyKeys ? IdempotencyKey.random() : null;
+    }
+
+    /**
+     * Send the partitions of a bulk request. Without concurrency, partitions are sent in order and the first failure
+     * stops the request. Otherwise up to partitionConcurrency partitions are sent at the same time, all partitions
+     * are tried and failures are reported together once all of them have been sent.
+     * In both cases the method returns only when all partitions have been sent, so requests of a flush are still
+     * issued in the order of the calls (removals before creations before updates).
+     */
+    private <P> void sendPartitions(String target, List<P> partitions, Consumer<P> partitionSender) {
+        if (partitionConcurrency == 1 || partitions.size() <= 1) {
+            partitions.forEach(partitionSender);
+            return;
+        }
+        AtomicInteger nextPartitionIndex = new AtomicInteger();
+        Queue<RuntimeException> failures = new ConcurrentLinkedQueue<>();
+        Runnable worker = () -> {
+            int partitionIndex;
+            while ((partitionIndex = nextPartitionIndex.getAndIncrement()) < partitions.size()) {
+                try {
+                    partitionSender.accept(partitions.get(partitionIndex));
+                } catch (RuntimeException e) {
+                    failures.add(e);
+                }
+            }
+        };
+        int workerCount = Math.min(partitionConcurrency, partitions.size());
+        List<Future<?>> futures = new ArrayList<>(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            futures.add(partitionExecutor.submit(worker));
+        }
+        ExecutorUtil.waitAllFutures(futures);
+        if (failures.size() == 1) {
+            throw failures.peek();
+        } else if (!failures.isEmpty()) {
+            PowsyblException e = new PowsyblException(failures.size() + " of " + partitions.size() + " " + target + " partitions failed");
+            failures.forEach(e::addSuppressed);
+            throw e;
+        }
     }
 
     // network
 
     private <T extends IdentifiableAttributes> void create(String target, String url, List<Resource<T>> resourceList, Object... uriVariables) {
-        for (List<Resource<T>> resourcePartition : Lists.partition(resourceList, RESOURCES_CREATION_CHUNK_SIZE)) {
+        sendPartitions(target, partitioner.partition(target, "create", resourceList, null), resourcePartition -> {
             if (LOGGER.isInfoEnabled()) {
                 LOGGER.info("Creating {} {} resources ({})...", resourcePartition.size(), target, UriComponentsBuilder.fromUriString(url).buildAndExpand(uriVariables));
             }
             Stopwatch stopwatch = Stopwatch.createStarted();
-            try {
-                restClient.createAll(url, resourcePartition, uriVariables);
-            } catch (ResourceAccessException e) {
-                LOGGER.error(e.toString(), e);
-                // retry only one time
-                LOGGER.info(STR_RETRYING);
-                restClient.createAll(url, resourcePartition, uriVariables);
-            }
+            // same key for all the attempts, so that the server ignores a replay of a creation it has already done
+            IdempotencyKey idempotencyKey = createIdempotencyKey();
+            retryExecutor.execute(target, "create", idempotencyKey != null,
+                () -> restClient.createAll(idempotencyKey, url, resourcePartition, uriVariables));
             stopwatch.stop();
             LOGGER.info("{} {} resources created in {} ms", resourcePartition.size(), target, stopwatch.elapsed(TimeUnit.MILLISECONDS));
-        }
+        });
     }
 
     private <T extends IdentifiableAttributes> List<Resource<T>> getAll(String target, String url, Object... uriVariables) {
@@ -104,18 +239,69 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
             LOGGER.info("Loading {} resources {}", target, UriComponentsBuilder.fromUriString(url).buildAndExpand(uriVariables));
         }
         Stopwatch stopwatch = Stopwatch.createStarted();
-        List<Resource<T>> resourceList = restClient.getAll(target, url, uriVariables);
+        List<Resource<T>> resourceList = requestCoalescer.execute(target, url, uriVariables, () -> restClient.getAll(target, url, uriVariables));
         stopwatch.stop();
         LOGGER.info("{} {} resources loaded in {} ms", resourceList.size(), target, stopwatch.elapsed(TimeUnit.MILLISECONDS));
         return resourceList;
     }
 
+    /**
+     * @return the resources, or an empty optional if the server does not expose the url (not found or method not
+     * allowed)
+     */
+    private <T extends IdentifiableAttributes> Optional<List<Resource<T>>> findAll(String target, HttpMethod method, String url, Object body, Object... uriVariables) {
+        if (LOGGER.isInfoEnabled()) {
+            LOGGER.info("Loading {} resources {}", target, UriComponentsBuilder.fromUriString(url).buildAndExpand(uriVariables));
+        }
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        Optional<List<Resource<T>>> resourceList;
+        try {
+            resourceList = body == null && HttpMethod.GET.equals(method)
+                    ? requestCoalescer.execute(target, url, uriVariables, () -> restClient.findAll(target, method, url, null, uriVariables))
+                    : restClient.findAll(target, method, url, body, uriVariables);
+        } catch (HttpClientErrorException e) {
+            if (e.getStatusCode() != HttpStatus.METHOD_NOT_ALLOWED) {
+                throw e;
+            }
+            resourceList = Optional.empty();
+        }
+        stopwatch.stop();
+        LOGGER.info("{} {} resources (found={}) loaded in {} ms", resourceList.map(List::size).orElse(0), target, resourceList.isPresent(),
+                stopwatch.elapsed(TimeUnit.MILLISECONDS));
+        return resourceList;
+    }
+
+    /**
+     * @return the response, or an empty optional if not found or if the server does not expose the url (method not
+     * allowed)
+     */
+    private <E> Optional<E> find(String url, ParameterizedTypeReference<E> responseType, Object... uriVariables) {
+        try {
+            return restClient.find(url, responseType, uriVariables);
+        } catch (HttpClientErrorException e) {
+            if (e.getStatusCode() != HttpStatus.METHOD_NOT_ALLOWED) {
+                throw e;
+            }
+            return Optional.empty();
+        }
+    }
+
+    private <T extends IdentifiableAttributes> void streamAll(String target, String url, Consumer<Resource<T>> consumer, Object... uriVariables) {
+        if (LOGGER.isInfoEnabled()) {
+            LOGGER.info("Loading {} resources {}", target, UriComponentsBuilder.fromUriString(url).buildAndExpand(uriVariables));
+        }
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        int resourceCount = restClient.streamAll(target, url, consumer, uriVariables);
+        stopwatch.stop();
+        LOGGER.info("{} {} resources loaded in {} ms", resourceCount, target, stopwatch.elapsed(TimeUnit.MILLISECONDS));
+    }
+
     private <T extends IdentifiableAttributes> Optional<Resource<T>> get(String target, String url, Object... uriVariables) {
         if (LOGGER.isInfoEnabled()) {
             LOGGER.info("Loading {} resource {}", target, UriComponentsBuilder.fromUriString(url).buildAndExpand(uriVariables));
         }
         Stopwatch stopwatch = Stopwatch.createStarted();
-        Optional<Resource<T>> resource = restClient.getOne(target, url, uriVariables);
+        Optional<Resource<T>> resource = requestCoalescer.execute(target, url, uriVariables, () -> restClient.getOne(target, url, uriVariables));
         stopwatch.stop();
         LOGGER.info("{} resource (empty={}) loaded in {} ms", target, resource.isEmpty(), stopwatch.elapsed(TimeUnit.MILLISECONDS));
         return resource;
@@ -124,7 +310,8 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
     private Optional<ExtensionAttributes> getExtensionAttributes(String urlTemplate, Object... uriVariables) {
         logGetExtensionAttributesUrl(urlTemplate, uriVariables);
         Stopwatch stopwatch = Stopwatch.createStarted();
-        Optional<ExtensionAttributes> rawExtensionAttributes = restClient.getOneExtensionAttributes(urlTemplate, uriVariables);
+        Optional<ExtensionAttributes> rawExtensionAttributes = requestCoalescer.execute(STR_EXTENSION, urlTemplate, uriVariables,
+            () -> restClient.getOneExtensionAttributes(urlTemplate, uriVariables));
         boolean wasFiltered = rawExtensionAttributes.filter(RawExtensionAttributes.class::isInstance).isPresent();
         Optional<ExtensionAttributes> filteredExtensionAttributes = rawExtensionAttributes.filter(attr -> !(attr instanceof RawExtensionAttributes));
         stopwatch.stop();
@@ -136,7 +323,8 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
     private Map<String, ExtensionAttributes> getExtensionAttributesMap(String urlTemplate, Object... uriVariables) {
         logGetExtensionAttributesUrl(urlTemplate, uriVariables);
         Stopwatch stopwatch = Stopwatch.createStarted();
-        Map<String, ExtensionAttributes> rawExtensionAttributes = restClient.get(urlTemplate, new ParameterizedTypeReference<>() { }, uriVariables);
+        Map<String, ExtensionAttributes> rawExtensionAttributes = requestCoalescer.execute(STR_EXTENSION, urlTemplate, uriVariables,
+            () -> restClient.get(urlTemplate, new ParameterizedTypeReference<Map<String, ExtensionAttributes>>() { }, uriVariables));
         Map<String, ExtensionAttributes> filteredExtensionAttributes = filterRawExtensionAttributes(rawExtensionAttributes);
         int filteredCount = rawExtensionAttributes.size() - filteredExtensionAttributes.size();
 
@@ -149,7 +337,21 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
     private Map<String, Map<String, ExtensionAttributes>> getExtensionAttributesNestedMap(String urlTemplate, Object... uriVariables) {
         logGetExtensionAttributesUrl(urlTemplate, uriVariables);
         Stopwatch stopwatch = Stopwatch.createStarted();
-        Map<String, Map<String, ExtensionAttributes>> rawExtensionAttributes = restClient.get(urlTemplate, new ParameterizedTypeReference<>() { }, uriVariables);
+        Map<String, Map<String, ExtensionAttributes>> rawExtensionAttributes = requestCoalescer.execute(STR_EXTENSION, urlTemplate, uriVariables,
+            () -> restClient.get(urlTemplate, new ParameterizedTypeReference<Map<String, Map<String, ExtensionAttributes>>>() { }, uriVariables));
+        return filterRawExtensionAttributesNestedMap(rawExtensionAttributes, stopwatch);
+    }
+
+    private Optional<Map<String, Map<String, ExtensionAttributes>>> findExtensionAttributesNestedMap(String urlTemplate, Object... uriVariables) {
+        logGetExtensionAttributesUrl(urlTemplate, uriVariables);
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        Optional<Map<String, Map<String, ExtensionAttributes>>> rawExtensionAttributes = requestCoalescer.execute(STR_EXTENSION, urlTemplate, uriVariables,
+            () -> find(urlTemplate, new ParameterizedTypeReference<Map<String, Map<String, ExtensionAttributes>>>() { }, uriVariables));
+        return rawExtensionAttributes.map(attributes -> filterRawExtensionAttributesNestedMap(attributes, stopwatch));
+    }
+
+    private static Map<String, Map<String, ExtensionAttributes>> filterRawExtensionAttributesNestedMap(Map<String, Map<String, ExtensionAttributes>> rawExtensionAttributes,
+                                                                                                     Stopwatch stopwatch) {
         Map<String, Map<String, ExtensionAttributes>> filteredExtensionAttributes = new HashMap<>();
         long filteredAttributesCount = 0;
         for (Map.Entry<String, Map<String, ExtensionAttributes>> entry : rawExtensionAttributes.entrySet()) {
@@ -175,7 +377,8 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
     private Optional<OperationalLimitsGroupAttributes> getOperationalLimitsGroupAttributes(String urlTemplate, Object... uriVariables) {
         logGetOperationalLimitsGroupAttributesUrl(urlTemplate, uriVariables);
         Stopwatch stopwatch = Stopwatch.createStarted();
-        Optional<OperationalLimitsGroupAttributes> operationalLimitsGroupAttributes = restClient.getOneOperationalLimitsGroupAttributes(urlTemplate, uriVariables);
+        Optional<OperationalLimitsGroupAttributes> operationalLimitsGroupAttributes = requestCoalescer.execute(STR_OPERATIONAL_LIMITS_GROUP, urlTemplate, uriVariables,
+            () -> restClient.getOneOperationalLimitsGroupAttributes(urlTemplate, uriVariables));
         stopwatch.stop();
         logGetOperationalLimitsGroupAttributesTime(operationalLimitsGroupAttributes.isPresent() ? 1 : 0, stopwatch.elapsed(TimeUnit.MILLISECONDS));
 
@@ -185,7 +388,8 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
     private List<OperationalLimitsGroupAttributes> getOperationalLimitsGroupAttributesForBranch(String urlTemplate, Object... uriVariables) {
         logGetOperationalLimitsGroupAttributesUrl(urlTemplate, uriVariables);
         Stopwatch stopwatch = Stopwatch.createStarted();
-        List<OperationalLimitsGroupAttributes> operationalLimitsGroupAttributesList = restClient.get(urlTemplate, new ParameterizedTypeReference<>() { }, uriVariables);
+        List<OperationalLimitsGroupAttributes> operationalLimitsGroupAttributesList = requestCoalescer.execute(STR_OPERATIONAL_LIMITS_GROUP, urlTemplate, uriVariables,
+            () -> restClient.get(urlTemplate, new ParameterizedTypeReference<List<OperationalLimitsGroupAttributes>>() { }, uriVariables));
         stopwatch.stop();
         logGetOperationalLimitsGroupAttributesTime(operationalLimitsGroupAttributesList.size(), stopwatch.elapsed(TimeUnit.MILLISECONDS));
 
@@ -195,7 +399,8 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
     private Map<String, Map<Integer, Map<String, OperationalLimitsGroupAttributes>>> getOperationalLimitsGroupAttributesNestedMap(String urlTemplate, Object... uriVariables) {
         logGetOperationalLimitsGroupAttributesUrl(urlTemplate, uriVariables);
         Stopwatch stopwatch = Stopwatch.createStarted();
-        Map<String, Map<Integer, Map<String, OperationalLimitsGroupAttributes>>> operationalLimitsGroupAttributes = restClient.get(urlTemplate, new ParameterizedTypeReference<>() { }, uriVariables);
+        Map<String, Map<Integer, Map<String, OperationalLimitsGroupAttributes>>> operationalLimitsGroupAttributes = requestCoalescer.execute(STR_OPERATIONAL_LIMITS_GROUP, urlTemplate, uriVariables,
+            () -> restClient.get(urlTemplate, new ParameterizedTypeReference<Map<String, Map<Integer, Map<String, OperationalLimitsGroupAttributes>>>>() { }, uriVariables));
         stopwatch.stop();
         AtomicLong loadedAttributesCount = new AtomicLong();
         operationalLimitsGroupAttributes.values().forEach(map1 ->
@@ -219,6 +424,22 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
         }
     }
 
+    private Optional<Map<String, Map<Integer, Map<String, OperationalLimitsGroupAttributes>>>> findOperationalLimitsGroupAttributesNestedMap(String urlTemplate, Object... uriVariables) {
+        logGetOperationalLimitsGroupAttributesUrl(urlTemplate, uriVariables);
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        Optional<Map<String, Map<Integer, Map<String, OperationalLimitsGroupAttributes>>>> operationalLimitsGroupAttributes = requestCoalescer.execute(STR_OPERATIONAL_LIMITS_GROUP, urlTemplate, uriVariables,
+            () -> find(urlTemplate, new ParameterizedTypeReference<Map<String, Map<Integer, Map<String, OperationalLimitsGroupAttributes>>>>() { }, uriVariables));
+        stopwatch.stop();
+        operationalLimitsGroupAttributes.ifPresent(attributes -> {
+            long loadedAttributesCount = attributes.values().stream()
+                .flatMap(groupsBySide -> groupsBySide.values().stream())
+                .mapToLong(Map::size)
+                .sum();
+            logGetOperationalLimitsGroupAttributesTime(loadedAttributesCount, stopwatch.elapsed(TimeUnit.MILLISECONDS));
+        });
+        return operationalLimitsGroupAttributes;
+    }
+
     private static void logGetOperationalLimitsGroupAttributesUrl(String urlTemplate, Object... uriVariables) {
         if (LOGGER.isInfoEnabled()) {
             LOGGER.info("Loading operational limits group attributes {}", UriComponentsBuilder.fromUriString(urlTemplate).build(uriVariables));
@@ -266,49 +487,86 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
         }
     }
 
-    private <T extends IdentifiableAttributes> void updateAll(String target, String url, List<Resource<T>> resources, AttributeFilter attributeFilter, Object... uriVariables) {
-        for (List<Resource<T>> resourcePartition : Lists.partition(resources, RESOURCES_CREATION_CHUNK_SIZE)) {
+    private <T extends IdentifiableAttributes> void updateAll(String target, String url, List<Resource<T>> resources, AttributeFilter attributeFilter, UUID networkUuid) {
+        if (attributeFilter == AttributeFilter.SV && !resources.isEmpty() && ColumnarSvAttributes.isSupported(resources.get(0).getType())) {
+            svColumnsSupport.execute(() -> updateSvColumns(target, networkUuid, resources),
+                () -> updateByResource(target, url, resources, attributeFilter, networkUuid));
+        } else {
+            updateByResource(target, url, resources, attributeFilter, networkUuid);
+        }
+    }
+
+    private <T extends IdentifiableAttributes> void updateByResource(String target, String url, List<Resource<T>> resources, AttributeFilter attributeFilter, UUID networkUuid) {
+        Object[] uriVariables = {networkUuid};
+        sendPartitions(target, partitioner.partition(target, "update", resources, AttributeFilter.getViewClass(attributeFilter)), resourcePartition -> {
             Stopwatch stopwatch = Stopwatch.createStarted();
-            try {
-                updatePartition(target, url, attributeFilter, resourcePartition, uriVariables);
-            } catch (ResourceAccessException e) {
-                LOGGER.error(e.toString(), e);
-                // retry only one time
-                LOGGER.info(STR_RETRYING);
-                updatePartition(target, url, attributeFilter, resourcePartition, uriVariables);
-            }
+            retryExecutor.execute(target, "update", true, () -> updatePartition(target, url, attributeFilter, resourcePartition, uriVariables));
             stopwatch.stop();
             if (LOGGER.isInfoEnabled()) {
                 LOGGER.info("{} {}{} resources updated in {} ms", resourcePartition.size(), target,
                         AttributeFilter.getLabelFromView(AttributeFilter.getViewClass(attributeFilter)), stopwatch.elapsed(TimeUnit.MILLISECONDS));
             }
+        });
+    }
+
+    /**
+     * Send the state variables of resources by column, one request per variant and partition.
+     * @return false if the server does not support it, the resources then having to be sent the usual way
+     */
+    private <T extends IdentifiableAttributes> boolean updateSvColumns(String target, UUID networkUuid, List<Resource<T>> resources) {
+        ResourceType resourceType = resources.get(0).getType();
+        String url = getCollectionEndpoint(resourceType).url() + "/sv/columns";
+        Map<Integer, List<Resource<T>>> resourcesByVariantNum = resources.stream()
+                .collect(Collectors.groupingBy(Resource::getVariantNum, LinkedHashMap::new, Collectors.toList()));
+        AtomicBoolean supported = new AtomicBoolean(true);
+        for (var e : resourcesByVariantNum.entrySet()) {
+            int variantNum = e.getKey();
+            sendPartitions(target, partitioner.partition(target, "update", e.getValue(), AttributeFilter.getViewClass(AttributeFilter.SV)), resourcePartition -> {
+                if (!supported.get()) {
+                    return;
+                }
+                Stopwatch stopwatch = Stopwatch.createStarted();
+                ColumnarSvAttributes columns = ColumnarSvAttributes.of(resourceType, variantNum, resourcePartition);
+                retryExecutor.execute(target, "update", true, () -> {
+                    if (!restClient.updateSvColumns(url, columns, networkUuid, variantNum)) {
+                        supported.set(false);
+                    }
+                });
+                stopwatch.stop();
+                if (supported.get()) {
+                    LOGGER.info("{} {} resources state variables updated by column in {} ms", resourcePartition.size(), target, stopwatch.elapsed(TimeUnit.MILLISECONDS));
+                }
+            });
+            if (!supported.get()) {
+                return false;
+            }
         }
+        return true;
     }
 
     private void removeAll(String target, String url, UUID networkUuid, int variantNum, List<String> ids) {
-        for (List<String> idsPartition : Lists.partition(ids, RESOURCES_CREATION_CHUNK_SIZE)) {
-            removePartition(idsPartition, idsPartition.size(), url, target, networkUuid, variantNum);
-        }
+        sendPartitions(target, partitioner.partition(target, STR_DELETE, ids, null),
+            idsPartition -> removePartition(idsPartition, idsPartition.size(), url, target, networkUuid, variantNum));
     }
 
     @Override
     public void removeOperationalLimitsGroupAttributes(UUID networkUuid, int variantNum, ResourceType resourceType, Map<String, Map<Integer, Set<String>>> operationalLimitsGroupsToDelete) {
         String url = "/networks/{networkUuid}/{variantNum}/branch/types/{resourceType}/operationalLimitsGroup";
-        for (List<Map.Entry<String, Map<Integer, Set<String>>>> partitionEntries : Iterables.partition(operationalLimitsGroupsToDelete.entrySet(), RESOURCES_CREATION_CHUNK_SIZE)) {
+        sendPartitions(STR_OPERATIONAL_LIMITS_GROUP, partitioner.partition(STR_OPERATIONAL_LIMITS_GROUP, STR_DELETE, new ArrayList<>(operationalLimitsGroupsToDelete.entrySet()), null), partitionEntries -> {
             Map<String, Map<Integer, Set<String>>> partitionMap = partitionEntries.stream()
                     .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
             removePartition(partitionMap, partitionMap.size(), url, STR_OPERATIONAL_LIMITS_GROUP, networkUuid, variantNum, resourceType);
-        }
+        });
     }
 
     @Override
     public void removeExtensionsAttributes(UUID networkUuid, int variantNum, ResourceType resourceType, Map<String, Set<String>> extensionsByIdentifiableId) {
         String url = "/networks/{networkUuid}/{variantNum}/identifiables/extensions";
-        for (List<Map.Entry<String, Set<String>>> partitionEntries : Iterables.partition(extensionsByIdentifiableId.entrySet(), RESOURCES_CREATION_CHUNK_SIZE)) {
+        sendPartitions(STR_EXTENSION, partitioner.partition(STR_EXTENSION, STR_DELETE, new ArrayList<>(extensionsByIdentifiableId.entrySet()), null), partitionEntries -> {
             Map<String, Set<String>> partitionMap = partitionEntries.stream()
                     .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
             removePartition(partitionMap, partitionMap.size(), url, STR_EXTENSION, networkUuid, variantNum);
-        }
+        });
     }
 
     private <T> void removePartition(T partition, int size, String url, String target, Object... uriVariables) {
@@ -316,14 +574,7 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
             LOGGER.info("Deleting {} {} resources ({})...", size, target, UriComponentsBuilder.fromUriString(url).buildAndExpand(uriVariables));
         }
         Stopwatch stopwatch = Stopwatch.createStarted();
-        try {
-            restClient.deleteAll(url, partition, uriVariables);
-        } catch (ResourceAccessException e) {
-            LOGGER.error(e.toString(), e);
-            // retry only one time
-            LOGGER.info(STR_RETRYING);
-            restClient.deleteAll(url, partition, uriVariables);
-        }
+        retryExecutor.execute(target, STR_DELETE, true, () -> restClient.deleteAll(url, partition, uriVariables));
         stopwatch.stop();
         if (LOGGER.isInfoEnabled()) {
             LOGGER.info("{} {} resources deleted in {} ms", size, target, stopwatch.elapsed(TimeUnit.MILLISECONDS));
@@ -374,16 +625,20 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
     @Override
     public void cloneNetwork(UUID networkUuid, int sourceVariantNum, int targetVariantNum, String targetVariantId) {
         LOGGER.info("Cloning network {} variant {} to variant {} (variantId='{}')", networkUuid, sourceVariantNum, targetVariantNum, targetVariantId);
-        restClient.put("/networks/{networkUuid}/{sourceVariantNum}/to/{targetVariantNum}?targetVariantId={targetVariantId}",
-                networkUuid, sourceVariantNum, targetVariantNum, targetVariantId);
+        IdempotencyKey idempotencyKey = createIdempotencyKey();
+        retryExecutor.execute(STR_NETWORK, STR_CLONE, idempotencyKey != null,
+            () -> restClient.put(idempotencyKey, "/networks/{networkUuid}/{sourceVariantNum}/to/{targetVariantNum}?targetVariantId={targetVariantId}",
+                    networkUuid, sourceVariantNum, targetVariantNum, targetVariantId));
     }
 
     @Override
     public void cloneNetwork(UUID networkUuid, String sourceVariantId, String targetVariantId, boolean mayOverwrite) {
         LOGGER.info("Cloning network {} variantId {} to variantId {}", networkUuid, sourceVariantId, targetVariantId);
+        IdempotencyKey idempotencyKey = createIdempotencyKey();
         try {
-            restClient.put("/networks/{networkUuid}/{sourceVariantId}/toId/{targetVariantId}?mayOverwrite={mayOverwrite}",
-                    networkUuid, sourceVariantId, targetVariantId, mayOverwrite);
+            retryExecutor.execute(STR_NETWORK, STR_CLONE, idempotencyKey != null,
+                () -> restClient.put(idempotencyKey, "/networks/{networkUuid}/{sourceVariantId}/toId/{targetVariantId}?mayOverwrite={mayOverwrite}",
+                        networkUuid, sourceVariantId, targetVariantId, mayOverwrite));
         } catch (HttpClientErrorException ex) {
             String body = ex.getResponseBodyAsString();
             Optional<TopLevelError> optError = RestTemplateResponseErrorHandler.parseJsonApiError(body, objectMapper);
@@ -406,7 +661,10 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
 
     public void cloneNetwork(UUID targetNetworkUuid, UUID sourceNetworkUuid, List<String> targetVariantIds) {
         LOGGER.info("Duplicating network {} into network {}", sourceNetworkUuid, targetNetworkUuid);
-        restClient.post("/networks/{targetNetworkUuid}?duplicateFrom={sourceNetworkId}&targetVariantIds={targetVariantIds}", targetNetworkUuid, sourceNetworkUuid, String.join(",", targetVariantIds));
+        IdempotencyKey idempotencyKey = createIdempotencyKey();
+        retryExecutor.execute(STR_NETWORK, STR_CLONE, idempotencyKey != null,
+            () -> restClient.post(idempotencyKey, "/networks/{targetNetworkUuid}?duplicateFrom={sourceNetworkId}&targetVariantIds={targetVariantIds}",
+                    targetNetworkUuid, sourceNetworkUuid, String.join(",", targetVariantIds)));
     }
     // substation
 
@@ -926,6 +1184,42 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
         return getAll("bus", "/networks/{networkUuid}/{variantNum}/voltage-levels/{voltageLevelId}/configured-buses", networkUuid, variantNum, voltageLevelId);
     }
 
+    /**
+     * All the types are loaded with a single request. If the server does not support it, the resources are loaded with
+     * one request per type, for this call and the following ones.
+     */
+    @Override
+    public Map<ResourceType, List<Resource<IdentifiableAttributes>>> getVoltageLevelContents(UUID networkUuid, int variantNum, String voltageLevelId,
+                                                                                            Set<ResourceType> resourceTypes) {
+        Map<ResourceType, List<Resource<IdentifiableAttributes>>> contents = new EnumMap<>(ResourceType.class);
+        for (ResourceType resourceType : resourceTypes) {
+            if (!VOLTAGE_LEVEL_CONTENT_TYPES.contains(resourceType)) {
+                throw new IllegalArgumentException(resourceType + " resources are not contained in a voltage level");
+            }
+            contents.put(resourceType, new ArrayList<>());
+        }
+        if (resourceTypes.isEmpty()) {
+            return contents;
+        }
+        return voltageLevelContentsSupport.execute(
+            () -> findAll(STR_VOLTAGE_LEVEL_CONTENT, HttpMethod.GET,
+                    "/networks/{networkUuid}/{variantNum}/voltage-levels/{voltageLevelId}/contents?resourceTypes={resourceTypes}",
+                    null, networkUuid, variantNum, voltageLevelId, resourceTypes.stream().map(ResourceType::name).collect(Collectors.joining(",")))
+                .map(resources -> {
+                    for (Resource<IdentifiableAttributes> resource : resources) {
+                        List<Resource<IdentifiableAttributes>> typeResources = contents.get(resource.getType());
+                        if (typeResources == null) {
+                            throw new PowsyblException("Unexpected " + resource.getType() + " resource " + resource.getId() + " in voltage level " + voltageLevelId + " contents");
+                        }
+                        typeResources.add(resource);
+                    }
+                    return contents;
+                }),
+            () -> getVoltageLevel(networkUuid, variantNum, voltageLevelId).isPresent(),
+            () -> contents,
+            () -> NetworkStoreClient.super.getVoltageLevelContents(networkUuid, variantNum, voltageLevelId, resourceTypes));
+    }
+
     @Override
     public Optional<Resource<ConfiguredBusAttributes>> getConfiguredBus(UUID networkUuid, int variantNum, String busId) {
         return get("bus", "/networks/{networkUuid}/{variantNum}/configured-buses/{busId}", networkUuid, variantNum, busId);
@@ -994,7 +1288,33 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
 
     @Override
     public Optional<Resource<IdentifiableAttributes>> getIdentifiable(UUID networkUuid, int variantNum, String id) {
-        return get("identifiable", "/networks/{networkUuid}/{variantNum}/identifiables/{id}", networkUuid, variantNum, id);
+        return get(STR_IDENTIFIABLE, "/networks/{networkUuid}/{variantNum}/identifiables/{id}", networkUuid, variantNum, id);
+    }
+
+    /**
+     * Ids are sent by partitions in the body of a request. If the server does not support it, the identifiables are
+     * loaded one by one, for this call and the following ones.
+     */
+    @Override
+    public List<Resource<IdentifiableAttributes>> getIdentifiables(UUID networkUuid, int variantNum, Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        if (!identifiablesByIdsSupport.isSupported()) {
+            return NetworkStoreClient.super.getIdentifiables(networkUuid, variantNum, ids);
+        }
+        Queue<Resource<IdentifiableAttributes>> resources = new ConcurrentLinkedQueue<>();
+        sendPartitions(STR_IDENTIFIABLE, partitioner.partition(STR_IDENTIFIABLE, "get", new ArrayList<>(ids), null),
+            idsPartition -> resources.addAll(getIdentifiablesPartition(networkUuid, variantNum, idsPartition)));
+        return new ArrayList<>(resources);
+    }
+
+    private List<Resource<IdentifiableAttributes>> getIdentifiablesPartition(UUID networkUuid, int variantNum, List<String> ids) {
+        return identifiablesByIdsSupport.execute(
+            () -> findAll(STR_IDENTIFIABLE, HttpMethod.POST, "/networks/{networkUuid}/{variantNum}/identifiables/by-ids", ids, networkUuid, variantNum),
+            () -> getNetwork(networkUuid, variantNum).isPresent(),
+            ArrayList::new,
+            () -> NetworkStoreClient.super.getIdentifiables(networkUuid, variantNum, ids));
     }
 
     @Override
@@ -1007,6 +1327,183 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
         return identifiablesIds;
     }
 
+    private record CollectionEndpoint(String target, String url) {
+    }
+
+    private static CollectionEndpoint getCollectionEndpoint(ResourceType resourceType) {
+        return switch (resourceType) {
+            case SUBSTATION -> new CollectionEndpoint(STR_SUBSTATION, "/networks/{networkUuid}/{variantNum}/substations");
+            case VOLTAGE_LEVEL -> new CollectionEndpoint(STR_VOLTAGE_LEVEL, "/networks/{networkUuid}/{variantNum}/voltage-levels");
+            case LOAD -> new CollectionEndpoint("load", "/networks/{networkUuid}/{variantNum}/loads");
+            case GENERATOR -> new CollectionEndpoint(STR_GENERATOR, "/networks/{networkUuid}/{variantNum}/generators");
+            case BATTERY -> new CollectionEndpoint(STR_BATTERY, "/networks/{networkUuid}/{variantNum}/batteries");
+            case SHUNT_COMPENSATOR -> new CollectionEndpoint(STR_SHUNT_COMPENSATOR, "/networks/{networkUuid}/{variantNum}/shunt-compensators");
+            case VSC_CONVERTER_STATION -> new CollectionEndpoint(STR_VSC_CONVERTER_STATION, "/networks/{networkUuid}/{variantNum}/vsc-converter-stations");
+            case LCC_CONVERTER_STATION -> new CollectionEndpoint(STR_LCC_CONVERTER_STATION, "/networks/{networkUuid}/{variantNum}/lcc-converter-stations");
+            case STATIC_VAR_COMPENSATOR -> new CollectionEndpoint(STR_STATIC_VAR_COMPENSATOR, "/networks/{networkUuid}/{variantNum}/static-var-compensators");
+            case BUSBAR_SECTION -> new CollectionEndpoint(STR_BUSBAR_SECTION, "/networks/{networkUuid}/{variantNum}/busbar-sections");
+            case SWITCH -> new CollectionEndpoint(STR_SWITCH, "/networks/{networkUuid}/{variantNum}/switches");
+            case TWO_WINDINGS_TRANSFORMER -> new CollectionEndpoint(STR_TWO_WINDINGS_TRANSFORMER, "/networks/{networkUuid}/{variantNum}/2-windings-transformers");
+            case THREE_WINDINGS_TRANSFORMER -> new CollectionEndpoint(STR_THREE_WINDINGS_TRANSFORMER, "/networks/{networkUuid}/{variantNum}/3-windings-transformers");
+            case LINE -> new CollectionEndpoint("line", "/networks/{networkUuid}/{variantNum}/lines");
+            case HVDC_LINE -> new CollectionEndpoint(STR_HVDC_LINE, "/networks/{networkUuid}/{variantNum}/hvdc-lines");
+            case BOUNDARY_LINE -> new CollectionEndpoint(STR_BOUNDARY_LINE, "/networks/{networkUuid}/{variantNum}/boundary-lines");
+            case GROUND -> new CollectionEndpoint(STR_GROUND, "/networks/{networkUuid}/{variantNum}/grounds");
+            case CONFIGURED_BUS -> new CollectionEndpoint("bus", "/networks/{networkUuid}/{variantNum}/configured-buses");
+            case TIE_LINE -> new CollectionEndpoint(STR_TIE_LINE, "/networks/{networkUuid}/{variantNum}/tie-lines");
+            case AREA -> new CollectionEndpoint(STR_AREA, "/networks/{networkUuid}/{variantNum}/areas");
+            case NETWORK -> throw new IllegalArgumentException("No collection endpoint for resource type " + resourceType);
+        };
+    }
+
+    @Override
+    public <T extends IdentifiableAttributes> void updateResourceAttributes(UUID networkUuid, Resource<T> resource, AttributeFilter attributeFilter,
+                                                                           Set<String> attributeNames) {
+        patchResources(networkUuid, List.of(new ResourceAttributesPatch<>(resource, attributeNames)), attributeFilter);
+    }
+
+    /**
+     * Send the modified attributes only of resources of the same type and variant, with the JSON merge patch semantics
+     * on the attributes. If the server does not support it, the whole resources are updated, for this call and the
+     * following ones.
+     */
+    public <T extends IdentifiableAttributes> void patchResources(UUID networkUuid, List<ResourceAttributesPatch<T>> patches, AttributeFilter attributeFilter) {
+        if (patches.isEmpty()) {
+            return;
+        }
+        ResourceType resourceType = patches.get(0).resource().getType();
+        Runnable updateWholeResources = () -> updateResources(networkUuid, resourceType, patches.stream().map(ResourceAttributesPatch::resource).toList(), attributeFilter);
+        if (resourceType == ResourceType.NETWORK) {
+            updateWholeResources.run();
+        } else {
+            patchSupport.execute(() -> sendPatches(networkUuid, resourceType, patches), updateWholeResources);
+        }
+    }
+
+    /**
+     * @return false if the server does not support partial updates
+     */
+    private <T extends IdentifiableAttributes> boolean sendPatches(UUID networkUuid, ResourceType resourceType, List<ResourceAttributesPatch<T>> patches) {
+        CollectionEndpoint endpoint = getCollectionEndpoint(resourceType);
+        int variantNum = patches.get(0).resource().getVariantNum();
+        List<Map<String, Object>> bodies = patches.stream().map(ResourceAttributesPatch::toBody).toList();
+        AtomicBoolean supported = new AtomicBoolean(true);
+        sendPartitions(endpoint.target(), partitioner.partition(endpoint.target(), "patch", bodies, null), bodiesPartition -> {
+            Stopwatch stopwatch = Stopwatch.createStarted();
+            retryExecutor.execute(endpoint.target(), "patch", true, () -> {
+                if (!restClient.patchAll(endpoint.url(), bodiesPartition, networkUuid, variantNum)) {
+                    supported.set(false);
+                }
+            });
+            stopwatch.stop();
+            LOGGER.info("{} {} resources patched in {} ms", bodiesPartition.size(), endpoint.target(), stopwatch.elapsed(TimeUnit.MILLISECONDS));
+        });
+        return supported.get();
+    }
+
+    @Override
+    public <T extends IdentifiableAttributes> void getAllResources(UUID networkUuid, int variantNum, ResourceType resourceType, Consumer<Resource<T>> consumer) {
+        if (resourceType == ResourceType.NETWORK) {
+            // a single network resource per variant, nothing to stream
+            NetworkStoreClient.super.getAllResources(networkUuid, variantNum, resourceType, consumer);
+        } else {
+            CollectionEndpoint endpoint = getCollectionEndpoint(resourceType);
+            streamAll(endpoint.target(), endpoint.url(), consumer, networkUuid, variantNum);
+        }
+    }
+
+    @Override
+    public <T extends IdentifiableAttributes> Optional<RevisionedResources<T>> getResourcesIfModified(UUID networkUuid, int variantNum, ResourceType resourceType, String revision) {
+        if (resourceType == ResourceType.NETWORK) {
+            return NetworkStoreClient.super.getResourcesIfModified(networkUuid, variantNum, resourceType, revision);
+        }
+        CollectionEndpoint endpoint = getCollectionEndpoint(resourceType);
+        if (LOGGER.isInfoEnabled()) {
+            LOGGER.info("Revalidating {} resources {} (revision {})", endpoint.target(),
+                UriComponentsBuilder.fromUriString(endpoint.url()).buildAndExpand(networkUuid, variantNum), revision);
+        }
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        Optional<RevisionedResources<T>> resources = restClient.getAllIfModified(endpoint.target(), endpoint.url(), revision, networkUuid, variantNum);
+        stopwatch.stop();
+        LOGGER.info("{} {} resources (modified={}) revalidated in {} ms", resources.map(r -> r.resources().size()).orElse(0), endpoint.target(),
+            resources.isPresent(), stopwatch.elapsed(TimeUnit.MILLISECONDS));
+        return resources;
+    }
+
+    /**
+     * With a subset filter, resources are loaded from the collection url with the filter suffix (for instance
+     * {@code /lines/sv}), the server setting the filter of each resource so that it is deserialized to the subset DTO.
+     * If the server does not support it, resources are fully loaded and projected on the filter on the client side.
+     * Resource types without subset DTO are fully loaded.
+     */
+    @Override
+    public List<Resource<Attributes>> getFilteredResources(UUID networkUuid, int variantNum, ResourceType resourceType, AttributeFilter attributeFilter) {
+        if (!AttributesProjector.hasSubsetAttributes(resourceType, attributeFilter)) {
+            return NetworkStoreClient.super.getFilteredResources(networkUuid, variantNum, resourceType, AttributeFilter.PRIMARY_AS_NULL);
+        }
+        String suffix = AttributeFilter.getUrlSuffix(attributeFilter);
+        CollectionEndpoint endpoint = getCollectionEndpoint(resourceType);
+        return filteredResourcesSupport.execute(
+            () -> findFilteredResources(endpoint, suffix, networkUuid, variantNum, attributeFilter),
+            () -> getNetwork(networkUuid, variantNum).isPresent(),
+            ArrayList::new,
+            () -> {
+                List<Resource<Attributes>> resources = new ArrayList<>();
+                streamAll(endpoint.target(), endpoint.url(), resource -> resources.add(AttributesProjector.project(resource, attributeFilter, projectionObjectMapper)), networkUuid, variantNum);
+                return resources;
+            });
+    }
+
+    private Optional<List<Resource<Attributes>>> findFilteredResources(CollectionEndpoint endpoint, String suffix, UUID networkUuid, int variantNum,
+                                                                       AttributeFilter attributeFilter) {
+        String url = endpoint.url() + suffix;
+        if (LOGGER.isInfoEnabled()) {
+            LOGGER.info("Loading {} resources {}", endpoint.target(), UriComponentsBuilder.fromUriString(url).buildAndExpand(networkUuid, variantNum));
+        }
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        Optional<AttributesTopLevelDocument> document = requestCoalescer.execute(endpoint.target(), url, new Object[] {networkUuid, variantNum},
+            () -> find(url, new ParameterizedTypeReference<AttributesTopLevelDocument>() {
+            }, networkUuid, variantNum));
+        stopwatch.stop();
+        return document.map(d -> {
+            List<Resource<Attributes>> resources = d.getData();
+            LOGGER.info("{} {}{} resources loaded in {} ms", resources.size(), endpoint.target(),
+                    AttributeFilter.getLabelFromView(AttributeFilter.getViewClass(attributeFilter)), stopwatch.elapsed(TimeUnit.MILLISECONDS));
+            return resources;
+        });
+    }
+
+    /**
+     * A not found answer without revision for an existing network means that the server does not track changes, changes are then never asked
+     * again. With a revision, it means that the server does not know the changes since this revision anymore.
+     */
+    @Override
+    public Optional<NetworkChanges> getModifiedSince(UUID networkUuid, int variantNum, String revision) {
+        return networkChangesSupport.execute(
+            () -> {
+                Optional<NetworkChanges> changes = findChanges(networkUuid, variantNum, revision);
+                // with a revision, not found is a valid answer
+                return changes.isPresent() || revision != null ? Optional.of(changes) : Optional.empty();
+            },
+            () -> getNetwork(networkUuid, variantNum).isPresent(),
+            Optional::empty,
+            Optional::empty);
+    }
+
+    private Optional<NetworkChanges> findChanges(UUID networkUuid, int variantNum, String revision) {
+        String url = revision != null ? "/networks/{networkUuid}/{variantNum}/changes?since={revision}" : "/networks/{networkUuid}/{variantNum}/changes";
+        Object[] uriVariables = revision != null ? new Object[] {networkUuid, variantNum, revision} : new Object[] {networkUuid, variantNum};
+        if (LOGGER.isInfoEnabled()) {
+            LOGGER.info("Loading network changes {}", UriComponentsBuilder.fromUriString(url).buildAndExpand(uriVariables));
+        }
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        Optional<NetworkChanges> changes = find(url, new ParameterizedTypeReference<>() {
+        }, uriVariables);
+        stopwatch.stop();
+        LOGGER.info("Network changes (found={}) loaded in {} ms", changes.isPresent(), stopwatch.elapsed(TimeUnit.MILLISECONDS));
+        return changes;
+    }
+
     @Override
     public void flush(UUID networkUuid) {
         // nothing to do
@@ -1054,6 +1551,33 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
         return getExtensionAttributesMap("/networks/{networkUuid}/{variantNum}/identifiables/types/{type}/extensions/{extensionName}", networkUuid, variantNum, resourceType, extensionName);
     }
 
+    /**
+     * The extension names are sent to a dedicated url, so that a server not supporting it answers not found instead of
+     * returning all the extensions of the resource type. The extensions are then loaded with one request per extension
+     * name, for this call and the following ones.
+     */
+    @Override
+    public Map<String, Map<String, ExtensionAttributes>> getAllExtensionsAttributesByResourceTypeAndExtensionNames(UUID networkUuid, int variantNum, ResourceType resourceType, Set<String> extensionNames) {
+        if (extensionNames.isEmpty()) {
+            return new HashMap<>();
+        }
+        if (extensionNames.size() == 1) {
+            String extensionName = extensionNames.iterator().next();
+            Map<String, Map<String, ExtensionAttributes>> extensionAttributesByIdentifiableId = new HashMap<>();
+            getAllExtensionsAttributesByResourceTypeAndExtensionName(networkUuid, variantNum, resourceType, extensionName)
+                    .forEach((identifiableId, extensionAttributes) -> extensionAttributesByIdentifiableId.put(identifiableId, new HashMap<>(Map.of(extensionName, extensionAttributes))));
+            return extensionAttributesByIdentifiableId;
+        }
+        // sorted so that identical requests are coalesced whatever the set iteration order
+        String names = extensionNames.stream().sorted().collect(Collectors.joining(","));
+        return extensionsByNamesSupport.execute(
+            () -> findExtensionAttributesNestedMap("/networks/{networkUuid}/{variantNum}/identifiables/types/{resourceType}/extensions-by-names?extensionNames={extensionNames}",
+                    networkUuid, variantNum, resourceType, names),
+            () -> getNetwork(networkUuid, variantNum).isPresent(),
+            HashMap::new,
+            () -> NetworkStoreClient.super.getAllExtensionsAttributesByResourceTypeAndExtensionNames(networkUuid, variantNum, resourceType, extensionNames));
+    }
+
     @Override
     public Map<String, ExtensionAttributes> getAllExtensionsAttributesByIdentifiableId(UUID networkUuid, int variantNum, ResourceType resourceType, String identifiableId) {
         return getExtensionAttributesMap("/networks/{networkUuid}/{variantNum}/identifiables/{identifiableId}/extensions", networkUuid, variantNum, identifiableId);
@@ -1095,4 +1619,26 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
         return getOperationalLimitsGroupAttributesNestedMap("/networks/{networkUuid}/{variantNum}/branch/types/{resourceType}/operationalLimitsGroup/selected",
             networkUuid, variantNum, resourceType);
     }
+
+    @Override
+    public Map<String, Map<Integer, Map<String, OperationalLimitsGroupAttributes>>> getVoltageLevelOperationalLimitsGroupAttributes(UUID networkUuid, int variantNum, ResourceType resourceType,
+                                                                                                                                  String voltageLevelId) {
+        return containerOperationalLimitsGroupsSupport.execute(
+            () -> findOperationalLimitsGroupAttributesNestedMap("/networks/{networkUuid}/{variantNum}/voltage-levels/{voltageLevelId}/branch/types/{resourceType}/operationalLimitsGroup",
+                    networkUuid, variantNum, voltageLevelId, resourceType),
+            () -> getVoltageLevel(networkUuid, variantNum, voltageLevelId).isPresent(),
+            HashMap::new,
+            () -> NetworkStoreClient.super.getVoltageLevelOperationalLimitsGroupAttributes(networkUuid, variantNum, resourceType, voltageLevelId));
+    }
+
+    @Override
+    public Map<String, Map<Integer, Map<String, OperationalLimitsGroupAttributes>>> getSubstationOperationalLimitsGroupAttributes(UUID networkUuid, int variantNum, ResourceType resourceType,
+                                                                                                                                String substationId) {
+        return containerOperationalLimitsGroupsSupport.execute(
+            () -> findOperationalLimitsGroupAttributesNestedMap("/networks/{networkUuid}/{variantNum}/substations/{substationId}/branch/types/{resourceType}/operationalLimitsGroup",
+                    networkUuid, variantNum, substationId, resourceType),
+            () -> getSubstation(networkUuid, variantNum, substationId).isPresent(),
+            HashMap::new,
+            () -> NetworkStoreClient.super.getSubstationOperationalLimitsGroupAttributes(networkUuid, variantNum, resourceType, substationId));
+    }
 }
@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Runs requests to the network store server, sending them again according to a {@link RetryPolicy} when they fail.
+ * Requests which are not idempotent are never retried. Each retry is counted in the
+ * {@code network.store.client.retries} counter, tagged by target, operation and failure.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+class RetryExecutor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RetryExecutor.class);
+
+    static final String RETRIES_METRIC = "network.store.client.retries";
+
+    private final RetryPolicy retryPolicy;
+
+    private final MeterRegistry meterRegistry;
+
+    RetryExecutor(RetryPolicy retryPolicy, MeterRegistry meterRegistry) {
+        this.retryPolicy = Objects.requireNonNull(retryPolicy);
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+    }
+
+    private Optional<Duration> getRetryDelay(String target, String operation, boolean idempotent, int retry, RuntimeException failure) {
+        if (!idempotent) {
+            return Optional.empty();
+        }
+        Optional<Duration> delay = retryPolicy.getRetryDelay(retry, failure);
+        delay.ifPresent(d -> {
+            LOGGER.error(failure.toString(), failure);
+            LOGGER.info("{} {} (retry {} in {} ms)", RestNetworkStoreClient.STR_RETRYING, target, retry, d.toMillis());
+            meterRegistry.counter(RETRIES_METRIC,
+                    "target", target,
+                    "operation", operation,
+                    "exception", failure.getClass().getSimpleName())
+                    .increment();
+        });
+        return delay;
+    }
+
+    /**
+     * Run a request, and run it again while it fails and the policy allows it.
+     */
+    void execute(String target, String operation, boolean idempotent, Runnable request) {
+        retryPolicy.onRequest();
+        int retry = 0;
+        while (true) {
+            try {
+                request.run();
+                return;
+            } catch (RuntimeException e) {
+                retry++;
+                Duration delay = getRetryDelay(target, operation, idempotent, retry, e).orElseThrow(() -> e);
+                sleep(delay, e);
+            }
+        }
+    }
+
+    private static void sleep(Duration delay, RuntimeException failure) {
+        if (delay.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(delay.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure.addSuppressed(e);
+            throw failure;
+        }
+    }
+
+    /**
+     * Non-blocking counterpart of {@link #execute(String, String, boolean, Runnable)}: the request is sent again
+     * from a delayed executor, no thread waits for the delay to elapse.
+     */
+    <R> CompletableFuture<R> executeAsync(String target, String operation, boolean idempotent, Supplier<CompletableFuture<R>> request) {
+        retryPolicy.onRequest();
+        return executeAsync(target, operation, idempotent, request, 1);
+    }
+
+    private <R> CompletableFuture<R> executeAsync(String target, String operation, boolean idempotent, Supplier<CompletableFuture<R>> request, int retry) {
+        return request.get().exceptionallyCompose(e -> {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            if (!(cause instanceof RuntimeException failure)) {
+                return CompletableFuture.failedFuture(cause);
+            }
+            return getRetryDelay(target, operation, idempotent, retry, failure)
+                    .map(delay -> CompletableFuture.supplyAsync(() -> null, CompletableFuture.delayedExecutor(delay.toMillis(), TimeUnit.MILLISECONDS))
+                            .thenCompose(ignored -> executeAsync(target, operation, idempotent, request, retry + 1)))
+                    .orElseGet(() -> CompletableFuture.failedFuture(failure));
+        });
+    }
+}
@@ -0,0 +1,38 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Decides whether a failed request to the network store server is sent again and after which delay. Only requests
+ * which can safely be replayed are submitted to the policy.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public interface RetryPolicy {
+
+    /**
+     * Policy never retrying a request.
+     */
+    RetryPolicy NONE = (retry, failure) -> Optional.empty();
+
+    /**
+     * Called before each first attempt of a request, so that a policy can bound its retries relatively to the traffic.
+     */
+    default void onRequest() {
+        // nothing to do by default
+    }
+
+    /**
+     * @param retry the number of the retry to come, starting at 1
+     * @param failure the failure of the previous attempt
+     * @return the delay to wait before sending the request again, or empty if the failure has to be rethrown
+     */
+    Optional<Duration> getRetryDelay(int retry, RuntimeException failure);
+}
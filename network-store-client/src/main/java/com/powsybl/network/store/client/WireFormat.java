@@ -0,0 +1,60 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Content type used to exchange documents with the network store server. Binary formats are negotiated with the
+ * server, which may still answer in JSON.
+ *
+ * @author Etienne Lesot <etienne.lesot at rte-france.com>
+ */
+public enum WireFormat {
+    JSON(MediaType.APPLICATION_JSON),
+    SMILE(new MediaType("application", "x-jackson-smile")),
+    CBOR(MediaType.APPLICATION_CBOR);
+
+    private final MediaType mediaType;
+
+    WireFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    JsonFactory createFactory() {
+        return switch (this) {
+            case JSON -> new JsonFactory();
+            case SMILE -> new SmileFactory();
+            case CBOR -> new CBORFactory();
+        };
+    }
+
+    /**
+     * Create a converter for this format whose object mapper is a copy of the JSON one, so that modules, features and
+     * serialization views behave the same whatever the format.
+     */
+    AbstractJackson2HttpMessageConverter createConverter(ObjectMapper jsonObjectMapper) {
+        ObjectMapper objectMapper = jsonObjectMapper.copyWith(createFactory());
+        return switch (this) {
+            case JSON -> new MappingJackson2HttpMessageConverter(objectMapper);
+            case SMILE -> new MappingJackson2SmileHttpMessageConverter(objectMapper);
+            case CBOR -> new MappingJackson2CborHttpMessageConverter(objectMapper);
+        };
+    }
+}
@@ -0,0 +1,67 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.powsybl.network.store.model.LoadAttributes;
+import com.powsybl.network.store.model.Resource;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+class AutoFlushPolicyTest {
+
+    private static final UUID NETWORK_UUID = UUID.randomUUID();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static Resource<LoadAttributes> createLoad(String id) {
+        return Resource.loadBuilder()
+                .id(id)
+                .attributes(LoadAttributes.builder()
+                        .voltageLevelId("vl1")
+                        .build())
+                .build();
+    }
+
+    @Test
+    void testDisabled() {
+        AutoFlushPolicy policy = new AutoFlushPolicy(new NetworkStoreConfig(), objectMapper);
+        assertFalse(policy.isEnabled());
+        assertFalse(policy.onModification(NETWORK_UUID, List.of(createLoad("l1")), () -> fail("Should not be called")));
+        assertThrows(IllegalArgumentException.class, () -> new AutoFlushPolicy(-1, 0, 0, objectMapper, System::nanoTime));
+    }
+
+    @Test
+    void testMaxBytes() throws Exception {
+        long loadBytes = objectMapper.writeValueAsBytes(createLoad("l1")).length;
+        AutoFlushPolicy policy = new AutoFlushPolicy(0, 3 * loadBytes, 0, objectMapper, System::nanoTime);
+        assertFalse(policy.onModification(NETWORK_UUID, List.of(createLoad("l1"), createLoad("l2")), () -> 2));
+        assertTrue(policy.onModification(NETWORK_UUID, List.of(createLoad("l3")), () -> 3));
+        policy.reset(NETWORK_UUID);
+        assertFalse(policy.onModification(NETWORK_UUID, List.of(createLoad("l4")), () -> 1));
+    }
+
+    @Test
+    void testMaxAge() {
+        AtomicLong nanoTime = new AtomicLong();
+        AutoFlushPolicy policy = new AutoFlushPolicy(0, 0, 1000, objectMapper, nanoTime::get);
+        assertFalse(policy.onRemoval(NETWORK_UUID, 1, () -> 1));
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(999));
+        assertFalse(policy.onModification(NETWORK_UUID, List.of(createLoad("l1")), () -> 2));
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        assertTrue(policy.onModification(NETWORK_UUID, List.of(createLoad("l2")), () -> 3));
+    }
+}
@@ -8,12 +8,14 @@ package com.powsybl.network.store.client;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.powsybl.commons.PowsyblException;
 import com.powsybl.iidm.network.VariantManagerConstants;
 import com.powsybl.iidm.network.extensions.ActivePowerControl;
 import com.powsybl.iidm.network.extensions.CoordinatedReactiveControl;
 import com.powsybl.network.store.model.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.SpringBootConfiguration;
 import org.springframework.boot.test.autoconfigure.web.client.RestClientTest;
@@ -21,15 +23,23 @@ import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Primary;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.client.ExpectedCount;
 import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpServerErrorException;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.time.ZonedDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ForkJoinPool;
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNull;
+import java.util.stream.Collectors;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.http.HttpMethod.*;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
@@ -247,6 +257,72 @@ class BufferedNetworkStoreClientTest {
         server.reset();
     }
 
+    @Test
+    void testGetIdentifiables() throws JsonProcessingException {
+        BufferedNetworkStoreClient bufferedClient = new BufferedNetworkStoreClient(restStoreClient, ForkJoinPool.commonPool());
+        UUID networkUuid = UUID.randomUUID();
+        Resource<LoadAttributes> createdLoad = Resource.create(ResourceType.LOAD, "createdLoad", 0, new LoadAttributes());
+        Resource<LoadAttributes> load = Resource.create(ResourceType.LOAD, "load", 0, new LoadAttributes());
+        bufferedClient.createLoads(networkUuid, List.of(createdLoad));
+        bufferedClient.removeLoads(networkUuid, 0, List.of("removedLoad"));
+
+        // created resources are taken from the buffers and removed resources are not requested
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/0/identifiables/by-ids"))
+                .andExpect(method(POST))
+                .andExpect(content().json("[\"load\"]"))
+                .andRespond(withSuccess(objectMapper.writeValueAsString(TopLevelDocument.of(List.of(load))), MediaType.APPLICATION_JSON));
+        List<Resource<IdentifiableAttributes>> resources = bufferedClient.getIdentifiables(networkUuid, 0, List.of("createdLoad", "removedLoad", "load"));
+        assertEquals(Set.of("createdLoad", "load"), resources.stream().map(Resource::getId).collect(Collectors.toSet()));
+        server.verify();
+    }
+
+    @Test
+    void testContainerOperationalLimitsGroups() {
+        BufferedNetworkStoreClient bufferedClient = new BufferedNetworkStoreClient(restStoreClient, ForkJoinPool.commonPool());
+        UUID networkUuid = UUID.randomUUID();
+        String limitsJson = "{\"LINE1\":{\"1\":{\"olg1\":{\"id\":\"olg1\",\"currentLimits\":{\"permanentLimit\":1.0}}}}}";
+
+        // the limits are loaded with one request per container, not per branch side
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/0/voltage-levels/vl1/branch/types/" + ResourceType.LINE + "/operationalLimitsGroup"))
+                .andExpect(method(GET))
+                .andRespond(withSuccess(limitsJson, MediaType.APPLICATION_JSON));
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/0/substations/s1/branch/types/" + ResourceType.LINE + "/operationalLimitsGroup"))
+                .andExpect(method(GET))
+                .andRespond(withSuccess(limitsJson, MediaType.APPLICATION_JSON));
+        assertEquals(1.0, bufferedClient.getVoltageLevelOperationalLimitsGroupAttributes(networkUuid, 0, ResourceType.LINE, "vl1")
+                .get("LINE1").get(1).get("olg1").getCurrentLimits().getPermanentLimit());
+        assertEquals(1.0, bufferedClient.getSubstationOperationalLimitsGroupAttributes(networkUuid, 0, ResourceType.LINE, "s1")
+                .get("LINE1").get(1).get("olg1").getCurrentLimits().getPermanentLimit());
+        server.verify();
+    }
+
+    @Test
+    void testGetResourcesIfModified() throws JsonProcessingException {
+        BufferedNetworkStoreClient bufferedClient = new BufferedNetworkStoreClient(restStoreClient, ForkJoinPool.commonPool());
+        UUID networkUuid = UUID.randomUUID();
+        String loadsUrl = "/networks/" + networkUuid + "/0/loads";
+        Resource<LoadAttributes> load = Resource.create(ResourceType.LOAD, "load", 0, new LoadAttributes());
+
+        // the revision reaches the server, which does not send the collection again if unchanged
+        server.expect(ExpectedCount.once(), requestTo(loadsUrl))
+                .andExpect(method(GET))
+                .andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))
+                .andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+        assertTrue(bufferedClient.getResourcesIfModified(networkUuid, 0, ResourceType.LOAD, "\"v1\"").isEmpty());
+        server.verify();
+        server.reset();
+
+        server.expect(ExpectedCount.once(), requestTo(loadsUrl))
+                .andExpect(method(GET))
+                .andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))
+                .andRespond(withSuccess(objectMapper.writeValueAsString(TopLevelDocument.of(List.of(load))), MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.ETAG, "\"v2\""));
+        var resources = bufferedClient.getResourcesIfModified(networkUuid, 0, ResourceType.LOAD, "\"v1\"").orElseThrow();
+        assertEquals("\"v2\"", resources.revision());
+        assertEquals(List.of("load"), resources.resources().stream().map(Resource::getId).toList());
+        server.verify();
+    }
+
     @Test
     void testUpdateLine() throws JsonProcessingException {
         BufferedNetworkStoreClient bufferedClient = new BufferedNetworkStoreClient(restStoreClient, ForkJoinPool.commonPool());
@@ -517,4 +593,234 @@ class BufferedNetworkStoreClientTest {
         bufferedClient.flush(networkUuid);
         server.verify();
     }
+
+    private static Resource<NetworkAttributes> createNetwork(UUID networkUuid, String caseDate) {
+        return Resource.networkBuilder()
+                .id("n1")
+                .attributes(NetworkAttributes.builder()
+                        .uuid(networkUuid)
+                        .variantId(VariantManagerConstants.INITIAL_VARIANT_ID)
+                        .caseDate(ZonedDateTime.parse(caseDate))
+                        .build())
+                .build();
+    }
+
+    @Test
+    void testFlushAsync() throws JsonProcessingException {
+        BufferedNetworkStoreClient bufferedClient = new BufferedNetworkStoreClient(restStoreClient, ForkJoinPool.commonPool());
+        UUID networkUuid = UUID.randomUUID();
+        Resource<NetworkAttributes> n1 = createNetwork(networkUuid, "2015-01-01T00:00:00.000Z");
+        bufferedClient.updateNetworks(List.of(n1), AttributeFilter.PRIMARY_AS_NULL);
+
+        // the network sent is the one of the flush call, even if modified just after
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid))
+                .andExpect(method(PUT))
+                .andExpect(content().string(objectMapper.writeValueAsString(List.of(createNetwork(networkUuid, "2015-01-01T00:00:00.000Z")))))
+                .andRespond(withSuccess());
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid))
+                .andExpect(method(PUT))
+                .andExpect(content().string(objectMapper.writeValueAsString(List.of(createNetwork(networkUuid, "2018-01-01T00:00:00.000Z")))))
+                .andRespond(withSuccess());
+        CompletableFuture<Void> flush = bufferedClient.flushAsync(networkUuid);
+        n1.getAttributes().setCaseDate(ZonedDateTime.parse("2018-01-01T00:00:00.000Z"));
+        bufferedClient.updateNetworks(List.of(n1), AttributeFilter.PRIMARY_AS_NULL);
+        // the synchronous flush is sent after the asynchronous one
+        bufferedClient.flush(networkUuid);
+        assertTrue(flush.isDone());
+        assertFalse(flush.isCompletedExceptionally());
+        server.verify();
+        server.reset();
+
+        // a failed flush does not prevent the flushes requested after it from being sent
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid))
+                .andExpect(method(PUT))
+                .andRespond(withStatus(HttpStatus.INTERNAL_SERVER_ERROR));
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid))
+                .andExpect(method(PUT))
+                .andRespond(withSuccess());
+        bufferedClient.updateNetworks(List.of(n1), AttributeFilter.PRIMARY_AS_NULL);
+        CompletableFuture<Void> failedFlush = bufferedClient.flushAsync(networkUuid);
+        bufferedClient.updateNetworks(List.of(n1), AttributeFilter.PRIMARY_AS_NULL);
+        CompletableFuture<Void> nextFlush = bufferedClient.flushAsync(networkUuid);
+        nextFlush.join();
+        ExecutionException e = assertThrows(ExecutionException.class, failedFlush::get);
+        assertInstanceOf(HttpServerErrorException.class, e.getCause());
+        server.verify();
+        server.reset();
+
+        // the failure is reported once by the next synchronous flush, which keeps its changes for the following one
+        bufferedClient.updateNetworks(List.of(n1), AttributeFilter.PRIMARY_AS_NULL);
+        assertThrows(HttpServerErrorException.class, () -> bufferedClient.flush(networkUuid));
+        server.verify();
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid))
+                .andExpect(method(PUT))
+                .andRespond(withSuccess());
+        bufferedClient.flush(networkUuid);
+        server.verify();
+    }
+
+    @Test
+    void testCloneWaitsForFlushAsync() {
+        BufferedNetworkStoreClient bufferedClient = new BufferedNetworkStoreClient(restStoreClient, ForkJoinPool.commonPool());
+        UUID networkUuid = UUID.randomUUID();
+        bufferedClient.updateNetworks(List.of(createNetwork(networkUuid, "2015-01-01T00:00:00.000Z")), AttributeFilter.PRIMARY_AS_NULL);
+
+        // the server clones the variant once the changes have been sent
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid))
+                .andExpect(method(PUT))
+                .andRespond(withSuccess());
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/0/to/1?targetVariantId=v1"))
+                .andExpect(method(PUT))
+                .andRespond(withSuccess());
+        CompletableFuture<Void> flush = bufferedClient.flushAsync(networkUuid);
+        bufferedClient.cloneNetwork(networkUuid, 0, 1, "v1");
+        assertTrue(flush.isDone());
+        server.verify();
+    }
+
+    @Test
+    void testAutoFlush() {
+        BufferedNetworkStoreClient bufferedClient = new BufferedNetworkStoreClient(restStoreClient, ForkJoinPool.commonPool(),
+                new NetworkStoreConfig().setAutoFlushMaxResources(2));
+        UUID networkUuid = UUID.randomUUID();
+        Resource<GeneratorAttributes> g1 = Resource.generatorBuilder()
+                .id("g1")
+                .attributes(GeneratorAttributes.builder().voltageLevelId("vl1").build())
+                .build();
+        bufferedClient.createGenerators(networkUuid, List.of(g1));
+        server.verify();
+
+        // threshold reached: containers are sent before the equipments, even if created after them
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/substations"))
+                .andExpect(method(POST))
+                .andRespond(withSuccess());
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/generators"))
+                .andExpect(method(POST))
+                .andRespond(withSuccess());
+        Resource<SubstationAttributes> s1 = Resource.substationBuilder()
+                .id("s1")
+                .attributes(SubstationAttributes.builder().build())
+                .build();
+        bufferedClient.createSubstations(networkUuid, List.of(s1));
+        server.verify();
+        server.reset();
+
+        // updating a resource several times counts once
+        bufferedClient.updateGenerators(networkUuid, List.of(g1), AttributeFilter.PRIMARY_AS_NULL);
+        bufferedClient.updateGenerators(networkUuid, List.of(g1), AttributeFilter.PRIMARY_AS_NULL);
+        server.verify();
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/generators"))
+                .andExpect(method(PUT))
+                .andRespond(withSuccess());
+        bufferedClient.flush(networkUuid);
+        server.verify();
+    }
+
+    @Test
+    void testUpdateResourceAttributes() {
+        BufferedNetworkStoreClient bufferedClient = new BufferedNetworkStoreClient(restStoreClient, ForkJoinPool.commonPool());
+        UUID networkUuid = UUID.randomUUID();
+        Resource<GeneratorAttributes> g1 = Resource.generatorBuilder()
+                .id("g1")
+                .attributes(GeneratorAttributes.builder().voltageLevelId("vl1").targetV(400).build())
+                .build();
+        assertThrows(PowsyblException.class, () -> bufferedClient.updateResourceAttributes(networkUuid, g1, AttributeFilter.PRIMARY_AS_NULL, Set.of("unknown")));
+
+        // only the modified attributes are sent
+        bufferedClient.updateResourceAttributes(networkUuid, g1, AttributeFilter.PRIMARY_AS_NULL, Set.of("targetV"));
+        g1.getAttributes().setTargetP(10);
+        bufferedClient.updateResourceAttributes(networkUuid, g1, AttributeFilter.PRIMARY_AS_NULL, Set.of("targetP"));
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/0/generators"))
+                .andExpect(method(PATCH))
+                .andExpect(content().string("[{\"type\":\"GENERATOR\",\"id\":\"g1\",\"variantNum\":0,\"attributes\":{\"targetP\":10.0,\"targetV\":400.0}}]"))
+                .andRespond(withSuccess());
+        bufferedClient.flush(networkUuid);
+        server.verify();
+        server.reset();
+
+        // a whole resource update covers the partial ones
+        bufferedClient.updateResourceAttributes(networkUuid, g1, AttributeFilter.PRIMARY_AS_NULL, Set.of("targetV"));
+        bufferedClient.updateGenerators(networkUuid, List.of(g1), AttributeFilter.PRIMARY_AS_NULL);
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/generators"))
+                .andExpect(method(PUT))
+                .andRespond(withSuccess());
+        bufferedClient.flush(networkUuid);
+        server.verify();
+        server.reset();
+
+        // server without partial updates: fall back to whole resource updates
+        bufferedClient.updateResourceAttributes(networkUuid, g1, AttributeFilter.PRIMARY_AS_NULL, Set.of("targetV"));
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/0/generators"))
+                .andExpect(method(PATCH))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND));
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/generators"))
+                .andExpect(method(PUT))
+                .andRespond(withSuccess());
+        bufferedClient.flush(networkUuid);
+        server.verify();
+        server.reset();
+
+        bufferedClient.updateResourceAttributes(networkUuid, g1, AttributeFilter.PRIMARY_AS_NULL, Set.of("targetV"));
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/generators"))
+                .andExpect(method(PUT))
+                .andRespond(withSuccess());
+        bufferedClient.flush(networkUuid);
+        server.verify();
+    }
+
+    @Test
+    void testJournal(@TempDir Path journalDirectory) throws IOException {
+        UUID networkUuid = UUID.randomUUID();
+        BufferJournal journal = new BufferJournal(journalDirectory, 0);
+        BufferedNetworkStoreClient bufferedClient = new BufferedNetworkStoreClient(restStoreClient, ForkJoinPool.commonPool(), new NetworkStoreConfig(), journal);
+        Resource<LoadAttributes> l1 = Resource.loadBuilder()
+                .id("l1")
+                .attributes(LoadAttributes.builder().voltageLevelId("vl1").p0(1).build())
+                .build();
+        bufferedClient.createLoads(networkUuid, List.of(l1));
+        l1.getAttributes().setP0(2);
+        bufferedClient.updateLoads(networkUuid, List.of(l1), AttributeFilter.PRIMARY_AS_NULL);
+        Resource<LoadAttributes> l2 = Resource.loadBuilder()
+                .id("l2")
+                .attributes(LoadAttributes.builder().voltageLevelId("vl1").build())
+                .build();
+        bufferedClient.createLoads(networkUuid, List.of(l2));
+        bufferedClient.removeLoads(networkUuid, 0, List.of("l2"));
+        Resource<GeneratorAttributes> g1 = Resource.generatorBuilder()
+                .id("g1")
+                .attributes(GeneratorAttributes.builder().voltageLevelId("vl1").targetV(400).build())
+                .build();
+        bufferedClient.updateResourceAttributes(networkUuid, g1, AttributeFilter.PRIMARY_AS_NULL, Set.of("targetV"));
+        g1.getAttributes().setTargetP(50);
+        bufferedClient.updateResourceAttributes(networkUuid, g1, AttributeFilter.PRIMARY_AS_NULL, Set.of("targetP"));
+        journal.close();
+
+        // the process is stopped while writing a record, which is ignored
+        Path segment = journalDirectory.resolve(networkUuid.toString()).resolve("00000000000000000000.journal");
+        Files.write(segment, new byte[] {0, 0, 0, 10, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        // the modifications are sent by a new client
+        BufferJournal newJournal = new BufferJournal(journalDirectory, 0);
+        assertEquals(Set.of(networkUuid), newJournal.getNetworkUuids());
+        BufferedNetworkStoreClient newBufferedClient = new BufferedNetworkStoreClient(restStoreClient, ForkJoinPool.commonPool(), new NetworkStoreConfig(), newJournal);
+        // partial updates of a resource are merged
+        assertEquals(6, newBufferedClient.replayJournal(networkUuid));
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/loads"))
+                .andExpect(method(POST))
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value("l1"))
+                .andExpect(jsonPath("$[0].attributes.p0").value(2.0))
+                .andRespond(withSuccess());
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/0/generators"))
+                .andExpect(method(PATCH))
+                .andExpect(content().string("[{\"type\":\"GENERATOR\",\"id\":\"g1\",\"variantNum\":0,\"attributes\":{\"targetP\":50.0,\"targetV\":400.0}}]"))
+                .andRespond(withSuccess());
+        newBufferedClient.flush(networkUuid);
+        server.verify();
+
+        // nothing to replay once flushed
+        assertTrue(newJournal.getNetworkUuids().isEmpty());
+        assertEquals(0, newBufferedClient.replayJournal(networkUuid));
+        newJournal.close();
+    }
 }
@@ -27,6 +27,7 @@ import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Primary;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.client.ExpectedCount;
@@ -345,6 +346,58 @@ class CachedNetworkStoreClientTest {
         server.verify();
     }
 
+    @Test
+    void testInterruptedLinesLoad() throws IOException {
+        CachedNetworkStoreClient cachedClient = new CachedNetworkStoreClient(new BufferedNetworkStoreClient(restStoreClient, ForkJoinPool.commonPool()));
+        UUID networkUuid = UUID.fromString("7928181c-7977-4592-ba19-88027e4254e4");
+        String networkUrl = "/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM;
+
+        Resource<LineAttributes> l1 = Resource.lineBuilder()
+                .id("LINE_1")
+                .attributes(LineAttributes.builder()
+                        .voltageLevelId1("VL_1")
+                        .voltageLevelId2("VL_2")
+                        .build())
+                .build();
+        Resource<LineAttributes> l2 = Resource.lineBuilder()
+                .id("LINE_2")
+                .attributes(LineAttributes.builder()
+                        .voltageLevelId1("VL_1")
+                        .voltageLevelId2("VL_3")
+                        .build())
+                .build();
+
+        // the response is cut after the first line
+        String allLinesJson = objectMapper.writeValueAsString(TopLevelDocument.of(List.of(l1, l2)));
+        String truncatedJson = allLinesJson.substring(0, allLinesJson.indexOf("LINE_2"));
+        server.expect(ExpectedCount.once(), requestTo(networkUrl + "/lines"))
+                .andExpect(method(GET))
+                .andRespond(withSuccess(truncatedJson, MediaType.APPLICATION_JSON));
+        assertThrows(RuntimeException.class, () -> cachedClient.getLines(networkUuid, Resource.INITIAL_VARIANT_NUM));
+        server.verify();
+        server.reset();
+
+        // the line read before the failure has been streamed into the cache
+        server.expect(ExpectedCount.never(), requestTo(networkUrl + "/lines/LINE_1"));
+        assertTrue(cachedClient.getLine(networkUuid, Resource.INITIAL_VARIANT_NUM, "LINE_1").isPresent());
+        server.verify();
+        server.reset();
+
+        // but neither its voltage levels nor the collection are considered as fully loaded
+        server.expect(ExpectedCount.once(), requestTo(networkUrl + "/voltage-levels/VL_1/lines"))
+                .andExpect(method(GET))
+                .andRespond(withSuccess(allLinesJson, MediaType.APPLICATION_JSON));
+        assertEquals(2, cachedClient.getVoltageLevelLines(networkUuid, Resource.INITIAL_VARIANT_NUM, "VL_1").size());
+        server.verify();
+        server.reset();
+
+        server.expect(ExpectedCount.once(), requestTo(networkUrl + "/lines"))
+                .andExpect(method(GET))
+                .andRespond(withSuccess(allLinesJson, MediaType.APPLICATION_JSON));
+        assertEquals(2, cachedClient.getLines(networkUuid, Resource.INITIAL_VARIANT_NUM).size());
+        server.verify();
+    }
+
     @Test
     void testAllGroundsCache() throws IOException {
         CachedNetworkStoreClient cachedClient = new CachedNetworkStoreClient(new BufferedNetworkStoreClient(restStoreClient, ForkJoinPool.commonPool()));
@@ -499,6 +552,201 @@ class CachedNetworkStoreClientTest {
         }
     }
 
+    @Test
+    void testGetIdentifiables() throws IOException {
+        CachedNetworkStoreClient cachedClient = new CachedNetworkStoreClient(new BufferedNetworkStoreClient(restStoreClient, ForkJoinPool.commonPool()));
+        UUID networkUuid = UUID.fromString("7928181c-7977-4592-ba19-88027e4254e4");
+        loadGeneratorToCache("g1", networkUuid, cachedClient);
+
+        Resource<LineAttributes> l1Resource = Resource.lineBuilder()
+                .id("l1")
+                .attributes(LineAttributes.builder()
+                        .voltageLevelId1("VL_1")
+                        .voltageLevelId2("VL_2")
+                        .build())
+                .build();
+        Resource<GeneratorAttributes> g2Resource = Resource.generatorBuilder()
+                .id("g2")
+                .attributes(GeneratorAttributes.builder()
+                        .voltageLevelId("VL_1")
+                        .build())
+                .build();
+        String json = objectMapper.writeValueAsString(TopLevelDocument.of(List.of(l1Resource, g2Resource)));
+        // g1 is already cached so only the other ids are requested, in a single request
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM + "/identifiables/by-ids"))
+                .andExpect(method(POST))
+                .andExpect(content().json("[\"l1\",\"g2\",\"unknown\"]"))
+                .andRespond(withSuccess(json, MediaType.APPLICATION_JSON));
+        List<Resource<IdentifiableAttributes>> resources = cachedClient.getIdentifiables(networkUuid, Resource.INITIAL_VARIANT_NUM, List.of("g1", "l1", "g2", "unknown"));
+        server.verify();
+        server.reset();
+        assertEquals(Set.of("g1", "l1", "g2"), resources.stream().map(Resource::getId).collect(Collectors.toSet()));
+
+        // loaded identifiables are now in the cache
+        assertEquals("l1", cachedClient.getLine(networkUuid, Resource.INITIAL_VARIANT_NUM, "l1").orElseThrow().getId());
+        assertEquals("g2", cachedClient.getIdentifiable(networkUuid, Resource.INITIAL_VARIANT_NUM, "g2").orElseThrow().getId());
+        server.verify();
+    }
+
+    @Test
+    void testRefresh() throws IOException {
+        CachedNetworkStoreClient cachedClient = new CachedNetworkStoreClient(new BufferedNetworkStoreClient(restStoreClient, ForkJoinPool.commonPool()));
+        UUID networkUuid = UUID.fromString("7928181c-7977-4592-ba19-88027e4254e4");
+        String linesUrl = "/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM + "/lines";
+
+        Resource<LineAttributes> l1 = Resource.lineBuilder()
+                .id("LINE_1")
+                .attributes(LineAttributes.builder()
+                        .voltageLevelId1("VL_1")
+                        .voltageLevelId2("VL_2")
+                        .build())
+                .build();
+        Resource<LineAttributes> l2 = Resource.lineBuilder()
+                .id("LINE_2")
+                .attributes(LineAttributes.builder()
+                        .voltageLevelId1("VL_1")
+                        .voltageLevelId2("VL_3")
+                        .build())
+                .build();
+
+        server.expect(ExpectedCount.once(), requestTo(linesUrl))
+                .andExpect(method(GET))
+                .andRespond(withSuccess(objectMapper.writeValueAsString(TopLevelDocument.of(List.of(l1))), MediaType.APPLICATION_JSON));
+        assertEquals(1, cachedClient.getLines(networkUuid, Resource.INITIAL_VARIANT_NUM).size());
+        server.verify();
+        server.reset();
+
+        // the server does not track changes of the network, so collections are revalidated
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM + "/changes"))
+                .andExpect(method(GET))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND));
+        Resource<NetworkAttributes> n1 = Resource.networkBuilder()
+                .id("n1")
+                .attributes(NetworkAttributes.builder()
+                        .uuid(networkUuid)
+                        .variantId(VariantManagerConstants.INITIAL_VARIANT_ID)
+                        .caseDate(ZonedDateTime.parse("2015-01-01T00:00:00.000Z"))
+                        .build())
+                .build();
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM))
+                .andExpect(method(GET))
+                .andRespond(withSuccess(objectMapper.writeValueAsString(TopLevelDocument.of(n1)), MediaType.APPLICATION_JSON));
+        // the revision of the lines is not known yet, so they are loaded unconditionally
+        server.expect(ExpectedCount.once(), requestTo(linesUrl))
+                .andExpect(method(GET))
+                .andExpect(headerDoesNotExist(HttpHeaders.IF_NONE_MATCH))
+                .andRespond(withSuccess(objectMapper.writeValueAsString(TopLevelDocument.of(List.of(l1))), MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.ETAG, "\"v1\""));
+        cachedClient.refresh(networkUuid, Resource.INITIAL_VARIANT_NUM);
+        server.verify();
+        server.reset();
+
+        // lines have not changed on the server
+        server.expect(ExpectedCount.once(), requestTo(linesUrl))
+                .andExpect(method(GET))
+                .andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))
+                .andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+        cachedClient.refresh(networkUuid, Resource.INITIAL_VARIANT_NUM);
+        assertEquals(1, cachedClient.getLines(networkUuid, Resource.INITIAL_VARIANT_NUM).size());
+        server.verify();
+        server.reset();
+
+        // a line has been added on the server
+        server.expect(ExpectedCount.once(), requestTo(linesUrl))
+                .andExpect(method(GET))
+                .andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))
+                .andRespond(withSuccess(objectMapper.writeValueAsString(TopLevelDocument.of(List.of(l1, l2))), MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.ETAG, "\"v2\""));
+        cachedClient.refresh(networkUuid, Resource.INITIAL_VARIANT_NUM);
+        assertEquals(2, cachedClient.getLines(networkUuid, Resource.INITIAL_VARIANT_NUM).size());
+        assertTrue(cachedClient.getLine(networkUuid, Resource.INITIAL_VARIANT_NUM, "LINE_2").isPresent());
+        server.verify();
+    }
+
+    @Test
+    void testRefreshWithChanges() throws IOException {
+        CachedNetworkStoreClient cachedClient = new CachedNetworkStoreClient(new BufferedNetworkStoreClient(restStoreClient, ForkJoinPool.commonPool()));
+        UUID networkUuid = UUID.fromString("7928181c-7977-4592-ba19-88027e4254e4");
+        String networkUrl = "/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM;
+
+        Resource<LineAttributes> l1 = Resource.lineBuilder()
+                .id("LINE_1")
+                .attributes(LineAttributes.builder()
+                        .voltageLevelId1("VL_1")
+                        .voltageLevelId2("VL_2")
+                        .p1(10)
+                        .build())
+                .build();
+        Resource<LineAttributes> l2 = Resource.lineBuilder()
+                .id("LINE_2")
+                .attributes(LineAttributes.builder()
+                        .voltageLevelId1("VL_1")
+                        .voltageLevelId2("VL_3")
+                        .build())
+                .build();
+        String linesJson = objectMapper.writeValueAsString(TopLevelDocument.of(List.of(l1, l2)));
+
+        server.expect(ExpectedCount.once(), requestTo(networkUrl + "/lines"))
+                .andExpect(method(GET))
+                .andRespond(withSuccess(linesJson, MediaType.APPLICATION_JSON));
+        assertEquals(2, cachedClient.getLines(networkUuid, Resource.INITIAL_VARIANT_NUM).size());
+        server.verify();
+        server.reset();
+
+        // first refresh: the current revision is taken, then collections are revalidated
+        server.expect(ExpectedCount.once(), requestTo(networkUrl + "/changes"))
+                .andExpect(method(GET))
+                .andRespond(withSuccess(objectMapper.writeValueAsString(NetworkChanges.builder().revision("r1").build()), MediaType.APPLICATION_JSON));
+        server.expect(ExpectedCount.once(), requestTo(networkUrl + "/lines"))
+                .andExpect(method(GET))
+                .andRespond(withSuccess(linesJson, MediaType.APPLICATION_JSON));
+        assertTrue(cachedClient.refresh(networkUuid, Resource.INITIAL_VARIANT_NUM).isEmpty());
+        server.verify();
+        server.reset();
+        Resource<LineAttributes> cachedL1 = cachedClient.getLine(networkUuid, Resource.INITIAL_VARIANT_NUM, "LINE_1").orElseThrow();
+
+        // second refresh: only the changes since r1 are loaded
+        NetworkChanges changes = NetworkChanges.builder()
+                .revision("r2")
+                .createdIds(Map.of(ResourceType.LINE, Set.of("LINE_3")))
+                .updatedIds(Map.of(ResourceType.LINE, Set.of("LINE_1")))
+                .removedIds(Map.of(ResourceType.LINE, Set.of("LINE_2")))
+                .build();
+        Resource<LineAttributes> updatedL1 = Resource.lineBuilder()
+                .id("LINE_1")
+                .attributes(LineAttributes.builder()
+                        .voltageLevelId1("VL_1")
+                        .voltageLevelId2("VL_2")
+                        .p1(20)
+                        .build())
+                .build();
+        Resource<LineAttributes> l3 = Resource.lineBuilder()
+                .id("LINE_3")
+                .attributes(LineAttributes.builder()
+                        .voltageLevelId1("VL_2")
+                        .voltageLevelId2("VL_3")
+                        .build())
+                .build();
+        server.expect(ExpectedCount.once(), requestTo(networkUrl + "/changes?since=r1"))
+                .andExpect(method(GET))
+                .andRespond(withSuccess(objectMapper.writeValueAsString(changes), MediaType.APPLICATION_JSON));
+        server.expect(ExpectedCount.once(), requestTo(networkUrl + "/identifiables/by-ids"))
+                .andExpect(method(POST))
+                .andExpect(content().json("[\"LINE_1\",\"LINE_3\"]"))
+                .andRespond(withSuccess(objectMapper.writeValueAsString(TopLevelDocument.of(List.of(updatedL1, l3))), MediaType.APPLICATION_JSON));
+        assertEquals("r2", cachedClient.refresh(networkUuid, Resource.INITIAL_VARIANT_NUM).orElseThrow().getRevision());
+        server.verify();
+        server.reset();
+
+        // the cached resource has been patched in place
+        assertSame(cachedL1, cachedClient.getLine(networkUuid, Resource.INITIAL_VARIANT_NUM, "LINE_1").orElseThrow());
+        assertEquals(20, cachedL1.getAttributes().getP1(), 0);
+        assertTrue(cachedClient.getLine(networkUuid, Resource.INITIAL_VARIANT_NUM, "LINE_2").isEmpty());
+        assertEquals(Set.of("LINE_1", "LINE_3"), cachedClient.getLines(networkUuid, Resource.INITIAL_VARIANT_NUM).stream().map(Resource::getId).collect(Collectors.toSet()));
+        assertEquals(List.of("LINE_3"), cachedClient.getVoltageLevelLines(networkUuid, Resource.INITIAL_VARIANT_NUM, "VL_3").stream().map(Resource::getId).toList());
+        server.verify();
+    }
+
     @Test
     void testGetExtensionCache() throws IOException {
         CachedNetworkStoreClient cachedClient = new CachedNetworkStoreClient(new BufferedNetworkStoreClient(restStoreClient, ForkJoinPool.commonPool()));
@@ -1052,6 +1300,54 @@ class CachedNetworkStoreClientTest {
         server.verify();
     }
 
+    @Test
+    void testGetVoltageLevelOperationalLimitsGroups() throws IOException {
+        CachedNetworkStoreClient cachedClient = new CachedNetworkStoreClient(new BufferedNetworkStoreClient(restStoreClient, ForkJoinPool.commonPool()));
+        UUID networkUuid = UUID.fromString("7928181c-7977-4592-ba19-88027e4254e4");
+
+        Resource<LineAttributes> l1 = Resource.lineBuilder()
+                .id("LINE_1")
+                .attributes(LineAttributes.builder()
+                        .voltageLevelId1("VL_1")
+                        .voltageLevelId2("VL_2")
+                        .build())
+                .build();
+        Resource<LineAttributes> l2 = Resource.lineBuilder()
+                .id("LINE_2")
+                .attributes(LineAttributes.builder()
+                        .voltageLevelId1("VL_1")
+                        .voltageLevelId2("VL_3")
+                        .build())
+                .build();
+        OperationalLimitsGroupAttributes olg1 = createOperationalLimitsGroupAttributes("default");
+        OperationalLimitsGroupAttributes olg2 = createOperationalLimitsGroupAttributes("winter");
+
+        // lines of the voltage level then all their operational limits groups in one request
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM + "/voltage-levels/VL_1/lines"))
+                .andExpect(method(GET))
+                .andRespond(withSuccess(objectMapper.writeValueAsString(TopLevelDocument.of(ImmutableList.of(l1, l2))), MediaType.APPLICATION_JSON));
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM + "/voltage-levels/VL_1/branch/types/" + ResourceType.LINE
+                        + "/operationalLimitsGroup"))
+                .andExpect(method(GET))
+                .andRespond(withSuccess(objectMapper.writeValueAsString(Map.of("LINE_1", Map.of(1, Map.of("default", olg1), 2, Map.of("winter", olg2)))), MediaType.APPLICATION_JSON));
+
+        Map<String, Map<Integer, Map<String, OperationalLimitsGroupAttributes>>> operationalLimitsGroups = cachedClient.getVoltageLevelOperationalLimitsGroupAttributes(networkUuid,
+                Resource.INITIAL_VARIANT_NUM, ResourceType.LINE, "VL_1");
+        assertEquals(Set.of("LINE_1"), operationalLimitsGroups.keySet());
+        assertEquals(Set.of("default"), operationalLimitsGroups.get("LINE_1").get(1).keySet());
+        assertEquals(Set.of("winter"), operationalLimitsGroups.get("LINE_1").get(2).keySet());
+        server.verify();
+        server.reset();
+
+        // branch sides of the voltage level are now loaded, even the ones without operational limits groups
+        assertEquals(1, cachedClient.getOperationalLimitsGroupAttributesForBranchSide(networkUuid, Resource.INITIAL_VARIANT_NUM, ResourceType.LINE, "LINE_1", 1).size());
+        assertTrue(cachedClient.getOperationalLimitsGroupAttributesForBranchSide(networkUuid, Resource.INITIAL_VARIANT_NUM, ResourceType.LINE, "LINE_2", 2).isEmpty());
+        assertEquals(operationalLimitsGroups, cachedClient.getVoltageLevelOperationalLimitsGroupAttributes(networkUuid, Resource.INITIAL_VARIANT_NUM, ResourceType.LINE, "VL_1"));
+        server.verify();
+
+        assertThrows(IllegalArgumentException.class, () -> cachedClient.getVoltageLevelOperationalLimitsGroupAttributes(networkUuid, Resource.INITIAL_VARIANT_NUM, ResourceType.LOAD, "VL_1"));
+    }
+
     private OperationalLimitsGroupAttributes createOperationalLimitsGroupAttributes(String operationalLimitsGroupId) {
         TreeMap<Integer, TemporaryLimitAttributes> temporaryLimits = new TreeMap<>();
         temporaryLimits.put(10, TemporaryLimitAttributes.builder()
@@ -0,0 +1,127 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+import com.powsybl.network.store.model.LoadAttributes;
+import com.powsybl.network.store.model.Resource;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+class ConnectionPoolTest {
+
+    private static final byte[] LOADS_JSON = ("{\"data\":[{\"type\":\"LOAD\",\"id\":\"l1\",\"variantNum\":0,\"attributes\":{\"voltageLevelId\":\"vl1\"}}],\"meta\":{}}")
+            .getBytes(StandardCharsets.UTF_8);
+
+    private final UUID networkUuid = UUID.fromString("7928181c-7977-4592-ba19-88027e4254e4");
+
+    private HttpServer server;
+
+    private String baseUrl;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, LOADS_JSON.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(LOADS_JSON);
+            }
+        });
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort() + "/";
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void testPooledConnections() {
+        NetworkStoreConfig config = new NetworkStoreConfig(baseUrl)
+                .setMaxConnections(4)
+                .setMaxConnectionsPerRoute(2);
+        try (RestClientImpl restClient = new RestClientImpl(config)) {
+            assertEquals(new ConnectionPool.Stats(0, 0, 0, 4), restClient.getConnectionPoolStats().orElseThrow());
+            for (int i = 0; i < 3; i++) {
+                List<Resource<LoadAttributes>> loads = restClient.getAll("load", "/networks/{networkUuid}/{variantNum}/loads", networkUuid, 0);
+                assertEquals("l1", loads.getFirst().getId());
+            }
+            // the connection has been kept alive and reused
+            assertEquals(new ConnectionPool.Stats(0, 0, 1, 4), restClient.getConnectionPoolStats().orElseThrow());
+        }
+    }
+
+    @Test
+    void testHttp2() {
+        NetworkStoreConfig config = new NetworkStoreConfig(baseUrl)
+                .setHttpVersion(HttpVersion.HTTP_2)
+                .setReadTimeout(5000);
+        try (RestClientImpl restClient = new RestClientImpl(config)) {
+            // server only supports HTTP/1.1, the client falls back to it
+            List<Resource<LoadAttributes>> loads = restClient.getAll("load", "/networks/{networkUuid}/{variantNum}/loads", networkUuid, 0);
+            assertEquals("l1", loads.getFirst().getId());
+            assertTrue(restClient.getConnectionPoolStats().isEmpty());
+        }
+    }
+
+    @Test
+    void testMetrics() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        try (ConnectionPool connectionPool = new ConnectionPool(new NetworkStoreConfig().setMaxConnections(8))) {
+            connectionPool.bindTo(meterRegistry);
+            assertEquals(8, meterRegistry.get(ConnectionPool.CONNECTIONS_METRIC).tag("state", "max").gauge().value(), 0);
+            assertEquals(0, meterRegistry.get(ConnectionPool.CONNECTIONS_METRIC).tag("state", "leased").gauge().value(), 0);
+        }
+        // the gauges are removed with the pool
+        assertTrue(meterRegistry.getMeters().isEmpty());
+    }
+
+    @Test
+    void testMetricsOfSeveralPools() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ConnectionPool connectionPool1 = new ConnectionPool(new NetworkStoreConfig().setMaxConnections(8));
+        try (ConnectionPool connectionPool2 = new ConnectionPool(new NetworkStoreConfig().setMaxConnections(16))) {
+            connectionPool1.bindTo(meterRegistry);
+            connectionPool2.bindTo(meterRegistry);
+            assertEquals(8, meterRegistry.get(ConnectionPool.CONNECTIONS_METRIC).tag("pool", connectionPool1.getId()).tag("state", "max").gauge().value(), 0);
+            assertEquals(16, meterRegistry.get(ConnectionPool.CONNECTIONS_METRIC).tag("pool", connectionPool2.getId()).tag("state", "max").gauge().value(), 0);
+
+            // closing a pool does not remove the gauges of the other one
+            connectionPool1.close();
+            assertNull(meterRegistry.find(ConnectionPool.CONNECTIONS_METRIC).tag("pool", connectionPool1.getId()).gauge());
+            assertEquals(16, meterRegistry.get(ConnectionPool.CONNECTIONS_METRIC).tag("pool", connectionPool2.getId()).tag("state", "max").gauge().value(), 0);
+        }
+    }
+
+    @Test
+    void testInvalidConfig() {
+        NetworkStoreConfig config = new NetworkStoreConfig();
+        assertThrows(IllegalArgumentException.class, () -> config.setMaxConnections(0));
+        assertThrows(IllegalArgumentException.class, () -> config.setMaxConnectionsPerRoute(0));
+        assertThrows(IllegalArgumentException.class, () -> config.setConnectionIdleTimeout(0));
+        assertThrows(IllegalArgumentException.class, () -> config.setConnectTimeout(-1));
+        assertThrows(IllegalArgumentException.class, () -> config.setReadTimeout(-1));
+    }
+}
@@ -0,0 +1,68 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+class FeatureSupportTest {
+
+    @Test
+    void testFallback() {
+        FeatureSupport support = new FeatureSupport("feature", "fallback");
+        AtomicInteger requestCount = new AtomicInteger();
+
+        assertEquals("result", support.execute(() -> {
+            requestCount.incrementAndGet();
+            return Optional.of("result");
+        }, () -> true, () -> "missing", () -> "fallback"));
+
+        // a not found answer for a missing target keeps the feature
+        assertEquals("missing", support.execute(() -> {
+            requestCount.incrementAndGet();
+            return Optional.empty();
+        }, () -> false, () -> "missing", () -> "fallback"));
+        assertTrue(support.isSupported());
+
+        // a not found answer for an existing target means that the server does not support it
+        assertEquals("fallback", support.execute(() -> {
+            requestCount.incrementAndGet();
+            return Optional.empty();
+        }, () -> true, () -> "missing", () -> "fallback"));
+        assertFalse(support.isSupported());
+        assertEquals(3, requestCount.get());
+
+        // and the request is not sent anymore
+        assertEquals("fallback", support.execute(() -> {
+            requestCount.incrementAndGet();
+            return Optional.of("result");
+        }, () -> true, () -> "missing", () -> "fallback"));
+        assertEquals(3, requestCount.get());
+    }
+
+    @Test
+    void testDisabled() {
+        FeatureSupport support = new FeatureSupport("feature", "fallback", false);
+        AtomicInteger fallbackCount = new AtomicInteger();
+        support.execute(() -> fail("request not expected"), fallbackCount::incrementAndGet);
+        assertEquals(1, fallbackCount.get());
+
+        FeatureSupport enabledSupport = new FeatureSupport("feature", "fallback");
+        enabledSupport.execute(() -> true, fallbackCount::incrementAndGet);
+        assertEquals(1, fallbackCount.get());
+        enabledSupport.execute(() -> false, fallbackCount::incrementAndGet);
+        assertEquals(2, fallbackCount.get());
+        assertFalse(enabledSupport.isSupported());
+    }
+}
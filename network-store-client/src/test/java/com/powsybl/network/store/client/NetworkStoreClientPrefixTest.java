@@ -31,7 +31,7 @@ import static org.springframework.test.web.client.response.MockRestResponseCreat
  */
 
 @RestClientTest(RestClient.class)
-@ContextConfiguration(classes = RestClientImpl.class)
+@ContextConfiguration(classes = {RestClientImpl.class, NetworkStoreProperties.class})
 class NetworkStoreClientPrefixTest {
 
     @Autowired
@@ -6,7 +6,9 @@
  */
 package com.powsybl.network.store.client;
 
+import com.powsybl.iidm.network.*;
 import com.powsybl.network.store.iidm.impl.CachedNetworkStoreClient;
+import com.powsybl.network.store.iidm.impl.NetworkFactoryImpl;
 import com.powsybl.network.store.iidm.impl.OfflineNetworkStoreClient;
 import com.powsybl.network.store.model.ResourceType;
 import org.junit.jupiter.api.Test;
@@ -14,8 +16,7 @@ import org.junit.jupiter.api.Test;
 import java.util.UUID;
 import java.util.concurrent.ForkJoinPool;
 
-import static org.junit.jupiter.api.Assertions.assertFalse;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
@@ -48,4 +49,80 @@ class PreloadingAllCollectionsTest {
             }
         }
     }
+
+    @Test
+    void testCloneVariant() {
+        NetworkFactory networkFactory = new NetworkFactoryImpl(() -> new PreloadingNetworkStoreClient(new CachedNetworkStoreClient(new OfflineNetworkStoreClient()),
+                false, ForkJoinPool.commonPool()));
+        Network network = networkFactory.createNetwork("n", "test");
+        Substation s1 = network.newSubstation()
+                .setId("s1")
+                .add();
+        VoltageLevel vl1 = s1.newVoltageLevel()
+                .setId("vl1")
+                .setNominalV(400)
+                .setTopologyKind(TopologyKind.BUS_BREAKER)
+                .add();
+        vl1.getBusBreakerView().newBus()
+                .setId("b1")
+                .add();
+        vl1.newLoad()
+                .setId("l1")
+                .setBus("b1")
+                .setP0(10)
+                .setQ0(5)
+                .add();
+
+        // the attributes of the load shared by both variants are copied before being modified
+        network.getVariantManager().cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, "v");
+        network.getVariantManager().setWorkingVariant("v");
+        network.getLoad("l1").setP0(20);
+        assertEquals(20, network.getLoad("l1").getP0(), 0);
+        network.getVariantManager().setWorkingVariant(VariantManagerConstants.INITIAL_VARIANT_ID);
+        assertEquals(10, network.getLoad("l1").getP0(), 0);
+        network.getLoad("l1").setQ0(6);
+        network.getVariantManager().setWorkingVariant("v");
+        assertEquals(5, network.getLoad("l1").getQ0(), 0);
+    }
+
+    @Test
+    void testCloneVariantProperties() {
+        NetworkFactory networkFactory = new NetworkFactoryImpl(() -> new PreloadingNetworkStoreClient(new CachedNetworkStoreClient(new OfflineNetworkStoreClient()),
+                false, ForkJoinPool.commonPool()));
+        Network network = networkFactory.createNetwork("n", "test");
+        Substation s1 = network.newSubstation()
+                .setId("s1")
+                .add();
+        for (String id : new String[] {"vl1", "vl2"}) {
+            VoltageLevel vl = s1.newVoltageLevel()
+                    .setId(id)
+                    .setNominalV(400)
+                    .setTopologyKind(TopologyKind.BUS_BREAKER)
+                    .add();
+            vl.getBusBreakerView().newBus()
+                    .setId(id + "b")
+                    .add();
+        }
+        Line line = network.newLine()
+                .setId("line")
+                .setBus1("vl1b")
+                .setBus2("vl2b")
+                .setR(1)
+                .setX(1)
+                .add();
+        line.newOperationalLimitsGroup1("group1");
+        line.setProperty("p", "a");
+
+        // properties maps shared by both variants are not modified in place
+        network.getVariantManager().cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, "v");
+        network.getVariantManager().setWorkingVariant("v");
+        network.getLine("line").setProperty("p", "b");
+        network.getLine("line").getOperationalLimitsGroup1("group1").orElseThrow().setProperty("q", "c");
+        network.getVariantManager().setWorkingVariant(VariantManagerConstants.INITIAL_VARIANT_ID);
+        assertEquals("a", network.getLine("line").getProperty("p"));
+        assertFalse(network.getLine("line").getOperationalLimitsGroup1("group1").orElseThrow().hasProperty("q"));
+        network.getVariantManager().setWorkingVariant("v");
+        assertEquals("b", network.getLine("line").getProperty("p"));
+        assertEquals("c", network.getLine("line").getOperationalLimitsGroup1("group1").orElseThrow().getProperty("q"));
+    }
 }
@@ -13,9 +13,12 @@ import com.google.common.collect.ImmutableList;
 import com.powsybl.iidm.network.Country;
 import com.powsybl.iidm.network.LoadType;
 import com.powsybl.iidm.network.SwitchKind;
+import com.powsybl.iidm.network.VariantManagerConstants;
 import com.powsybl.iidm.network.extensions.ActivePowerControl;
 import com.powsybl.iidm.network.extensions.GeneratorStartup;
+import com.powsybl.network.store.iidm.impl.CacheBudget;
 import com.powsybl.network.store.iidm.impl.CachedNetworkStoreClient;
+import com.powsybl.network.store.iidm.impl.OfflineNetworkStoreClient;
 import com.powsybl.network.store.model.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -30,11 +33,13 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.client.ExpectedCount;
 import org.springframework.test.web.client.MockRestServiceServer;
 import java.io.IOException;
+import java.time.ZonedDateTime;
 import java.util.*;
 import java.util.concurrent.ForkJoinPool;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.http.HttpMethod.*;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withResourceNotFound;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
 
 /**
@@ -145,6 +150,47 @@ class PreloadingNetworkStoreClientTest {
         server.verify();
     }
 
+    @Test
+    void testRefresh() throws IOException {
+        Resource<SubstationAttributes> substation = Resource.substationBuilder()
+                .id("sub1")
+                .attributes(SubstationAttributes.builder()
+                        .country(Country.FR)
+                        .name("SUB1")
+                        .build())
+                .build();
+        String substationsUrl = "/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM + "/substations";
+        server.expect(ExpectedCount.once(), requestTo(substationsUrl))
+                .andExpect(method(GET))
+                .andRespond(withSuccess(objectMapper.writeValueAsString(TopLevelDocument.of(List.of(substation))), MediaType.APPLICATION_JSON));
+        assertEquals("SUB1", cachedClient.getSubstation(networkUuid, Resource.INITIAL_VARIANT_NUM, "sub1").orElseThrow().getAttributes().getName());
+        server.verify();
+        server.reset();
+
+        // the refresh reaches the cache, which loads the substations again
+        Resource<NetworkAttributes> network = Resource.networkBuilder()
+                .id("n1")
+                .attributes(NetworkAttributes.builder()
+                        .uuid(networkUuid)
+                        .variantId(VariantManagerConstants.INITIAL_VARIANT_ID)
+                        .caseDate(ZonedDateTime.parse("2015-01-01T00:00:00.000Z"))
+                        .build())
+                .build();
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM + "/changes"))
+                .andExpect(method(GET))
+                .andRespond(withResourceNotFound());
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM))
+                .andExpect(method(GET))
+                .andRespond(withSuccess(objectMapper.writeValueAsString(TopLevelDocument.of(network)), MediaType.APPLICATION_JSON));
+        substation.getAttributes().setName("SUB2");
+        server.expect(ExpectedCount.once(), requestTo(substationsUrl))
+                .andExpect(method(GET))
+                .andRespond(withSuccess(objectMapper.writeValueAsString(TopLevelDocument.of(List.of(substation))), MediaType.APPLICATION_JSON));
+        cachedClient.refresh(networkUuid, Resource.INITIAL_VARIANT_NUM);
+        assertEquals("SUB2", cachedClient.getSubstation(networkUuid, Resource.INITIAL_VARIANT_NUM, "sub1").orElseThrow().getAttributes().getName());
+        server.verify();
+    }
+
     @Test
     void testVoltageLevelCache() throws IOException {
         // Two successive voltage level retrievals, only the first should send a REST request, the second uses the cache
@@ -1832,4 +1878,27 @@ class PreloadingNetworkStoreClientTest {
         assertTrue(olg2Attributes.isPresent());
         server.verify();
     }
+
+    @Test
+    void testWorkingVariantKeptOnEviction() {
+        List<Integer> loadedVariantNums = new ArrayList<>();
+        OfflineNetworkStoreClient delegate = new OfflineNetworkStoreClient() {
+            @Override
+            public List<Resource<LoadAttributes>> getLoads(UUID networkUuid, int variantNum) {
+                loadedVariantNums.add(variantNum);
+                return List.of(Resource.loadBuilder().id("l1").variantNum(variantNum).attributes(LoadAttributes.builder().voltageLevelId("vl1").build()).build(),
+                        Resource.loadBuilder().id("l2").variantNum(variantNum).attributes(LoadAttributes.builder().voltageLevelId("vl1").build()).build());
+            }
+        };
+        CacheBudget budget = new CacheBudget(3);
+        PreloadingNetworkStoreClient client = new PreloadingNetworkStoreClient(new CachedNetworkStoreClient(delegate, budget), false, ForkJoinPool.commonPool());
+
+        // the working variant reaches the cache, which keeps its collections when the budget is exceeded
+        client.setWorkingVariantNum(networkUuid, 0);
+        client.getLoads(networkUuid, 0);
+        client.getLoads(networkUuid, 1);
+        client.getLoads(networkUuid, 2);
+        client.getLoads(networkUuid, 0);
+        assertEquals(List.of(0, 1, 2), loadedVariantNums);
+    }
 }
@@ -0,0 +1,124 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+import com.powsybl.commons.PowsyblException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+class RequestCoalescerTest {
+
+    private static final String URL = "/networks/{networkUuid}/{variantNum}/lines";
+
+    private final UUID networkUuid = UUID.fromString("7928181c-7977-4592-ba19-88027e4254e4");
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private RequestCoalescer requestCoalescer;
+
+    private ExecutorService executorService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        requestCoalescer = new RequestCoalescer(meterRegistry);
+        executorService = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    private double getCoalescedCount() {
+        return meterRegistry.get(RequestCoalescer.COALESCED_REQUESTS_METRIC).tag("target", "line").counter().count();
+    }
+
+    @Test
+    void testConcurrentIdenticalRequests() throws Exception {
+        CountDownLatch requestStarted = new CountDownLatch(1);
+        CountDownLatch responseReceived = new CountDownLatch(1);
+        AtomicInteger requestCount = new AtomicInteger();
+        List<String> response = List.of("l1", "l2");
+
+        Future<List<String>> first = executorService.submit(() -> requestCoalescer.execute("line", URL, new Object[] {networkUuid, 0}, () -> {
+            requestCount.incrementAndGet();
+            requestStarted.countDown();
+            try {
+                assertTrue(responseReceived.await(10, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return response;
+        }));
+        assertTrue(requestStarted.await(10, TimeUnit.SECONDS));
+        Future<List<String>> second = executorService.submit(() -> requestCoalescer.execute("line", URL, new Object[] {networkUuid, 0}, () -> {
+            requestCount.incrementAndGet();
+            return List.of();
+        }));
+        // wait for the second call to join the in flight request
+        while (meterRegistry.find(RequestCoalescer.COALESCED_REQUESTS_METRIC).counter() == null) {
+            Thread.sleep(1);
+        }
+        responseReceived.countDown();
+
+        assertSame(response, first.get(10, TimeUnit.SECONDS));
+        assertSame(response, second.get(10, TimeUnit.SECONDS));
+        assertEquals(1, requestCount.get());
+        assertEquals(1, getCoalescedCount(), 0);
+
+        // once done, the same request is sent again
+        assertEquals(List.of(), requestCoalescer.execute("line", URL, new Object[] {networkUuid, 0}, () -> List.of()));
+        assertEquals(1, getCoalescedCount(), 0);
+    }
+
+    @Test
+    void testDifferentRequestsAreNotCoalesced() {
+        assertEquals(List.of("v0"), requestCoalescer.execute("line", URL, new Object[] {networkUuid, 0}, () -> List.of("v0")));
+        assertEquals(List.of("v1"), requestCoalescer.execute("line", URL, new Object[] {networkUuid, 1}, () -> List.of("v1")));
+        assertNull(meterRegistry.find(RequestCoalescer.COALESCED_REQUESTS_METRIC).counter());
+    }
+
+    @Test
+    void testFailureIsShared() throws Exception {
+        CountDownLatch requestStarted = new CountDownLatch(1);
+        CountDownLatch failureSent = new CountDownLatch(1);
+
+        Future<Object> first = executorService.submit(() -> requestCoalescer.execute("line", URL, new Object[] {networkUuid, 0}, () -> {
+            requestStarted.countDown();
+            try {
+                assertTrue(failureSent.await(10, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new PowsyblException("boom");
+        }));
+        assertTrue(requestStarted.await(10, TimeUnit.SECONDS));
+        Future<Object> second = executorService.submit(() -> requestCoalescer.execute("line", URL, new Object[] {networkUuid, 0}, () -> "not sent"));
+        while (meterRegistry.find(RequestCoalescer.COALESCED_REQUESTS_METRIC).counter() == null) {
+            Thread.sleep(1);
+        }
+        failureSent.countDown();
+
+        ExecutionException e1 = assertThrows(ExecutionException.class, () -> first.get(10, TimeUnit.SECONDS));
+        ExecutionException e2 = assertThrows(ExecutionException.class, () -> second.get(10, TimeUnit.SECONDS));
+        assertInstanceOf(PowsyblException.class, e1.getCause());
+        assertSame(e1.getCause(), e2.getCause());
+    }
+}
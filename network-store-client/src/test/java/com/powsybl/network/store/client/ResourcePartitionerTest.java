@@ -0,0 +1,106 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+class ResourcePartitionerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private static List<String> createItems(int count, int length) {
+        return IntStream.range(0, count).mapToObj(i -> "x".repeat(length)).toList();
+    }
+
+    private int serializedItemCount = 0;
+
+    /**
+     * Item counting its serializations.
+     */
+    public final class Item {
+
+        public String getValue() {
+            serializedItemCount++;
+            return "x";
+        }
+    }
+
+    @Test
+    void testBytesBudget() {
+        // each item is 10 chars + 2 quotes + 1 separator = 13 bytes
+        ResourcePartitioner partitioner = new ResourcePartitioner(new ObjectMapper(), 40, 100, meterRegistry);
+        List<List<String>> partitions = partitioner.partition("load", "create", createItems(10, 10), null);
+        assertEquals(List.of(3, 3, 3, 1), partitions.stream().map(List::size).toList());
+
+        DistributionSummary items = meterRegistry.get(ResourcePartitioner.PARTITION_ITEMS_METRIC)
+                .tag("target", "load")
+                .tag("operation", "create")
+                .summary();
+        assertEquals(4, items.count());
+        assertEquals(10, items.totalAmount(), 0);
+        DistributionSummary bytes = meterRegistry.get(ResourcePartitioner.PARTITION_BYTES_METRIC).summary();
+        assertEquals(130, bytes.totalAmount(), 0);
+        assertEquals(39, bytes.max(), 0);
+    }
+
+    @Test
+    void testMaxPartitionSize() {
+        ResourcePartitioner partitioner = new ResourcePartitioner(new ObjectMapper(), Long.MAX_VALUE, 4, meterRegistry);
+        List<List<String>> partitions = partitioner.partition("line", "delete", createItems(9, 1), null);
+        assertEquals(List.of(4, 4, 1), partitions.stream().map(List::size).toList());
+    }
+
+    @Test
+    void testOversizedItemIsAlone() {
+        ResourcePartitioner partitioner = new ResourcePartitioner(new ObjectMapper(), 20, 100, meterRegistry);
+        List<String> items = new ArrayList<>(createItems(6, 1));
+        items.add("x".repeat(50));
+        items.add("x");
+        List<List<String>> partitions = partitioner.partition("load", "update", items, null);
+        // each small item is 1 char + 2 quotes + 1 separator = 4 bytes
+        assertEquals(List.of(5, 1, 1, 1), partitions.stream().map(List::size).toList());
+        assertEquals(List.of("x".repeat(50)), partitions.get(2));
+    }
+
+    @Test
+    void testSerializedOnce() {
+        ResourcePartitioner partitioner = new ResourcePartitioner(new ObjectMapper(), 100, 1000, meterRegistry);
+        List<Item> items = IntStream.range(0, 20).mapToObj(i -> new Item()).toList();
+        // each item is {"value":"x"} + 1 separator = 14 bytes
+        List<List<Item>> partitions = partitioner.partition("load", "create", items, null);
+        assertEquals(items.size(), serializedItemCount);
+        assertEquals(7, partitions.getFirst().size());
+        assertEquals(items.size(), partitions.stream().mapToInt(List::size).sum());
+    }
+
+    @Test
+    void testEmpty() {
+        ResourcePartitioner partitioner = new ResourcePartitioner(new ObjectMapper(), 20, 100, meterRegistry);
+        assertTrue(partitioner.partition("load", "create", List.of(), null).isEmpty());
+        ObjectMapper objectMapper = new ObjectMapper();
+        assertThrows(IllegalArgumentException.class, () -> new ResourcePartitioner(objectMapper, 0, 100, meterRegistry));
+        assertThrows(IllegalArgumentException.class, () -> new ResourcePartitioner(objectMapper, 20, 0, meterRegistry));
+    }
+}
@@ -0,0 +1,166 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+import com.powsybl.network.store.model.*;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+class RestAsyncNetworkStoreClientTest {
+
+    private static final String LOADS_JSON = "{\"data\":["
+            + "{\"type\":\"LOAD\",\"id\":\"l1\",\"variantNum\":0,\"attributes\":{\"voltageLevelId\":\"vl1\"}},"
+            + "{\"type\":\"LOAD\",\"id\":\"l2\",\"variantNum\":0,\"attributes\":{\"voltageLevelId\":\"vl2\"}}"
+            + "],\"meta\":{}}";
+
+    private final UUID networkUuid = UUID.fromString("7928181c-7977-4592-ba19-88027e4254e4");
+
+    private record Answer(int status, String body) {
+    }
+
+    private record ReceivedRequest(String method, String path, String body) {
+    }
+
+    private final Map<String, Answer> answers = new ConcurrentHashMap<>();
+
+    private final List<ReceivedRequest> receivedRequests = new CopyOnWriteArrayList<>();
+
+    private HttpServer server;
+
+    private AsyncRestClient asyncRestClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+        asyncRestClient = new AsyncRestClientImpl("http://localhost:" + server.getAddress().getPort() + "/");
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath();
+        receivedRequests.add(new ReceivedRequest(method, path, new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8)));
+        Answer answer = answers.getOrDefault(method + " " + path, new Answer(404, ""));
+        byte[] body = answer.body().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(answer.status(), body.length > 0 ? body.length : -1);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(body);
+        }
+    }
+
+    private void answer(String method, String path, int status, String body) {
+        answers.put(method + " " + path, new Answer(status, body));
+    }
+
+    private List<ReceivedRequest> getReceivedRequests(String method, String path) {
+        return receivedRequests.stream().filter(r -> r.method().equals(method) && r.path().equals(path)).toList();
+    }
+
+    private static Resource<LoadAttributes> createLoad(String id) {
+        return Resource.loadBuilder()
+                .id(id)
+                .attributes(LoadAttributes.builder()
+                        .voltageLevelId("vl1")
+                        .p0(10)
+                        .build())
+                .build();
+    }
+
+    @Test
+    void testGetResources() {
+        answer("GET", "/v1/networks/" + networkUuid + "/0/loads", 200, LOADS_JSON);
+        answer("GET", "/v1/networks/" + networkUuid + "/0/loads/l1", 200, "{\"data\":[{\"type\":\"LOAD\",\"id\":\"l1\",\"variantNum\":0,\"attributes\":{\"voltageLevelId\":\"vl1\"}}],\"meta\":{}}");
+        RestAsyncNetworkStoreClient client = new RestAsyncNetworkStoreClient(asyncRestClient);
+
+        // all the requests are in flight at the same time
+        CompletableFuture<List<Resource<LoadAttributes>>> loads = client.getResources(networkUuid, 0, ResourceType.LOAD);
+        CompletableFuture<Optional<Resource<LoadAttributes>>> load = client.getResource(networkUuid, 0, ResourceType.LOAD, "l1");
+        CompletableFuture<Optional<Resource<LoadAttributes>>> missingLoad = client.getResource(networkUuid, 0, ResourceType.LOAD, "l3");
+
+        assertEquals(List.of("l1", "l2"), loads.join().stream().map(Resource::getId).toList());
+        assertEquals("vl1", load.join().orElseThrow().getAttributes().getVoltageLevelId());
+        assertTrue(missingLoad.join().isEmpty());
+    }
+
+    @Test
+    void testPartitionedWrites() {
+        answer("POST", "/v1/networks/" + networkUuid + "/loads", 201, "");
+        answer("PUT", "/v1/networks/" + networkUuid + "/loads/sv", 200, "");
+        answer("DELETE", "/v1/networks/" + networkUuid + "/0/loads", 200, "");
+        RestAsyncNetworkStoreClient client = new RestAsyncNetworkStoreClient(asyncRestClient, new NetworkStoreConfig().setMaxPartitionSize(2));
+        List<Resource<LoadAttributes>> loads = IntStream.range(0, 5).mapToObj(i -> createLoad("l" + i)).toList();
+
+        client.createResources(networkUuid, ResourceType.LOAD, loads).join();
+        assertEquals(3, getReceivedRequests("POST", "/v1/networks/" + networkUuid + "/loads").size());
+
+        AttributeFilter previousFilter = loads.getFirst().getFilter();
+        client.updateResources(networkUuid, ResourceType.LOAD, loads.subList(0, 1), AttributeFilter.SV).join();
+        List<ReceivedRequest> updates = getReceivedRequests("PUT", "/v1/networks/" + networkUuid + "/loads/sv");
+        assertEquals(1, updates.size());
+        assertTrue(updates.getFirst().body().contains("\"filter\":\"SV\""));
+        assertFalse(updates.getFirst().body().contains("voltageLevelId"));
+        // filter has been restored once the body is serialized
+        assertEquals(previousFilter, loads.getFirst().getFilter());
+
+        client.removeResources(networkUuid, 0, ResourceType.LOAD, List.of("l0", "l1", "l2")).join();
+        List<ReceivedRequest> deletions = getReceivedRequests("DELETE", "/v1/networks/" + networkUuid + "/0/loads");
+        assertEquals(2, deletions.size());
+        assertEquals(Set.of("[\"l0\",\"l1\"]", "[\"l2\"]"), Set.of(deletions.get(0).body(), deletions.get(1).body()));
+    }
+
+    @Test
+    void testServerError() {
+        answer("GET", "/v1/networks/" + networkUuid + "/0/loads", 500, "boom");
+        RestAsyncNetworkStoreClient client = new RestAsyncNetworkStoreClient(asyncRestClient);
+
+        CompletableFuture<List<Resource<LoadAttributes>>> loads = client.getResources(networkUuid, 0, ResourceType.LOAD);
+        CompletionException e = assertThrows(CompletionException.class, loads::join);
+        assertInstanceOf(HttpServerErrorException.class, e.getCause());
+    }
+
+    @Test
+    void testSynchronousClientOnTop() {
+        answer("GET", "/v1/networks/" + networkUuid + "/0/loads", 200, LOADS_JSON);
+        answer("GET", "/v1/networks/" + networkUuid + "/0/generators", 500, "boom");
+        RestNetworkStoreClient client = new RestNetworkStoreClient(new BlockingRestClient(asyncRestClient));
+
+        assertEquals(List.of("l1", "l2"), client.getLoads(networkUuid, 0).stream().map(Resource::getId).toList());
+        List<Resource<LoadAttributes>> streamedLoads = new ArrayList<>();
+        client.getAllResources(networkUuid, 0, ResourceType.LOAD, streamedLoads::add);
+        assertEquals(2, streamedLoads.size());
+        assertTrue(client.getLoad(networkUuid, 0, "l3").isEmpty());
+        assertThrows(HttpServerErrorException.class, () -> client.getGenerators(networkUuid, 0));
+    }
+}
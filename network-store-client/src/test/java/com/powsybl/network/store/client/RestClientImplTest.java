@@ -0,0 +1,188 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.powsybl.network.store.model.*;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.test.web.client.MockRestServiceServer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.http.HttpMethod.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+/**
+ * @author Etienne Lesot <etienne.lesot at rte-france.com>
+ */
+class RestClientImplTest {
+
+    private static final String BASE_URL = "http://localhost/" + NetworkStoreApi.VERSION;
+
+    private static final MediaType SMILE = WireFormat.SMILE.getMediaType();
+
+    private final UUID networkUuid = UUID.fromString("7928181c-7977-4592-ba19-88027e4254e4");
+
+    private final ObjectMapper smileMapper = new ObjectMapper(new SmileFactory()).registerModule(new JavaTimeModule());
+
+    private MockRestServiceServer server;
+
+    private RestClient restClient;
+
+    @BeforeEach
+    void setUp() {
+        createRestClient(new NetworkStoreConfig("http://localhost/").setWireFormat(WireFormat.SMILE));
+    }
+
+    private void createRestClient(NetworkStoreConfig config) {
+        AtomicReference<MockRestServiceServer> serverRef = new AtomicReference<>();
+        restClient = new RestClientImpl(RestClientImpl.createRestTemplateBuilder(config)
+                .additionalCustomizers(restTemplate -> serverRef.set(MockRestServiceServer.bindTo(restTemplate).build())),
+                config.getWireFormat());
+        server = serverRef.get();
+    }
+
+    private static byte[] gzip(String str) throws IOException {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipOs = new GZIPOutputStream(os)) {
+            gzipOs.write(str.getBytes(StandardCharsets.UTF_8));
+        }
+        return os.toByteArray();
+    }
+
+    private static String gunzip(ClientHttpRequest request) throws IOException {
+        try (GZIPInputStream is = new GZIPInputStream(new ByteArrayInputStream(((MockClientHttpRequest) request).getBodyAsBytes()))) {
+            return new String(is.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static Resource<LoadAttributes> createLoad(String id, String voltageLevelId) {
+        return Resource.loadBuilder()
+                .id(id)
+                .attributes(LoadAttributes.builder()
+                        .voltageLevelId(voltageLevelId)
+                        .p0(10)
+                        .build())
+                .build();
+    }
+
+    @Test
+    void testGetAllWithSmile() throws Exception {
+        byte[] loadsSmile = smileMapper.writeValueAsBytes(TopLevelDocument.of(List.of(createLoad("l1", "vl1"), createLoad("l2", "vl2"))));
+        server.expect(requestTo(BASE_URL + "/networks/" + networkUuid + "/0/loads"))
+                .andExpect(method(GET))
+                .andExpect(header(HttpHeaders.ACCEPT, SMILE + ", " + MediaType.APPLICATION_JSON_VALUE))
+                .andRespond(withSuccess(loadsSmile, SMILE));
+        server.expect(requestTo(BASE_URL + "/networks/" + networkUuid + "/0/loads"))
+                .andExpect(method(GET))
+                .andRespond(withSuccess(loadsSmile, SMILE));
+
+        List<Resource<LoadAttributes>> loads = restClient.getAll("load", "/networks/{networkUuid}/{variantNum}/loads", networkUuid, 0);
+        assertEquals(List.of("l1", "l2"), loads.stream().map(Resource::getId).toList());
+
+        List<Resource<LoadAttributes>> streamedLoads = new ArrayList<>();
+        assertEquals(2, restClient.streamAll("load", "/networks/{networkUuid}/{variantNum}/loads", streamedLoads::add, networkUuid, 0));
+        assertEquals("vl2", streamedLoads.get(1).getAttributes().getVoltageLevelId());
+        server.verify();
+    }
+
+    @Test
+    void testJsonAnswerToSmileRequest() {
+        server.expect(requestTo(BASE_URL + "/networks/" + networkUuid + "/0/loads"))
+                .andExpect(method(GET))
+                .andRespond(withSuccess("{\"data\":[{\"type\":\"LOAD\",\"id\":\"l1\",\"variantNum\":0,\"attributes\":{\"voltageLevelId\":\"vl1\"}}],\"meta\":{}}", MediaType.APPLICATION_JSON));
+
+        List<Resource<LoadAttributes>> loads = new ArrayList<>();
+        restClient.streamAll("load", "/networks/{networkUuid}/{variantNum}/loads", loads::add, networkUuid, 0);
+        assertEquals("vl1", loads.getFirst().getAttributes().getVoltageLevelId());
+        server.verify();
+    }
+
+    @Test
+    void testUpdateWithSmileAndFallbackToJson() {
+        LoadAttributes loadAttributes = new LoadAttributes();
+        loadAttributes.setP(100);
+        loadAttributes.setQ(-100);
+        List<Resource<LoadAttributes>> loadResources = List.of(new Resource<>(ResourceType.LOAD, "loadId", 0, AttributeFilter.SV, loadAttributes));
+
+        // serialization views are applied to the binary body too
+        server.expect(requestTo(BASE_URL + "/networks/" + networkUuid + "/loads/sv"))
+                .andExpect(method(PUT))
+                .andExpect(content().contentType(SMILE))
+                .andExpect(request -> {
+                    JsonNode body = smileMapper.readTree(((MockClientHttpRequest) request).getBodyAsBytes());
+                    assertEquals("{\"p\":100.0,\"q\":-100.0}", body.get(0).get("attributes").toString());
+                })
+                .andRespond(withStatus(HttpStatus.UNSUPPORTED_MEDIA_TYPE));
+        server.expect(requestTo(BASE_URL + "/networks/" + networkUuid + "/loads/sv"))
+                .andExpect(method(PUT))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().string("[{\"type\":\"LOAD\",\"id\":\"loadId\",\"variantNum\":0,\"filter\":\"SV\",\"attributes\":{\"p\":100.0,\"q\":-100.0}}]"))
+                .andRespond(withSuccess());
+        // once refused, the binary format is not tried anymore
+        server.expect(requestTo(BASE_URL + "/networks/" + networkUuid + "/loads/sv"))
+                .andExpect(method(PUT))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andRespond(withSuccess());
+
+        restClient.updateAll("/networks/{networkUuid}/loads/sv", loadResources, AttributeFilter.JsonViews.OnlySv.class, networkUuid);
+        restClient.updateAll("/networks/{networkUuid}/loads/sv", loadResources, AttributeFilter.JsonViews.OnlySv.class, networkUuid);
+        server.verify();
+    }
+
+    @Test
+    void testCompression() throws IOException {
+        createRestClient(new NetworkStoreConfig("http://localhost/").setCompression(Compression.GZIP).setCompressionThreshold(100));
+        String loadsJson = "{\"data\":[{\"type\":\"LOAD\",\"id\":\"l1\",\"variantNum\":0,\"attributes\":{\"voltageLevelId\":\"vl1\"}}],\"meta\":{}}";
+
+        // request body is compressed above the threshold
+        server.expect(requestTo(BASE_URL + "/networks/" + networkUuid + "/loads"))
+                .andExpect(method(POST))
+                .andExpect(header(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(request -> assertTrue(gunzip(request).contains("\"voltageLevelId\":\"vl1\"")))
+                .andRespond(withStatus(HttpStatus.CREATED));
+        // but not below
+        server.expect(requestTo(BASE_URL + "/networks/" + networkUuid + "/0/loads"))
+                .andExpect(method(DELETE))
+                .andExpect(headerDoesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(content().string("[\"l1\"]"))
+                .andRespond(withSuccess());
+        // and compressed responses are decoded
+        server.expect(requestTo(BASE_URL + "/networks/" + networkUuid + "/0/loads"))
+                .andExpect(method(GET))
+                .andExpect(header(HttpHeaders.ACCEPT_ENCODING, Matchers.containsString("gzip")))
+                .andRespond(withSuccess(gzip(loadsJson), MediaType.APPLICATION_JSON).header(HttpHeaders.CONTENT_ENCODING, "gzip"));
+
+        restClient.createAll("/networks/{networkUuid}/loads", List.of(createLoad("l1", "vl1")), networkUuid);
+        restClient.deleteAll("/networks/{networkUuid}/{variantNum}/loads", List.of("l1"), networkUuid, 0);
+        List<Resource<LoadAttributes>> loads = restClient.getAll("load", "/networks/{networkUuid}/{variantNum}/loads", networkUuid, 0);
+        assertEquals("vl1", loads.getFirst().getAttributes().getVoltageLevelId());
+        server.verify();
+    }
+}
@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.network.store.client.util.ExecutorUtil;
+import com.powsybl.network.store.model.LoadAttributes;
+import com.powsybl.network.store.model.Resource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+class RestNetworkStoreClientPartitionTest {
+
+    private static final UUID NETWORK_UUID = UUID.fromString("7928181c-7977-4592-ba19-88027e4254e4");
+
+    private ExecutorService executorService;
+
+    private RestClient restClient;
+
+    private RestNetworkStoreClient restStoreClient;
+
+    @BeforeEach
+    void setUp() {
+        executorService = Executors.newFixedThreadPool(4);
+        restClient = mock(RestClient.class);
+        restStoreClient = new RestNetworkStoreClient(restClient, executorService, new NetworkStoreConfig()
+                .setPartitionConcurrency(4)
+                .setMaxPartitionSize(1000));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ExecutorUtil.shutdownAndAwaitTermination(executorService);
+    }
+
+    private static List<Resource<LoadAttributes>> createLoads(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> Resource.loadBuilder()
+                        .id("l" + i)
+                        .attributes(LoadAttributes.builder()
+                                .voltageLevelId("vl1")
+                                .build())
+                        .build())
+                .toList();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testConcurrentCreation() {
+        List<Resource<LoadAttributes>> loads = createLoads(3500);
+        restStoreClient.createLoads(NETWORK_UUID, loads);
+
+        ArgumentCaptor<List<Resource<LoadAttributes>>> partitionCaptor = ArgumentCaptor.forClass(List.class);
+        verify(restClient, times(4)).createAll(isNull(), eq("/networks/{networkUuid}/loads"), partitionCaptor.capture(), eq(NETWORK_UUID));
+        Set<String> createdIds = new HashSet<>();
+        partitionCaptor.getAllValues().forEach(partition -> partition.forEach(resource -> createdIds.add(resource.getId())));
+        assertEquals(3500, createdIds.size());
+    }
+
+    @Test
+    void testFailuresAreAggregated() {
+        List<Resource<LoadAttributes>> loads = createLoads(3500);
+        doThrow(new HttpServerErrorException(HttpStatus.INTERNAL_SERVER_ERROR))
+                .when(restClient).createAll(isNull(), anyString(), argThat(partition -> partition.size() == 1000 && !partition.getFirst().getId().equals("l0")), any());
+
+        PowsyblException e = assertThrows(PowsyblException.class, () -> restStoreClient.createLoads(NETWORK_UUID, loads));
+        assertEquals("2 of 4 load partitions failed", e.getMessage());
+        assertEquals(2, e.getSuppressed().length);
+        // all partitions have been tried
+        verify(restClient, times(4)).createAll(isNull(), anyString(), anyList(), any());
+    }
+
+    @Test
+    void testSingleFailureIsRethrown() {
+        doThrow(new HttpServerErrorException(HttpStatus.INTERNAL_SERVER_ERROR))
+                .when(restClient).updateAll(anyString(), argThat(partition -> partition.size() == 500), any(), any());
+
+        List<Resource<LoadAttributes>> loads = createLoads(2500);
+        assertThrows(HttpServerErrorException.class, () -> restStoreClient.updateLoads(NETWORK_UUID, loads, null));
+        verify(restClient, times(3)).updateAll(anyString(), anyList(), any(), any());
+    }
+}
@@ -17,7 +17,10 @@ import com.powsybl.commons.PowsyblException;
 import com.powsybl.iidm.network.*;
 import com.powsybl.iidm.network.extensions.ActivePowerControl;
 import com.powsybl.network.store.iidm.impl.DuplicateVariantNumException;
+import com.powsybl.network.store.iidm.impl.FilteredResourcesCache;
 import com.powsybl.network.store.model.*;
+import com.powsybl.network.store.model.svattributes.BranchSvAttributes;
+import com.powsybl.network.store.model.svattributes.InjectionSvAttributes;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -28,6 +31,8 @@ import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Primary;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.client.ExpectedCount;
 import org.springframework.test.web.client.MockRestServiceServer;
@@ -56,6 +61,42 @@ class RestNetworkStoreClientTest {
 
     }
 
+    @Test
+    void testUpdateSvColumns() {
+        RestNetworkStoreClient restNetworkStoreClient = new RestNetworkStoreClient(restClient, objectMapper, null, new NetworkStoreConfig().setSvColumns(true));
+        Resource<LoadAttributes> l1 = Resource.create(ResourceType.LOAD, "l1", 0, LoadAttributes.builder().p(100).q(-100).build());
+        Resource<LoadAttributes> l2 = Resource.create(ResourceType.LOAD, "l2", 0, LoadAttributes.builder().p(50).q(-50).build());
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/0/loads/sv/columns"))
+                .andExpect(method(PUT))
+                .andExpect(jsonPath("$.type").value("LOAD"))
+                .andExpect(jsonPath("$.ids").value(Matchers.contains("l1", "l2")))
+                .andExpect(jsonPath("$.doubleColumns.p").value(Matchers.contains(100.0, 50.0)))
+                .andExpect(jsonPath("$.doubleColumns.q").value(Matchers.contains(-100.0, -50.0)))
+                .andRespond(withSuccess());
+        restNetworkStoreClient.updateLoads(networkUuid, List.of(l1, l2), AttributeFilter.SV);
+        server.verify();
+        server.reset();
+
+        // other filters are still sent by resource
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/loads"))
+                .andExpect(method(PUT))
+                .andRespond(withSuccess());
+        restNetworkStoreClient.updateLoads(networkUuid, List.of(l1), AttributeFilter.PRIMARY_AS_NULL);
+        server.verify();
+        server.reset();
+
+        // server without columnar updates: fall back to updates by resource, for this call and the following ones
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/0/loads/sv/columns"))
+                .andExpect(method(PUT))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND));
+        server.expect(ExpectedCount.twice(), requestTo("/networks/" + networkUuid + "/loads/sv"))
+                .andExpect(method(PUT))
+                .andRespond(withSuccess());
+        restNetworkStoreClient.updateLoads(networkUuid, List.of(l1, l2), AttributeFilter.SV);
+        restNetworkStoreClient.updateLoads(networkUuid, List.of(l1, l2), AttributeFilter.SV);
+        server.verify();
+    }
+
     // Don't use the component scanned RestClient in this test
     // to avoid the /v1 prefix because the tests were written
     // without it (could be considered more legible... but not
@@ -71,6 +112,12 @@ class RestNetworkStoreClientTest {
 
     private static final String VARIANT1 = "variant1";
 
+    private static final String VOLTAGE_LEVEL_JSON = "{\"meta\":{},\"data\":[{\"type\":\"VOLTAGE_LEVEL\",\"id\":\"vl1\",\"variantNum\":0,"
+            + "\"attributes\":{\"substationId\":\"s1\",\"topologyKind\":\"NODE_BREAKER\"}}]}";
+
+    private static final String NETWORK_JSON = "{\"meta\":{},\"data\":[{\"type\":\"NETWORK\",\"id\":\"n1\",\"variantNum\":0,"
+            + "\"attributes\":{\"uuid\":\"7928181c-7977-4592-ba19-88027e4254e4\",\"variantId\":\"InitialState\",\"caseDate\":\"2015-01-01T00:00:00Z\"}}]}";
+
     @Autowired
     private RestClient restClient;
 
@@ -369,9 +416,11 @@ class RestNetworkStoreClientTest {
 
     @Test
     void testRemoveWithResourceAccessException() {
-        RestNetworkStoreClient restNetworkStoreClient = new RestNetworkStoreClient(restClient, objectMapper);
+        RestNetworkStoreClient restNetworkStoreClient = new RestNetworkStoreClient(restClient, objectMapper, null, new NetworkStoreConfig(),
+                new ExponentialBackoffRetryPolicy(3, 0, 0, 1));
         List<String> wrongId2 = List.of("wrongId2");
-        server.expect(ExpectedCount.times(2), requestTo("/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM + "/substations"))
+        // first attempt and 3 retries
+        server.expect(ExpectedCount.times(4), requestTo("/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM + "/substations"))
                 .andExpect(method(DELETE))
                 .andExpect(content().string("[\"wrongId2\"]"))
                 .andRespond(request -> {
@@ -394,6 +443,204 @@ class RestNetworkStoreClientTest {
         server.reset();
     }
 
+    @Test
+    void testStreamedLoads() {
+        RestNetworkStoreClient restNetworkStoreClient = new RestNetworkStoreClient(restClient, objectMapper);
+        server.expect(requestTo("/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM + "/loads"))
+                .andExpect(method(GET))
+                .andRespond(withSuccess("{\"meta\":{},\"data\":[{\"type\":\"LOAD\",\"id\":\"l1\",\"variantNum\":0,\"attributes\":{\"voltageLevelId\":\"vl1\",\"p0\":10.0}},"
+                        + "{\"type\":\"LOAD\",\"id\":\"l2\",\"variantNum\":0,\"attributes\":{\"voltageLevelId\":\"vl2\",\"p0\":20.0}}]}", MediaType.APPLICATION_JSON));
+        List<Resource<LoadAttributes>> loads = new ArrayList<>();
+        restNetworkStoreClient.<LoadAttributes>getAllResources(networkUuid, Resource.INITIAL_VARIANT_NUM, ResourceType.LOAD, loads::add);
+        server.verify();
+        assertEquals(List.of("l1", "l2"), loads.stream().map(Resource::getId).toList());
+        assertEquals("vl2", loads.get(1).getAttributes().getVoltageLevelId());
+        assertEquals(20.0, loads.get(1).getAttributes().getP0(), 0);
+    }
+
+    @Test
+    void testSharedSnapshots() throws JsonProcessingException {
+        Resource<NetworkAttributes> n1 = Resource.networkBuilder()
+                .id("n1")
+                .attributes(NetworkAttributes.builder()
+                        .uuid(networkUuid)
+                        .variantId(VariantManagerConstants.INITIAL_VARIANT_ID)
+                        .caseDate(ZonedDateTime.parse("2015-01-01T00:00:00.000Z"))
+                        .build())
+                .build();
+        Resource<LoadAttributes> l1 = Resource.loadBuilder()
+                .id("l1")
+                .attributes(LoadAttributes.builder()
+                        .voltageLevelId("vl1")
+                        .p0(10)
+                        .build())
+                .build();
+        String networkUrl = "/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM;
+        server.expect(ExpectedCount.once(), requestTo(networkUrl))
+                .andExpect(method(GET))
+                .andRespond(withSuccess(objectMapper.writeValueAsString(TopLevelDocument.of(n1)), MediaType.APPLICATION_JSON));
+        server.expect(ExpectedCount.once(), requestTo(networkUrl + "/loads"))
+                .andExpect(method(GET))
+                .andExpect(headerDoesNotExist(HttpHeaders.IF_NONE_MATCH))
+                .andRespond(withSuccess(objectMapper.writeValueAsString(TopLevelDocument.of(List.of(l1))), MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.ETAG, "\"r1\""));
+        server.expect(ExpectedCount.once(), requestTo(networkUrl))
+                .andExpect(method(GET))
+                .andRespond(withSuccess(objectMapper.writeValueAsString(TopLevelDocument.of(n1)), MediaType.APPLICATION_JSON));
+        // the loads of the second network are taken from the snapshot of the first one, as they have not changed
+        server.expect(ExpectedCount.once(), requestTo(networkUrl + "/loads"))
+                .andExpect(method(GET))
+                .andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"r1\""))
+                .andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+        NetworkStoreProperties properties = new NetworkStoreProperties();
+        properties.setMaxRetries(0);
+        properties.setSharedCacheMaxResources(100);
+        try (NetworkStoreService service = new NetworkStoreService(restClient, properties)) {
+            Network network1 = service.getNetwork(networkUuid);
+            assertEquals(1, network1.getLoadCount());
+            Network network2 = service.getNetwork(networkUuid);
+            assertEquals(1, network2.getLoadCount());
+            assertEquals(10, network2.getLoad("l1").getP0(), 0);
+        }
+        server.verify();
+    }
+
+    @Test
+    void testVoltageLevelContents() {
+        RestNetworkStoreClient restNetworkStoreClient = new RestNetworkStoreClient(restClient, objectMapper);
+        server.expect(requestTo(Matchers.startsWith("/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM + "/voltage-levels/vl1/contents?resourceTypes=")))
+                .andExpect(method(GET))
+                .andRespond(withSuccess("{\"meta\":{},\"data\":[{\"type\":\"LOAD\",\"id\":\"l1\",\"variantNum\":0,\"attributes\":{\"voltageLevelId\":\"vl1\",\"p0\":10.0}},"
+                        + "{\"type\":\"SWITCH\",\"id\":\"b1\",\"variantNum\":0,\"attributes\":{\"voltageLevelId\":\"vl1\",\"kind\":\"BREAKER\",\"node1\":1,\"node2\":2}}]}", MediaType.APPLICATION_JSON));
+        Map<ResourceType, List<Resource<IdentifiableAttributes>>> contents = restNetworkStoreClient.getVoltageLevelContents(networkUuid, Resource.INITIAL_VARIANT_NUM, "vl1",
+                EnumSet.of(ResourceType.LOAD, ResourceType.SWITCH, ResourceType.GENERATOR));
+        server.verify();
+        assertEquals(List.of("l1"), contents.get(ResourceType.LOAD).stream().map(Resource::getId).toList());
+        assertEquals(List.of("b1"), contents.get(ResourceType.SWITCH).stream().map(Resource::getId).toList());
+        assertTrue(contents.get(ResourceType.GENERATOR).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> restNetworkStoreClient.getVoltageLevelContents(networkUuid, Resource.INITIAL_VARIANT_NUM, "vl1",
+                EnumSet.of(ResourceType.SUBSTATION)));
+    }
+
+    @Test
+    void testVoltageLevelContentsNotSupported() {
+        RestNetworkStoreClient restNetworkStoreClient = new RestNetworkStoreClient(restClient, objectMapper);
+        String loadsJson = "{\"meta\":{},\"data\":[{\"type\":\"LOAD\",\"id\":\"l1\",\"variantNum\":0,\"attributes\":{\"voltageLevelId\":\"vl1\",\"p0\":10.0}}]}";
+        server.expect(ExpectedCount.once(), requestTo(Matchers.startsWith("/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM + "/voltage-levels/vl1/contents")))
+                .andExpect(method(GET))
+                .andRespond(withResourceNotFound());
+        // the voltage level exists, so the contents url is not exposed by the server
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM + "/voltage-levels/vl1"))
+                .andExpect(method(GET))
+                .andRespond(withSuccess(VOLTAGE_LEVEL_JSON, MediaType.APPLICATION_JSON));
+        server.expect(ExpectedCount.times(2), requestTo("/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM + "/voltage-levels/vl1/loads"))
+                .andExpect(method(GET))
+                .andRespond(withSuccess(loadsJson, MediaType.APPLICATION_JSON));
+        Set<ResourceType> resourceTypes = EnumSet.of(ResourceType.LOAD);
+        // the second call directly falls back to one request per type
+        for (int i = 0; i < 2; i++) {
+            Map<ResourceType, List<Resource<IdentifiableAttributes>>> contents = restNetworkStoreClient.getVoltageLevelContents(networkUuid, Resource.INITIAL_VARIANT_NUM, "vl1", resourceTypes);
+            assertEquals(List.of("l1"), contents.get(ResourceType.LOAD).stream().map(Resource::getId).toList());
+        }
+        server.verify();
+    }
+
+    @Test
+    void testVoltageLevelContentsMethodNotAllowed() {
+        RestNetworkStoreClient restNetworkStoreClient = new RestNetworkStoreClient(restClient, objectMapper);
+        server.expect(ExpectedCount.once(), requestTo(Matchers.startsWith("/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM + "/voltage-levels/vl1/contents")))
+                .andExpect(method(GET))
+                .andRespond(withStatus(HttpStatus.METHOD_NOT_ALLOWED));
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM + "/voltage-levels/vl1"))
+                .andExpect(method(GET))
+                .andRespond(withSuccess(VOLTAGE_LEVEL_JSON, MediaType.APPLICATION_JSON));
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM + "/voltage-levels/vl1/loads"))
+                .andExpect(method(GET))
+                .andRespond(withSuccess("{\"meta\":{},\"data\":[]}", MediaType.APPLICATION_JSON));
+        Map<ResourceType, List<Resource<IdentifiableAttributes>>> contents = restNetworkStoreClient.getVoltageLevelContents(networkUuid, Resource.INITIAL_VARIANT_NUM, "vl1",
+                EnumSet.of(ResourceType.LOAD));
+        server.verify();
+        assertTrue(contents.get(ResourceType.LOAD).isEmpty());
+    }
+
+    @Test
+    void testVoltageLevelContentsOfMissingVoltageLevel() {
+        RestNetworkStoreClient restNetworkStoreClient = new RestNetworkStoreClient(restClient, objectMapper);
+        String contentsUrl = "/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM + "/voltage-levels/vl2/contents";
+        server.expect(ExpectedCount.once(), requestTo(Matchers.startsWith(contentsUrl)))
+                .andExpect(method(GET))
+                .andRespond(withResourceNotFound());
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM + "/voltage-levels/vl2"))
+                .andExpect(method(GET))
+                .andRespond(withResourceNotFound());
+        // a missing voltage level does not mean that the server does not support contents loading
+        server.expect(ExpectedCount.once(), requestTo(Matchers.startsWith(contentsUrl)))
+                .andExpect(method(GET))
+                .andRespond(withSuccess("{\"meta\":{},\"data\":[]}", MediaType.APPLICATION_JSON));
+        Set<ResourceType> resourceTypes = EnumSet.of(ResourceType.LOAD);
+        for (int i = 0; i < 2; i++) {
+            Map<ResourceType, List<Resource<IdentifiableAttributes>>> contents = restNetworkStoreClient.getVoltageLevelContents(networkUuid, Resource.INITIAL_VARIANT_NUM, "vl2", resourceTypes);
+            assertTrue(contents.get(ResourceType.LOAD).isEmpty());
+        }
+        server.verify();
+    }
+
+    @Test
+    void testGetIdentifiablesNotSupported() {
+        RestNetworkStoreClient restNetworkStoreClient = new RestNetworkStoreClient(restClient, objectMapper);
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM + "/identifiables/by-ids"))
+                .andExpect(method(POST))
+                .andRespond(withStatus(HttpStatus.METHOD_NOT_ALLOWED));
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM))
+                .andExpect(method(GET))
+                .andRespond(withSuccess(NETWORK_JSON, MediaType.APPLICATION_JSON));
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM + "/identifiables/l1"))
+                .andExpect(method(GET))
+                .andRespond(withSuccess("{\"meta\":{},\"data\":[{\"type\":\"LOAD\",\"id\":\"l1\",\"variantNum\":0,\"attributes\":{\"voltageLevelId\":\"vl1\",\"p0\":10.0}}]}", MediaType.APPLICATION_JSON));
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM + "/identifiables/l2"))
+                .andExpect(method(GET))
+                .andRespond(withResourceNotFound());
+        List<Resource<IdentifiableAttributes>> resources = restNetworkStoreClient.getIdentifiables(networkUuid, Resource.INITIAL_VARIANT_NUM, List.of("l1", "l2"));
+        server.verify();
+        assertEquals(List.of("l1"), resources.stream().map(Resource::getId).toList());
+    }
+
+    @Test
+    void testSvResources() {
+        RestNetworkStoreClient restNetworkStoreClient = new RestNetworkStoreClient(restClient, objectMapper);
+        FilteredResourcesCache svCache = new FilteredResourcesCache(restNetworkStoreClient, AttributeFilter.SV);
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM + "/lines/sv"))
+                .andExpect(method(GET))
+                .andRespond(withSuccess("{\"meta\":{},\"data\":[{\"type\":\"LINE\",\"id\":\"l1\",\"variantNum\":0,\"filter\":\"SV\","
+                        + "\"attributes\":{\"p1\":1.0,\"q1\":2.0,\"p2\":-1.0,\"q2\":-2.0}}]}", MediaType.APPLICATION_JSON));
+        // the collection is loaded once
+        for (int i = 0; i < 2; i++) {
+            Resource<Attributes> l1 = svCache.getResource(networkUuid, Resource.INITIAL_VARIANT_NUM, ResourceType.LINE, "l1").orElseThrow();
+            BranchSvAttributes attributes = assertInstanceOf(BranchSvAttributes.class, l1.getAttributes());
+            assertEquals(-2.0, attributes.getQ2(), 0);
+        }
+        server.verify();
+        server.reset();
+
+        // the server does not support sv reads, resources are projected on the client side
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM + "/loads/sv"))
+                .andExpect(method(GET))
+                .andRespond(withResourceNotFound());
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM))
+                .andExpect(method(GET))
+                .andRespond(withSuccess(NETWORK_JSON, MediaType.APPLICATION_JSON));
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM + "/loads"))
+                .andExpect(method(GET))
+                .andRespond(withSuccess("{\"meta\":{},\"data\":[{\"type\":\"LOAD\",\"id\":\"ld1\",\"variantNum\":0,"
+                        + "\"attributes\":{\"voltageLevelId\":\"vl1\",\"p0\":10.0,\"p\":9.5,\"q\":3.0}}]}", MediaType.APPLICATION_JSON));
+        List<Resource<Attributes>> loads = svCache.getResources(networkUuid, Resource.INITIAL_VARIANT_NUM, ResourceType.LOAD);
+        server.verify();
+        assertEquals(1, loads.size());
+        InjectionSvAttributes loadAttributes = assertInstanceOf(InjectionSvAttributes.class, loads.getFirst().getAttributes());
+        assertEquals(9.5, loadAttributes.getP(), 0);
+        assertEquals(3.0, loadAttributes.getQ(), 0);
+    }
+
     @Test
     void testRawExtensionAttributes() {
         String identifiableId = "identifiableId";
@@ -454,6 +701,64 @@ class RestNetworkStoreClientTest {
         assertTrue(resultIdentifiable1.containsKey("activePowerControl"));
     }
 
+    @Test
+    void testExtensionAttributesByResourceTypeAndExtensionNames() {
+        RestNetworkStoreClient restNetworkStoreClient = new RestNetworkStoreClient(restClient, objectMapper);
+        String typeUrl = "/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM + "/identifiables/types/" + ResourceType.GENERATOR;
+        server.expect(ExpectedCount.once(), requestTo(typeUrl + "/extensions-by-names?extensionNames=activePowerControl,unknownExtension"))
+                .andExpect(method(GET))
+                .andRespond(withSuccess("{\"identifiableId1\":{\"unknownExtension\":{\"extensionName\":\"unknownExtension\",\"attribute1\":5.0},"
+                        + "\"activePowerControl\":{\"extensionName\":\"activePowerControl\",\"participate\":true,\"droop\":5.2,"
+                              + "\"participationFactor\":0.5,\"minTargetP\":0.0,\"maxTargetP\":0.0}}}", MediaType.APPLICATION_JSON));
+        Map<String, Map<String, ExtensionAttributes>> result = restNetworkStoreClient.getAllExtensionsAttributesByResourceTypeAndExtensionNames(networkUuid,
+                Resource.INITIAL_VARIANT_NUM, ResourceType.GENERATOR, Set.of(ActivePowerControl.NAME, "unknownExtension"));
+        server.verify();
+        assertEquals(Set.of(ActivePowerControl.NAME), result.get("identifiableId1").keySet());
+    }
+
+    @Test
+    void testExtensionAttributesByResourceTypeAndExtensionNamesNotSupported() {
+        RestNetworkStoreClient restNetworkStoreClient = new RestNetworkStoreClient(restClient, objectMapper);
+        String networkUrl = "/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM;
+        String typeUrl = networkUrl + "/identifiables/types/" + ResourceType.GENERATOR;
+        Set<String> extensionNames = new LinkedHashSet<>(List.of(ActivePowerControl.NAME, "unknownExtension"));
+        // a missing network does not mean that the server does not support loading several extensions by names
+        server.expect(ExpectedCount.once(), requestTo(typeUrl + "/extensions-by-names?extensionNames=activePowerControl,unknownExtension"))
+                .andExpect(method(GET))
+                .andRespond(withResourceNotFound());
+        server.expect(ExpectedCount.once(), requestTo(networkUrl))
+                .andExpect(method(GET))
+                .andRespond(withResourceNotFound());
+        assertTrue(restNetworkStoreClient.getAllExtensionsAttributesByResourceTypeAndExtensionNames(networkUuid, Resource.INITIAL_VARIANT_NUM,
+                ResourceType.GENERATOR, extensionNames).isEmpty());
+        server.verify();
+        server.reset();
+
+        // the server does not expose the url, the extensions are loaded with one request per extension name and never
+        // with the whole extension table of the resource type
+        server.expect(ExpectedCount.once(), requestTo(typeUrl + "/extensions-by-names?extensionNames=activePowerControl,unknownExtension"))
+                .andExpect(method(GET))
+                .andRespond(withStatus(HttpStatus.METHOD_NOT_ALLOWED));
+        server.expect(ExpectedCount.once(), requestTo(networkUrl))
+                .andExpect(method(GET))
+                .andRespond(withSuccess(NETWORK_JSON, MediaType.APPLICATION_JSON));
+        for (int i = 0; i < 2; i++) {
+            server.expect(ExpectedCount.once(), requestTo(typeUrl + "/extensions/" + ActivePowerControl.NAME))
+                    .andExpect(method(GET))
+                    .andRespond(withSuccess("{\"identifiableId1\":{\"extensionName\":\"activePowerControl\",\"participate\":true,\"droop\":5.2,"
+                            + "\"participationFactor\":0.5,\"minTargetP\":0.0,\"maxTargetP\":0.0}}", MediaType.APPLICATION_JSON));
+            server.expect(ExpectedCount.once(), requestTo(typeUrl + "/extensions/unknownExtension"))
+                    .andExpect(method(GET))
+                    .andRespond(withSuccess("{}", MediaType.APPLICATION_JSON));
+        }
+        for (int i = 0; i < 2; i++) {
+            Map<String, Map<String, ExtensionAttributes>> result = restNetworkStoreClient.getAllExtensionsAttributesByResourceTypeAndExtensionNames(networkUuid,
+                    Resource.INITIAL_VARIANT_NUM, ResourceType.GENERATOR, extensionNames);
+            assertEquals(Set.of(ActivePowerControl.NAME), result.get("identifiableId1").keySet());
+        }
+        server.verify();
+    }
+
     @Test
     void testOperationalLimitsGroupAttributesByResourceType() {
         RestNetworkStoreClient restNetworkStoreClient = new RestNetworkStoreClient(restClient, objectMapper);
@@ -473,6 +778,57 @@ class RestNetworkStoreClientTest {
         assertEquals(1, resultIdentifiable1.getCurrentLimits().getTemporaryLimits().size());
     }
 
+    @Test
+    void testVoltageLevelOperationalLimitsGroupAttributesNotSupported() {
+        RestNetworkStoreClient restNetworkStoreClient = new RestNetworkStoreClient(restClient, objectMapper);
+        String networkUrl = "/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM;
+        // a missing voltage level does not mean that the server does not support loading by container
+        server.expect(ExpectedCount.once(), requestTo(networkUrl + "/voltage-levels/vl2/branch/types/" + ResourceType.LINE + "/operationalLimitsGroup"))
+                .andExpect(method(GET))
+                .andRespond(withResourceNotFound());
+        server.expect(ExpectedCount.once(), requestTo(networkUrl + "/voltage-levels/vl2"))
+                .andExpect(method(GET))
+                .andRespond(withResourceNotFound());
+        assertTrue(restNetworkStoreClient.getVoltageLevelOperationalLimitsGroupAttributes(networkUuid, Resource.INITIAL_VARIANT_NUM, ResourceType.LINE, "vl2").isEmpty());
+        server.verify();
+        server.reset();
+
+        // the server does not expose the url, the next calls directly fall back to one request per branch side
+        server.expect(ExpectedCount.once(), requestTo(networkUrl + "/voltage-levels/vl1/branch/types/" + ResourceType.LINE + "/operationalLimitsGroup"))
+                .andExpect(method(GET))
+                .andRespond(withStatus(HttpStatus.METHOD_NOT_ALLOWED));
+        server.expect(ExpectedCount.once(), requestTo(networkUrl + "/voltage-levels/vl1"))
+                .andExpect(method(GET))
+                .andRespond(withSuccess(VOLTAGE_LEVEL_JSON, MediaType.APPLICATION_JSON));
+        server.expect(ExpectedCount.twice(), requestTo(networkUrl + "/voltage-levels/vl1/lines"))
+                .andExpect(method(GET))
+                .andRespond(withSuccess("{\"meta\":{},\"data\":[]}", MediaType.APPLICATION_JSON));
+        for (int i = 0; i < 2; i++) {
+            assertTrue(restNetworkStoreClient.getVoltageLevelOperationalLimitsGroupAttributes(networkUuid, Resource.INITIAL_VARIANT_NUM, ResourceType.LINE, "vl1").isEmpty());
+        }
+        server.verify();
+    }
+
+    @Test
+    void testFilteredResourcesOfMissingNetwork() {
+        RestNetworkStoreClient restNetworkStoreClient = new RestNetworkStoreClient(restClient, objectMapper);
+        String networkUrl = "/networks/" + networkUuid + "/" + Resource.INITIAL_VARIANT_NUM;
+        server.expect(ExpectedCount.once(), requestTo(networkUrl + "/loads/sv"))
+                .andExpect(method(GET))
+                .andRespond(withResourceNotFound());
+        server.expect(ExpectedCount.once(), requestTo(networkUrl))
+                .andExpect(method(GET))
+                .andRespond(withResourceNotFound());
+        // sv reads are still used once the network exists
+        server.expect(ExpectedCount.once(), requestTo(networkUrl + "/loads/sv"))
+                .andExpect(method(GET))
+                .andRespond(withSuccess("{\"meta\":{},\"data\":[]}", MediaType.APPLICATION_JSON));
+        for (int i = 0; i < 2; i++) {
+            assertTrue(restNetworkStoreClient.getFilteredResources(networkUuid, Resource.INITIAL_VARIANT_NUM, ResourceType.LOAD, AttributeFilter.SV).isEmpty());
+        }
+        server.verify();
+    }
+
     @Test
     void testExceptionHandlerOnDuplicateKeyError() {
         UUID newNetworkUuid = UUID.randomUUID();
@@ -0,0 +1,138 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.powsybl.network.store.model.LoadAttributes;
+import com.powsybl.network.store.model.Resource;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+class RetryPolicyTest {
+
+    private static final UUID NETWORK_UUID = UUID.fromString("7928181c-7977-4592-ba19-88027e4254e4");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        Metrics.addRegistry(meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Metrics.removeRegistry(meterRegistry);
+    }
+
+    @Test
+    void testExponentialBackoff() {
+        // always draw the upper bound
+        ExponentialBackoffRetryPolicy policy = new ExponentialBackoffRetryPolicy(5, 100, 1000, 1, () -> 1);
+        ResourceAccessException failure = new ResourceAccessException("timeout");
+        assertEquals(Optional.of(Duration.ofMillis(100)), policy.getRetryDelay(1, failure));
+        assertEquals(Optional.of(Duration.ofMillis(200)), policy.getRetryDelay(2, failure));
+        assertEquals(Optional.of(Duration.ofMillis(400)), policy.getRetryDelay(3, failure));
+        assertEquals(Optional.of(Duration.ofMillis(800)), policy.getRetryDelay(4, failure));
+        assertEquals(Optional.of(Duration.ofMillis(1000)), policy.getRetryDelay(5, failure));
+        assertTrue(policy.getRetryDelay(6, failure).isEmpty());
+
+        // jitter
+        ExponentialBackoffRetryPolicy jitteredPolicy = new ExponentialBackoffRetryPolicy(5, 100, 1000, 1, () -> 0.25);
+        assertEquals(Optional.of(Duration.ofMillis(100)), jitteredPolicy.getRetryDelay(3, failure));
+    }
+
+    @Test
+    void testRetryableFailures() {
+        ExponentialBackoffRetryPolicy policy = new ExponentialBackoffRetryPolicy(3, 0, 0, 1);
+        assertTrue(policy.getRetryDelay(1, new ResourceAccessException("timeout")).isPresent());
+        assertTrue(policy.getRetryDelay(1, new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE)).isPresent());
+        assertTrue(policy.getRetryDelay(1, new HttpServerErrorException(HttpStatus.INTERNAL_SERVER_ERROR)).isEmpty());
+        assertTrue(policy.getRetryDelay(1, new HttpClientErrorException(HttpStatus.NOT_FOUND)).isEmpty());
+    }
+
+    @Test
+    void testRetryBudget() {
+        ExponentialBackoffRetryPolicy policy = new ExponentialBackoffRetryPolicy(3, 0, 0, 0.5);
+        ResourceAccessException failure = new ResourceAccessException("timeout");
+        for (int i = 0; i < ExponentialBackoffRetryPolicy.MAX_BUDGET; i++) {
+            assertTrue(policy.getRetryDelay(1, failure).isPresent());
+        }
+        // budget exhausted
+        assertTrue(policy.getRetryDelay(1, failure).isEmpty());
+        // 2 requests are needed to earn a retry
+        policy.onRequest();
+        assertTrue(policy.getRetryDelay(1, failure).isEmpty());
+        policy.onRequest();
+        assertTrue(policy.getRetryDelay(1, failure).isPresent());
+    }
+
+    @Test
+    void testInvalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> new ExponentialBackoffRetryPolicy(-1, 0, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ExponentialBackoffRetryPolicy(1, 100, 10, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ExponentialBackoffRetryPolicy(1, 0, 0, -1));
+        assertThrows(IllegalArgumentException.class, () -> new NetworkStoreConfig().setMaxRetries(-1));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testCreationRetriedWithSameIdempotencyKey() {
+        RestClient restClient = mock(RestClient.class);
+        doThrow(new ResourceAccessException("timeout"))
+                .doThrow(new HttpServerErrorException(HttpStatus.BAD_GATEWAY))
+                .doNothing()
+                .when(restClient).createAll(any(IdempotencyKey.class), anyString(), anyList(), any());
+        RestNetworkStoreClient client = new RestNetworkStoreClient(restClient, new ObjectMapper(), null, new NetworkStoreConfig().setIdempotencyKeys(true),
+                new ExponentialBackoffRetryPolicy(3, 0, 0, 1));
+
+        client.createLoads(NETWORK_UUID, List.of(Resource.loadBuilder().id("l1").attributes(LoadAttributes.builder().voltageLevelId("vl1").build()).build()));
+
+        ArgumentCaptor<IdempotencyKey> keyCaptor = ArgumentCaptor.forClass(IdempotencyKey.class);
+        verify(restClient, times(3)).createAll(keyCaptor.capture(), eq("/networks/{networkUuid}/loads"), anyList(), eq(NETWORK_UUID));
+        assertEquals(1, keyCaptor.getAllValues().stream().distinct().count());
+        assertEquals(1, meterRegistry.get(RetryExecutor.RETRIES_METRIC).tags("operation", "create", "exception", "ResourceAccessException").counter().count(), 0);
+        assertEquals(1, meterRegistry.get(RetryExecutor.RETRIES_METRIC).tags("operation", "create", "exception", "HttpServerErrorException").counter().count(), 0);
+    }
+
+    @Test
+    void testCreationNotRetriedWithoutIdempotencyKey() {
+        RestClient restClient = mock(RestClient.class);
+        doThrow(new ResourceAccessException("timeout"))
+                .when(restClient).createAll(isNull(), anyString(), anyList(), any());
+        RestNetworkStoreClient client = new RestNetworkStoreClient(restClient, new ObjectMapper(), null, new NetworkStoreConfig(),
+                new ExponentialBackoffRetryPolicy(3, 0, 0, 1));
+        List<Resource<LoadAttributes>> loads = List.of(Resource.loadBuilder().id("l1").attributes(LoadAttributes.builder().voltageLevelId("vl1").build()).build());
+
+        assertThrows(ResourceAccessException.class, () -> client.createLoads(NETWORK_UUID, loads));
+        verify(restClient, times(1)).createAll(isNull(), anyString(), anyList(), any());
+
+        // removals are idempotent and still retried
+        doThrow(new ResourceAccessException("timeout")).doNothing().when(restClient).deleteAll(anyString(), any(), any(), any());
+        client.removeLoads(NETWORK_UUID, 0, List.of("l1"));
+        verify(restClient, times(2)).deleteAll(anyString(), any(), any(), any());
+    }
+}
@@ -351,6 +351,7 @@ public abstract class AbstractBranchImpl<T extends Branch<T> & Connectable<T>, U
 
     private void updateSelectedOperationalLimitsGroupIdIfNull(TwoSides side, String id) {
         var resource = getResource();
+        index.prepareResourceUpdate(resource);
         if (side == TwoSides.ONE && resource.getAttributes().getSelectedOperationalLimitsGroupId1() == null) {
             resource.getAttributes().setSelectedOperationalLimitsGroupId1(id);
         } else if (side == TwoSides.TWO && resource.getAttributes().getSelectedOperationalLimitsGroupId2() == null) {
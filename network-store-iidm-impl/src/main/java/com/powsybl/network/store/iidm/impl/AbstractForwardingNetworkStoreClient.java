@@ -6,11 +6,17 @@
  */
 package com.powsybl.network.store.iidm.impl;
 
+import com.powsybl.network.store.model.*;
 import lombok.experimental.Delegate;
 
-import java.util.Objects;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
+ * Lombok only delegates the abstract methods of {@link NetworkStoreClient}, the default methods are forwarded
+ * explicitly so that the delegate implementation is used instead of the default one.
+ *
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
  */
 public abstract class AbstractForwardingNetworkStoreClient<T extends NetworkStoreClient> implements NetworkStoreClient {
@@ -21,4 +27,90 @@ public abstract class AbstractForwardingNetworkStoreClient<T extends NetworkStor
     protected AbstractForwardingNetworkStoreClient(T delegate) {
         this.delegate = Objects.requireNonNull(delegate);
     }
+
+    @Override
+    public Map<ResourceType, List<Resource<IdentifiableAttributes>>> getVoltageLevelContents(UUID networkUuid, int variantNum, String voltageLevelId,
+                                                                                            Set<ResourceType> resourceTypes) {
+        return delegate.getVoltageLevelContents(networkUuid, variantNum, voltageLevelId, resourceTypes);
+    }
+
+    @Override
+    public Map<String, Map<String, ExtensionAttributes>> getAllExtensionsAttributesByResourceTypeAndExtensionNames(UUID networkUuid, int variantNum, ResourceType resourceType, Set<String> extensionNames) {
+        return delegate.getAllExtensionsAttributesByResourceTypeAndExtensionNames(networkUuid, variantNum, resourceType, extensionNames);
+    }
+
+    @Override
+    public Map<String, Map<Integer, Map<String, OperationalLimitsGroupAttributes>>> getVoltageLevelOperationalLimitsGroupAttributes(UUID networkUuid, int variantNum, ResourceType resourceType,
+                                                                                                                                  String voltageLevelId) {
+        return delegate.getVoltageLevelOperationalLimitsGroupAttributes(networkUuid, variantNum, resourceType, voltageLevelId);
+    }
+
+    @Override
+    public Map<String, Map<Integer, Map<String, OperationalLimitsGroupAttributes>>> getSubstationOperationalLimitsGroupAttributes(UUID networkUuid, int variantNum, ResourceType resourceType,
+                                                                                                                                String substationId) {
+        return delegate.getSubstationOperationalLimitsGroupAttributes(networkUuid, variantNum, resourceType, substationId);
+    }
+
+    @Override
+    public List<Resource<IdentifiableAttributes>> getIdentifiables(UUID networkUuid, int variantNum, Collection<String> ids) {
+        return delegate.getIdentifiables(networkUuid, variantNum, ids);
+    }
+
+    @Override
+    public <U extends IdentifiableAttributes> void getAllResources(UUID networkUuid, int variantNum, ResourceType resourceType, Consumer<Resource<U>> consumer) {
+        delegate.getAllResources(networkUuid, variantNum, resourceType, consumer);
+    }
+
+    @Override
+    public List<Resource<Attributes>> getFilteredResources(UUID networkUuid, int variantNum, ResourceType resourceType, AttributeFilter attributeFilter) {
+        return delegate.getFilteredResources(networkUuid, variantNum, resourceType, attributeFilter);
+    }
+
+    @Override
+    public <U extends IdentifiableAttributes> Optional<RevisionedResources<U>> getResourcesIfModified(UUID networkUuid, int variantNum, ResourceType resourceType,
+                                                                                                     String revision) {
+        return delegate.getResourcesIfModified(networkUuid, variantNum, resourceType, revision);
+    }
+
+    @Override
+    public Optional<NetworkChanges> getModifiedSince(UUID networkUuid, int variantNum, String revision) {
+        return delegate.getModifiedSince(networkUuid, variantNum, revision);
+    }
+
+    @Override
+    public Optional<NetworkChanges> refresh(UUID networkUuid, int variantNum) {
+        return delegate.refresh(networkUuid, variantNum);
+    }
+
+    @Override
+    public <U extends IdentifiableAttributes> void updateResources(UUID networkUuid, ResourceType resourceType, List<Resource<U>> resources,
+                                                                  AttributeFilter attributeFilter) {
+        delegate.updateResources(networkUuid, resourceType, resources, attributeFilter);
+    }
+
+    @Override
+    public <U extends IdentifiableAttributes> void updateResourceAttributes(UUID networkUuid, Resource<U> resource, AttributeFilter attributeFilter,
+                                                                           Set<String> attributeNames) {
+        delegate.updateResourceAttributes(networkUuid, resource, attributeFilter, attributeNames);
+    }
+
+    @Override
+    public <U extends IdentifiableAttributes> void prepareResourceUpdate(UUID networkUuid, Resource<U> resource) {
+        delegate.prepareResourceUpdate(networkUuid, resource);
+    }
+
+    @Override
+    public void setWorkingVariantNum(UUID networkUuid, int variantNum) {
+        delegate.setWorkingVariantNum(networkUuid, variantNum);
+    }
+
+    @Override
+    public CompletableFuture<Void> flushAsync(UUID networkUuid) {
+        return delegate.flushAsync(networkUuid);
+    }
+
+    @Override
+    public void closeNetwork(UUID networkUuid) {
+        delegate.closeNetwork(networkUuid);
+    }
 }
@@ -34,6 +34,9 @@ public abstract class AbstractIdentifiableImpl<I extends Identifiable<I>, D exte
 
     private Resource<D> resource;
 
+    // attributes sharing version of the index at which the resource stopped sharing its attributes with other variants
+    private int unsharedVersion = -1;
+
     // When we remove an identifiable, we need to access to the id
     // Needed to generate the exception message when accessing a removed identifiable
     private String idBeforeRemoval;
@@ -43,6 +46,7 @@ public abstract class AbstractIdentifiableImpl<I extends Identifiable<I>, D exte
     protected AbstractIdentifiableImpl(NetworkObjectIndex index, Resource<D> resource) {
         this.index = index;
         this.resource = resource;
+        unsharedVersion = -1;
     }
 
     public void updateResourceWithoutNotification(Consumer<Resource<D>> modifier) {
@@ -50,6 +54,7 @@ public abstract class AbstractIdentifiableImpl<I extends Identifiable<I>, D exte
     }
 
     public void updateResourceWithoutNotification(Consumer<Resource<D>> modifier, AttributeFilter attributeFilter) {
+        index.prepareResourceUpdate(resource);
         modifier.accept(resource);
         index.updateResource(resource, attributeFilter);
     }
@@ -59,31 +64,49 @@ public abstract class AbstractIdentifiableImpl<I extends Identifiable<I>, D exte
     }
 
     public void updateResource(Consumer<Resource<D>> modifier, AttributeFilter attributeFilter, String attribute, Object oldValue, Object newValue) {
+        index.prepareResourceUpdate(resource);
         modifier.accept(resource);
         index.updateResource(resource, attributeFilter);
         String variantId = getNetwork().getVariantManager().getWorkingVariantId();
         index.notifyUpdate(this, attribute, variantId, oldValue, newValue);
     }
 
+    /**
+     * Same as {@link #updateResource(Consumer, String, Object, Object)} for a modifier changing a single attribute,
+     * so that only this attribute is sent to the server. The notified attribute name has to be the JSON property name
+     * of the modified attribute.
+     */
+    public void updateResourceAttribute(Consumer<Resource<D>> modifier, String attribute, Object oldValue, Object newValue) {
+        index.prepareResourceUpdate(resource);
+        modifier.accept(resource);
+        index.updateResourceAttributes(resource, AttributeFilter.PRIMARY_AS_NULL, Set.of(attribute));
+        String variantId = getNetwork().getVariantManager().getWorkingVariantId();
+        index.notifyUpdate(this, attribute, variantId, oldValue, newValue);
+    }
+
     public void updateResource(Consumer<Resource<D>> modifier, String attribute, String variantId, Object oldValue, Supplier<Object> newValueSupplier) {
+        index.prepareResourceUpdate(resource);
         modifier.accept(resource);
         index.updateResource(resource, AttributeFilter.PRIMARY_AS_NULL);
         index.notifyUpdate(this, attribute, variantId, oldValue, newValueSupplier.get());
     }
 
     public void updateResourcePropertyAdded(Consumer<Resource<D>> modifier, String attribute, Object newValue) {
+        index.prepareResourceUpdate(resource);
         modifier.accept(resource);
         index.updateResource(resource, AttributeFilter.PRIMARY_AS_NULL);
         index.notifyPropertyAdded(this, () -> attribute, newValue);
     }
 
     public void updateResourcePropertyReplaced(Consumer<Resource<D>> modifier, String attribute, String oldValue, Object newValue) {
+        index.prepareResourceUpdate(resource);
         modifier.accept(resource);
         index.updateResource(resource, AttributeFilter.PRIMARY_AS_NULL);
         index.notifyPropertyReplaced(this, () -> attribute, oldValue, newValue);
     }
 
     public void updateResourcePropertyRemoved(Consumer<Resource<D>> modifier, String attribute, String oldValue) {
+        index.prepareResourceUpdate(resource);
         modifier.accept(resource);
         index.updateResource(resource, AttributeFilter.PRIMARY_AS_NULL);
         index.notifyPropertyRemoved(this, attribute, oldValue);
@@ -94,6 +117,7 @@ public abstract class AbstractIdentifiableImpl<I extends Identifiable<I>, D exte
     }
 
     public void updateResourceExtension(Extension<?> extension, Consumer<Resource<D>> modifier, String attribute, Object oldValue, Object newValue) {
+        index.prepareResourceUpdate(resource);
         modifier.accept(resource);
         index.updateResource(resource, AttributeFilter.PRIMARY_AS_NULL);
         String variantId = getNetwork().getVariantManager().getWorkingVariantId();
@@ -124,6 +148,11 @@ public abstract class AbstractIdentifiableImpl<I extends Identifiable<I>, D exte
         if (index.getWorkingVariantNum() == -1) {
             throw new PowsyblException("Variant index not set");
         }
+        if (resource != null && unsharedVersion != index.getAttributesSharingVersion()) {
+            // attributes returned from now on may be modified in place, so they must not be shared with other variants
+            index.prepareResourceUpdate(resource);
+            unsharedVersion = index.getAttributesSharingVersion();
+        }
         return Optional.ofNullable(resource);
     }
 
@@ -297,12 +326,10 @@ public abstract class AbstractIdentifiableImpl<I extends Identifiable<I>, D exte
     public String setProperty(String key, String value) {
         MutableObject<String> oldValue = new MutableObject<>();
         Map<String, String> properties = getResource().getAttributes().getProperties();
-        if (properties == null) {
-            properties = new HashMap<>();
-        }
-        oldValue.setValue(properties.put(key, value));
+        // work on a copy, the map may be shared with other variants until the resource update is prepared
+        Map<String, String> finalProperties = properties != null ? new HashMap<>(properties) : new HashMap<>();
+        oldValue.setValue(finalProperties.put(key, value));
 
-        Map<String, String> finalProperties = properties;
         if (Objects.isNull(oldValue.getValue())) {
             updateResourcePropertyAdded(r -> r.getAttributes().setProperties(finalProperties),
                 PROPERTIES + "[" + key + "]", value);
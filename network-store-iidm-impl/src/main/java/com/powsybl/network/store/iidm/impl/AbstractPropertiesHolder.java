@@ -52,12 +52,11 @@ public abstract class AbstractPropertiesHolder implements PropertiesHolder {
     public String setProperty(String key, String value) {
         MutableObject<String> oldValue = new MutableObject<>();
         Map<String, String> properties = getProperties();
-        if (properties == null) {
-            properties = new HashMap<>();
-        }
-        oldValue.setValue(properties.put(key, value));
+        // work on a copy, the map may be shared with other variants until persisted
+        Map<String, String> newProperties = properties != null ? new HashMap<>(properties) : new HashMap<>();
+        oldValue.setValue(newProperties.put(key, value));
 
-        persistProperties(properties);
+        persistProperties(newProperties);
         return oldValue.getValue();
     }
 
@@ -65,8 +64,9 @@ public abstract class AbstractPropertiesHolder implements PropertiesHolder {
     public boolean removeProperty(String key) {
         Map<String, String> properties = getProperties();
         if (properties != null && properties.containsKey(key)) {
-            properties.remove(key);
-            persistProperties(properties);
+            Map<String, String> newProperties = new HashMap<>(properties);
+            newProperties.remove(key);
+            persistProperties(newProperties);
             return true;
         }
         return false;
@@ -176,80 +176,84 @@ public abstract class AbstractTopology<T> {
 
     protected abstract <U extends SwitchAttributes> T getSwitchNodeOrBus2(Resource<U> resource);
 
+    /**
+     * Injection types, in the order their vertices are created.
+     */
+    private static final List<ResourceType> INJECTION_RESOURCE_TYPES = List.of(
+            ResourceType.GENERATOR,
+            ResourceType.LOAD,
+            ResourceType.BATTERY,
+            ResourceType.SHUNT_COMPENSATOR,
+            ResourceType.STATIC_VAR_COMPENSATOR,
+            ResourceType.VSC_CONVERTER_STATION,
+            ResourceType.LCC_CONVERTER_STATION,
+            ResourceType.BOUNDARY_LINE,
+            ResourceType.GROUND);
+
+    private static final List<ResourceType> BRANCH_RESOURCE_TYPES = List.of(
+            ResourceType.LINE,
+            ResourceType.TWO_WINDINGS_TRANSFORMER);
+
+    /**
+     * @return the resource types of a voltage level which are vertices of its graph
+     */
+    protected Set<ResourceType> getVertexResourceTypes() {
+        Set<ResourceType> resourceTypes = EnumSet.noneOf(ResourceType.class);
+        resourceTypes.addAll(INJECTION_RESOURCE_TYPES);
+        resourceTypes.addAll(BRANCH_RESOURCE_TYPES);
+        resourceTypes.add(ResourceType.THREE_WINDINGS_TRANSFORMER);
+        return resourceTypes;
+    }
+
+    /**
+     * Get the resources of a voltage level needed to build its graph, all the types in a single call so that a
+     * voltage level which is not yet cached is loaded in one round trip.
+     */
+    private Map<ResourceType, List<Resource<IdentifiableAttributes>>> getVoltageLevelContents(NetworkObjectIndex index, Resource<VoltageLevelAttributes> voltageLevelResource,
+                                                                                             boolean withSwitches) {
+        Set<ResourceType> resourceTypes = getVertexResourceTypes();
+        if (withSwitches) {
+            resourceTypes.add(ResourceType.SWITCH);
+        }
+        return index.getStoreClient().getVoltageLevelContents(index.getNetwork().getUuid(), index.getWorkingVariantNum(), voltageLevelResource.getId(), resourceTypes);
+    }
+
+    @SuppressWarnings("unchecked")
+    protected static <U extends IdentifiableAttributes> List<Resource<U>> getContents(Map<ResourceType, List<Resource<IdentifiableAttributes>>> contents,
+                                                                                      ResourceType resourceType) {
+        return (List<Resource<U>>) (List<?>) contents.getOrDefault(resourceType, Collections.emptyList());
+    }
+
     protected List<Vertex> buildVertices(NetworkObjectIndex index, Resource<VoltageLevelAttributes> voltageLevelResource) {
         List<Vertex> vertices = new ArrayList<>();
-        buildVertices(index, voltageLevelResource, vertices);
+        buildVertices(voltageLevelResource, getVoltageLevelContents(index, voltageLevelResource, false), vertices);
         return vertices;
     }
 
-    protected void buildVertices(NetworkObjectIndex index, Resource<VoltageLevelAttributes> voltageLevelResource,
+    protected void buildVertices(Resource<VoltageLevelAttributes> voltageLevelResource, Map<ResourceType, List<Resource<IdentifiableAttributes>>> contents,
                                  List<Vertex> vertices) {
-        UUID networkUuid = index.getNetwork().getUuid();
-
-        vertices.addAll(index.getStoreClient().getVoltageLevelGenerators(networkUuid, index.getWorkingVariantNum(), voltageLevelResource.getId())
-                .stream()
-                .map(this::createVertexFromInjection)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList()));
-        vertices.addAll(index.getStoreClient().getVoltageLevelLoads(networkUuid, index.getWorkingVariantNum(), voltageLevelResource.getId())
-                .stream()
-                .map(this::createVertexFromInjection)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList()));
-        vertices.addAll(index.getStoreClient().getVoltageLevelBatteries(networkUuid, index.getWorkingVariantNum(), voltageLevelResource.getId())
-                .stream()
-                .map(this::createVertexFromInjection)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList()));
-        vertices.addAll(index.getStoreClient().getVoltageLevelShuntCompensators(networkUuid, index.getWorkingVariantNum(), voltageLevelResource.getId())
-                .stream()
-                .map(this::createVertexFromInjection)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList()));
-        vertices.addAll(index.getStoreClient().getVoltageLevelStaticVarCompensators(networkUuid, index.getWorkingVariantNum(), voltageLevelResource.getId())
-                .stream()
-                .map(this::createVertexFromInjection)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList()));
-        vertices.addAll(index.getStoreClient().getVoltageLevelVscConverterStations(networkUuid, index.getWorkingVariantNum(), voltageLevelResource.getId())
-                .stream()
-                .map(this::createVertexFromInjection)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList()));
-        vertices.addAll(index.getStoreClient().getVoltageLevelLccConverterStations(networkUuid, index.getWorkingVariantNum(), voltageLevelResource.getId())
-                .stream()
-                .map(this::createVertexFromInjection)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList()));
-        vertices.addAll(index.getStoreClient().getVoltageLevelBoundaryLines(networkUuid, index.getWorkingVariantNum(), voltageLevelResource.getId())
-                .stream()
-                .map(this::createVertexFromInjection)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList()));
-        vertices.addAll(index.getStoreClient().getVoltageLevelGrounds(networkUuid, index.getWorkingVariantNum(), voltageLevelResource.getId())
-                .stream()
-                .map(this::createVertexFromInjection)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList()));
-        vertices.addAll(index.getStoreClient().getVoltageLevelLines(networkUuid, index.getWorkingVariantNum(), voltageLevelResource.getId())
-                .stream()
-                .flatMap(resource -> createVertextFromBranch(resource, voltageLevelResource).stream())
-                .collect(Collectors.toList()));
-        vertices.addAll(index.getStoreClient().getVoltageLevelTwoWindingsTransformers(networkUuid, index.getWorkingVariantNum(), voltageLevelResource.getId())
-                .stream()
-                .flatMap(resource -> createVertextFromBranch(resource, voltageLevelResource).stream())
-                .collect(Collectors.toList()));
-        vertices.addAll(index.getStoreClient().getVoltageLevelThreeWindingsTransformers(networkUuid, index.getWorkingVariantNum(), voltageLevelResource.getId())
+        for (ResourceType resourceType : INJECTION_RESOURCE_TYPES) {
+            vertices.addAll(AbstractTopology.<InjectionAttributes>getContents(contents, resourceType)
+                    .stream()
+                    .map(this::createVertexFromInjection)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList()));
+        }
+        for (ResourceType resourceType : BRANCH_RESOURCE_TYPES) {
+            vertices.addAll(AbstractTopology.<BranchAttributes>getContents(contents, resourceType)
+                    .stream()
+                    .flatMap(resource -> createVertextFromBranch(resource, voltageLevelResource).stream())
+                    .collect(Collectors.toList()));
+        }
+        vertices.addAll(AbstractTopology.<ThreeWindingsTransformerAttributes>getContents(contents, ResourceType.THREE_WINDINGS_TRANSFORMER)
                 .stream()
                 .flatMap(resource -> createVertexFrom3wt(resource, voltageLevelResource).stream())
                 .collect(Collectors.toList()));
     }
 
-    protected void buildEdges(NetworkObjectIndex index, Resource<VoltageLevelAttributes> voltageLevelResource,
+    protected void buildEdges(Resource<VoltageLevelAttributes> voltageLevelResource, Map<ResourceType, List<Resource<IdentifiableAttributes>>> contents,
                               boolean includeOpenSwitches, boolean includeRetainSwitches, Graph<T, Edge> graph) {
-        UUID networkUuid = index.getNetwork().getUuid();
-
-        for (Resource<SwitchAttributes> resource : index.getStoreClient().getVoltageLevelSwitches(networkUuid, index.getWorkingVariantNum(), voltageLevelResource.getId())) {
+        for (Resource<SwitchAttributes> resource : AbstractTopology.<SwitchAttributes>getContents(contents, ResourceType.SWITCH)) {
             T nodeOrBus1 = getSwitchNodeOrBus1(resource);
             T nodeOrBus2 = getSwitchNodeOrBus2(resource);
             ensureNodeOrBusExists(graph, nodeOrBus1);
@@ -262,13 +266,15 @@ public abstract class AbstractTopology<T> {
 
     protected void buildGraph(NetworkObjectIndex index, Resource<VoltageLevelAttributes> voltageLevelResource,
                               boolean includeOpenSwitches, boolean includeRetainSwitches, Graph<T, Edge> graph, List<Vertex> vertices) {
-        buildVertices(index, voltageLevelResource, vertices);
+        Map<ResourceType, List<Resource<IdentifiableAttributes>>> contents = getVoltageLevelContents(index, voltageLevelResource, true);
+
+        buildVertices(voltageLevelResource, contents, vertices);
 
         for (Vertex vertex : vertices) {
             graph.addVertex(getNodeOrBus(vertex));
         }
 
-        buildEdges(index, voltageLevelResource, includeOpenSwitches, includeRetainSwitches, graph);
+        buildEdges(voltageLevelResource, contents, includeOpenSwitches, includeRetainSwitches, graph);
     }
 
     protected abstract boolean isCalculatedBusValid(Set<T> nodesOrBusesConnectedSet, Map<T, List<Vertex>> verticesByNodeOrBus, boolean isBusView);
@@ -436,6 +442,7 @@ public abstract class AbstractTopology<T> {
                     // get V and Angle values from other view if available
                     .map(connectedSet -> createCalculatedBusAttributesWithVAndAngle(index, voltageLevelResource, connectedSet, isBusView))
                     .collect(Collectors.toList());
+            index.prepareResourceUpdate(voltageLevelResource);
             setCalculatedBuses(voltageLevelResource, isBusView, calculatedBusAttributesList);
 
             // set index calculated buses per node or bus
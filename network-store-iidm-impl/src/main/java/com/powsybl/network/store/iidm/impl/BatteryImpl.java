@@ -45,7 +45,7 @@ public class BatteryImpl extends AbstractInjectionImpl<Battery, BatteryAttribute
         ValidationUtil.checkActivePowerLimits(this, getMinP(), getMaxP());
         double oldValue = getTargetP();
         if (targetP != oldValue) {
-            updateResource(res -> res.getAttributes().setTargetP(targetP),
+            updateResourceAttribute(res -> res.getAttributes().setTargetP(targetP),
                 "targetP", oldValue, targetP);
         }
         return this;
@@ -61,7 +61,7 @@ public class BatteryImpl extends AbstractInjectionImpl<Battery, BatteryAttribute
         ValidationUtil.checkQ0(this, targetQ, getNetwork().getMinValidationLevel(), getNetwork().getReportNodeContext().getReportNode());
         double oldValue = getResource().getAttributes().getTargetQ();
         if (targetQ != oldValue) {
-            updateResource(res -> res.getAttributes().setTargetQ(targetQ),
+            updateResourceAttribute(res -> res.getAttributes().setTargetQ(targetQ),
                 "targetQ", oldValue, targetQ);
         }
         return this;
@@ -79,7 +79,7 @@ public class BatteryImpl extends AbstractInjectionImpl<Battery, BatteryAttribute
         ValidationUtil.checkActivePowerLimits(this, minP, getMaxP());
         double oldValue = getResource().getAttributes().getMinP();
         if (minP != oldValue) {
-            updateResource(res -> res.getAttributes().setMinP(minP),
+            updateResourceAttribute(res -> res.getAttributes().setMinP(minP),
                 "minP", oldValue, minP);
         }
         return this;
@@ -97,7 +97,7 @@ public class BatteryImpl extends AbstractInjectionImpl<Battery, BatteryAttribute
         ValidationUtil.checkActivePowerLimits(this, getMinP(), maxP);
         double oldValue = getResource().getAttributes().getMaxP();
         if (maxP != oldValue) {
-            updateResource(res -> res.getAttributes().setMaxP(maxP),
+            updateResourceAttribute(res -> res.getAttributes().setMaxP(maxP),
                 "maxP", oldValue, maxP);
         }
         return this;
@@ -108,6 +108,7 @@ public class BatteryImpl extends AbstractInjectionImpl<Battery, BatteryAttribute
     public void setReactiveLimits(ReactiveLimitsAttributes reactiveLimits) {
         var resource = getResource();
         ReactiveLimitsAttributes oldValue = resource.getAttributes().getReactiveLimits();
+        index.prepareResourceUpdate(resource);
         resource.getAttributes().setReactiveLimits(reactiveLimits);
         updateResource(res -> res.getAttributes().setReactiveLimits(reactiveLimits),
             "reactiveLimits", oldValue, reactiveLimits);
@@ -218,6 +219,7 @@ public class BatteryImpl extends AbstractInjectionImpl<Battery, BatteryAttribute
         if (type == BatteryShortCircuit.class) {
             var resource = getResource();
             if (resource.getAttributes().getBatteryShortCircuitAttributes() != null) {
+                index.prepareResourceUpdate(resource);
                 resource.getAttributes().setBatteryShortCircuitAttributes(null);
                 return true;
             }
@@ -226,6 +228,7 @@ public class BatteryImpl extends AbstractInjectionImpl<Battery, BatteryAttribute
         if (type.isAssignableFrom(ConnectablePosition.class)) {
             var resource = getResource();
             if (resource.getAttributes().getPosition() != null) {
+                index.prepareResourceUpdate(resource);
                 resource.getAttributes().setPosition(null);
                 return true;
             }
@@ -633,6 +633,7 @@ public class BoundaryLineImpl extends AbstractInjectionImpl<BoundaryLine, Bounda
         if (type.isAssignableFrom(ConnectablePosition.class)) {
             var resource = getResource();
             if (resource.getAttributes().getPosition() != null) {
+                index.prepareResourceUpdate(resource);
                 resource.getAttributes().setPosition(null);
                 return true;
             }
@@ -0,0 +1,83 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.iidm.impl;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Maximum number of resources kept by the caches sharing this budget, typically the caches of all the networks of a
+ * service. The number of resources is used as an estimation of the memory used by the caches.
+ * <p>
+ * Each cache counts its resources in its own {@link Account}, from which they are removed when their network is
+ * closed or deleted. A cache only evicts its own collections, as caches are not thread safe.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class CacheBudget {
+
+    private final long maxResources;
+
+    private final AtomicLong resourceCount = new AtomicLong();
+
+    /**
+     * Logical clock giving the order of the accesses to the collections of all the caches.
+     */
+    private final AtomicLong clock = new AtomicLong();
+
+    public CacheBudget(long maxResources) {
+        if (maxResources <= 0) {
+            throw new IllegalArgumentException("Cache max resources has to be strictly positive: " + maxResources);
+        }
+        this.maxResources = maxResources;
+    }
+
+    public long getMaxResources() {
+        return maxResources;
+    }
+
+    public long getResourceCount() {
+        return resourceCount.get();
+    }
+
+    public boolean isExceeded() {
+        return resourceCount.get() > maxResources;
+    }
+
+    long tick() {
+        return clock.incrementAndGet();
+    }
+
+    /**
+     * Create the account of a cache.
+     */
+    Account createAccount() {
+        return new Account(resourceCount);
+    }
+
+    /**
+     * Resources counted for a cache.
+     */
+    static final class Account {
+
+        private final AtomicLong budgetResourceCount;
+
+        private final AtomicLong resourceCount = new AtomicLong();
+
+        private Account(AtomicLong budgetResourceCount) {
+            this.budgetResourceCount = budgetResourceCount;
+        }
+
+        void add(long count) {
+            resourceCount.addAndGet(count);
+            budgetResourceCount.addAndGet(count);
+        }
+
+        long getResourceCount() {
+            return resourceCount.get();
+        }
+    }
+}
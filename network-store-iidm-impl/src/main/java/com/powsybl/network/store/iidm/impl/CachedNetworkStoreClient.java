@@ -6,16 +6,12 @@
  */
 package com.powsybl.network.store.iidm.impl;
 
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import com.powsybl.commons.json.JsonUtil;
 import com.powsybl.network.store.model.*;
 import org.apache.commons.lang3.mutable.MutableInt;
 import org.apache.commons.lang3.tuple.Pair;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -42,6 +38,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
                     delegate::getSubstation,
                     null,
                     delegate::getSubstations,
+                    (networkUuid, variantNum, consumer) -> loadAllResources(networkUuid, variantNum, ResourceType.SUBSTATION, consumer),
                     delegate)
             );
 
@@ -50,6 +47,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
                     delegate::getVoltageLevel,
                     delegate::getVoltageLevelsInSubstation,
                     delegate::getVoltageLevels,
+                    (networkUuid, variantNum, consumer) -> loadAllResources(networkUuid, variantNum, ResourceType.VOLTAGE_LEVEL, consumer),
                     delegate)
             );
 
@@ -58,6 +56,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
                     delegate::getSwitch,
                     delegate::getVoltageLevelSwitches,
                     delegate::getSwitches,
+                    (networkUuid, variantNum, consumer) -> loadAllResources(networkUuid, variantNum, ResourceType.SWITCH, consumer),
                     delegate)
             );
 
@@ -66,6 +65,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
                     delegate::getBusbarSection,
                     delegate::getVoltageLevelBusbarSections,
                     delegate::getBusbarSections,
+                    (networkUuid, variantNum, consumer) -> loadAllResources(networkUuid, variantNum, ResourceType.BUSBAR_SECTION, consumer),
                     delegate)
             );
 
@@ -74,6 +74,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
                     delegate::getLoad,
                     delegate::getVoltageLevelLoads,
                     delegate::getLoads,
+                    (networkUuid, variantNum, consumer) -> loadAllResources(networkUuid, variantNum, ResourceType.LOAD, consumer),
                     delegate)
             );
 
@@ -82,6 +83,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
                     delegate::getGenerator,
                     delegate::getVoltageLevelGenerators,
                     delegate::getGenerators,
+                    (networkUuid, variantNum, consumer) -> loadAllResources(networkUuid, variantNum, ResourceType.GENERATOR, consumer),
                     delegate)
             );
 
@@ -90,6 +92,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
                     delegate::getBattery,
                     delegate::getVoltageLevelBatteries,
                     delegate::getBatteries,
+                    (networkUuid, variantNum, consumer) -> loadAllResources(networkUuid, variantNum, ResourceType.BATTERY, consumer),
                     delegate)
             );
 
@@ -98,6 +101,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
                     delegate::getTwoWindingsTransformer,
                     delegate::getVoltageLevelTwoWindingsTransformers,
                     delegate::getTwoWindingsTransformers,
+                    (networkUuid, variantNum, consumer) -> loadAllResources(networkUuid, variantNum, ResourceType.TWO_WINDINGS_TRANSFORMER, consumer),
                     delegate)
             );
 
@@ -106,6 +110,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
                     delegate::getThreeWindingsTransformer,
                     delegate::getVoltageLevelThreeWindingsTransformers,
                     delegate::getThreeWindingsTransformers,
+                    (networkUuid, variantNum, consumer) -> loadAllResources(networkUuid, variantNum, ResourceType.THREE_WINDINGS_TRANSFORMER, consumer),
                     delegate)
             );
 
@@ -114,6 +119,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
                     delegate::getLine,
                     delegate::getVoltageLevelLines,
                     delegate::getLines,
+                    (networkUuid, variantNum, consumer) -> loadAllResources(networkUuid, variantNum, ResourceType.LINE, consumer),
                     delegate)
             );
 
@@ -122,6 +128,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
                     delegate::getShuntCompensator,
                     delegate::getVoltageLevelShuntCompensators,
                     delegate::getShuntCompensators,
+                    (networkUuid, variantNum, consumer) -> loadAllResources(networkUuid, variantNum, ResourceType.SHUNT_COMPENSATOR, consumer),
                     delegate)
             );
 
@@ -130,6 +137,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
                     delegate::getVscConverterStation,
                     delegate::getVoltageLevelVscConverterStations,
                     delegate::getVscConverterStations,
+                    (networkUuid, variantNum, consumer) -> loadAllResources(networkUuid, variantNum, ResourceType.VSC_CONVERTER_STATION, consumer),
                     delegate)
             );
 
@@ -138,6 +146,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
                     delegate::getLccConverterStation,
                     delegate::getVoltageLevelLccConverterStations,
                     delegate::getLccConverterStations,
+                    (networkUuid, variantNum, consumer) -> loadAllResources(networkUuid, variantNum, ResourceType.LCC_CONVERTER_STATION, consumer),
                     delegate)
             );
 
@@ -146,6 +155,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
                     delegate::getStaticVarCompensator,
                     delegate::getVoltageLevelStaticVarCompensators,
                     delegate::getStaticVarCompensators,
+                    (networkUuid, variantNum, consumer) -> loadAllResources(networkUuid, variantNum, ResourceType.STATIC_VAR_COMPENSATOR, consumer),
                     delegate)
             );
 
@@ -154,6 +164,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
                     delegate::getHvdcLine,
                     null,
                     delegate::getHvdcLines,
+                    (networkUuid, variantNum, consumer) -> loadAllResources(networkUuid, variantNum, ResourceType.HVDC_LINE, consumer),
                     delegate)
             );
 
@@ -162,6 +173,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
                     delegate::getBoundaryLine,
                     delegate::getVoltageLevelBoundaryLines,
                     delegate::getBoundaryLines,
+                    (networkUuid, variantNum, consumer) -> loadAllResources(networkUuid, variantNum, ResourceType.BOUNDARY_LINE, consumer),
                     delegate)
             );
 
@@ -170,6 +182,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
                     delegate::getConfiguredBus,
                     delegate::getVoltageLevelConfiguredBuses,
                     delegate::getConfiguredBuses,
+                    (networkUuid, variantNum, consumer) -> loadAllResources(networkUuid, variantNum, ResourceType.CONFIGURED_BUS, consumer),
                     delegate)
             );
 
@@ -178,6 +191,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
                     delegate::getTieLine,
                     null,
                     delegate::getTieLines,
+                    (networkUuid, variantNum, consumer) -> loadAllResources(networkUuid, variantNum, ResourceType.TIE_LINE, consumer),
                     delegate)
             );
 
@@ -186,6 +200,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
                     delegate::getGround,
                     delegate::getVoltageLevelGrounds,
                     delegate::getGrounds,
+                    (networkUuid, variantNum, consumer) -> loadAllResources(networkUuid, variantNum, ResourceType.GROUND, consumer),
                     delegate)
             );
 
@@ -194,6 +209,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
                     delegate::getArea,
                     null,
                     delegate::getAreas,
+                    (networkUuid, variantNum, consumer) -> loadAllResources(networkUuid, variantNum, ResourceType.AREA, consumer),
                     delegate)
             );
 
@@ -205,7 +221,59 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
 
     private final Map<Pair<UUID, Integer>, Set<String>> identifiablesIdsByNetworkVariant = new HashMap<>();
 
+    /**
+     * Revision of each network variant at its last refresh, from which the changes are asked at the next refresh.
+     */
+    private final Map<Pair<UUID, Integer>, String> revisionByNetworkVariant = new HashMap<>();
+
+    /**
+     * Budget shared with the caches of the other networks of the service, null if the cache is not bounded.
+     */
+    private final CacheBudget budget;
+
+    /**
+     * Account of the resources of this cache in the budget, null if the cache is not bounded.
+     */
+    private final CacheBudget.Account budgetAccount;
+
+    /**
+     * Working variant of each network, whose resources are referenced by the identifiables and so cannot be dropped.
+     */
+    private final Map<UUID, Integer> workingVariantNumByNetworkUuid = new HashMap<>();
+
+    /**
+     * Budget resource count when the last eviction could not go under the budget, so that eviction is only tried
+     * again once more resources have been loaded.
+     */
+    private long failedEvictionResourceCount = -1;
+
+    /**
+     * Collections shared with the caches of the other networks of the service, null if collections are always loaded
+     * from the delegate.
+     */
+    private final SharedSnapshotCache snapshotCache;
+
+    /**
+     * Snapshots each network has loaded collections from, released when the network is closed or deleted.
+     */
+    private final Map<UUID, SharedSnapshotCache.References> snapshotReferencesByNetworkUuid = new HashMap<>();
+
     public CachedNetworkStoreClient(NetworkStoreClient delegate) {
+        this(delegate, null, null);
+    }
+
+    public CachedNetworkStoreClient(NetworkStoreClient delegate, CacheBudget budget) {
+        this(delegate, budget, null);
+    }
+
+    /**
+     * @param budget maximum number of resources shared with the caches of the other networks, null if unbounded. When
+     *               exceeded, the least recently used collections which are not modified and which do not belong to the
+     *               working variant of their network are dropped, to be loaded again on demand.
+     * @param snapshotCache collections shared with the caches of the other networks, null if none. Fully loaded
+     *                      collections share its attributes when they have not changed on the server.
+     */
+    public CachedNetworkStoreClient(NetworkStoreClient delegate, CacheBudget budget, SharedSnapshotCache snapshotCache) {
         super(delegate);
         voltageLevelContainersCaches.put(ResourceType.SWITCH, switchesCache);
         voltageLevelContainersCaches.put(ResourceType.BUSBAR_SECTION, busbarSectionsCache);
@@ -229,6 +297,118 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
         networkContainersCaches.put(ResourceType.VOLTAGE_LEVEL, voltageLevelsCache);
         networkContainersCaches.put(ResourceType.TIE_LINE, tieLinesCache);
         networkContainersCaches.put(ResourceType.AREA, areasCache);
+
+        this.budget = budget;
+        if (budget != null) {
+            budgetAccount = budget.createAccount();
+            networksCache.setAccessListener(this::onCollectionAccess);
+            networkContainersCaches.values().forEach(cache -> cache.setAccessListener(this::onCollectionAccess));
+        } else {
+            budgetAccount = null;
+        }
+        this.snapshotCache = snapshotCache;
+    }
+
+    /**
+     * Load all the resources of a collection, from the shared snapshot of the collection if it has not changed on the
+     * server since the snapshot has been taken. The attributes of the snapshot are shared and copied on write, see
+     * {@link CollectionCache#shareSnapshotAttributes(List)}.
+     */
+    @SuppressWarnings("unchecked")
+    private <T extends IdentifiableAttributes> void loadAllResources(UUID networkUuid, int variantNum, ResourceType resourceType,
+                                                                    Consumer<Resource<T>> consumer) {
+        if (snapshotCache == null) {
+            delegate.getAllResources(networkUuid, variantNum, resourceType, consumer);
+            return;
+        }
+        SharedSnapshotCache.Snapshot<T> snapshot = snapshotCache.get(networkUuid, variantNum, resourceType);
+        Optional<RevisionedResources<T>> loaded = delegate.getResourcesIfModified(networkUuid, variantNum, resourceType,
+                snapshot != null ? snapshot.getRevision() : null);
+        if (loaded.isPresent()) {
+            // without revision, the collection cannot be checked later so it is not shared
+            snapshot = loaded.get().revision() != null
+                    ? snapshotCache.put(networkUuid, variantNum, resourceType, loaded.get().revision(), loaded.get().resources())
+                    : null;
+            if (snapshot == null) {
+                loaded.get().resources().forEach(consumer);
+                return;
+            }
+        }
+        snapshotReferencesByNetworkUuid.computeIfAbsent(networkUuid, k -> snapshotCache.createReferences()).add(snapshot);
+        List<Resource<T>> sharedResources = snapshot.shareResources();
+        sharedResources.forEach(consumer);
+        ((NetworkCollectionIndex<CollectionCache<T>>) getCache(resourceType)).findCollection(networkUuid, variantNum)
+                .ifPresent(collection -> collection.shareSnapshotAttributes(sharedResources));
+    }
+
+    private void onCollectionAccess(UUID networkUuid, int variantNum, CollectionCache<?> collection) {
+        collection.touch(budgetAccount, budget.tick());
+        if (budget.isExceeded() && budget.getResourceCount() > failedEvictionResourceCount) {
+            evictCollections(networkUuid, variantNum);
+        }
+    }
+
+    private void addEvictionCandidates(NetworkCollectionIndex<? extends CollectionCache<?>> cache, UUID accessedNetworkUuid,
+                                       int accessedVariantNum, List<CollectionCache<?>> candidates) {
+        cache.applyToCollections((networkUuid, variantNum, collection) -> {
+            boolean accessed = networkUuid.equals(accessedNetworkUuid) && variantNum == accessedVariantNum;
+            boolean working = variantNum.equals(workingVariantNumByNetworkUuid.get(networkUuid));
+            if (!accessed && !working && !collection.isModified() && collection.getCountedResourceCount() > 0) {
+                candidates.add(collection);
+            }
+        });
+    }
+
+    /**
+     * Drop the least recently used collections of this cache until the budget is not exceeded anymore. The collections
+     * of the accessed variant are kept, as the caller is going to use them.
+     */
+    private void evictCollections(UUID accessedNetworkUuid, int accessedVariantNum) {
+        List<CollectionCache<?>> candidates = new ArrayList<>();
+        addEvictionCandidates(networksCache, accessedNetworkUuid, accessedVariantNum, candidates);
+        networkContainersCaches.values().forEach(cache -> addEvictionCandidates(cache, accessedNetworkUuid, accessedVariantNum, candidates));
+        candidates.sort(Comparator.comparingLong(CollectionCache::getLastAccessTime));
+        for (CollectionCache<?> collection : candidates) {
+            if (!budget.isExceeded()) {
+                break;
+            }
+            collection.invalidate();
+        }
+        failedEvictionResourceCount = budget.isExceeded() ? budget.getResourceCount() : -1;
+    }
+
+    @Override
+    public void setWorkingVariantNum(UUID networkUuid, int variantNum) {
+        if (variantNum != -1) {
+            workingVariantNumByNetworkUuid.put(networkUuid, variantNum);
+        } else {
+            workingVariantNumByNetworkUuid.remove(networkUuid);
+        }
+        delegate.setWorkingVariantNum(networkUuid, variantNum);
+    }
+
+    /**
+     * Once flushed, the collections of the network can be dropped and loaded again from the server.
+     */
+    @Override
+    public void flush(UUID networkUuid) {
+        delegate.flush(networkUuid);
+        networksCache.applyToCollection(networkUuid, (variantNum, collection) -> collection.setFlushed());
+        networkContainersCaches.values().forEach(cache -> cache.applyToCollection(networkUuid, (variantNum, collection) -> collection.setFlushed()));
+    }
+
+    /**
+     * Collections are set as flushed once the flush has completed, except the ones modified since the flush has been
+     * requested as their last modifications are not part of it.
+     */
+    @Override
+    public CompletableFuture<Void> flushAsync(UUID networkUuid) {
+        Map<CollectionCache<?>, Long> modificationCounts = new IdentityHashMap<>();
+        networksCache.applyToCollection(networkUuid, (variantNum, collection) -> modificationCounts.put(collection, collection.getModificationCount()));
+        networkContainersCaches.values().forEach(cache -> cache.applyToCollection(networkUuid,
+            (variantNum, collection) -> modificationCounts.put(collection, collection.getModificationCount())));
+        return delegate.flushAsync(networkUuid)
+                .thenRun(() -> modificationCounts.forEach(CollectionCache::setFlushed));
     }
 
     @Override
@@ -277,20 +457,140 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
     @Override
     public void deleteNetwork(UUID networkUuid) {
         delegate.deleteNetwork(networkUuid);
+        if (snapshotCache != null) {
+            snapshotCache.invalidate(networkUuid);
+        }
+        removeCollections(networkUuid);
+    }
+
+    /**
+     * The collections of the network are dropped, which releases their resources from the budget, and so are its
+     * references to the shared snapshots.
+     */
+    @Override
+    public void closeNetwork(UUID networkUuid) {
+        delegate.closeNetwork(networkUuid);
+        removeCollections(networkUuid);
+    }
+
+    private void removeCollections(UUID networkUuid) {
+        // release the resources from the budget
+        networksCache.applyToCollection(networkUuid, (variantNum, collection) -> collection.invalidate());
+        networkContainersCaches.values().forEach(cache -> cache.applyToCollection(networkUuid, (variantNum, collection) -> collection.invalidate()));
         networksCache.removeCollection(networkUuid);
         networkContainersCaches.values().forEach(cache -> cache.removeCollection(networkUuid));
         variantsInfosByNetworkUuid.remove(networkUuid);
+        revisionByNetworkVariant.keySet().removeIf(p -> p.getLeft().equals(networkUuid));
+        workingVariantNumByNetworkUuid.remove(networkUuid);
+        SharedSnapshotCache.References snapshotReferences = snapshotReferencesByNetworkUuid.remove(networkUuid);
+        if (snapshotReferences != null) {
+            snapshotReferences.release();
+        }
     }
 
     @Override
     public void deleteNetwork(UUID networkUuid, int variantNum) {
         delegate.deleteNetwork(networkUuid, variantNum);
+        if (snapshotCache != null) {
+            snapshotCache.invalidate(networkUuid, variantNum);
+        }
+        // release the resources from the budget
+        networksCache.findCollection(networkUuid, variantNum).ifPresent(CollectionCache::invalidate);
+        networkContainersCaches.values().forEach(cache -> cache.findCollection(networkUuid, variantNum).ifPresent(CollectionCache::invalidate));
         networksCache.removeCollection(networkUuid, variantNum);
         networkContainersCaches.values().forEach(cache -> cache.removeCollection(networkUuid, variantNum));
         List<VariantInfos> variantsInfos = variantsInfosByNetworkUuid.get(networkUuid);
         if (variantsInfos != null) {
             variantsInfos.removeIf(infos -> infos.getNum() == variantNum);
         }
+        revisionByNetworkVariant.remove(Pair.of(networkUuid, variantNum));
+    }
+
+    /**
+     * When the delegate knows the changes since the previous refresh, only the modified resources already in the cache
+     * are loaded again and patched in place. <br/>
+     * Otherwise, fully loaded collections are loaded again only if they have changed on the server since their last
+     * load, which requires the delegate to support revisions. Partially loaded collections cannot be checked, they are
+     * dropped and loaded again on demand.
+     */
+    @Override
+    public Optional<NetworkChanges> refresh(UUID networkUuid, int variantNum) {
+        delegate.refresh(networkUuid, variantNum);
+        var p = Pair.of(networkUuid, variantNum);
+        String revision = revisionByNetworkVariant.get(p);
+        Optional<NetworkChanges> changes = revision != null ? delegate.getModifiedSince(networkUuid, variantNum, revision) : Optional.empty();
+        if (changes.isPresent()) {
+            applyChanges(networkUuid, variantNum, changes.get());
+            revisionByNetworkVariant.put(p, changes.get().getRevision());
+            return changes;
+        }
+
+        // the revision is taken before reloading, so that changes made meanwhile are applied again by the next refresh
+        Optional<String> currentRevision = delegate.getModifiedSince(networkUuid, variantNum, null).map(NetworkChanges::getRevision);
+        networksCache.getCollection(networkUuid, variantNum).invalidate();
+        for (var e : networkContainersCaches.entrySet()) {
+            CollectionCache<? extends IdentifiableAttributes> collection = e.getValue().getCollection(networkUuid, variantNum);
+            refreshCollection(collection, networkUuid, variantNum, e.getKey());
+        }
+        identifiablesIdsByNetworkVariant.remove(p);
+        identifiableCallCountByNetworkVariant.remove(p);
+        currentRevision.ifPresentOrElse(r -> revisionByNetworkVariant.put(p, r), () -> revisionByNetworkVariant.remove(p));
+        return Optional.empty();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void applyChanges(UUID networkUuid, int variantNum, NetworkChanges changes) {
+        Set<String> idsToLoad = new LinkedHashSet<>();
+        for (ResourceType resourceType : changes.getChangedResourceTypes()) {
+            if (resourceType == ResourceType.NETWORK) {
+                networksCache.getCollection(networkUuid, variantNum).invalidate();
+                continue;
+            }
+            CollectionCache<? extends IdentifiableAttributes> collection = networkContainersCaches.get(resourceType).getCollection(networkUuid, variantNum);
+            changes.getRemovedIds(resourceType).forEach(collection::evictResource);
+            removeIdentifiableIds(networkUuid, variantNum, new ArrayList<>(changes.getRemovedIds(resourceType)));
+            // resources not in the cache are loaded on demand, except new ones which may belong to a loaded container
+            changes.getUpdatedIds(resourceType).stream().filter(collection::isResourceLoaded).forEach(idsToLoad::add);
+            if (collection.isFullyLoaded() || collection.isAnyContainerLoaded()) {
+                idsToLoad.addAll(changes.getCreatedIds(resourceType));
+            }
+            Set<String> identifiablesIds = identifiablesIdsByNetworkVariant.get(Pair.of(networkUuid, variantNum));
+            if (identifiablesIds != null) {
+                identifiablesIds.addAll(changes.getCreatedIds(resourceType));
+            }
+        }
+        if (!idsToLoad.isEmpty()) {
+            for (Resource<IdentifiableAttributes> r : delegate.getIdentifiables(networkUuid, variantNum, idsToLoad)) {
+                CollectionCache<IdentifiableAttributes> collection = (CollectionCache<IdentifiableAttributes>) networkContainersCaches.get(r.getType()).getCollection(networkUuid, variantNum);
+                // the cached extensions and operational limits groups are moved to the loaded attributes
+                unshareAttributes(networkUuid, variantNum, r.getType(), r.getId());
+                collection.mergeModifiedResource(r);
+            }
+        }
+    }
+
+    @Override
+    public <T extends IdentifiableAttributes> void updateResources(UUID networkUuid, ResourceType resourceType, List<Resource<T>> resources,
+                                                                  AttributeFilter attributeFilter) {
+        // dispatch to the collection update methods so that the cache is updated too
+        NetworkStoreClient.super.updateResources(networkUuid, resourceType, resources, attributeFilter);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends IdentifiableAttributes> void updateResourceAttributes(UUID networkUuid, Resource<T> resource, AttributeFilter attributeFilter,
+                                                                           Set<String> attributeNames) {
+        delegate.updateResourceAttributes(networkUuid, resource, attributeFilter, attributeNames);
+        ((CollectionCache<T>) getCache(resource.getType()).getCollection(networkUuid, resource.getVariantNum())).updateResource(resource);
+    }
+
+    private <T extends IdentifiableAttributes> void refreshCollection(CollectionCache<T> collection, UUID networkUuid, int variantNum, ResourceType resourceType) {
+        if (collection.isFullyLoaded()) {
+            delegate.<T>getResourcesIfModified(networkUuid, variantNum, resourceType, collection.getRevision())
+                    .ifPresent(loaded -> collection.refresh(loaded.resources(), loaded.revision()));
+        } else {
+            collection.invalidate();
+        }
     }
 
     @Override
@@ -304,49 +604,49 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
     }
 
     private static <T extends IdentifiableAttributes> void cloneCollection(NetworkCollectionIndex<CollectionCache<T>> cache, UUID networkUuid,
-                                                                           int sourceVariantNum, int targetVariantNum, ObjectMapper objectMapper,
+                                                                           int sourceVariantNum, int targetVariantNum,
                                                                            Consumer<Resource<T>> resourcePostProcessor) {
         // clone resources from source variant collection
         CollectionCache<T> cloneCollection = cache.getCollection(networkUuid, sourceVariantNum)
-                .clone(objectMapper, targetVariantNum, resourcePostProcessor);
+                .clone(targetVariantNum, resourcePostProcessor);
         cache.addCollection(networkUuid, targetVariantNum, cloneCollection);
     }
 
     private static <T extends IdentifiableAttributes> void cloneCollection(NetworkCollectionIndex<CollectionCache<T>> cache, UUID networkUuid,
-                                                                           int sourceVariantNum, int targetVariantNum, ObjectMapper objectMapper) {
-        cloneCollection(cache, networkUuid, sourceVariantNum, targetVariantNum, objectMapper, null);
+                                                                           int sourceVariantNum, int targetVariantNum) {
+        cloneCollection(cache, networkUuid, sourceVariantNum, targetVariantNum, null);
     }
 
+    /**
+     * Resources attributes are shared with the source variant and copied on write, see
+     * {@link #prepareResourceUpdate(UUID, Resource)}, except for the network resource which is modified for the new variant.
+     */
     @Override
     public void cloneNetwork(UUID networkUuid, int sourceVariantNum, int targetVariantNum, String targetVariantId) {
         delegate.cloneNetwork(networkUuid, sourceVariantNum, targetVariantNum, targetVariantId);
-        var objectMapper = JsonUtil.createObjectMapper()
-            .registerModule(new JavaTimeModule())
-            .configure(SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS, false)
-            .configure(DeserializationFeature.READ_DATE_TIMESTAMPS_AS_NANOSECONDS, false);
 
         // clone each collection and re-assign variant number and id
-        cloneCollection(switchesCache, networkUuid, sourceVariantNum, targetVariantNum, objectMapper);
-        cloneCollection(busbarSectionsCache, networkUuid, sourceVariantNum, targetVariantNum, objectMapper);
-        cloneCollection(loadsCache, networkUuid, sourceVariantNum, targetVariantNum, objectMapper);
-        cloneCollection(generatorsCache, networkUuid, sourceVariantNum, targetVariantNum, objectMapper);
-        cloneCollection(batteriesCache, networkUuid, sourceVariantNum, targetVariantNum, objectMapper);
-        cloneCollection(twoWindingsTransformerCache, networkUuid, sourceVariantNum, targetVariantNum, objectMapper);
-        cloneCollection(threeWindingsTransformerCache, networkUuid, sourceVariantNum, targetVariantNum, objectMapper);
-        cloneCollection(linesCache, networkUuid, sourceVariantNum, targetVariantNum, objectMapper);
-        cloneCollection(shuntCompensatorsCache, networkUuid, sourceVariantNum, targetVariantNum, objectMapper);
-        cloneCollection(vscConverterStationCache, networkUuid, sourceVariantNum, targetVariantNum, objectMapper);
-        cloneCollection(lccConverterStationCache, networkUuid, sourceVariantNum, targetVariantNum, objectMapper);
-        cloneCollection(staticVarCompensatorCache, networkUuid, sourceVariantNum, targetVariantNum, objectMapper);
-        cloneCollection(hvdcLinesCache, networkUuid, sourceVariantNum, targetVariantNum, objectMapper);
-        cloneCollection(boundaryLinesCache, networkUuid, sourceVariantNum, targetVariantNum, objectMapper);
-        cloneCollection(tieLinesCache, networkUuid, sourceVariantNum, targetVariantNum, objectMapper);
-        cloneCollection(areasCache, networkUuid, sourceVariantNum, targetVariantNum, objectMapper);
-        cloneCollection(configuredBusesCache, networkUuid, sourceVariantNum, targetVariantNum, objectMapper);
-        cloneCollection(groundsCache, networkUuid, sourceVariantNum, targetVariantNum, objectMapper);
-        cloneCollection(substationsCache, networkUuid, sourceVariantNum, targetVariantNum, objectMapper);
-        cloneCollection(voltageLevelsCache, networkUuid, sourceVariantNum, targetVariantNum, objectMapper);
-        cloneCollection(networksCache, networkUuid, sourceVariantNum, targetVariantNum, objectMapper,
+        cloneCollection(switchesCache, networkUuid, sourceVariantNum, targetVariantNum);
+        cloneCollection(busbarSectionsCache, networkUuid, sourceVariantNum, targetVariantNum);
+        cloneCollection(loadsCache, networkUuid, sourceVariantNum, targetVariantNum);
+        cloneCollection(generatorsCache, networkUuid, sourceVariantNum, targetVariantNum);
+        cloneCollection(batteriesCache, networkUuid, sourceVariantNum, targetVariantNum);
+        cloneCollection(twoWindingsTransformerCache, networkUuid, sourceVariantNum, targetVariantNum);
+        cloneCollection(threeWindingsTransformerCache, networkUuid, sourceVariantNum, targetVariantNum);
+        cloneCollection(linesCache, networkUuid, sourceVariantNum, targetVariantNum);
+        cloneCollection(shuntCompensatorsCache, networkUuid, sourceVariantNum, targetVariantNum);
+        cloneCollection(vscConverterStationCache, networkUuid, sourceVariantNum, targetVariantNum);
+        cloneCollection(lccConverterStationCache, networkUuid, sourceVariantNum, targetVariantNum);
+        cloneCollection(staticVarCompensatorCache, networkUuid, sourceVariantNum, targetVariantNum);
+        cloneCollection(hvdcLinesCache, networkUuid, sourceVariantNum, targetVariantNum);
+        cloneCollection(boundaryLinesCache, networkUuid, sourceVariantNum, targetVariantNum);
+        cloneCollection(tieLinesCache, networkUuid, sourceVariantNum, targetVariantNum);
+        cloneCollection(areasCache, networkUuid, sourceVariantNum, targetVariantNum);
+        cloneCollection(configuredBusesCache, networkUuid, sourceVariantNum, targetVariantNum);
+        cloneCollection(groundsCache, networkUuid, sourceVariantNum, targetVariantNum);
+        cloneCollection(substationsCache, networkUuid, sourceVariantNum, targetVariantNum);
+        cloneCollection(voltageLevelsCache, networkUuid, sourceVariantNum, targetVariantNum);
+        cloneCollection(networksCache, networkUuid, sourceVariantNum, targetVariantNum,
                 networkResource -> {
                     NetworkAttributes networkAttributes = networkResource.getAttributes();
                     networkAttributes.setVariantId(targetVariantId);
@@ -359,6 +659,29 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
                 .add(new VariantInfos(targetVariantId, targetVariantNum));
     }
 
+    /**
+     * The variant modifying the resource keeps its attributes, as the identifiables of the variant may reference parts
+     * of them, the other variants sharing them getting a copy.
+     */
+    @Override
+    public <T extends IdentifiableAttributes> void prepareResourceUpdate(UUID networkUuid, Resource<T> resource) {
+        unshareAttributes(networkUuid, resource.getVariantNum(), resource.getType(), resource.getId());
+        delegate.prepareResourceUpdate(networkUuid, resource);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends IdentifiableAttributes> void unshareAttributes(UUID networkUuid, int variantNum, ResourceType resourceType, String id) {
+        var cache = (NetworkCollectionIndex<CollectionCache<T>>) getCache(resourceType);
+        T attributes = cache.findCollection(networkUuid, variantNum).map(collection -> collection.releaseSharedAttributes(id)).orElse(null);
+        if (attributes != null) {
+            cache.applyToCollection(networkUuid, (otherVariantNum, collection) -> {
+                if (otherVariantNum != variantNum) {
+                    collection.copySharedAttributes(id, attributes);
+                }
+            });
+        }
+    }
+
     @Override
     public void createSubstations(UUID networkUuid, List<Resource<SubstationAttributes>> substationResources) {
         delegate.createSubstations(networkUuid, substationResources);
@@ -1111,6 +1434,45 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
         return configuredBusesCache.getCollection(networkUuid, variantNum).getContainerResources(networkUuid, variantNum, voltageLevelId);
     }
 
+    @SuppressWarnings("unchecked")
+    private static <T extends IdentifiableAttributes> void addContainerResources(CollectionCache<T> collection, String containerId,
+                                                                                List<Resource<IdentifiableAttributes>> resources) {
+        collection.addContainerResources(containerId, (List<Resource<T>>) (List<?>) resources);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Resource<IdentifiableAttributes>> getContainerResources(CollectionCache<?> collection, UUID networkUuid, int variantNum,
+                                                                               String containerId) {
+        return (List<Resource<IdentifiableAttributes>>) (List<?>) collection.getContainerResources(networkUuid, variantNum, containerId);
+    }
+
+    @Override
+    public Map<ResourceType, List<Resource<IdentifiableAttributes>>> getVoltageLevelContents(UUID networkUuid, int variantNum, String voltageLevelId,
+                                                                                            Set<ResourceType> resourceTypes) {
+        // only the types whose voltage level resources are not yet cached are loaded, all together in a single call
+        Set<ResourceType> resourceTypesToLoad = EnumSet.noneOf(ResourceType.class);
+        for (ResourceType resourceType : resourceTypes) {
+            if (!VOLTAGE_LEVEL_CONTENT_TYPES.contains(resourceType)) {
+                throw new IllegalArgumentException(resourceType + " resources are not contained in a voltage level");
+            }
+            if (!getCache(resourceType).getCollection(networkUuid, variantNum).isContainerLoaded(voltageLevelId)) {
+                resourceTypesToLoad.add(resourceType);
+            }
+        }
+        if (!resourceTypesToLoad.isEmpty()) {
+            Map<ResourceType, List<Resource<IdentifiableAttributes>>> loadedContents = delegate.getVoltageLevelContents(networkUuid, variantNum, voltageLevelId, resourceTypesToLoad);
+            for (ResourceType resourceType : resourceTypesToLoad) {
+                CollectionCache<?> collection = getCache(resourceType).getCollection(networkUuid, variantNum);
+                addContainerResources(collection, voltageLevelId, loadedContents.getOrDefault(resourceType, Collections.emptyList()));
+            }
+        }
+        Map<ResourceType, List<Resource<IdentifiableAttributes>>> contents = new EnumMap<>(ResourceType.class);
+        for (ResourceType resourceType : resourceTypes) {
+            contents.put(resourceType, getContainerResources(getCache(resourceType).getCollection(networkUuid, variantNum), networkUuid, variantNum, voltageLevelId));
+        }
+        return contents;
+    }
+
     @Override
     public Optional<Resource<ConfiguredBusAttributes>> getConfiguredBus(UUID networkUuid, int variantNum, String busId) {
         return configuredBusesCache.getCollection(networkUuid, variantNum).getResource(networkUuid, variantNum, busId);
@@ -1140,6 +1502,15 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
         getCache(resourceType).getCollection(networkUuid, variantNum).loadAllExtensionsAttributesByResourceTypeAndExtensionName(networkUuid, variantNum, resourceType, extensionName);
     }
 
+    public void loadAllExtensionsAttributesByResourceTypeAndExtensionNames(UUID networkUuid, int variantNum, ResourceType resourceType, Set<String> extensionNames) {
+        getCache(resourceType).getCollection(networkUuid, variantNum).loadAllExtensionsAttributesByResourceTypeAndExtensionNames(networkUuid, variantNum, resourceType, extensionNames);
+    }
+
+    @Override
+    public Map<String, Map<String, ExtensionAttributes>> getAllExtensionsAttributesByResourceTypeAndExtensionNames(UUID networkUuid, int variantNum, ResourceType resourceType, Set<String> extensionNames) {
+        return getCache(resourceType).getCollection(networkUuid, variantNum).getAllExtensionsAttributesByResourceTypeAndExtensionNames(networkUuid, variantNum, resourceType, extensionNames);
+    }
+
     @Override
     public Map<String, ExtensionAttributes> getAllExtensionsAttributesByIdentifiableId(UUID networkUuid, int variantNum, ResourceType resourceType, String identifiableId) {
         return getCache(resourceType).getCollection(networkUuid, variantNum).getAllExtensionsAttributesByIdentifiableId(networkUuid, variantNum, resourceType, identifiableId);
@@ -1151,6 +1522,7 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
 
     @Override
     public void removeExtensionsAttributes(UUID networkUuid, int variantNum, ResourceType resourceType, Map<String, Set<String>> extensionsByIdentifiableId) {
+        extensionsByIdentifiableId.keySet().forEach(id -> unshareAttributes(networkUuid, variantNum, resourceType, id));
         getCache(resourceType).getCollection(networkUuid, variantNum).removeExtensionAttributesByIdentifiableIds(extensionsByIdentifiableId);
         delegate.removeExtensionsAttributes(networkUuid, variantNum, resourceType, extensionsByIdentifiableId);
     }
@@ -1182,8 +1554,34 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
         getCache(resourceType).getCollection(networkUuid, variantNum).loadAllSelectedOperationalLimitsGroupAttributesByResourceType(networkUuid, variantNum, resourceType);
     }
 
+    @Override
+    public Map<String, Map<Integer, Map<String, OperationalLimitsGroupAttributes>>> getVoltageLevelOperationalLimitsGroupAttributes(UUID networkUuid, int variantNum, ResourceType resourceType,
+                                                                                                                                  String voltageLevelId) {
+        checkOperationalLimitsGroupType(resourceType);
+        CollectionCache<?> collection = getCache(resourceType).getCollection(networkUuid, variantNum);
+        collection.loadVoltageLevelOperationalLimitsGroupAttributes(networkUuid, variantNum, resourceType, voltageLevelId);
+        return collection.getCachedContainerOperationalLimitsGroupAttributes(List.of(voltageLevelId));
+    }
+
+    @Override
+    public Map<String, Map<Integer, Map<String, OperationalLimitsGroupAttributes>>> getSubstationOperationalLimitsGroupAttributes(UUID networkUuid, int variantNum, ResourceType resourceType,
+                                                                                                                                String substationId) {
+        checkOperationalLimitsGroupType(resourceType);
+        List<String> voltageLevelIds = getVoltageLevelsInSubstation(networkUuid, variantNum, substationId).stream().map(Resource::getId).toList();
+        CollectionCache<?> collection = getCache(resourceType).getCollection(networkUuid, variantNum);
+        collection.loadSubstationOperationalLimitsGroupAttributes(networkUuid, variantNum, resourceType, substationId, voltageLevelIds);
+        return collection.getCachedContainerOperationalLimitsGroupAttributes(voltageLevelIds);
+    }
+
+    private static void checkOperationalLimitsGroupType(ResourceType resourceType) {
+        if (!OPERATIONAL_LIMITS_GROUP_TYPES.contains(resourceType)) {
+            throw new IllegalArgumentException(resourceType + " resources do not have operational limits groups");
+        }
+    }
+
     @Override
     public void removeOperationalLimitsGroupAttributes(UUID networkUuid, int variantNum, ResourceType resourceType, Map<String, Map<Integer, Set<String>>> operationalLimitsGroupsToDelete) {
+        operationalLimitsGroupsToDelete.keySet().forEach(id -> unshareAttributes(networkUuid, variantNum, resourceType, id));
         getCache(resourceType).getCollection(networkUuid, variantNum).removeOperationalLimitsGroupAttributes(operationalLimitsGroupsToDelete);
         delegate.removeOperationalLimitsGroupAttributes(networkUuid, variantNum, resourceType, operationalLimitsGroupsToDelete);
     }
@@ -1276,4 +1674,55 @@ public class CachedNetworkStoreClient extends AbstractForwardingNetworkStoreClie
 
         return resource;
     }
+
+    /**
+     * Cached resources are taken from the cache, all the other ones are loaded with a single call to the delegate, and
+     * then added to the cache.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public List<Resource<IdentifiableAttributes>> getIdentifiables(UUID networkUuid, int variantNum, Collection<String> ids) {
+        List<Resource<IdentifiableAttributes>> resources = new ArrayList<>(ids.size());
+        Set<String> idsToLoad = new LinkedHashSet<>();
+        for (String id : ids) {
+            boolean loaded = false;
+            for (var cache : networkContainersCaches.values()) {
+                var collection = cache.getCollection(networkUuid, variantNum);
+                if (collection.isResourceLoaded(id)) {
+                    collection.getResource(networkUuid, variantNum, id).ifPresent(r -> resources.add((Resource<IdentifiableAttributes>) r));
+                    loaded = true;
+                    break;
+                }
+            }
+            if (!loaded) {
+                idsToLoad.add(id);
+            }
+        }
+
+        if (idsToLoad.isEmpty() || networkContainersCaches.values().stream().allMatch(cache -> cache.getCollection(networkUuid, variantNum).isFullyLoaded())) {
+            return resources;
+        }
+
+        // ids already known not to exist on the server are not requested again
+        var p = Pair.of(networkUuid, variantNum);
+        Set<String> identifiablesIds = identifiablesIdsByNetworkVariant.get(p);
+        if (identifiablesIds != null) {
+            idsToLoad.retainAll(identifiablesIds);
+            if (idsToLoad.isEmpty()) {
+                return resources;
+            }
+        }
+
+        for (Resource<IdentifiableAttributes> r : delegate.getIdentifiables(networkUuid, variantNum, idsToLoad)) {
+            CollectionCache<IdentifiableAttributes> collection = (CollectionCache<IdentifiableAttributes>) networkContainersCaches.get(r.getType()).getCollection(networkUuid, variantNum);
+            // only resources not in the cache have been requested so we can directly put them in the cache
+            collection.addOrReplaceResource(r);
+            resources.add(r);
+        }
+
+        identifiableCallCountByNetworkVariant.computeIfAbsent(p, k -> new MutableInt())
+                .increment();
+
+        return resources;
+    }
 }
@@ -161,6 +161,7 @@ public final class CalculatedBus implements BaseBus {
 
     @Override
     public Bus setV(double v) {
+        index.prepareResourceUpdate(voltageLevelResource);
         getAttributes().setV(v);
         index.updateVoltageLevelResource(voltageLevelResource, AttributeFilter.SV);
 
@@ -182,6 +183,7 @@ public final class CalculatedBus implements BaseBus {
 
     @Override
     public Bus setAngle(double angle) {
+        index.prepareResourceUpdate(voltageLevelResource);
         getAttributes().setAngle(angle);
         index.updateVoltageLevelResource(voltageLevelResource, AttributeFilter.SV);
 
@@ -265,6 +267,7 @@ public final class CalculatedBus implements BaseBus {
     }
 
     void setConnectedComponentNum(int num) {
+        index.prepareResourceUpdate(voltageLevelResource);
         getAttributes().setConnectedComponentNumber(num);
         index.updateVoltageLevelResource(voltageLevelResource, AttributeFilter.SV);
     }
@@ -275,6 +278,7 @@ public final class CalculatedBus implements BaseBus {
     }
 
     public void setSynchronousComponentNum(int num) {
+        index.prepareResourceUpdate(voltageLevelResource);
         getAttributes().setSynchronousComponentNumber(num);
         index.updateVoltageLevelResource(voltageLevelResource, AttributeFilter.SV);
     }
@@ -548,6 +552,7 @@ public final class CalculatedBus implements BaseBus {
                     int node = entry.getKey();
                     Integer busNumInOtherView = nodesToCalculatedBusesInOtherView.get(node);
                     if (busNumInOtherView != null && !seen.contains(busNumInOtherView)) {
+                        index.prepareResourceUpdate(voltageLevelResource);
                         setValue.accept(calculatedBusAttributes.get(busNumInOtherView), value);
                         index.updateVoltageLevelResource(voltageLevelResource, AttributeFilter.SV);
                         seen.add(busNumInOtherView);
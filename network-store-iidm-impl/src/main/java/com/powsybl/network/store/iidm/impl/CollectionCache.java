@@ -6,15 +6,16 @@
  */
 package com.powsybl.network.store.iidm.impl;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.gdata.util.common.base.Pair;
 import com.powsybl.commons.PowsyblException;
+import com.powsybl.network.store.iidm.impl.util.TriConsumer;
 import com.powsybl.network.store.iidm.impl.util.TriFunction;
 import com.powsybl.network.store.model.*;
 
 import java.util.*;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -38,6 +39,11 @@ public class CollectionCache<T extends IdentifiableAttributes> {
      */
     private boolean fullyLoaded = false;
 
+    /**
+     * Revision of the collection on the server when it has been fully loaded, null if unknown.
+     */
+    private String revision;
+
     /**
      * Resources indexed by container id. A container is either a substation or a voltage level. <br/>
      * We enforce a single resource per variant because they are referenced both in these maps
@@ -104,6 +110,46 @@ public class CollectionCache<T extends IdentifiableAttributes> {
      */
     private final Map<String, Map<Integer, Set<String>>> removedOperationalLimitsAttributes = new HashMap<>();
 
+    /**
+     * Ids of the resources which may share their attributes with the resources of other variants, because the
+     * collection has been cloned without copying them. Shared attributes are copied before being modified in place.
+     */
+    private final Set<String> sharedResourceIds = new HashSet<>();
+
+    /**
+     * Ids of the resources sharing their attributes with a snapshot of the collection, and so with the caches of other
+     * networks, see {@link #shareSnapshotAttributes(List)}. They are copied before being modified in place or used by
+     * an identifiable.
+     */
+    private final Set<String> snapshotResourceIds = new HashSet<>();
+
+    /**
+     * true if the collection has been modified since its last flush to the server, so that it cannot be dropped and
+     * loaded again.
+     */
+    private boolean modified = false;
+
+    /**
+     * Number of modifications of the collection, so that an asynchronous flush only sets the collection as flushed if
+     * it has not been modified since the flush has been requested.
+     */
+    private long modificationCount = 0;
+
+    /**
+     * Budget account in which the resources of the collection are counted, null if the cache is not bounded.
+     */
+    private CacheBudget.Account budgetAccount;
+
+    /**
+     * Number of resources counted in the budget account.
+     */
+    private int countedResourceCount = 0;
+
+    /**
+     * Logical time of the last access to the collection, to drop the least recently used collections first.
+     */
+    private long lastAccessTime = 0;
+
     /**
      * A function to load one resource from the server. An optional is returned because resource could not exist on
      * the server.
@@ -120,14 +166,29 @@ public class CollectionCache<T extends IdentifiableAttributes> {
      */
     private final BiFunction<UUID, Integer, List<Resource<T>>> allLoaderFunction;
 
+    /**
+     * An optional function to load all resources of the collection one by one as they are read from the server,
+     * so that the full list is never materialized. When specified, it is used instead of the all loader function.
+     */
+    private final TriConsumer<UUID, Integer, Consumer<Resource<T>>> allStreamingLoaderFunction;
+
     private final NetworkStoreClient delegate;
 
     public CollectionCache(TriFunction<UUID, Integer, String, Optional<Resource<T>>> oneLoaderFunction,
                            TriFunction<UUID, Integer, String, List<Resource<T>>> containerLoaderFunction,
                            BiFunction<UUID, Integer, List<Resource<T>>> allLoaderFunction, NetworkStoreClient delegate) {
+        this(oneLoaderFunction, containerLoaderFunction, allLoaderFunction, null, delegate);
+    }
+
+    public CollectionCache(TriFunction<UUID, Integer, String, Optional<Resource<T>>> oneLoaderFunction,
+                           TriFunction<UUID, Integer, String, List<Resource<T>>> containerLoaderFunction,
+                           BiFunction<UUID, Integer, List<Resource<T>>> allLoaderFunction,
+                           TriConsumer<UUID, Integer, Consumer<Resource<T>>> allStreamingLoaderFunction,
+                           NetworkStoreClient delegate) {
         this.oneLoaderFunction = Objects.requireNonNull(oneLoaderFunction);
         this.containerLoaderFunction = containerLoaderFunction;
         this.allLoaderFunction = Objects.requireNonNull(allLoaderFunction);
+        this.allStreamingLoaderFunction = allStreamingLoaderFunction;
         this.delegate = delegate;
     }
 
@@ -144,6 +205,7 @@ public class CollectionCache<T extends IdentifiableAttributes> {
      * side and that even if empty the collection is fully loaded.
      */
     public void init() {
+        setModified();
         fullyLoaded = true;
         fullyLoadedExtensions = true;
         fullyLoadedOperationalLimitsGroup = true;
@@ -154,6 +216,120 @@ public class CollectionCache<T extends IdentifiableAttributes> {
         return fullyLoaded;
     }
 
+    /**
+     * @return the revision of the collection on the server when it has been fully loaded, null if unknown
+     */
+    public String getRevision() {
+        return revision;
+    }
+
+    /**
+     * Replace the content of the cache by all the resources of the collection freshly loaded from the server.
+     * Extensions and operational limits groups are loaded again on demand.
+     * @param loadedResources all the resources of the collection
+     * @param revision revision of the collection on the server, null if unknown
+     */
+    public void refresh(List<Resource<T>> loadedResources, String revision) {
+        invalidate();
+        Set<String> loadedContainerIds = new HashSet<>();
+        loadedResources.forEach(resource -> addLoadedResource(resource, loadedContainerIds));
+        containerFullyLoaded.addAll(loadedContainerIds);
+        fullyLoaded = true;
+        this.revision = revision;
+        updateBudget();
+    }
+
+    /**
+     * Drop all the content of the cache, so that resources are loaded again from the server on demand.
+     */
+    public void invalidate() {
+        resources.clear();
+        fullyLoaded = false;
+        revision = null;
+        resourcesByContainerId.clear();
+        containerFullyLoaded.clear();
+        removedResources.clear();
+        fullyLoadedExtensionsByExtensionName.clear();
+        fullyLoadedExtensionsByIdentifiableIds.clear();
+        fullyLoadedExtensions = false;
+        removedExtensionAttributes.clear();
+        fullyLoadedOperationalLimitsGroup = false;
+        fullyLoadedSelectedOperationalLimitsGroup = false;
+        loadedOperationalLimitsGroupsForBranches.clear();
+        removedOperationalLimitsAttributes.clear();
+        sharedResourceIds.clear();
+        snapshotResourceIds.clear();
+        setFlushed();
+        updateBudget();
+    }
+
+    /**
+     * @return true if the collection has been modified since its last flush to the server
+     */
+    public synchronized boolean isModified() {
+        return modified;
+    }
+
+    private synchronized void setModified() {
+        modified = true;
+        modificationCount++;
+    }
+
+    /**
+     * @return the number of modifications of the collection, to be given to {@link #setFlushed(long)}
+     */
+    public synchronized long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Declare the collection as synchronized with the server, after its modifications have been flushed.
+     */
+    public synchronized void setFlushed() {
+        modified = false;
+    }
+
+    /**
+     * Declare the collection as synchronized with the server after an asynchronous flush, unless it has been modified
+     * since the flush has been requested.
+     * @param modificationCount the modification count of the collection when the flush has been requested
+     */
+    public synchronized void setFlushed(long modificationCount) {
+        if (this.modificationCount == modificationCount) {
+            modified = false;
+        }
+    }
+
+    long getLastAccessTime() {
+        return lastAccessTime;
+    }
+
+    int getCountedResourceCount() {
+        return countedResourceCount;
+    }
+
+    /**
+     * Record an access to the collection and count its resources in the given budget account.
+     */
+    void touch(CacheBudget.Account account, long accessTime) {
+        if (budgetAccount == null) {
+            budgetAccount = account;
+            updateBudget();
+        }
+        lastAccessTime = accessTime;
+    }
+
+    /**
+     * Count in the budget account the resources added or removed since the last call.
+     */
+    private void updateBudget() {
+        if (budgetAccount != null) {
+            int resourceCount = resources.size();
+            budgetAccount.add((long) resourceCount - countedResourceCount);
+            countedResourceCount = resourceCount;
+        }
+    }
+
     /**
      */
     public void initContainer(String containerId) {
@@ -195,34 +371,40 @@ public class CollectionCache<T extends IdentifiableAttributes> {
     private void loadAll(UUID networkUuid, int variantNum) {
         if (!fullyLoaded) {
             // if collection has not yet been fully loaded we load it from the server
-            List<Resource<T>> resourcesToAdd = allLoaderFunction.apply(networkUuid, variantNum);
-
-            // we update the full cache and set it as fully loaded
-            // notice: even if it adds some checks and reduces performance by a tiny bit, we avoid to overwrite already
-            // loaded resource (single or container) because they are referenced in the resources or resourcesByContainerId map,
-            // but also directly in any identifiable with the iidm api.
-            resourcesToAdd.forEach(resource -> resources.putIfAbsent(resource.getId(), resource));
+            Set<String> loadedContainerIds = new HashSet<>();
+            if (allStreamingLoaderFunction != null) {
+                // resources are added to the cache as soon as they are read from the server response
+                allStreamingLoaderFunction.accept(networkUuid, variantNum, resource -> addLoadedResource(resource, loadedContainerIds));
+            } else {
+                allLoaderFunction.apply(networkUuid, variantNum).forEach(resource -> addLoadedResource(resource, loadedContainerIds));
+            }
+            // containers and the full cache are only set as fully loaded once the whole collection has been read, so
+            // that a failure in the middle of the response does not leave them partially loaded
+            containerFullyLoaded.addAll(loadedContainerIds);
             fullyLoaded = true;
+            updateBudget();
+        }
+    }
 
-            // we update by container cache
-            for (Resource<T> resource : resourcesToAdd) {
-                IdentifiableAttributes attributes = resource.getAttributes();
-                if (attributes instanceof Contained) {
-                    Set<String> containerIds = ((Contained) attributes).getContainerIds();
-                    containerIds.forEach(containerId -> {
-                        // we add container resources and update container fully loaded status
-                        // notice: even if it adds some checks and reduces performance by a tiny bit, we avoid to overwrite already
-                        // loaded resource (single or container) because they are referenced in the resources or resourcesByContainerId map,
-                        // but also directly in any identifiable with the iidm api.
-                        getResourcesByContainerId(containerId).putIfAbsent(resource.getId(), resource);
-                        containerFullyLoaded.add(containerId);
-                    });
-                }
+    private void addLoadedResource(Resource<T> resource, Set<String> loadedContainerIds) {
+        // notice: even if it adds some checks and reduces performance by a tiny bit, we avoid to overwrite already
+        // loaded resource (single or container) because they are referenced in the resources or resourcesByContainerId map,
+        // but also directly in any identifiable with the iidm api.
+        resources.putIfAbsent(resource.getId(), resource);
 
-                // discard remove status of the resources
-                removedResources.remove(resource.getId());
-            }
+        // we update by container cache
+        IdentifiableAttributes attributes = resource.getAttributes();
+        if (attributes instanceof Contained) {
+            Set<String> containerIds = ((Contained) attributes).getContainerIds();
+            containerIds.forEach(containerId -> {
+                // we add container resources and keep the container to update its fully loaded status
+                getResourcesByContainerId(containerId).putIfAbsent(resource.getId(), resource);
+                loadedContainerIds.add(containerId);
+            });
         }
+
+        // discard remove status of the resources
+        removedResources.remove(resource.getId());
     }
 
     /**
@@ -251,24 +433,53 @@ public class CollectionCache<T extends IdentifiableAttributes> {
             throw new PowsyblException("it is not possible to load resources by container, if container resources loader has not been specified");
         }
 
-        if (!fullyLoaded && !containerFullyLoaded.contains(containerId)) {
-            List<Resource<T>> resourcesToAdd = containerLoaderFunction.apply(networkUuid, variantNum, containerId)
-                .stream().filter(resource -> !removedResources.contains(resource.getId())).collect(Collectors.toList());
-
-            resourcesToAdd.forEach(resource -> {
-                String resourceId = resource.getId();
-                // notice: even if it adds some checks and reduces performance by a tiny bit, we avoid to overwrite already
-                // loaded resource (single or container) because they are referenced in the resources or resourcesByContainerId map,
-                // but also directly in any identifiable with the iidm api.
-                getResourcesByContainerId(containerId).putIfAbsent(resourceId, resource);
-                resources.putIfAbsent(resourceId, resource);
-                removedResources.remove(resourceId);
-            });
-            containerFullyLoaded.add(containerId);
+        if (!isContainerLoaded(containerId)) {
+            addContainerResources(containerId, containerLoaderFunction.apply(networkUuid, variantNum, containerId));
         }
         return new ArrayList<>(getResourcesByContainerId(containerId).values());
     }
 
+    /**
+     * @return true if the collection or at least one container is fully loaded
+     */
+    public boolean isAnyContainerLoaded() {
+        return fullyLoaded || !containerFullyLoaded.isEmpty();
+    }
+
+    /**
+     * @return true if all the resources of the container are in the cache
+     */
+    public boolean isContainerLoaded(String containerId) {
+        return fullyLoaded || containerFullyLoaded.contains(containerId);
+    }
+
+    /**
+     * Add to the cache the resources of a container loaded from the server by another way than the container loader
+     * function, for instance together with other collections, and set the container as fully loaded.
+     * @param containerId the container id
+     * @param loadedResources all the resources of the collection that belongs to the container
+     */
+    public void addContainerResources(String containerId, List<Resource<T>> loadedResources) {
+        Objects.requireNonNull(containerId);
+        if (isContainerLoaded(containerId)) {
+            return;
+        }
+        List<Resource<T>> resourcesToAdd = loadedResources.stream()
+            .filter(resource -> !removedResources.contains(resource.getId())).collect(Collectors.toList());
+
+        resourcesToAdd.forEach(resource -> {
+            String resourceId = resource.getId();
+            // notice: even if it adds some checks and reduces performance by a tiny bit, we avoid to overwrite already
+            // loaded resource (single or container) because they are referenced in the resources or resourcesByContainerId map,
+            // but also directly in any identifiable with the iidm api.
+            getResourcesByContainerId(containerId).putIfAbsent(resourceId, resource);
+            resources.putIfAbsent(resourceId, resource);
+            removedResources.remove(resourceId);
+        });
+        containerFullyLoaded.add(containerId);
+        updateBudget();
+    }
+
     /**
      * Adds or replaces the given resource in the cache. <br/>
      * If the resource already exists in the cache, it will be overridden.
@@ -279,7 +490,9 @@ public class CollectionCache<T extends IdentifiableAttributes> {
         Objects.requireNonNull(resource);
 
         // full cache update
-        resources.put(resource.getId(), resource);
+        if (resources.put(resource.getId(), resource) != resource) {
+            snapshotResourceIds.remove(resource.getId());
+        }
         removedResources.remove(resource.getId());
 
         // by container cache update
@@ -288,6 +501,7 @@ public class CollectionCache<T extends IdentifiableAttributes> {
             Set<String> containerIds = ((Contained) attributes).getContainerIds();
             containerIds.forEach(containerId -> getResourcesByContainerId(containerId).put(resource.getId(), resource));
         }
+        updateBudget();
     }
 
     /**
@@ -302,6 +516,7 @@ public class CollectionCache<T extends IdentifiableAttributes> {
         }
         // we already checked that the resource is not in the cache so we can directly put it in the cache
         addOrReplaceResource(resource);
+        setModified();
     }
 
     /**
@@ -311,6 +526,7 @@ public class CollectionCache<T extends IdentifiableAttributes> {
      */
     public void updateResource(Resource<T> resource) {
         addOrReplaceResource(resource);
+        setModified();
     }
 
     /**
@@ -320,10 +536,18 @@ public class CollectionCache<T extends IdentifiableAttributes> {
      */
     public void removeResource(String id) {
         Objects.requireNonNull(id);
-        // keep track of removed extension attributes
-        removeExtensionAttributesByIdentifiableId(id);
+        setModified();
+        // keep track of removed extension attributes, without clearing them if they are shared with other variants
+        if (sharedResourceIds.remove(id)) {
+            if (resources.containsKey(id)) {
+                removedExtensionAttributes.computeIfAbsent(id, k -> new HashSet<>()).addAll(getCachedExtensionAttributes(id).keySet());
+            }
+        } else {
+            removeExtensionAttributesByIdentifiableId(id);
+        }
         // try to remove the resource from full cache
         Resource<T> resource = resources.remove(id);
+        snapshotResourceIds.remove(id);
         removedResources.add(id);
 
         // if resource has been found also remove it from container cache
@@ -334,6 +558,7 @@ public class CollectionCache<T extends IdentifiableAttributes> {
                 containerIds.forEach(containerId -> getResourcesByContainerId(containerId).remove(resource.getId()));
             }
         }
+        updateBudget();
     }
 
     public void removeResources(List<String> ids) {
@@ -341,6 +566,76 @@ public class CollectionCache<T extends IdentifiableAttributes> {
         ids.forEach(this::removeResource);
     }
 
+    private static Set<String> getContainerIds(Resource<?> resource) {
+        return resource.getAttributes() instanceof Contained contained ? contained.getContainerIds() : Collections.emptySet();
+    }
+
+    /**
+     * Apply a resource created or updated on the server by another client. <br/>
+     * A resource already in the cache is updated in place, so that the identifiable bound to it sees the new
+     * attributes. Its extensions and operational limits groups already loaded are kept, as they are not part of the
+     * loaded resource. <br/>
+     * A resource not in the cache is only added if the collection or one of its containers is fully loaded, otherwise
+     * it will be loaded on demand.
+     *
+     * @param resource the resource freshly loaded from the server
+     */
+    public void mergeModifiedResource(Resource<T> resource) {
+        Objects.requireNonNull(resource);
+        Resource<T> cachedResource = resources.get(resource.getId());
+        if (cachedResource == null) {
+            if (fullyLoaded || getContainerIds(resource).stream().anyMatch(containerFullyLoaded::contains)) {
+                addOrReplaceResource(resource);
+            }
+            return;
+        }
+
+        T attributes = resource.getAttributes();
+        T cachedAttributes = cachedResource.getAttributes();
+        if (attributes.getExtensionAttributes() == null || attributes.getExtensionAttributes().isEmpty()) {
+            attributes.setExtensionAttributes(cachedAttributes.getExtensionAttributes());
+        }
+        if (attributes instanceof LimitHolder limitHolder && cachedAttributes instanceof LimitHolder cachedLimitHolder) {
+            for (int side : cachedLimitHolder.getSideList()) {
+                Map<String, OperationalLimitsGroupAttributes> operationalLimitsGroups = limitHolder.getOperationalLimitsGroups(side);
+                Map<String, OperationalLimitsGroupAttributes> cachedOperationalLimitsGroups = cachedLimitHolder.getOperationalLimitsGroups(side);
+                if (operationalLimitsGroups != null && cachedOperationalLimitsGroups != null) {
+                    cachedOperationalLimitsGroups.forEach(operationalLimitsGroups::putIfAbsent);
+                }
+            }
+        }
+
+        // the resource may have moved to other containers
+        Set<String> oldContainerIds = getContainerIds(cachedResource);
+        cachedResource.setAttributes(attributes);
+        Set<String> newContainerIds = getContainerIds(cachedResource);
+        oldContainerIds.stream()
+            .filter(containerId -> !newContainerIds.contains(containerId))
+            .forEach(containerId -> getResourcesByContainerId(containerId).remove(cachedResource.getId()));
+        newContainerIds.forEach(containerId -> getResourcesByContainerId(containerId).putIfAbsent(cachedResource.getId(), cachedResource));
+    }
+
+    /**
+     * Drop from the cache a resource removed on the server by another client. Unlike {@link #removeResource(String)},
+     * the removal is not tracked as it has not to be sent to the server.
+     *
+     * @param id the id of the removed resource
+     */
+    public void evictResource(String id) {
+        Objects.requireNonNull(id);
+        Resource<T> resource = resources.remove(id);
+        if (resource != null) {
+            getContainerIds(resource).forEach(containerId -> getResourcesByContainerId(containerId).remove(id));
+        }
+        fullyLoadedExtensionsByIdentifiableIds.remove(id);
+        removedExtensionAttributes.remove(id);
+        loadedOperationalLimitsGroupsForBranches.removeIf(branchSide -> branchSide.getFirst().equals(id));
+        removedOperationalLimitsAttributes.remove(id);
+        sharedResourceIds.remove(id);
+        snapshotResourceIds.remove(id);
+        updateBudget();
+    }
+
     /**
      * Get resource count.
      *
@@ -353,18 +648,25 @@ public class CollectionCache<T extends IdentifiableAttributes> {
     }
 
     /**
-     * Cache deep copy.
+     * Cache copy. Without resource post processor, the attributes of the resources are shared with the clone and
+     * copied on write, see {@link #releaseSharedAttributes(String)} and {@link #copySharedAttributes(String, IdentifiableAttributes)}.
+     * Otherwise they are deep copied as the post processor modifies them.
      *
-     * @param objectMapper a object mapper to help cloning resources
      * @param newVariantNum new variant num for all resources of the cloned cache
-     * @param resourcePostProcessor a resource post processor
+     * @param resourcePostProcessor a resource post processor, null if none
      * @return the cache clone
      */
-    public CollectionCache<T> clone(ObjectMapper objectMapper, int newVariantNum, Consumer<Resource<T>> resourcePostProcessor) {
-        // use json serialization to clone the resources of source collection
-        List<Resource<T>> clonedResources = Resource.cloneResourcesToVariant(resources.values(), newVariantNum, objectMapper, resourcePostProcessor);
-
-        var clonedCache = new CollectionCache<>(oneLoaderFunction, containerLoaderFunction, allLoaderFunction, delegate);
+    public CollectionCache<T> clone(int newVariantNum, Consumer<Resource<T>> resourcePostProcessor) {
+        List<Resource<T>> clonedResources;
+        var clonedCache = new CollectionCache<>(oneLoaderFunction, containerLoaderFunction, allLoaderFunction, allStreamingLoaderFunction, delegate);
+        if (resourcePostProcessor == null) {
+            clonedResources = Resource.shareResourcesToVariant(resources.values(), newVariantNum);
+            sharedResourceIds.addAll(resources.keySet());
+            clonedCache.sharedResourceIds.addAll(resources.keySet());
+            clonedCache.snapshotResourceIds.addAll(snapshotResourceIds);
+        } else {
+            clonedResources = Resource.cloneResourcesToVariant(resources.values(), newVariantNum, resourcePostProcessor);
+        }
         for (Resource<T> clonedResource : clonedResources) {
             clonedCache.resources.put(clonedResource.getId(), clonedResource);
         }
@@ -400,9 +702,75 @@ public class CollectionCache<T extends IdentifiableAttributes> {
 
         clonedCache.containerFullyLoaded.addAll(containerFullyLoaded);
         clonedCache.removedResources.addAll(removedResources);
+
+        // the cloned collection does not exist yet on the server
+        clonedCache.setModified();
+        clonedCache.budgetAccount = budgetAccount;
+        clonedCache.lastAccessTime = lastAccessTime;
+        clonedCache.updateBudget();
         return clonedCache;
     }
 
+    /**
+     * Stop sharing the attributes of a resource with other variants, before modifying them in place. The resources of
+     * the other variants still sharing them have to be given a copy with
+     * {@link #copySharedAttributes(String, IdentifiableAttributes)}.
+     *
+     * @param id the id of the resource
+     * @return the attributes which may still be shared, null if they were not shared
+     */
+    public T releaseSharedAttributes(String id) {
+        copySnapshotAttributes(id);
+        if (!sharedResourceIds.remove(id)) {
+            return null;
+        }
+        Resource<T> resource = resources.get(id);
+        return resource != null ? resource.getAttributes() : null;
+    }
+
+    /**
+     * Give a copy of the attributes of a resource if they are the given ones, released by another variant which is
+     * going to modify them in place.
+     *
+     * @param id the id of the resource
+     * @param attributes the attributes released by the other variant
+     */
+    public void copySharedAttributes(String id, T attributes) {
+        Resource<T> resource = resources.get(id);
+        if (resource != null && resource.getAttributes() == attributes) {
+            Resource.copyAttributes(resource);
+            sharedResourceIds.remove(id);
+        }
+    }
+
+    /**
+     * Mark the resources of the collection which have been loaded from a snapshot shared with the caches of other
+     * networks, see {@link SharedSnapshotCache.Snapshot#shareResources()}. Resources already in the collection before
+     * the loading were kept, so they are not marked.
+     *
+     * @param snapshotResources the resources sharing the attributes of the snapshot
+     */
+    public void shareSnapshotAttributes(List<Resource<T>> snapshotResources) {
+        for (Resource<T> snapshotResource : snapshotResources) {
+            if (resources.get(snapshotResource.getId()) == snapshotResource) {
+                snapshotResourceIds.add(snapshotResource.getId());
+            }
+        }
+    }
+
+    /**
+     * Give a copy of the attributes of a resource if they are shared with a snapshot. The other variants of the
+     * collection keep the snapshot attributes, which are not modified.
+     */
+    private void copySnapshotAttributes(String id) {
+        if (snapshotResourceIds.remove(id)) {
+            Resource<T> resource = resources.get(id);
+            if (resource != null) {
+                Resource.copyAttributes(resource);
+            }
+        }
+    }
+
     public Optional<ExtensionAttributes> getExtensionAttributes(UUID networkUuid, int variantNum, ResourceType type, String identifiableId, String extensionName) {
         Objects.requireNonNull(identifiableId);
 
@@ -421,6 +789,7 @@ public class CollectionCache<T extends IdentifiableAttributes> {
     }
 
     private Map<String, ExtensionAttributes> getCachedExtensionAttributes(String identifiableId) {
+        copySnapshotAttributes(identifiableId);
         Resource<T> resource = resources.get(identifiableId);
         if (resource != null) {
             return resource.getAttributes().getExtensionAttributes();
@@ -483,6 +852,45 @@ public class CollectionCache<T extends IdentifiableAttributes> {
         }
     }
 
+    /**
+     * Load all the extensions attributes with specified extension names for all the identifiables of the collection in the cache,
+     * with one call to the delegate for the extension names not yet fully loaded.
+     */
+    public void loadAllExtensionsAttributesByResourceTypeAndExtensionNames(UUID networkUuid, int variantNum, ResourceType type, Set<String> extensionNames) {
+        Set<String> extensionNamesToLoad = extensionNames.stream()
+                .filter(extensionName -> !isFullyLoadedExtension(extensionName))
+                .collect(Collectors.toSet());
+        if (!extensionNamesToLoad.isEmpty()) {
+            Map<String, Map<String, ExtensionAttributes>> extensionAttributesMap = delegate.getAllExtensionsAttributesByResourceTypeAndExtensionNames(networkUuid, variantNum, type, extensionNamesToLoad);
+
+            // we update the full cache and set each extension name as fully loaded
+            extensionAttributesMap.forEach((identifiableId, extensionAttributesByName) ->
+                    extensionAttributesByName.forEach((extensionName, extensionAttributes) -> addExtensionAttributesToCache(identifiableId, extensionName, extensionAttributes)));
+            fullyLoadedExtensionsByExtensionName.addAll(extensionNamesToLoad);
+        }
+    }
+
+    /**
+     * Get the extensions attributes with specified extension names for all the identifiables of the collection.
+     * @return A {@link Map} where keys are identifiable IDs and values are {@link Map}s where keys are extension names and values are {@link ExtensionAttributes}.
+     */
+    public Map<String, Map<String, ExtensionAttributes>> getAllExtensionsAttributesByResourceTypeAndExtensionNames(UUID networkUuid, int variantNum, ResourceType type, Set<String> extensionNames) {
+        loadAllExtensionsAttributesByResourceTypeAndExtensionNames(networkUuid, variantNum, type, extensionNames);
+        Map<String, Map<String, ExtensionAttributes>> extensionAttributesByIdentifiableId = new HashMap<>();
+        for (Resource<T> resource : resources.values()) {
+            Map<String, ExtensionAttributes> extensionAttributes = new HashMap<>();
+            resource.getAttributes().getExtensionAttributes().forEach((extensionName, attributes) -> {
+                if (extensionNames.contains(extensionName)) {
+                    extensionAttributes.put(extensionName, attributes);
+                }
+            });
+            if (!extensionAttributes.isEmpty()) {
+                extensionAttributesByIdentifiableId.put(resource.getId(), extensionAttributes);
+            }
+        }
+        return extensionAttributesByIdentifiableId;
+    }
+
     /**
      * Get all extension attributes for one identifiable of the collection.
      */
@@ -544,6 +952,7 @@ public class CollectionCache<T extends IdentifiableAttributes> {
     }
 
     public void removeExtensionAttributesByIdentifiableIds(Map<String, Set<String>> extensionsByIdentifiableId) {
+        setModified();
         for (Map.Entry<String, Set<String>> entry : extensionsByIdentifiableId.entrySet()) {
             Set<String> extensionNames = entry.getValue();
             String identifiableId = entry.getKey();
@@ -626,6 +1035,7 @@ public class CollectionCache<T extends IdentifiableAttributes> {
     }
 
     private Map<String, OperationalLimitsGroupAttributes> getCachedOperationalLimitsGroupAttributes(String branchId, int side) {
+        copySnapshotAttributes(branchId);
         Resource<T> resource = resources.get(branchId);
         if (resource != null && resource.getAttributes() instanceof BranchAttributes branchAttributes) {
             return branchAttributes.getOperationalLimitsGroups(side);
@@ -678,6 +1088,85 @@ public class CollectionCache<T extends IdentifiableAttributes> {
         }
     }
 
+    /**
+     * Load in the cache the operational limits groups of the branches connected to a voltage level, with one call to the delegate.
+     */
+    public void loadVoltageLevelOperationalLimitsGroupAttributes(UUID networkUuid, int variantNum, ResourceType type, String voltageLevelId) {
+        loadContainerOperationalLimitsGroupAttributes(networkUuid, variantNum, List.of(voltageLevelId),
+            () -> delegate.getVoltageLevelOperationalLimitsGroupAttributes(networkUuid, variantNum, type, voltageLevelId));
+    }
+
+    /**
+     * Load in the cache the operational limits groups of the branches connected to the voltage levels of a substation,
+     * with one call to the delegate.
+     * @param voltageLevelIds the voltage levels of the substation
+     */
+    public void loadSubstationOperationalLimitsGroupAttributes(UUID networkUuid, int variantNum, ResourceType type, String substationId, Collection<String> voltageLevelIds) {
+        loadContainerOperationalLimitsGroupAttributes(networkUuid, variantNum, voltageLevelIds,
+            () -> delegate.getSubstationOperationalLimitsGroupAttributes(networkUuid, variantNum, type, substationId));
+    }
+
+    /**
+     * The branches of the voltage levels are loaded first if needed, then their operational limits groups are loaded
+     * only if some branch side has not yet been loaded. Branch sides already loaded and operational limits groups
+     * removed but not yet flushed are kept as they are in the cache.
+     */
+    private void loadContainerOperationalLimitsGroupAttributes(UUID networkUuid, int variantNum, Collection<String> voltageLevelIds,
+                                                               Supplier<Map<String, Map<Integer, Map<String, OperationalLimitsGroupAttributes>>>> loader) {
+        if (fullyLoadedOperationalLimitsGroup) {
+            return;
+        }
+        Set<String> branchIds = new LinkedHashSet<>();
+        for (String voltageLevelId : voltageLevelIds) {
+            for (Resource<T> resource : getContainerResources(networkUuid, variantNum, voltageLevelId)) {
+                if (!loadedOperationalLimitsGroupsForBranches.contains(Pair.of(resource.getId(), 1))
+                        || !loadedOperationalLimitsGroupsForBranches.contains(Pair.of(resource.getId(), 2))) {
+                    branchIds.add(resource.getId());
+                }
+            }
+        }
+        if (branchIds.isEmpty()) {
+            return;
+        }
+        Map<String, Map<Integer, Map<String, OperationalLimitsGroupAttributes>>> operationalLimitsGroupAttributesMap = loader.get();
+        for (String branchId : branchIds) {
+            Map<Integer, Map<String, OperationalLimitsGroupAttributes>> operationalLimitsGroupsBySide = operationalLimitsGroupAttributesMap.getOrDefault(branchId, Map.of());
+            for (int side = 1; side <= 2; side++) {
+                Pair<String, Integer> branchSide = Pair.of(branchId, side);
+                if (!loadedOperationalLimitsGroupsForBranches.contains(branchSide)) {
+                    int finalSide = side;
+                    operationalLimitsGroupsBySide.getOrDefault(side, Map.of()).forEach((operationalLimitsGroupId, attributes) -> {
+                        if (!isOperationalLimitsGroupRemovedAttributes(branchId, finalSide, operationalLimitsGroupId)) {
+                            addOperationalLimitsGroupAttributesToCache(branchId, operationalLimitsGroupId, finalSide, attributes);
+                        }
+                    });
+                    loadedOperationalLimitsGroupsForBranches.add(branchSide);
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the cached operational limits groups of the branches connected to some voltage levels. The operational limits
+     * groups of the voltage levels are expected to have been loaded before.
+     * @return A {@link Map} where keys are branch IDs and values are {@link Map}s where keys are sides and values are operational limits groups by id.
+     */
+    public Map<String, Map<Integer, Map<String, OperationalLimitsGroupAttributes>>> getCachedContainerOperationalLimitsGroupAttributes(Collection<String> voltageLevelIds) {
+        Map<String, Map<Integer, Map<String, OperationalLimitsGroupAttributes>>> operationalLimitsGroupAttributesMap = new HashMap<>();
+        for (String voltageLevelId : voltageLevelIds) {
+            for (Resource<T> resource : getResourcesByContainerId(voltageLevelId).values()) {
+                for (int side = 1; side <= 2; side++) {
+                    Map<String, OperationalLimitsGroupAttributes> operationalLimitsGroups = getCachedOperationalLimitsGroupAttributes(resource.getId(), side);
+                    if (operationalLimitsGroups != null && !operationalLimitsGroups.isEmpty()) {
+                        operationalLimitsGroupAttributesMap.computeIfAbsent(resource.getId(), k -> new HashMap<>())
+                            .put(side, new HashMap<>(operationalLimitsGroups));
+                    }
+                }
+            }
+        }
+        return operationalLimitsGroupAttributesMap;
+    }
+
     private void loadOperationalLimitsGroupsToCache(Map<String, Map<Integer, Map<String, OperationalLimitsGroupAttributes>>> operationalLimitsGroupAttributesMap) {
         // load to cache
         Map<Pair<String, Integer>, Map<String, OperationalLimitsGroupAttributes>> groupedOperationalLimitsGroupAttributes = new HashMap<>();
@@ -701,6 +1190,7 @@ public class CollectionCache<T extends IdentifiableAttributes> {
     }
 
     public void removeOperationalLimitsGroupAttributes(Map<String, Map<Integer, Set<String>>> operationalLimitsGroupsToDelete) {
+        setModified();
         removedOperationalLimitsAttributes.putAll(operationalLimitsGroupsToDelete);
         for (Map.Entry<String, Map<Integer, Set<String>>> entry : operationalLimitsGroupsToDelete.entrySet()) {
             String branchId = entry.getKey();
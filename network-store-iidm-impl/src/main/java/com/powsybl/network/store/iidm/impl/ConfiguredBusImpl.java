@@ -164,6 +164,7 @@ public class ConfiguredBusImpl extends AbstractIdentifiableImpl<Bus, ConfiguredB
                 // it would be an infinite loop), but copy paste here
                 // to avoid creating the object (calculated buses are created on when computing
                 // the bus view, but we want to only update if the busview exist, not force its creation)
+                index.prepareResourceUpdate(voltageLevel.getResource());
                 setValue.accept(busViewCalculatedBusAttributes, newValue);
                 index.updateVoltageLevelResource(voltageLevel.getResource(), AttributeFilter.SV);
             }
@@ -0,0 +1,92 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.iidm.impl;
+
+import com.powsybl.network.store.model.AttributeFilter;
+import com.powsybl.network.store.model.Attributes;
+import com.powsybl.network.store.model.Resource;
+import com.powsybl.network.store.model.ResourceType;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Lightweight read only cache holding only the attributes of a subset filter (for instance
+ * {@link AttributeFilter#SV}) of whole collections, for consumers reading results without the IIDM API. Collections
+ * are loaded on first access and kept until invalidated. It can be shared between threads.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class FilteredResourcesCache {
+
+    private record CollectionKey(UUID networkUuid, int variantNum, ResourceType resourceType) {
+    }
+
+    private final NetworkStoreClient storeClient;
+
+    private final AttributeFilter attributeFilter;
+
+    private final Map<CollectionKey, Map<String, Resource<Attributes>>> collections = new ConcurrentHashMap<>();
+
+    public FilteredResourcesCache(NetworkStoreClient storeClient, AttributeFilter attributeFilter) {
+        this.storeClient = Objects.requireNonNull(storeClient);
+        if (AttributeFilter.getUrlSuffix(attributeFilter).isEmpty()) {
+            throw new IllegalArgumentException("Attribute filter " + attributeFilter + " is not a subset filter");
+        }
+        this.attributeFilter = attributeFilter;
+    }
+
+    public AttributeFilter getAttributeFilter() {
+        return attributeFilter;
+    }
+
+    private Map<String, Resource<Attributes>> getCollection(UUID networkUuid, int variantNum, ResourceType resourceType) {
+        CollectionKey key = new CollectionKey(networkUuid, variantNum, resourceType);
+        Map<String, Resource<Attributes>> collection = collections.get(key);
+        if (collection == null) {
+            // loaded outside of the map lock, concurrent identical loads are merged by the store client
+            collection = storeClient.getFilteredResources(networkUuid, variantNum, resourceType, attributeFilter).stream()
+                    .collect(Collectors.toMap(Resource::getId, Function.identity(), (r1, r2) -> r1, LinkedHashMap::new));
+            Map<String, Resource<Attributes>> otherCollection = collections.putIfAbsent(key, Collections.unmodifiableMap(collection));
+            if (otherCollection != null) {
+                collection = otherCollection;
+            }
+        }
+        return collection;
+    }
+
+    /**
+     * Get all resources of a collection, loading the collection if not yet in the cache.
+     */
+    public List<Resource<Attributes>> getResources(UUID networkUuid, int variantNum, ResourceType resourceType) {
+        return new ArrayList<>(getCollection(networkUuid, variantNum, resourceType).values());
+    }
+
+    /**
+     * Get a resource by its id, loading its whole collection if not yet in the cache.
+     */
+    public Optional<Resource<Attributes>> getResource(UUID networkUuid, int variantNum, ResourceType resourceType, String id) {
+        Objects.requireNonNull(id);
+        return Optional.ofNullable(getCollection(networkUuid, variantNum, resourceType).get(id));
+    }
+
+    /**
+     * Drop all the collections of a network variant, so that they are loaded again on next access.
+     */
+    public void invalidate(UUID networkUuid, int variantNum) {
+        collections.keySet().removeIf(key -> key.networkUuid().equals(networkUuid) && key.variantNum() == variantNum);
+    }
+
+    /**
+     * Drop all the collections of a network.
+     */
+    public void invalidate(UUID networkUuid) {
+        collections.keySet().removeIf(key -> key.networkUuid().equals(networkUuid));
+    }
+}
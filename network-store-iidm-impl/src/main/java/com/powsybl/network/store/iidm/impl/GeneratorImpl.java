@@ -47,7 +47,7 @@ public class GeneratorImpl extends AbstractRegulatingInjection<Generator, Genera
         ValidationUtil.checkEnergySource(this, energySource);
         EnergySource oldValue = getResource().getAttributes().getEnergySource();
         if (energySource != oldValue) {
-            updateResource(res -> res.getAttributes().setEnergySource(energySource),
+            updateResourceAttribute(res -> res.getAttributes().setEnergySource(energySource),
                 "energySource", oldValue, energySource);
         }
         return this;
@@ -64,7 +64,7 @@ public class GeneratorImpl extends AbstractRegulatingInjection<Generator, Genera
         ValidationUtil.checkActivePowerLimits(this, getMinP(), maxP);
         double oldValue = getResource().getAttributes().getMaxP();
         if (maxP != oldValue) {
-            updateResource(res -> res.getAttributes().setMaxP(maxP),
+            updateResourceAttribute(res -> res.getAttributes().setMaxP(maxP),
                 "maxP", oldValue, maxP);
         }
         return this;
@@ -82,7 +82,7 @@ public class GeneratorImpl extends AbstractRegulatingInjection<Generator, Genera
         ValidationUtil.checkActivePowerLimits(this, minP, getMaxP());
         double oldValue = resource.getAttributes().getMinP();
         if (minP != oldValue) {
-            updateResource(res -> res.getAttributes().setMinP(minP),
+            updateResourceAttribute(res -> res.getAttributes().setMinP(minP),
                 "minP", oldValue, minP);
         }
         return this;
@@ -149,7 +149,7 @@ public class GeneratorImpl extends AbstractRegulatingInjection<Generator, Genera
         ValidationUtil.checkVoltageControl(this, isVoltageRegulatorOn(), targetV, getTargetQ(), getNetwork().getMinValidationLevel(), getNetwork().getReportNodeContext().getReportNode());
         double oldValue = getResource().getAttributes().getTargetV();
         if (Double.compare(targetV, oldValue) != 0) { // could be nan
-            updateResource(res -> res.getAttributes().setTargetV(targetV),
+            updateResourceAttribute(res -> res.getAttributes().setTargetV(targetV),
                     "targetV", oldValue, targetV);
         }
     }
@@ -178,7 +178,7 @@ public class GeneratorImpl extends AbstractRegulatingInjection<Generator, Genera
         ValidationUtil.checkActivePowerSetpoint(this, targetP, getNetwork().getMinValidationLevel(), getNetwork().getReportNodeContext().getReportNode());
         double oldValue = getResource().getAttributes().getTargetP();
         if (targetP != oldValue) {
-            updateResource(res -> res.getAttributes().setTargetP(targetP),
+            updateResourceAttribute(res -> res.getAttributes().setTargetP(targetP),
                 "targetP", oldValue, targetP);
         }
         return this;
@@ -195,7 +195,7 @@ public class GeneratorImpl extends AbstractRegulatingInjection<Generator, Genera
         ValidationUtil.checkVoltageControl(this, isVoltageRegulatorOn(), getTargetV(), targetQ, getNetwork().getMinValidationLevel(), getNetwork().getReportNodeContext().getReportNode());
         double oldValue = resource.getAttributes().getTargetQ();
         if (Double.compare(targetQ, oldValue) != 0) { // could be nan
-            updateResource(res -> res.getAttributes().setTargetQ(targetQ),
+            updateResourceAttribute(res -> res.getAttributes().setTargetQ(targetQ),
                 "targetQ", oldValue, targetQ);
         }
         return this;
@@ -211,7 +211,7 @@ public class GeneratorImpl extends AbstractRegulatingInjection<Generator, Genera
         ValidationUtil.checkRatedS(this, ratedS);
         double oldValue = getResource().getAttributes().getRatedS();
         if (Double.compare(ratedS, oldValue) != 0) { // could be nan
-            updateResource(res -> res.getAttributes().setRatedS(ratedS),
+            updateResourceAttribute(res -> res.getAttributes().setRatedS(ratedS),
                 "ratedS", oldValue, ratedS);
         }
         return this;
@@ -361,6 +361,7 @@ public class GeneratorImpl extends AbstractRegulatingInjection<Generator, Genera
         if (type == RemoteReactivePowerControl.class) {
             var resource = getResource();
             if (resource.getAttributes().getRemoteReactivePowerControl() != null) {
+                index.prepareResourceUpdate(resource);
                 resource.getAttributes().setRemoteReactivePowerControl(null);
                 return true;
             }
@@ -369,6 +370,7 @@ public class GeneratorImpl extends AbstractRegulatingInjection<Generator, Genera
         if (type == GeneratorEntsoeCategory.class) {
             var resource = getResource();
             if (resource.getAttributes().getEntsoeCategoryAttributes() != null) {
+                index.prepareResourceUpdate(resource);
                 resource.getAttributes().setEntsoeCategoryAttributes(null);
                 return true;
             }
@@ -377,6 +379,7 @@ public class GeneratorImpl extends AbstractRegulatingInjection<Generator, Genera
         if (type == CoordinatedReactiveControl.class) {
             var resource = getResource();
             if (resource.getAttributes().getCoordinatedReactiveControl() != null) {
+                index.prepareResourceUpdate(resource);
                 resource.getAttributes().setCoordinatedReactiveControl(null);
                 return true;
             }
@@ -385,6 +388,7 @@ public class GeneratorImpl extends AbstractRegulatingInjection<Generator, Genera
         if (type == GeneratorShortCircuit.class) {
             var resource = getResource();
             if (resource.getAttributes().getGeneratorShortCircuitAttributes() != null) {
+                index.prepareResourceUpdate(resource);
                 resource.getAttributes().setGeneratorShortCircuitAttributes(null);
                 return true;
             }
@@ -393,6 +397,7 @@ public class GeneratorImpl extends AbstractRegulatingInjection<Generator, Genera
         if (type.isAssignableFrom(ConnectablePosition.class)) {
             var resource = getResource();
             if (resource.getAttributes().getPosition() != null) {
+                index.prepareResourceUpdate(resource);
                 resource.getAttributes().setPosition(null);
                 return true;
             }
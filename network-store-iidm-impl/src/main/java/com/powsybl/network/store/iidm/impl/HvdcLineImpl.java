@@ -254,6 +254,7 @@ public class HvdcLineImpl extends AbstractIdentifiableImpl<HvdcLine, HvdcLineAtt
         if (type == HvdcAngleDroopActivePowerControl.class) {
             var resource = getResource();
             if (resource.getAttributes().getHvdcAngleDroopActivePowerControl() != null) {
+                index.prepareResourceUpdate(resource);
                 resource.getAttributes().setHvdcAngleDroopActivePowerControl(null);
                 return true;
             }
@@ -262,6 +263,7 @@ public class HvdcLineImpl extends AbstractIdentifiableImpl<HvdcLine, HvdcLineAtt
         if (type == HvdcOperatorActivePowerRange.class) {
             var resource = getResource();
             if (resource.getAttributes().getHvdcOperatorActivePowerRange() != null) {
+                index.prepareResourceUpdate(resource);
                 resource.getAttributes().setHvdcOperatorActivePowerRange(null);
                 return true;
             }
@@ -103,6 +103,7 @@ public class LccConverterStationImpl extends AbstractInjectionImpl<LccConverterS
         if (type.isAssignableFrom(ConnectablePosition.class)) {
             var resource = getResource();
             if (resource.getAttributes().getPosition() != null) {
+                index.prepareResourceUpdate(resource);
                 resource.getAttributes().setPosition(null);
                 return true;
             }
@@ -33,6 +33,7 @@ public interface LimitsOwner<S> extends Validable {
     // https://github.com/powsybl/powsybl-core/blob/cea16b70fbca5ca7589cccdc0dec86f3d560d2dd/iidm/iidm-impl/src/main/java/com/powsybl/iidm/network/impl/OperationalLimitsGroupsImpl.java#L151
     static <D extends IdentifiableAttributes> void updateOperationalLimitsResource(Resource<D> resource, Identifiable<?> identifiable, Network network, Consumer<Resource<D>> modifier,
             String attribute, OperationalLimitsGroupAttributes oldValue, OperationalLimitsGroupAttributes newValue, NetworkObjectIndex index) {
+        index.prepareResourceUpdate(resource);
         modifier.accept(resource);
         index.updateResource(resource, AttributeFilter.LIMITS);
         String variantId = network.getVariantManager().getWorkingVariantId();
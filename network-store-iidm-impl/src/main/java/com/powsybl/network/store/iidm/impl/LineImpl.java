@@ -149,6 +149,7 @@ public class LineImpl extends AbstractBranchImpl<Line, LineAttributes> implement
     public <E extends Extension<Line>> boolean removeExtension(Class<E> type) {
         super.removeExtension(type);
         if (type.isAssignableFrom(ConnectablePosition.class)) {
+            index.prepareResourceUpdate(getResource());
             return removeConnectionPositionForBranches(getResource());
         }
         return false;
@@ -47,7 +47,7 @@ public class LoadImpl extends AbstractInjectionImpl<Load, LoadAttributes> implem
         ValidationUtil.checkLoadType(this, loadType);
         LoadType oldValue = getResource().getAttributes().getLoadType();
         if (loadType != oldValue) {
-            updateResource(r -> r.getAttributes().setLoadType(loadType),
+            updateResourceAttribute(r -> r.getAttributes().setLoadType(loadType),
                 "loadType", oldValue, loadType);
         }
         return this;
@@ -63,7 +63,7 @@ public class LoadImpl extends AbstractInjectionImpl<Load, LoadAttributes> implem
         ValidationUtil.checkP0(this, p0, getNetwork().getMinValidationLevel(), getNetwork().getReportNodeContext().getReportNode());
         double oldValue = getResource().getAttributes().getP0();
         if (p0 != oldValue) {
-            updateResource(r -> r.getAttributes().setP0(p0),
+            updateResourceAttribute(r -> r.getAttributes().setP0(p0),
                 "p0", oldValue, p0);
         }
         return this;
@@ -79,7 +79,7 @@ public class LoadImpl extends AbstractInjectionImpl<Load, LoadAttributes> implem
         ValidationUtil.checkQ0(this, q0, getNetwork().getMinValidationLevel(), getNetwork().getReportNodeContext().getReportNode());
         double oldValue = getResource().getAttributes().getQ0();
         if (q0 != oldValue) {
-            updateResource(r -> r.getAttributes().setQ0(q0),
+            updateResourceAttribute(r -> r.getAttributes().setQ0(q0),
                 "q0", oldValue, q0);
         }
         return this;
@@ -147,6 +147,7 @@ public class LoadImpl extends AbstractInjectionImpl<Load, LoadAttributes> implem
         if (type.isAssignableFrom(ConnectablePosition.class)) {
             var resource = getResource();
             if (resource.getAttributes().getPosition() != null) {
+                index.prepareResourceUpdate(resource);
                 resource.getAttributes().setPosition(null);
                 return true;
             }
@@ -155,6 +156,7 @@ public class LoadImpl extends AbstractInjectionImpl<Load, LoadAttributes> implem
         if (type == LoadDetail.class) {
             var resource = getResource();
             if (resource.getAttributes().getLoadDetail() != null) {
+                index.prepareResourceUpdate(resource);
                 resource.getAttributes().setLoadDetail(null);
                 return true;
             }
@@ -6,6 +6,7 @@
  */
 package com.powsybl.network.store.iidm.impl;
 
+import com.powsybl.network.store.iidm.impl.util.TriConsumer;
 import org.apache.commons.lang3.tuple.Pair;
 
 import java.util.*;
@@ -21,13 +22,34 @@ public class NetworkCollectionIndex<C> {
 
     private final Supplier<C> factory;
 
+    /**
+     * Notified of each access to a collection, null if none.
+     */
+    private TriConsumer<UUID, Integer, C> accessListener;
+
     public NetworkCollectionIndex(Supplier<C> factory) {
         this.factory = Objects.requireNonNull(factory);
     }
 
+    public void setAccessListener(TriConsumer<UUID, Integer, C> accessListener) {
+        this.accessListener = accessListener;
+    }
+
     public C getCollection(UUID networkUuid, int variantNum) {
         Objects.requireNonNull(networkUuid);
-        return collections.computeIfAbsent(Pair.of(networkUuid, variantNum), p -> factory.get());
+        C collection = collections.computeIfAbsent(Pair.of(networkUuid, variantNum), p -> factory.get());
+        if (accessListener != null) {
+            accessListener.accept(networkUuid, variantNum, collection);
+        }
+        return collection;
+    }
+
+    /**
+     * Same as {@link #getCollection(UUID, int)} but without creating the collection nor notifying the access listener.
+     */
+    public Optional<C> findCollection(UUID networkUuid, int variantNum) {
+        Objects.requireNonNull(networkUuid);
+        return Optional.ofNullable(collections.get(Pair.of(networkUuid, variantNum)));
     }
 
     public void addCollection(UUID networkUuid, int variantNum, C collection) {
@@ -43,6 +65,24 @@ public class NetworkCollectionIndex<C> {
         collections.keySet().removeIf(p -> p.getLeft().equals(networkUuid));
     }
 
+    /**
+     * Remove the collections of a network, new empty collections being created on next access.
+     * @return the removed collections by variant num
+     */
+    public Map<Integer, C> detachCollections(UUID networkUuid) {
+        Objects.requireNonNull(networkUuid);
+        Map<Integer, C> detachedCollections = new LinkedHashMap<>();
+        Iterator<Map.Entry<Pair<UUID, Integer>, C>> it = collections.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Pair<UUID, Integer>, C> e = it.next();
+            if (e.getKey().getLeft().equals(networkUuid)) {
+                detachedCollections.put(e.getKey().getRight(), e.getValue());
+                it.remove();
+            }
+        }
+        return detachedCollections;
+    }
+
     public void applyToCollection(UUID networkUuid, BiConsumer<Integer, C> fct) {
         for (Map.Entry<Pair<UUID, Integer>, C> e : collections.entrySet()) {
             Pair<UUID, Integer> p = e.getKey();
@@ -53,4 +93,10 @@ public class NetworkCollectionIndex<C> {
             }
         }
     }
+
+    public void applyToCollections(TriConsumer<UUID, Integer, C> fct) {
+        for (Map.Entry<Pair<UUID, Integer>, C> e : collections.entrySet()) {
+            fct.accept(e.getKey().getLeft(), e.getKey().getRight(), e.getValue());
+        }
+    }
 }
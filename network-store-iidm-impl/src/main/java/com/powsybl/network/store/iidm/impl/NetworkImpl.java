@@ -757,6 +757,15 @@ public class NetworkImpl extends AbstractIdentifiableImpl<Network, NetworkAttrib
         return index.getIdentifiable(getIdFromAlias(id));
     }
 
+    /**
+     * Get several identifiables at once, by id or alias. Identifiables which are not yet loaded are loaded together, so
+     * this is much faster than calling {@link #getIdentifiable(String)} for each id when there are many of them.
+     * @return the identifiables found, in no particular order, ids which do not exist being ignored
+     */
+    public List<Identifiable<?>> getIdentifiables(Collection<String> ids) {
+        return index.getIdentifiables(ids.stream().map(this::getIdFromAlias).toList());
+    }
+
     @Override
     public Collection<Identifiable<?>> getIdentifiables() {
         return index.getIdentifiables();
@@ -1338,6 +1347,7 @@ public class NetworkImpl extends AbstractIdentifiableImpl<Network, NetworkAttrib
         if (type == BaseVoltageMapping.class) {
             var resource = getResource();
             if (resource.getAttributes().getBaseVoltageMapping() != null) {
+                index.prepareResourceUpdate(resource);
                 resource.getAttributes().setBaseVoltageMapping(null);
                 return true;
             }
@@ -1346,6 +1356,7 @@ public class NetworkImpl extends AbstractIdentifiableImpl<Network, NetworkAttrib
         if (type == CimCharacteristics.class) {
             var resource = getResource();
             if (resource.getAttributes().getCimCharacteristics() != null) {
+                index.prepareResourceUpdate(resource);
                 resource.getAttributes().setCimCharacteristics(null);
                 return true;
             }
@@ -36,6 +36,10 @@ public class NetworkObjectIndex {
 
     private int workingVariantNum = Resource.INITIAL_VARIANT_NUM;
 
+    /* incremented at each variant clone, as the resources of the cloned variant share their attributes with the new
+    variant, see AbstractIdentifiableImpl.getOptionalResource */
+    private int attributesSharingVersion = 0;
+
     /* this field is not redundant with the field network above, it is needed to keep the networkUuid in case we delete
     the current variant, so we can fetch the network when we switch variants */
     private UUID networkUuid;
@@ -239,6 +243,25 @@ public class NetworkObjectIndex {
         boolean isLoaded(String id) {
             return objectsById.containsKey(id);
         }
+
+        /**
+         * Bind the objects already created to the resources created or removed on the server by another client.
+         * Updated resources are patched in place by the store client, so the objects already see them.
+         */
+        void applyChanges(Set<String> createdIds, Set<String> removedIds) {
+            for (String id : removedIds) {
+                T obj = objectsById.get(id);
+                if (obj != null) {
+                    obj.setResource(null);
+                }
+            }
+            for (String id : createdIds) {
+                T obj = objectsById.get(id);
+                if (obj != null) {
+                    obj.setResource(oneResourceGetter.apply(id).orElse(null));
+                }
+            }
+        }
     }
 
     private final ObjectCache<Substation, SubstationImpl, SubstationAttributes> substationCache;
@@ -353,7 +376,8 @@ public class NetworkObjectIndex {
             resource -> SwitchImpl.create(NetworkObjectIndex.this, resource));
         twoWindingsTransformerCache = new ObjectCache<>(resource -> storeClient.createTwoWindingsTransformers(network.getUuid(), Collections.singletonList(resource)),
             id -> storeClient.getTwoWindingsTransformer(network.getUuid(), workingVariantNum, id),
-            voltageLevelId -> storeClient.getVoltageLevelTwoWindingsTransformers(network.getUuid(), workingVariantNum, voltageLevelId),
+            voltageLevelId -> getVoltageLevelBranchResources(ResourceType.TWO_WINDINGS_TRANSFORMER, voltageLevelId,
+                () -> storeClient.getVoltageLevelTwoWindingsTransformers(network.getUuid(), workingVariantNum, voltageLevelId)),
             () -> storeClient.getTwoWindingsTransformers(network.getUuid(), workingVariantNum),
             id -> storeClient.removeTwoWindingsTransformers(network.getUuid(), workingVariantNum, Collections.singletonList(id)),
             resource -> TwoWindingsTransformerImpl.create(NetworkObjectIndex.this, resource));
@@ -365,7 +389,8 @@ public class NetworkObjectIndex {
             resource -> ThreeWindingsTransformerImpl.create(NetworkObjectIndex.this, resource));
         lineCache = new ObjectCache<>(resource -> storeClient.createLines(network.getUuid(), Collections.singletonList(resource)),
             id -> storeClient.getLine(network.getUuid(), workingVariantNum, id),
-            voltageLevelId -> storeClient.getVoltageLevelLines(network.getUuid(), workingVariantNum, voltageLevelId),
+            voltageLevelId -> getVoltageLevelBranchResources(ResourceType.LINE, voltageLevelId,
+                () -> storeClient.getVoltageLevelLines(network.getUuid(), workingVariantNum, voltageLevelId)),
             () -> storeClient.getLines(network.getUuid(), workingVariantNum),
             id -> storeClient.removeLines(network.getUuid(), workingVariantNum, Collections.singletonList(id)),
             this::createLineOrTieLine);
@@ -435,6 +460,7 @@ public class NetworkObjectIndex {
     public void setNetwork(NetworkImpl network) {
         this.network = Objects.requireNonNull(network);
         this.networkUuid = network.getUuid();
+        storeClient.setWorkingVariantNum(networkUuid, workingVariantNum);
     }
 
     NetworkImpl getNetwork() {
@@ -449,8 +475,18 @@ public class NetworkObjectIndex {
         return workingVariantNum;
     }
 
+    int getAttributesSharingVersion() {
+        return attributesSharingVersion;
+    }
+
+    void cloneVariant(int sourceVariantNum, int targetVariantNum, String targetVariantId) {
+        attributesSharingVersion++;
+        storeClient.cloneNetwork(networkUuid, sourceVariantNum, targetVariantNum, targetVariantId);
+    }
+
     public void setWorkingVariantNum(int workingVariantNum) {
         this.workingVariantNum = workingVariantNum;
+        storeClient.setWorkingVariantNum(networkUuid, workingVariantNum);
         if (workingVariantNum != -1) {
             network.setResource(storeClient.getNetwork(networkUuid, workingVariantNum).orElseThrow());
             substationCache.setResourcesToObjects();
@@ -475,6 +511,29 @@ public class NetworkObjectIndex {
         }
     }
 
+    /**
+     * Bring the resources of the working variant up to date with the server and bind them to the existing objects.
+     * Changes not yet flushed may be lost.
+     */
+    public void refresh() {
+        Optional<NetworkChanges> changes = storeClient.refresh(networkUuid, workingVariantNum);
+        if (changes.isPresent()) {
+            applyChanges(changes.get());
+        } else {
+            setWorkingVariantNum(workingVariantNum);
+        }
+    }
+
+    private void applyChanges(NetworkChanges changes) {
+        for (ResourceType resourceType : changes.getChangedResourceTypes()) {
+            if (resourceType == ResourceType.NETWORK) {
+                network.setResource(storeClient.getNetwork(networkUuid, workingVariantNum).orElseThrow());
+            } else {
+                objectCachesByResourceType.get(resourceType).applyChanges(changes.getCreatedIds(resourceType), changes.getRemovedIds(resourceType));
+            }
+        }
+    }
+
     void notifyCreation(Identifiable<?> identifiable) {
         for (NetworkListener listener : network.getListeners()) {
             try {
@@ -1106,6 +1165,45 @@ public class NetworkObjectIndex {
         return null;
     }
 
+    /**
+     * Same as {@link #getIdentifiable(String)} for several ids, the identifiables which are not yet in the caches being
+     * loaded with a single call to the store client. Ids which do not exist are ignored.
+     */
+    @SuppressWarnings("unchecked")
+    public List<Identifiable<?>> getIdentifiables(Collection<String> ids) {
+        Objects.requireNonNull(ids);
+
+        List<Identifiable<?>> identifiables = new ArrayList<>(ids.size());
+        Set<String> idsToLoad = new LinkedHashSet<>();
+        for (String id : ids) {
+            Objects.requireNonNull(id);
+            if (network.getId().equals(id)) {
+                identifiables.add(network);
+                continue;
+            }
+            boolean loaded = false;
+            for (var objectCache : objectCachesByResourceType.values()) {
+                if (objectCache.isLoaded(id)) {
+                    objectCache.getOne(id).ifPresent(identifiable -> identifiables.add((Identifiable<?>) identifiable));
+                    loaded = true;
+                    break;
+                }
+            }
+            if (!loaded) {
+                idsToLoad.add(id);
+            }
+        }
+
+        if (!idsToLoad.isEmpty()) {
+            for (Resource<IdentifiableAttributes> resource : storeClient.getIdentifiables(network.getUuid(), workingVariantNum, idsToLoad)) {
+                var objectCache = objectCachesByResourceType.get(resource.getType());
+                identifiables.add((Identifiable<?>) objectCache.add(resource));
+            }
+        }
+
+        return identifiables;
+    }
+
     public void removeBoundaryLine(String boundaryLineId) {
         boundaryLineCache.remove(boundaryLineId);
     }
@@ -1143,6 +1241,14 @@ public class NetworkObjectIndex {
         return getIdentifiable(network.getIdFromAlias(id)) != null;
     }
 
+    /**
+     * Has to be called before modifying the attributes of a resource in place, as they may be shared with other
+     * variants since a variant clone.
+     */
+    <T extends IdentifiableAttributes> void prepareResourceUpdate(Resource<T> resource) {
+        storeClient.prepareResourceUpdate(network.getUuid(), resource);
+    }
+
     @SuppressWarnings("unchecked")
     <T extends IdentifiableAttributes> void updateResource(Resource<T> resource, AttributeFilter attributeFilter) {
         switch (resource.getType()) {
@@ -1171,6 +1277,13 @@ public class NetworkObjectIndex {
         }
     }
 
+    /**
+     * Update a resource of which only the given attributes, by JSON property name, have been modified.
+     */
+    <T extends IdentifiableAttributes> void updateResourceAttributes(Resource<T> resource, AttributeFilter attributeFilter, Set<String> attributeNames) {
+        storeClient.updateResourceAttributes(network.getUuid(), resource, attributeFilter, attributeNames);
+    }
+
     void updateNetworkResource(Resource<NetworkAttributes> resource, AttributeFilter attributeFilter) {
         storeClient.updateNetworks(Collections.singletonList(resource), attributeFilter);
     }
@@ -1279,6 +1392,18 @@ public class NetworkObjectIndex {
         storeClient.getOperationalLimitsGroupAttributes(network.getUuid(), workingVariantNum, type, branchId, operationalLimitGroupName, side);
     }
 
+    /**
+     * Branches of a voltage level are loaded together to be read together, for instance to compute the overloads of a
+     * region, so their operational limits groups are loaded with them in one request instead of one per branch side.
+     */
+    private <U extends IdentifiableAttributes> List<Resource<U>> getVoltageLevelBranchResources(ResourceType type, String voltageLevelId, Supplier<List<Resource<U>>> branchResourcesGetter) {
+        List<Resource<U>> branchResources = branchResourcesGetter.get();
+        if (!branchResources.isEmpty()) {
+            storeClient.getVoltageLevelOperationalLimitsGroupAttributes(network.getUuid(), workingVariantNum, type, voltageLevelId);
+        }
+        return branchResources;
+    }
+
     public void loadOperationalLimitsGroupAttributesForBranchSide(ResourceType type, String branchId, int side) {
         storeClient.getOperationalLimitsGroupAttributesForBranchSide(network.getUuid(), workingVariantNum, type, branchId, side);
     }
@@ -8,8 +8,11 @@
 package com.powsybl.network.store.iidm.impl;
 
 import com.powsybl.network.store.model.*;
+import com.powsybl.network.store.model.utils.AttributesProjector;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
@@ -17,6 +20,34 @@ import java.util.*;
  */
 public interface NetworkStoreClient {
 
+    /**
+     * Resource types which can be loaded by voltage level with {@link #getVoltageLevelContents}.
+     */
+    Set<ResourceType> VOLTAGE_LEVEL_CONTENT_TYPES = Collections.unmodifiableSet(EnumSet.of(
+            ResourceType.BUSBAR_SECTION,
+            ResourceType.SWITCH,
+            ResourceType.GENERATOR,
+            ResourceType.BATTERY,
+            ResourceType.LOAD,
+            ResourceType.SHUNT_COMPENSATOR,
+            ResourceType.VSC_CONVERTER_STATION,
+            ResourceType.STATIC_VAR_COMPENSATOR,
+            ResourceType.LCC_CONVERTER_STATION,
+            ResourceType.TWO_WINDINGS_TRANSFORMER,
+            ResourceType.THREE_WINDINGS_TRANSFORMER,
+            ResourceType.LINE,
+            ResourceType.BOUNDARY_LINE,
+            ResourceType.GROUND,
+            ResourceType.CONFIGURED_BUS));
+
+    /**
+     * Resource types having operational limits groups, which can be loaded by container with
+     * {@link #getVoltageLevelOperationalLimitsGroupAttributes} and {@link #getSubstationOperationalLimitsGroupAttributes}.
+     */
+    Set<ResourceType> OPERATIONAL_LIMITS_GROUP_TYPES = Collections.unmodifiableSet(EnumSet.of(
+            ResourceType.LINE,
+            ResourceType.TWO_WINDINGS_TRANSFORMER));
+
     // network
     List<NetworkInfos> getNetworksInfos();
 
@@ -98,6 +129,41 @@ public interface NetworkStoreClient {
 
     List<Resource<ConfiguredBusAttributes>> getVoltageLevelConfiguredBuses(UUID networkUuid, int variantNum, String voltageLevelId);
 
+    /**
+     * Get the resources of several types belonging to a voltage level, for instance to build its topology.
+     * The default implementation relies on the per type voltage level getters. Clients reading from the server should
+     * override it to get all the types in a single request.
+     * @param resourceTypes the resource types to get, among {@link #VOLTAGE_LEVEL_CONTENT_TYPES}
+     * @return the resources of the voltage level by type, with an entry for each requested type
+     */
+    @SuppressWarnings("unchecked")
+    default Map<ResourceType, List<Resource<IdentifiableAttributes>>> getVoltageLevelContents(UUID networkUuid, int variantNum, String voltageLevelId,
+                                                                                            Set<ResourceType> resourceTypes) {
+        Map<ResourceType, List<Resource<IdentifiableAttributes>>> contents = new EnumMap<>(ResourceType.class);
+        for (ResourceType resourceType : resourceTypes) {
+            List<? extends Resource<? extends IdentifiableAttributes>> resources = switch (resourceType) {
+                case BUSBAR_SECTION -> getVoltageLevelBusbarSections(networkUuid, variantNum, voltageLevelId);
+                case SWITCH -> getVoltageLevelSwitches(networkUuid, variantNum, voltageLevelId);
+                case GENERATOR -> getVoltageLevelGenerators(networkUuid, variantNum, voltageLevelId);
+                case BATTERY -> getVoltageLevelBatteries(networkUuid, variantNum, voltageLevelId);
+                case LOAD -> getVoltageLevelLoads(networkUuid, variantNum, voltageLevelId);
+                case SHUNT_COMPENSATOR -> getVoltageLevelShuntCompensators(networkUuid, variantNum, voltageLevelId);
+                case VSC_CONVERTER_STATION -> getVoltageLevelVscConverterStations(networkUuid, variantNum, voltageLevelId);
+                case STATIC_VAR_COMPENSATOR -> getVoltageLevelStaticVarCompensators(networkUuid, variantNum, voltageLevelId);
+                case LCC_CONVERTER_STATION -> getVoltageLevelLccConverterStations(networkUuid, variantNum, voltageLevelId);
+                case TWO_WINDINGS_TRANSFORMER -> getVoltageLevelTwoWindingsTransformers(networkUuid, variantNum, voltageLevelId);
+                case THREE_WINDINGS_TRANSFORMER -> getVoltageLevelThreeWindingsTransformers(networkUuid, variantNum, voltageLevelId);
+                case LINE -> getVoltageLevelLines(networkUuid, variantNum, voltageLevelId);
+                case BOUNDARY_LINE -> getVoltageLevelBoundaryLines(networkUuid, variantNum, voltageLevelId);
+                case GROUND -> getVoltageLevelGrounds(networkUuid, variantNum, voltageLevelId);
+                case CONFIGURED_BUS -> getVoltageLevelConfiguredBuses(networkUuid, variantNum, voltageLevelId);
+                default -> throw new IllegalArgumentException(resourceType + " resources are not contained in a voltage level");
+            };
+            contents.put(resourceType, (List<Resource<IdentifiableAttributes>>) (List<?>) resources);
+        }
+        return contents;
+    }
+
     // switch
 
     void createSwitches(UUID networkUuid, List<Resource<SwitchAttributes>> switchResources);
@@ -330,6 +396,21 @@ public interface NetworkStoreClient {
      */
     Map<String, ExtensionAttributes> getAllExtensionsAttributesByResourceTypeAndExtensionName(UUID networkUuid, int variantNum, ResourceType resourceType, String extensionName);
 
+    /**
+     * For all the identifiables of a specific resource type, retrieves the extension attributes of several extension names.
+     * Used for preloading collection strategy. The default implementation loads the extension names one by one.
+     * @return A {@link Map} where keys are identifiable IDs and values are {@link Map}s where keys are extension names and values are {@link ExtensionAttributes}.
+     */
+    default Map<String, Map<String, ExtensionAttributes>> getAllExtensionsAttributesByResourceTypeAndExtensionNames(UUID networkUuid, int variantNum, ResourceType resourceType, Set<String> extensionNames) {
+        Map<String, Map<String, ExtensionAttributes>> extensionAttributesByIdentifiableId = new HashMap<>();
+        for (String extensionName : extensionNames) {
+            getAllExtensionsAttributesByResourceTypeAndExtensionName(networkUuid, variantNum, resourceType, extensionName)
+                    .forEach((identifiableId, extensionAttributes) -> extensionAttributesByIdentifiableId.computeIfAbsent(identifiableId, k -> new HashMap<>())
+                            .put(extensionName, extensionAttributes));
+        }
+        return extensionAttributesByIdentifiableId;
+    }
+
     /**
      * For one identifiable with a specific identifiable id, retrieves all extension attributes of this identifiable.
      * @return A {@link Map} where keys are extension names and values are {@link ExtensionAttributes}.
@@ -381,11 +462,243 @@ public interface NetworkStoreClient {
      */
     Map<String, Map<Integer, Map<String, OperationalLimitsGroupAttributes>>> getAllSelectedOperationalLimitsGroupAttributesByResourceType(UUID networkUuid, int variantNum, ResourceType resourceType);
 
+    /**
+     * For the branches of a specific resource type connected to a voltage level, retrieves all operational limits group attributes.
+     * The default implementation loads the operational limits groups branch side by branch side. Clients reading from the
+     * server should override it to get them in a single request.
+     * @param resourceType the resource type, among {@link #OPERATIONAL_LIMITS_GROUP_TYPES}
+     * @return A {@link Map} where keys are branch IDs and values are {@link Map}s where keys are sides and values are operational limits groups by id.
+     */
+    default Map<String, Map<Integer, Map<String, OperationalLimitsGroupAttributes>>> getVoltageLevelOperationalLimitsGroupAttributes(UUID networkUuid, int variantNum, ResourceType resourceType,
+                                                                                                                                  String voltageLevelId) {
+        List<? extends Resource<? extends IdentifiableAttributes>> branchResources = switch (resourceType) {
+            case LINE -> getVoltageLevelLines(networkUuid, variantNum, voltageLevelId);
+            case TWO_WINDINGS_TRANSFORMER -> getVoltageLevelTwoWindingsTransformers(networkUuid, variantNum, voltageLevelId);
+            default -> throw new IllegalArgumentException(resourceType + " resources do not have operational limits groups");
+        };
+        Map<String, Map<Integer, Map<String, OperationalLimitsGroupAttributes>>> operationalLimitsGroupAttributes = new HashMap<>();
+        for (Resource<? extends IdentifiableAttributes> branchResource : branchResources) {
+            for (int side = 1; side <= 2; side++) {
+                for (OperationalLimitsGroupAttributes attributes : getOperationalLimitsGroupAttributesForBranchSide(networkUuid, variantNum, resourceType, branchResource.getId(), side)) {
+                    operationalLimitsGroupAttributes.computeIfAbsent(branchResource.getId(), k -> new HashMap<>())
+                            .computeIfAbsent(side, k -> new HashMap<>())
+                            .put(attributes.getId(), attributes);
+                }
+            }
+        }
+        return operationalLimitsGroupAttributes;
+    }
+
+    /**
+     * For the branches of a specific resource type connected to the voltage levels of a substation, retrieves all
+     * operational limits group attributes. The default implementation loads them voltage level by voltage level.
+     * @param resourceType the resource type, among {@link #OPERATIONAL_LIMITS_GROUP_TYPES}
+     * @return A {@link Map} where keys are branch IDs and values are {@link Map}s where keys are sides and values are operational limits groups by id.
+     */
+    default Map<String, Map<Integer, Map<String, OperationalLimitsGroupAttributes>>> getSubstationOperationalLimitsGroupAttributes(UUID networkUuid, int variantNum, ResourceType resourceType,
+                                                                                                                                String substationId) {
+        Map<String, Map<Integer, Map<String, OperationalLimitsGroupAttributes>>> operationalLimitsGroupAttributes = new HashMap<>();
+        for (Resource<VoltageLevelAttributes> voltageLevelResource : getVoltageLevelsInSubstation(networkUuid, variantNum, substationId)) {
+            operationalLimitsGroupAttributes.putAll(getVoltageLevelOperationalLimitsGroupAttributes(networkUuid, variantNum, resourceType, voltageLevelResource.getId()));
+        }
+        return operationalLimitsGroupAttributes;
+    }
+
     void removeOperationalLimitsGroupAttributes(UUID networkUuid, int variantNum, ResourceType resourceType, Map<String, Map<Integer, Set<String>>> operationalLimitsGroupsToDelete);
 
     Optional<Resource<IdentifiableAttributes>> getIdentifiable(UUID networkUuid, int variantNum, String id);
 
+    /**
+     * Get the resources of several identifiables, whatever their type. Ids which do not exist are ignored.
+     * The default implementation gets them one by one, clients reading from the server should override it to get them
+     * with as few requests as possible.
+     * @return the resources found, in no particular order
+     */
+    default List<Resource<IdentifiableAttributes>> getIdentifiables(UUID networkUuid, int variantNum, Collection<String> ids) {
+        List<Resource<IdentifiableAttributes>> resources = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            getIdentifiable(networkUuid, variantNum, id).ifPresent(resources::add);
+        }
+        return resources;
+    }
+
     List<String> getIdentifiablesIds(UUID networkUuid, int variantNum);
 
+    /**
+     * Load all resources of one collection and pass them one by one to a consumer.
+     * The default implementation relies on the collection getters, so the full list is built before being consumed.
+     * Clients reading from the server should override it to hand resources over as soon as they are deserialized.
+     */
+    @SuppressWarnings("unchecked")
+    default <T extends IdentifiableAttributes> void getAllResources(UUID networkUuid, int variantNum, ResourceType resourceType, Consumer<Resource<T>> consumer) {
+        Objects.requireNonNull(consumer);
+        List<? extends Resource<? extends IdentifiableAttributes>> resources = switch (resourceType) {
+            case NETWORK -> getNetwork(networkUuid, variantNum).stream().toList();
+            case SUBSTATION -> getSubstations(networkUuid, variantNum);
+            case VOLTAGE_LEVEL -> getVoltageLevels(networkUuid, variantNum);
+            case LOAD -> getLoads(networkUuid, variantNum);
+            case GENERATOR -> getGenerators(networkUuid, variantNum);
+            case BATTERY -> getBatteries(networkUuid, variantNum);
+            case SHUNT_COMPENSATOR -> getShuntCompensators(networkUuid, variantNum);
+            case VSC_CONVERTER_STATION -> getVscConverterStations(networkUuid, variantNum);
+            case LCC_CONVERTER_STATION -> getLccConverterStations(networkUuid, variantNum);
+            case STATIC_VAR_COMPENSATOR -> getStaticVarCompensators(networkUuid, variantNum);
+            case BUSBAR_SECTION -> getBusbarSections(networkUuid, variantNum);
+            case SWITCH -> getSwitches(networkUuid, variantNum);
+            case TWO_WINDINGS_TRANSFORMER -> getTwoWindingsTransformers(networkUuid, variantNum);
+            case THREE_WINDINGS_TRANSFORMER -> getThreeWindingsTransformers(networkUuid, variantNum);
+            case LINE -> getLines(networkUuid, variantNum);
+            case HVDC_LINE -> getHvdcLines(networkUuid, variantNum);
+            case BOUNDARY_LINE -> getBoundaryLines(networkUuid, variantNum);
+            case GROUND -> getGrounds(networkUuid, variantNum);
+            case CONFIGURED_BUS -> getConfiguredBuses(networkUuid, variantNum);
+            case TIE_LINE -> getTieLines(networkUuid, variantNum);
+            case AREA -> getAreas(networkUuid, variantNum);
+        };
+        resources.forEach(resource -> consumer.accept((Resource<T>) resource));
+    }
+
+    /**
+     * Load all resources of one collection with only the attributes of a filter. With a subset filter (for instance
+     * {@link AttributeFilter#SV}), the attributes are the subset DTOs (for instance
+     * {@link com.powsybl.network.store.model.svattributes.InjectionSvAttributes}), otherwise the usual attributes.
+     * The default implementation loads the whole collection and projects it on the filter.
+     */
+    @SuppressWarnings("unchecked")
+    default List<Resource<Attributes>> getFilteredResources(UUID networkUuid, int variantNum, ResourceType resourceType, AttributeFilter attributeFilter) {
+        boolean subset = AttributesProjector.hasSubsetAttributes(resourceType, attributeFilter);
+        List<Resource<Attributes>> resources = new ArrayList<>();
+        getAllResources(networkUuid, variantNum, resourceType, resource -> resources.add(subset
+                ? AttributesProjector.project(resource, attributeFilter)
+                : (Resource<Attributes>) (Resource<?>) resource));
+        return resources;
+    }
+
+    /**
+     * Load all resources of one collection, unless the collection has not changed on the server since it has been
+     * loaded at the given revision.
+     * The default implementation always loads the collection, without revision.
+     * @param revision revision of the already loaded collection, null to load the collection in any case
+     * @return the resources and their revision, or an empty optional if the collection has not changed
+     */
+    default <T extends IdentifiableAttributes> Optional<RevisionedResources<T>> getResourcesIfModified(UUID networkUuid, int variantNum, ResourceType resourceType,
+                                                                                                     String revision) {
+        List<Resource<T>> resources = new ArrayList<>();
+        getAllResources(networkUuid, variantNum, resourceType, resources::add);
+        return Optional.of(new RevisionedResources<>(resources, null));
+    }
+
+    /**
+     * Get the ids of the resources of a network variant created, updated or removed on the server since a revision.
+     * The default implementation does not support it.
+     * @param revision a revision previously returned by this method, null to only get the current revision
+     * @return the changes with the current revision, or an empty optional if the changes since the revision are not
+     * known, in which case the caller has to reload what it keeps in memory
+     */
+    default Optional<NetworkChanges> getModifiedSince(UUID networkUuid, int variantNum, String revision) {
+        return Optional.empty();
+    }
+
+    /**
+     * Bring the resources of a network variant kept in memory up to date with the server. Collections which have not
+     * changed on the server should not be transferred again. Changes not yet flushed may be lost.
+     * The default implementation does nothing as it keeps nothing in memory.
+     * @return the changes applied to the resources kept in memory, or an empty optional if they may all have been
+     * replaced
+     */
+    default Optional<NetworkChanges> refresh(UUID networkUuid, int variantNum) {
+        return Optional.empty();
+    }
+
+    /**
+     * Update resources of one collection. The default implementation relies on the collection update methods.
+     */
+    @SuppressWarnings("unchecked")
+    default <T extends IdentifiableAttributes> void updateResources(UUID networkUuid, ResourceType resourceType, List<Resource<T>> resources,
+                                                                   AttributeFilter attributeFilter) {
+        List<?> l = resources;
+        switch (resourceType) {
+            case NETWORK -> updateNetworks((List<Resource<NetworkAttributes>>) l, attributeFilter);
+            case SUBSTATION -> updateSubstations(networkUuid, (List<Resource<SubstationAttributes>>) l, attributeFilter);
+            case VOLTAGE_LEVEL -> updateVoltageLevels(networkUuid, (List<Resource<VoltageLevelAttributes>>) l, attributeFilter);
+            case LOAD -> updateLoads(networkUuid, (List<Resource<LoadAttributes>>) l, attributeFilter);
+            case GENERATOR -> updateGenerators(networkUuid, (List<Resource<GeneratorAttributes>>) l, attributeFilter);
+            case BATTERY -> updateBatteries(networkUuid, (List<Resource<BatteryAttributes>>) l, attributeFilter);
+            case SHUNT_COMPENSATOR -> updateShuntCompensators(networkUuid, (List<Resource<ShuntCompensatorAttributes>>) l, attributeFilter);
+            case VSC_CONVERTER_STATION -> updateVscConverterStations(networkUuid, (List<Resource<VscConverterStationAttributes>>) l, attributeFilter);
+            case LCC_CONVERTER_STATION -> updateLccConverterStations(networkUuid, (List<Resource<LccConverterStationAttributes>>) l, attributeFilter);
+            case STATIC_VAR_COMPENSATOR -> updateStaticVarCompensators(networkUuid, (List<Resource<StaticVarCompensatorAttributes>>) l, attributeFilter);
+            case BUSBAR_SECTION -> updateBusbarSections(networkUuid, (List<Resource<BusbarSectionAttributes>>) l, attributeFilter);
+            case SWITCH -> updateSwitches(networkUuid, (List<Resource<SwitchAttributes>>) l, attributeFilter);
+            case TWO_WINDINGS_TRANSFORMER -> updateTwoWindingsTransformers(networkUuid, (List<Resource<TwoWindingsTransformerAttributes>>) l, attributeFilter);
+            case THREE_WINDINGS_TRANSFORMER -> updateThreeWindingsTransformers(networkUuid, (List<Resource<ThreeWindingsTransformerAttributes>>) l, attributeFilter);
+            case LINE -> updateLines(networkUuid, (List<Resource<LineAttributes>>) l, attributeFilter);
+            case HVDC_LINE -> updateHvdcLines(networkUuid, (List<Resource<HvdcLineAttributes>>) l, attributeFilter);
+            case BOUNDARY_LINE -> updateBoundaryLines(networkUuid, (List<Resource<BoundaryLineAttributes>>) l, attributeFilter);
+            case GROUND -> updateGrounds(networkUuid, (List<Resource<GroundAttributes>>) l, attributeFilter);
+            case CONFIGURED_BUS -> updateConfiguredBuses(networkUuid, (List<Resource<ConfiguredBusAttributes>>) l, attributeFilter);
+            case TIE_LINE -> updateTieLines(networkUuid, (List<Resource<TieLineAttributes>>) l, attributeFilter);
+            case AREA -> updateAreas(networkUuid, (List<Resource<AreaAttributes>>) l, attributeFilter);
+        }
+    }
+
+    /**
+     * Update a resource of which only some attributes have been modified, given by the JSON property names of its
+     * attributes. Clients able to send partial updates to the server only send these attributes, the other ones being
+     * left unchanged on the server.
+     * The default implementation updates the whole resource.
+     */
+    default <T extends IdentifiableAttributes> void updateResourceAttributes(UUID networkUuid, Resource<T> resource, AttributeFilter attributeFilter,
+                                                                            Set<String> attributeNames) {
+        updateResources(networkUuid, resource.getType(), List.of(resource), attributeFilter);
+    }
+
+    /**
+     * Called before the attributes of a resource are modified in place, so that clients sharing them between variants
+     * since a variant clone can give a copy to the other variants first.
+     * The default implementation does nothing as attributes are not shared.
+     */
+    default <T extends IdentifiableAttributes> void prepareResourceUpdate(UUID networkUuid, Resource<T> resource) {
+        // nothing to do
+    }
+
+    /**
+     * Called when the identifiables of a network are bound to the resources of another variant, so that clients
+     * dropping cached resources to bound their memory keep the ones referenced by the identifiables.
+     * The default implementation does nothing.
+     *
+     * @param variantNum the new working variant num, -1 if the working variant has been removed
+     */
+    default void setWorkingVariantNum(UUID networkUuid, int variantNum) {
+        // nothing to do
+    }
+
     void flush(UUID networkUuid);
+
+    /**
+     * Called when a network is not used anymore, so that clients release what they hold for it, for instance its share
+     * of a memory budget common to several networks. Changes not flushed yet are not sent.
+     * The default implementation does nothing.
+     */
+    default void closeNetwork(UUID networkUuid) {
+        // nothing to do
+    }
+
+    /**
+     * Send the changes of a network made so far without waiting for the server. Changes made after the call are kept
+     * for the next flush. Flushes of a network are sent in call order, a synchronous {@link #flush} waiting for the
+     * previous asynchronous ones. If a flush fails, its changes are dropped and its future fails, the following
+     * flushes being still sent. The failure is then reported by the next synchronous flush, which does not send its
+     * changes, keeping them for the flush after it.
+     * The default implementation flushes synchronously.
+     * @return a future completed once the changes have been sent
+     */
+    default CompletableFuture<Void> flushAsync(UUID networkUuid) {
+        try {
+            flush(networkUuid);
+            return CompletableFuture.completedFuture(null);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
 }
@@ -96,24 +96,30 @@ public class NodeBreakerTopology extends AbstractTopology<Integer> {
     }
 
     @Override
-    protected void buildVertices(NetworkObjectIndex index, Resource<VoltageLevelAttributes> voltageLevelResource, List<Vertex> vertices) {
-        super.buildVertices(index, voltageLevelResource, vertices);
+    protected Set<ResourceType> getVertexResourceTypes() {
+        Set<ResourceType> resourceTypes = super.getVertexResourceTypes();
+        resourceTypes.add(ResourceType.BUSBAR_SECTION);
+        return resourceTypes;
+    }
 
-        UUID networkUuid = index.getNetwork().getUuid();
+    @Override
+    protected void buildVertices(Resource<VoltageLevelAttributes> voltageLevelResource, Map<ResourceType, List<Resource<IdentifiableAttributes>>> contents,
+                                 List<Vertex> vertices) {
+        super.buildVertices(voltageLevelResource, contents, vertices);
 
         // in addition to injections, branches and 3 windings transformers, in a node/breaker topology we also
         // have busbar sections and internal connections
 
-        vertices.addAll(index.getStoreClient().getVoltageLevelBusbarSections(networkUuid, index.getWorkingVariantNum(), voltageLevelResource.getId())
+        vertices.addAll(AbstractTopology.<BusbarSectionAttributes>getContents(contents, ResourceType.BUSBAR_SECTION)
                 .stream()
                 .map(resource -> createVertex(resource.getId(), IdentifiableType.BUSBAR_SECTION, resource.getAttributes().getNode(), null))
                 .collect(Collectors.toList()));
     }
 
     @Override
-    protected void buildEdges(NetworkObjectIndex index, Resource<VoltageLevelAttributes> voltageLevelResource, boolean includeOpenSwitches, boolean isBusView,
-                              Graph<Integer, Edge> graph) {
-        super.buildEdges(index, voltageLevelResource, includeOpenSwitches, isBusView, graph);
+    protected void buildEdges(Resource<VoltageLevelAttributes> voltageLevelResource, Map<ResourceType, List<Resource<IdentifiableAttributes>>> contents,
+                              boolean includeOpenSwitches, boolean isBusView, Graph<Integer, Edge> graph) {
+        super.buildEdges(voltageLevelResource, contents, includeOpenSwitches, isBusView, graph);
 
         for (InternalConnectionAttributes attributes : voltageLevelResource.getAttributes().getInternalConnections()) {
             ensureNodeOrBusExists(graph, attributes.getNode1());
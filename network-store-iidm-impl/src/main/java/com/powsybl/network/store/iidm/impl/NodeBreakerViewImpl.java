@@ -252,7 +252,7 @@ public class NodeBreakerViewImpl implements VoltageLevel.NodeBreakerView {
     @Override
     public InternalConnectionAdder newInternalConnection() {
         checkBusBreakerTopology();
-        return new InternalConnectionAdderNodeBreakerImpl(getVoltageLevelResource());
+        return new InternalConnectionAdderNodeBreakerImpl(voltageLevel);
     }
 
     @Override
@@ -426,6 +426,7 @@ public class NodeBreakerViewImpl implements VoltageLevel.NodeBreakerView {
     @Override
     public VoltageLevel.NodeBreakerView setFictitiousP0(int node, double p0) {
         Resource<VoltageLevelAttributes> voltageLevelResource = getVoltageLevelResource();
+        index.prepareResourceUpdate(voltageLevelResource);
         Map<Integer, Double> nodeToFictitiousP0 = voltageLevelResource.getAttributes().getNodeToFictitiousP0();
         if (nodeToFictitiousP0 == null) {
             nodeToFictitiousP0 = new HashMap<>();
@@ -445,6 +446,7 @@ public class NodeBreakerViewImpl implements VoltageLevel.NodeBreakerView {
     @Override
     public VoltageLevel.NodeBreakerView setFictitiousQ0(int node, double q0) {
         Resource<VoltageLevelAttributes> voltageLevelResource = getVoltageLevelResource();
+        index.prepareResourceUpdate(voltageLevelResource);
         Map<Integer, Double> nodeToFictitiousQ0 = voltageLevelResource.getAttributes().getNodeToFictitiousQ0();
         if (nodeToFictitiousQ0 == null) {
             nodeToFictitiousQ0 = new HashMap<>();
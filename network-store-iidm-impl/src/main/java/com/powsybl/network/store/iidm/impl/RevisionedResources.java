@@ -0,0 +1,28 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.iidm.impl;
+
+import com.powsybl.network.store.model.IdentifiableAttributes;
+import com.powsybl.network.store.model.Resource;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * All the resources of a collection, with the revision of the collection on the server when they have been loaded.
+ *
+ * @param resources the resources of the collection
+ * @param revision opaque revision token (the HTTP entity tag) of the collection, null if the server does not provide
+ *                 one
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public record RevisionedResources<T extends IdentifiableAttributes>(List<Resource<T>> resources, String revision) {
+
+    public RevisionedResources {
+        Objects.requireNonNull(resources);
+    }
+}
@@ -0,0 +1,185 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.iidm.impl;
+
+import com.powsybl.network.store.model.IdentifiableAttributes;
+import com.powsybl.network.store.model.Resource;
+import com.powsybl.network.store.model.ResourceType;
+
+import java.util.*;
+
+/**
+ * Collections fully loaded from the server, shared by the caches of all the networks of a service so that a collection
+ * which has not changed on the server since it has been loaded by a network is not transferred again for another one.
+ * <p>
+ * A snapshot is immutable: the caches share the attributes of its resources, and copy them before modifying them in
+ * place, as done between the variants of a network. Snapshots are kept up to a maximum number of resources, the least
+ * recently used ones being dropped first, starting with the ones which are not referenced anymore by any network.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class SharedSnapshotCache {
+
+    private record Key(UUID networkUuid, int variantNum, ResourceType resourceType) {
+    }
+
+    /**
+     * All the resources of a collection at a revision.
+     */
+    public static final class Snapshot<T extends IdentifiableAttributes> {
+
+        private final Key key;
+
+        private final String revision;
+
+        private final List<Resource<T>> resources;
+
+        /**
+         * Number of networks having loaded their collection from this snapshot.
+         */
+        private int referenceCount = 0;
+
+        private Snapshot(Key key, String revision, List<Resource<T>> resources) {
+            this.key = key;
+            this.revision = revision;
+            this.resources = resources;
+        }
+
+        public String getRevision() {
+            return revision;
+        }
+
+        /**
+         * @return new resources sharing the attributes of the snapshot, which have to be copied with
+         * {@link Resource#copyAttributes(Resource)} before being modified
+         */
+        public List<Resource<T>> shareResources() {
+            return Resource.shareResourcesToVariant(resources, key.variantNum());
+        }
+    }
+
+    /**
+     * Snapshots referenced by a network, released when the network is closed or deleted.
+     */
+    public final class References {
+
+        private final List<Snapshot<?>> snapshots = new ArrayList<>();
+
+        private References() {
+        }
+
+        public void add(Snapshot<?> snapshot) {
+            synchronized (SharedSnapshotCache.this) {
+                snapshot.referenceCount++;
+                snapshots.add(snapshot);
+            }
+        }
+
+        public void release() {
+            synchronized (SharedSnapshotCache.this) {
+                snapshots.forEach(snapshot -> snapshot.referenceCount--);
+                snapshots.clear();
+            }
+        }
+    }
+
+    private final long maxResources;
+
+    /**
+     * Snapshots in least recently used order.
+     */
+    private final LinkedHashMap<Key, Snapshot<?>> snapshots = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long resourceCount = 0;
+
+    public SharedSnapshotCache(long maxResources) {
+        if (maxResources <= 0) {
+            throw new IllegalArgumentException("Shared cache max resources has to be strictly positive: " + maxResources);
+        }
+        this.maxResources = maxResources;
+    }
+
+    public long getMaxResources() {
+        return maxResources;
+    }
+
+    public synchronized long getResourceCount() {
+        return resourceCount;
+    }
+
+    /**
+     * Create the references of a network, to be released when the network is closed or deleted.
+     */
+    public References createReferences() {
+        return new References();
+    }
+
+    /**
+     * @return the last snapshot of a collection, null if none
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized <T extends IdentifiableAttributes> Snapshot<T> get(UUID networkUuid, int variantNum, ResourceType resourceType) {
+        return (Snapshot<T>) snapshots.get(new Key(networkUuid, variantNum, resourceType));
+    }
+
+    /**
+     * Add the snapshot of a collection, replacing the previous one.
+     *
+     * @return the snapshot, null if the collection is bigger than the cache
+     */
+    public synchronized <T extends IdentifiableAttributes> Snapshot<T> put(UUID networkUuid, int variantNum, ResourceType resourceType,
+                                                                           String revision, List<Resource<T>> resources) {
+        Objects.requireNonNull(revision);
+        Key key = new Key(networkUuid, variantNum, resourceType);
+        remove(key);
+        if (resources.size() > maxResources) {
+            return null;
+        }
+        Snapshot<T> snapshot = new Snapshot<>(key, revision, List.copyOf(resources));
+        snapshots.put(key, snapshot);
+        resourceCount += resources.size();
+        evict(false);
+        evict(true);
+        return snapshot;
+    }
+
+    private void evict(boolean referenced) {
+        Iterator<Snapshot<?>> it = snapshots.values().iterator();
+        while (resourceCount > maxResources && it.hasNext()) {
+            Snapshot<?> snapshot = it.next();
+            if ((snapshot.referenceCount > 0) == referenced) {
+                it.remove();
+                resourceCount -= snapshot.resources.size();
+            }
+        }
+    }
+
+    private void remove(Key key) {
+        Snapshot<?> snapshot = snapshots.remove(key);
+        if (snapshot != null) {
+            resourceCount -= snapshot.resources.size();
+        }
+    }
+
+    /**
+     * Drop the snapshots of a network, for instance because it has been deleted.
+     */
+    public synchronized void invalidate(UUID networkUuid) {
+        new ArrayList<>(snapshots.keySet()).stream()
+                .filter(key -> key.networkUuid().equals(networkUuid))
+                .forEach(this::remove);
+    }
+
+    /**
+     * Drop the snapshots of a network variant.
+     */
+    public synchronized void invalidate(UUID networkUuid, int variantNum) {
+        new ArrayList<>(snapshots.keySet()).stream()
+                .filter(key -> key.networkUuid().equals(networkUuid) && key.variantNum() == variantNum)
+                .forEach(this::remove);
+    }
+}
@@ -220,6 +220,7 @@ public class ShuntCompensatorImpl extends AbstractRegulatingInjection<ShuntCompe
         if (type.isAssignableFrom(ConnectablePosition.class)) {
             var resource = getResource();
             if (resource.getAttributes().getPosition() != null) {
+                index.prepareResourceUpdate(resource);
                 resource.getAttributes().setPosition(null);
                 return true;
             }
@@ -207,6 +207,7 @@ public class StaticVarCompensatorImpl extends AbstractRegulatingInjection<Static
         if (type.isAssignableFrom(ConnectablePosition.class)) {
             var resource = getResource();
             if (resource.getAttributes().getPosition() != null) {
+                index.prepareResourceUpdate(resource);
                 resource.getAttributes().setPosition(null);
                 return true;
             }
@@ -215,6 +216,7 @@ public class StaticVarCompensatorImpl extends AbstractRegulatingInjection<Static
         if (type == StandbyAutomaton.class) {
             var resource = getResource();
             if (resource.getAttributes().getStandbyAutomaton() != null) {
+                index.prepareResourceUpdate(resource);
                 resource.getAttributes().setStandbyAutomaton(null);
                 return true;
             }
@@ -223,6 +225,7 @@ public class StaticVarCompensatorImpl extends AbstractRegulatingInjection<Static
         if (type == VoltagePerReactivePowerControl.class) {
             var resource = getResource();
             if (resource.getAttributes().getVoltagePerReactiveControl() != null) {
+                index.prepareResourceUpdate(resource);
                 resource.getAttributes().setVoltagePerReactiveControl(null);
                 return true;
             }
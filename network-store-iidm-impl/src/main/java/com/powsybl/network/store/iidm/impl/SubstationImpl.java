@@ -277,6 +277,7 @@ public class SubstationImpl extends AbstractIdentifiableImpl<Substation, Substat
         if (type == EntsoeArea.class) {
             var resource = getResource();
             if (resource.getAttributes().getEntsoeArea() != null) {
+                index.prepareResourceUpdate(resource);
                 resource.getAttributes().setEntsoeArea(null);
                 return true;
             }
@@ -62,7 +62,7 @@ public class SwitchImpl extends AbstractIdentifiableImpl<Switch, SwitchAttribute
         var resource = getResource();
         boolean wasOpen = resource.getAttributes().isOpen();
         if (open != wasOpen) {
-            updateResource(r -> r.getAttributes().setOpen(open),
+            updateResourceAttribute(r -> r.getAttributes().setOpen(open),
                 "open", wasOpen, open);
             // invalidate calculated buses
             getVoltageLevel().invalidateCalculatedBuses();
@@ -81,7 +81,7 @@ public class SwitchImpl extends AbstractIdentifiableImpl<Switch, SwitchAttribute
         }
         boolean oldValue = getResource().getAttributes().isRetained();
         if (retained != oldValue) {
-            updateResource(r -> r.getAttributes().setRetained(retained),
+            updateResourceAttribute(r -> r.getAttributes().setRetained(retained),
                 "retained", oldValue, retained);
             // invalidate calculated buses
             getVoltageLevel().invalidateCalculatedBuses();
@@ -328,6 +328,7 @@ public class TerminalImpl<U extends IdentifiableAttributes> implements Terminal,
 
         if (done) {
             // to invalidate calculated buses
+            index.prepareResourceUpdate(voltageLevelResource);
             voltageLevelAttributes.setCalculatedBusesValid(false);
             index.updateVoltageLevelResource(voltageLevelResource);
         }
@@ -537,6 +538,7 @@ public class TerminalImpl<U extends IdentifiableAttributes> implements Terminal,
 
         if (done) {
             // to invalidate calculated buses
+            index.prepareResourceUpdate(voltageLevelResource);
             voltageLevelAttributes.setCalculatedBusesValid(false);
             index.updateVoltageLevelResource(voltageLevelResource);
         }
@@ -716,7 +718,7 @@ public class TerminalImpl<U extends IdentifiableAttributes> implements Terminal,
                 .withUntypedValue("regulatingEquipments", regulatingEquiments)
                 .withSeverity(TypedValue.INFO_SEVERITY)
                 .add();
-            getAttributes().getRegulatingEquipments().clear();
+            getAbstractIdentifiable().updateResourceWithoutNotification(r -> getAttributes(r).getRegulatingEquipments().clear());
         }
     }
 
@@ -713,9 +713,8 @@ public class ThreeWindingsTransformerImpl extends AbstractConnectableImpl<ThreeW
 
     @Override
     public <E extends Extension<ThreeWindingsTransformer>> void addExtension(Class<? super E> type, E extension) {
-        var resource = getResource();
         if (type == CgmesTapChangers.class) {
-            resource.getAttributes().setCgmesTapChangerAttributesList(new ArrayList<>());
+            updateResourceWithoutNotification(r -> r.getAttributes().setCgmesTapChangerAttributesList(new ArrayList<>()));
         } else {
             super.addExtension(type, extension);
         }
@@ -814,6 +813,7 @@ public class ThreeWindingsTransformerImpl extends AbstractConnectableImpl<ThreeW
         super.removeExtension(type);
         if (type.isAssignableFrom(ConnectablePosition.class)) {
             var resource = getResource();
+            index.prepareResourceUpdate(resource);
             boolean isRemoved = false;
             if (resource.getAttributes().getPosition1() != null) {
                 resource.getAttributes().setPosition1(null);
@@ -832,6 +832,7 @@ public class ThreeWindingsTransformerImpl extends AbstractConnectableImpl<ThreeW
         if (type.isAssignableFrom(CgmesTapChangers.class)) {
             var resource = getResource();
             if (resource.getAttributes().getCgmesTapChangerAttributesList() != null) {
+                index.prepareResourceUpdate(resource);
                 resource.getAttributes().setCgmesTapChangerAttributesList(null);
                 return true;
             }
@@ -840,6 +841,7 @@ public class ThreeWindingsTransformerImpl extends AbstractConnectableImpl<ThreeW
         if (type == ThreeWindingsTransformerPhaseAngleClock.class) {
             var resource = getResource();
             if (resource.getAttributes().getPhaseAngleClock() != null) {
+                index.prepareResourceUpdate(resource);
                 resource.getAttributes().setPhaseAngleClock(null);
                 return true;
             }
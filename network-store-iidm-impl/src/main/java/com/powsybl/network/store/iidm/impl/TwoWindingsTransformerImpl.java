@@ -227,9 +227,8 @@ public class TwoWindingsTransformerImpl extends AbstractBranchImpl<TwoWindingsTr
 
     @Override
     public <E extends Extension<TwoWindingsTransformer>> void addExtension(Class<? super E> type, E extension) {
-        var resource = getResource();
         if (type == CgmesTapChangers.class) {
-            resource.getAttributes().setCgmesTapChangerAttributesList(new ArrayList<>());
+            updateResourceWithoutNotification(r -> r.getAttributes().setCgmesTapChangerAttributesList(new ArrayList<>()));
         }
         super.addExtension(type, extension);
     }
@@ -295,11 +294,13 @@ public class TwoWindingsTransformerImpl extends AbstractBranchImpl<TwoWindingsTr
     public <E extends Extension<TwoWindingsTransformer>> boolean removeExtension(Class<E> type) {
         super.removeExtension(type);
         if (type.isAssignableFrom(ConnectablePosition.class)) {
+            index.prepareResourceUpdate(getResource());
             return removeConnectionPositionForBranches(getResource());
         }
         if (type.isAssignableFrom(CgmesTapChangers.class)) {
             var resource = getResource();
             if (resource.getAttributes().getCgmesTapChangerAttributesList() != null) {
+                index.prepareResourceUpdate(resource);
                 resource.getAttributes().setCgmesTapChangerAttributesList(null);
                 return true;
             }
@@ -308,6 +309,7 @@ public class TwoWindingsTransformerImpl extends AbstractBranchImpl<TwoWindingsTr
         if (type == TwoWindingsTransformerPhaseAngleClock.class) {
             var resource = getResource();
             if (resource.getAttributes().getPhaseAngleClockAttributes() != null) {
+                index.prepareResourceUpdate(resource);
                 resource.getAttributes().setPhaseAngleClockAttributes(null);
                 return true;
             }
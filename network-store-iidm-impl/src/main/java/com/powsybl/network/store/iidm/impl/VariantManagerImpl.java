@@ -133,7 +133,7 @@ public class VariantManagerImpl implements VariantManager {
             int targetVariantNum = VariantUtils.findFirstAvailableVariantNum(localVariantInfos);
             LOGGER.debug("Trying to clone network {} with variantNum {} (attempt: {})", index.getNetworkUuid(), targetVariantNum, attempts + 1);
             try {
-                index.getStoreClient().cloneNetwork(index.getNetworkUuid(), sourceVariantNum, targetVariantNum, targetVariantId);
+                index.cloneVariant(sourceVariantNum, targetVariantNum, targetVariantId);
                 return;
             } catch (DuplicateVariantNumException e) {
                 LOGGER.debug("Failed to clone network {} with variantNum {}", index.getNetworkUuid(), targetVariantNum);
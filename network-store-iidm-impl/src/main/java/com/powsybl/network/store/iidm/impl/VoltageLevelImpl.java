@@ -617,6 +617,7 @@ public class VoltageLevelImpl extends AbstractIdentifiableImpl<VoltageLevel, Vol
         if (type == SlackTerminal.class) {
             var resource = getResource();
             if (resource.getAttributes().getSlackTerminal() != null) {
+                index.prepareResourceUpdate(resource);
                 resource.getAttributes().setSlackTerminal(null);
                 return true;
             }
@@ -625,6 +626,7 @@ public class VoltageLevelImpl extends AbstractIdentifiableImpl<VoltageLevel, Vol
         if (type.isAssignableFrom(IdentifiableShortCircuit.class)) {
             var resource = getResource();
             if (resource.getAttributes().getIdentifiableShortCircuitAttributes() != null) {
+                index.prepareResourceUpdate(resource);
                 resource.getAttributes().setIdentifiableShortCircuitAttributes(null);
                 return true;
             }
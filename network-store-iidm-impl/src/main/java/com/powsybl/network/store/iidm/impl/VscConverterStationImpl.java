@@ -191,6 +191,7 @@ public class VscConverterStationImpl extends AbstractRegulatingInjection<VscConv
         if (type.isAssignableFrom(ConnectablePosition.class)) {
             var resource = getResource();
             if (resource.getAttributes().getPosition() != null) {
+                index.prepareResourceUpdate(resource);
                 resource.getAttributes().setPosition(null);
                 return true;
             }
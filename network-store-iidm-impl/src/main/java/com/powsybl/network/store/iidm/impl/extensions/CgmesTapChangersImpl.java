@@ -12,6 +12,7 @@ import com.powsybl.cgmes.extensions.CgmesTapChangers;
 import com.powsybl.commons.PowsyblException;
 import com.powsybl.commons.extensions.AbstractExtension;
 import com.powsybl.iidm.network.Connectable;
+import com.powsybl.network.store.iidm.impl.AbstractIdentifiableImpl;
 import com.powsybl.network.store.iidm.impl.ThreeWindingsTransformerImpl;
 import com.powsybl.network.store.iidm.impl.TwoWindingsTransformerImpl;
 import com.powsybl.network.store.model.CgmesTapChangersAttributes;
@@ -68,6 +69,6 @@ public class CgmesTapChangersImpl<C extends Connectable<C>> extends AbstractExte
         if (getAttributes().getCgmesTapChangers().stream().anyMatch(attribute -> attribute.getId().equals(tapChanger.getId()))) {
             throw new PowsyblException(String.format("Tap changer %s has already been added", tapChanger.getId()));
         }
-        getAttributes().getCgmesTapChangers().add(tapChanger.getAttributes());
+        ((AbstractIdentifiableImpl<?, ?>) getExtendable()).updateResourceWithoutNotification(r -> getAttributes().getCgmesTapChangers().add(tapChanger.getAttributes()));
     }
 }
@@ -13,6 +13,7 @@ import com.powsybl.iidm.network.Connectable;
 import com.powsybl.iidm.network.ThreeSides;
 import com.powsybl.iidm.network.extensions.ConnectablePosition;
 import com.powsybl.network.store.iidm.impl.AbstractBranchImpl;
+import com.powsybl.network.store.iidm.impl.AbstractIdentifiableImpl;
 import com.powsybl.network.store.iidm.impl.AbstractInjectionImpl;
 import com.powsybl.network.store.iidm.impl.ThreeWindingsTransformerImpl;
 import com.powsybl.network.store.model.ConnectablePositionAttributes;
@@ -81,7 +82,7 @@ public class ConnectablePositionImpl<C extends Connectable<C>> extends AbstractE
 
         @Override
         public Feeder removeOrder() {
-            getAttributes().setOrder(null);
+            ((AbstractIdentifiableImpl<?, ?>) getExtendable()).updateResourceWithoutNotification(r -> getAttributes().setOrder(null));
             return this;
         }
 
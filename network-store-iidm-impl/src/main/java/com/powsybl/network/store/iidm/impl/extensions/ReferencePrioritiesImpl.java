@@ -60,10 +60,10 @@ public class ReferencePrioritiesImpl<C extends Connectable<C>> extends AbstractE
 
     @Override
     public void deleteReferencePriorities() {
-        getAttributes().getReferencePriorities().clear();
+        ((AbstractIdentifiableImpl<?, ?>) getExtendable()).updateResourceWithoutNotification(r -> getAttributes().getReferencePriorities().clear());
     }
 
     void putReferencePriority(ReferencePriorityImpl referencePriority) {
-        getAttributes().putReferencePriority(referencePriority.getAttributes());
+        ((AbstractIdentifiableImpl<?, ?>) getExtendable()).updateResourceWithoutNotification(r -> getAttributes().putReferencePriority(referencePriority.getAttributes()));
     }
 }
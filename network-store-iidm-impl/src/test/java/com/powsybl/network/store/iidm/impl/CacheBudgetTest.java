@@ -0,0 +1,121 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.iidm.impl;
+
+import com.powsybl.network.store.model.LoadAttributes;
+import com.powsybl.network.store.model.Resource;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+class CacheBudgetTest {
+
+    private static final UUID NETWORK_UUID = UUID.randomUUID();
+
+    private int loadsLoaderCallCount = 0;
+
+    private static Resource<LoadAttributes> createLoad(String id, int variantNum) {
+        return Resource.loadBuilder()
+                .id(id)
+                .variantNum(variantNum)
+                .attributes(LoadAttributes.builder()
+                        .voltageLevelId("vl1")
+                        .build())
+                .build();
+    }
+
+    @Test
+    void testEviction() {
+        NetworkStoreClient delegate = new OfflineNetworkStoreClient() {
+            @Override
+            public List<Resource<LoadAttributes>> getLoads(UUID networkUuid, int variantNum) {
+                loadsLoaderCallCount++;
+                return List.of(createLoad("l1", variantNum), createLoad("l2", variantNum), createLoad("l3", variantNum));
+            }
+        };
+        CacheBudget budget = new CacheBudget(5);
+        CachedNetworkStoreClient client = new CachedNetworkStoreClient(delegate, budget);
+
+        client.getLoads(NETWORK_UUID, 0);
+        client.getLoads(NETWORK_UUID, 1);
+        assertEquals(2, loadsLoaderCallCount);
+        assertEquals(6, budget.getResourceCount());
+        assertTrue(budget.isExceeded());
+
+        // the least recently used variant is dropped on next access
+        client.setWorkingVariantNum(NETWORK_UUID, 1);
+        client.getLoads(NETWORK_UUID, 2);
+        assertEquals(3, loadsLoaderCallCount);
+        assertEquals(6, budget.getResourceCount());
+
+        // the working variant is kept
+        client.getLoads(NETWORK_UUID, 1);
+        assertEquals(3, loadsLoaderCallCount);
+        assertEquals(3, budget.getResourceCount());
+
+        // modified collections are kept until flushed
+        client.createLoads(NETWORK_UUID, List.of(createLoad("l4", 3)));
+        client.getLoads(NETWORK_UUID, 0);
+        assertEquals(4, loadsLoaderCallCount);
+        assertEquals(7, budget.getResourceCount());
+        client.getLoads(NETWORK_UUID, 1);
+        assertEquals(4, budget.getResourceCount());
+        assertTrue(client.getLoad(NETWORK_UUID, 3, "l4").isPresent());
+
+        client.flush(NETWORK_UUID);
+        client.getLoads(NETWORK_UUID, 0);
+        assertEquals(5, loadsLoaderCallCount);
+        client.getLoads(NETWORK_UUID, 1);
+        assertEquals(3, budget.getResourceCount());
+        // dropped collections are loaded again from the server
+        assertEquals(List.of("l1", "l2", "l3"), client.getLoads(NETWORK_UUID, 3).stream().map(Resource::getId).sorted().toList());
+        assertEquals(6, loadsLoaderCallCount);
+
+        // deleting a variant which is not cached neither creates its collections nor counts as an access evicting others
+        assertEquals(6, budget.getResourceCount());
+        client.deleteNetwork(NETWORK_UUID, 4);
+        assertEquals(6, budget.getResourceCount());
+        assertEquals(6, loadsLoaderCallCount);
+
+        client.deleteNetwork(NETWORK_UUID);
+        assertEquals(0, budget.getResourceCount());
+    }
+
+    @Test
+    void testCloseNetwork() {
+        NetworkStoreClient delegate = new OfflineNetworkStoreClient() {
+            @Override
+            public List<Resource<LoadAttributes>> getLoads(UUID networkUuid, int variantNum) {
+                return List.of(createLoad("l1", variantNum), createLoad("l2", variantNum));
+            }
+        };
+        CacheBudget budget = new CacheBudget(10);
+        CachedNetworkStoreClient client1 = new CachedNetworkStoreClient(delegate, budget);
+        CachedNetworkStoreClient client2 = new CachedNetworkStoreClient(delegate, budget);
+        UUID otherNetworkUuid = UUID.randomUUID();
+        client1.getLoads(NETWORK_UUID, 0);
+        client2.getLoads(otherNetworkUuid, 0);
+        assertEquals(4, budget.getResourceCount());
+
+        // the resources of a closed network are released from the budget
+        client1.closeNetwork(NETWORK_UUID);
+        assertEquals(2, budget.getResourceCount());
+        client2.closeNetwork(otherNetworkUuid);
+        assertEquals(0, budget.getResourceCount());
+    }
+
+    @Test
+    void testInvalidMaxResources() {
+        assertThrows(IllegalArgumentException.class, () -> new CacheBudget(0));
+    }
+}
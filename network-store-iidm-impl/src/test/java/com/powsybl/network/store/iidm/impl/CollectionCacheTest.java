@@ -6,7 +6,6 @@
  */
 package com.powsybl.network.store.iidm.impl;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.powsybl.commons.PowsyblException;
 import com.powsybl.iidm.network.extensions.ActivePowerControl;
 import com.powsybl.network.store.iidm.impl.util.TriFunction;
@@ -159,6 +158,24 @@ class CollectionCacheTest {
         assertEquals(3, collectionCache.getResourceCount(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM));
     }
 
+    @Test
+    void getResourcesStreamedTest() {
+        List<String> streamedIds = new ArrayList<>();
+        CollectionCache<LoadAttributes> streamedCollectionCache = new CollectionCache<>(oneLoader, containerLoader, allLoader,
+            (networkUuid, variantNum, consumer) -> allLoader.apply(networkUuid, variantNum).forEach(resource -> {
+                streamedIds.add(resource.getId());
+                consumer.accept(resource);
+            }), mockNetworkStoreClient);
+        assertEquals(l2, streamedCollectionCache.getResource(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM, "l2").orElse(null));
+        Resource<LoadAttributes> cachedL2 = streamedCollectionCache.getResource(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM, "l2").orElseThrow();
+        assertEquals(Arrays.asList(l1, l2, l3), streamedCollectionCache.getResources(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM));
+        assertEquals(List.of("l1", "l2", "l3"), streamedIds);
+        // already loaded resource is not overwritten
+        assertSame(cachedL2, streamedCollectionCache.getResource(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM, "l2").orElseThrow());
+        assertEquals(Arrays.asList(l2, l1), streamedCollectionCache.getContainerResources(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM, "vl1"));
+        assertFalse(containerLoaderCalled);
+    }
+
     @Test
     void incorrectGetContainerResourcesTest() {
         CollectionCache<LoadAttributes> otherCollectionCache = new CollectionCache<>(oneLoader, null, allLoader, null);
@@ -181,6 +198,72 @@ class CollectionCacheTest {
         assertFalse(allLoaderCalled);
     }
 
+    @Test
+    void addContainerResourcesTest() {
+        assertFalse(collectionCache.isContainerLoaded("vl1"));
+        collectionCache.addContainerResources("vl1", List.of(l1, l2));
+        assertTrue(collectionCache.isContainerLoaded("vl1"));
+        assertEquals(List.of(l1, l2), collectionCache.getContainerResources(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM, "vl1"));
+        assertEquals(l2, collectionCache.getResource(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM, "l2").orElse(null));
+        assertFalse(oneLoaderCalled);
+        assertFalse(containerLoaderCalled);
+        assertFalse(allLoaderCalled);
+
+        // an already loaded container is not overwritten
+        collectionCache.addContainerResources("vl1", List.of(createResource("l1", "vl1")));
+        assertSame(l1, collectionCache.getResource(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM, "l1").orElse(null));
+        assertEquals(2, collectionCache.getContainerResources(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM, "vl1").size());
+    }
+
+    @Test
+    void refreshTest() {
+        assertEquals(3, collectionCache.getResources(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM).size());
+        assertNull(collectionCache.getRevision());
+
+        collectionCache.refresh(List.of(l1, l4), "v1");
+        assertTrue(collectionCache.isFullyLoaded());
+        assertEquals("v1", collectionCache.getRevision());
+        allLoaderCalled = false;
+        assertEquals(List.of(l1, l4), collectionCache.getResources(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM));
+        assertTrue(collectionCache.getResource(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM, "l2").isEmpty());
+        assertEquals(List.of(l4), collectionCache.getContainerResources(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM, "vl2"));
+        assertFalse(oneLoaderCalled);
+        assertFalse(containerLoaderCalled);
+        assertFalse(allLoaderCalled);
+
+        // once invalidated, resources are loaded again from the server
+        collectionCache.invalidate();
+        assertFalse(collectionCache.isFullyLoaded());
+        assertNull(collectionCache.getRevision());
+        assertEquals(3, collectionCache.getResources(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM).size());
+        assertTrue(allLoaderCalled);
+    }
+
+    @Test
+    void mergeModifiedResourceTest() {
+        collectionCache.addContainerResources("vl1", List.of(l1, l2));
+
+        // updated in place, and moved to another container
+        collectionCache.mergeModifiedResource(createResource("l1", "vl2"));
+        assertSame(l1, collectionCache.getResource(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM, "l1").orElseThrow());
+        assertEquals("vl2", l1.getAttributes().getVoltageLevelId());
+        assertEquals(List.of(l2), collectionCache.getContainerResources(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM, "vl1"));
+
+        // created in a loaded container
+        collectionCache.mergeModifiedResource(l4);
+        collectionCache.mergeModifiedResource(createResource("l5", "vl1"));
+        assertFalse(collectionCache.isResourceLoaded("l4"));
+        assertTrue(collectionCache.isResourceLoaded("l5"));
+
+        // removed on the server
+        collectionCache.evictResource("l2");
+        assertFalse(collectionCache.isResourceLoaded("l2"));
+        assertEquals(List.of("l5"), collectionCache.getContainerResources(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM, "vl1").stream().map(Resource::getId).toList());
+        assertFalse(oneLoaderCalled);
+        assertFalse(containerLoaderCalled);
+        assertFalse(allLoaderCalled);
+    }
+
     @Test
     void getResourceCountTest() {
         assertFalse(oneLoaderCalled);
@@ -524,6 +607,31 @@ class CollectionCacheTest {
         assertFalse(mockNetworkStoreClient.isExtensionAttributesLoaderByResourceTypeCalled());
     }
 
+    @Test
+    void loadExtensionAttributesByResourceTypeAndNames() {
+        // Load resources in cache
+        assertEquals(Arrays.asList(l1, l2, l3), collectionCache.getResources(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM));
+        // Load one extension name, then both extension names: only the missing one is loaded, with one call
+        collectionCache.loadAllExtensionsAttributesByResourceTypeAndExtensionName(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM, ResourceType.LOAD, "activePowerControl");
+        assertTrue(mockNetworkStoreClient.isExtensionAttributesLoaderByResourceTypeAndNameCalled());
+        mockNetworkStoreClient.setExtensionAttributesLoaderByResourceTypeAndNameCalled(false);
+        Map<String, Map<String, ExtensionAttributes>> extensionAttributes = collectionCache.getAllExtensionsAttributesByResourceTypeAndExtensionNames(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM,
+                ResourceType.LOAD, Set.of("activePowerControl", "operatingStatus"));
+        assertEquals(Map.of("l1", Map.of("activePowerControl", apc1, "operatingStatus", os1), "l2", Map.of("activePowerControl", apc2)), extensionAttributes);
+        assertEquals(1, mockNetworkStoreClient.getExtensionAttributesLoaderByResourceTypeAndNamesCallCount());
+        assertFalse(mockNetworkStoreClient.isExtensionAttributesLoaderByResourceTypeAndNameCalled());
+
+        // Both extension names are now fully loaded
+        assertEquals(Map.of("l1", Map.of("operatingStatus", os1)), collectionCache.getAllExtensionsAttributesByResourceTypeAndExtensionNames(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM,
+                ResourceType.LOAD, Set.of("operatingStatus")));
+        assertTrue(collectionCache.getExtensionAttributes(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM, ResourceType.LOAD, "l2", "operatingStatus").isEmpty());
+        assertEquals(1, mockNetworkStoreClient.getExtensionAttributesLoaderByResourceTypeAndNamesCallCount());
+        assertFalse(mockNetworkStoreClient.isExtensionAttributeLoaderCalled());
+        assertFalse(mockNetworkStoreClient.isExtensionAttributesLoaderByResourceTypeAndNameCalled());
+        assertFalse(mockNetworkStoreClient.isExtensionAttributesLoaderByIdCalled());
+        assertFalse(mockNetworkStoreClient.isExtensionAttributesLoaderByResourceTypeCalled());
+    }
+
     @Test
     void getExtensionAttributesLoaderById() {
         // Load resources in cache
@@ -677,7 +785,7 @@ class CollectionCacheTest {
         containerLoaderCalled = false;
         // Clone the cache and check if modification is still accounted for
         int newVariantNum = 1;
-        collectionCache.clone(new ObjectMapper(), newVariantNum, null);
+        collectionCache.clone(newVariantNum, null);
         l1Result = collectionCache.getResource(NETWORK_UUID, newVariantNum, "l1").orElse(null);
         assertEquals(createResource("l1", "foo"), l1Result);
         assertFalse(oneLoaderCalled);
@@ -704,11 +812,45 @@ class CollectionCacheTest {
         allLoaderCalled = false;
         // Clone the cache and check if modification is still accounted for
         int newVariantNum = 1;
-        collectionCache.clone(new ObjectMapper(), newVariantNum, null);
+        collectionCache.clone(newVariantNum, null);
         l1Result = collectionCache.getResource(NETWORK_UUID, newVariantNum, "l1").orElse(null);
         assertEquals(createResource("l1", "foo"), l1Result);
         assertFalse(oneLoaderCalled);
         assertFalse(containerLoaderCalled);
         assertFalse(allLoaderCalled);
     }
+
+    @Test
+    void cloneCollectionCopyOnWrite() {
+        collectionCache.getResources(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM);
+        Resource<LoadAttributes> l1Source = collectionCache.getResource(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM, "l1").orElseThrow();
+
+        // attributes are shared by the clone, not copied
+        CollectionCache<LoadAttributes> clonedCache = collectionCache.clone(1, null);
+        Resource<LoadAttributes> l1Clone = clonedCache.getResource(NETWORK_UUID, 1, "l1").orElseThrow();
+        assertNotSame(l1Source, l1Clone);
+        assertEquals(1, l1Clone.getVariantNum());
+        assertSame(l1Source.getAttributes(), l1Clone.getAttributes());
+
+        // the clone modifying l1 keeps the attributes, the source variant gets a copy
+        LoadAttributes sharedAttributes = clonedCache.releaseSharedAttributes("l1");
+        assertSame(l1Clone.getAttributes(), sharedAttributes);
+        collectionCache.copySharedAttributes("l1", sharedAttributes);
+        l1Clone.getAttributes().setP0(100);
+        assertSame(sharedAttributes, l1Clone.getAttributes());
+        assertNotSame(sharedAttributes, l1Source.getAttributes());
+        assertEquals(0, l1Source.getAttributes().getP0());
+        assertEquals("vl1", l1Source.getAttributes().getVoltageLevelId());
+        assertSame(l1Source, collectionCache.getResource(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM, "l1").orElseThrow());
+
+        // no longer shared
+        assertNull(clonedCache.releaseSharedAttributes("l1"));
+        assertNull(collectionCache.releaseSharedAttributes("l1"));
+
+        // a removed shared resource keeps its extensions in the other variant
+        Resource<LoadAttributes> l2Source = collectionCache.getResource(NETWORK_UUID, Resource.INITIAL_VARIANT_NUM, "l2").orElseThrow();
+        l2Source.getAttributes().getExtensionAttributes().put("operatingStatus", os1);
+        clonedCache.removeResource("l2");
+        assertEquals(os1, l2Source.getAttributes().getExtensionAttributes().get("operatingStatus"));
+    }
 }
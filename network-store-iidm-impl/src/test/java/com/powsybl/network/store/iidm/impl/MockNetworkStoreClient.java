@@ -22,6 +22,7 @@ class MockNetworkStoreClient implements NetworkStoreClient {
     private boolean extensionAttributesLoaderByResourceTypeAndNameCalled = false;
     private boolean extensionAttributesLoaderByIdCalled = false;
     private boolean extensionAttributesLoaderByResourceTypeCalled = false;
+    private int extensionAttributesLoaderByResourceTypeAndNamesCallCount = 0;
 
     // Methods used in tests
     @Override
@@ -46,6 +47,22 @@ class MockNetworkStoreClient implements NetworkStoreClient {
         return Map.of();
     }
 
+    @Override
+    public Map<String, Map<String, ExtensionAttributes>> getAllExtensionsAttributesByResourceTypeAndExtensionNames(UUID networkUuid, int variantNum, ResourceType resourceType, Set<String> extensionNames) {
+        extensionAttributesLoaderByResourceTypeAndNamesCallCount++;
+        Map<String, Map<String, ExtensionAttributes>> extensionAttributes = new HashMap<>();
+        if (resourceType == ResourceType.LOAD) {
+            if (extensionNames.contains("activePowerControl")) {
+                extensionAttributes.computeIfAbsent("l1", k -> new HashMap<>()).put("activePowerControl", createActivePowerControlAttributes1());
+                extensionAttributes.computeIfAbsent("l2", k -> new HashMap<>()).put("activePowerControl", createActivePowerControlAttributes2());
+            }
+            if (extensionNames.contains("operatingStatus")) {
+                extensionAttributes.computeIfAbsent("l1", k -> new HashMap<>()).put("operatingStatus", createOperatinStatusAttributes());
+            }
+        }
+        return extensionAttributes;
+    }
+
     @Override
     public Map<String, ExtensionAttributes> getAllExtensionsAttributesByIdentifiableId(UUID networkUuid, int variantNum, ResourceType resourceType, String identifiableId) {
         extensionAttributesLoaderByIdCalled = true;
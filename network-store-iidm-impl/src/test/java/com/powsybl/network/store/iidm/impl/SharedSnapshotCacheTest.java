@@ -0,0 +1,148 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.iidm.impl;
+
+import com.powsybl.network.store.model.IdentifiableAttributes;
+import com.powsybl.network.store.model.LoadAttributes;
+import com.powsybl.network.store.model.Resource;
+import com.powsybl.network.store.model.ResourceType;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+class SharedSnapshotCacheTest {
+
+    private static final UUID NETWORK_UUID = UUID.randomUUID();
+
+    private final List<String> requestedRevisions = new ArrayList<>();
+
+    private String serverRevision = "r1";
+
+    private static Resource<LoadAttributes> createLoad(String id, int variantNum) {
+        return Resource.loadBuilder()
+                .id(id)
+                .variantNum(variantNum)
+                .attributes(LoadAttributes.builder()
+                        .voltageLevelId("vl1")
+                        .p0(10)
+                        .build())
+                .build();
+    }
+
+    private NetworkStoreClient createDelegate() {
+        return new OfflineNetworkStoreClient() {
+            @SuppressWarnings("unchecked")
+            @Override
+            public <T extends IdentifiableAttributes> Optional<RevisionedResources<T>> getResourcesIfModified(UUID networkUuid, int variantNum,
+                                                                                                            ResourceType resourceType, String revision) {
+                requestedRevisions.add(revision);
+                if (serverRevision.equals(revision)) {
+                    return Optional.empty();
+                }
+                List<Resource<T>> resources = List.of((Resource<T>) createLoad("l1", variantNum), (Resource<T>) createLoad("l2", variantNum));
+                return Optional.of(new RevisionedResources<>(resources, serverRevision));
+            }
+        };
+    }
+
+    @Test
+    void testSharedCollections() {
+        SharedSnapshotCache snapshotCache = new SharedSnapshotCache(10);
+        CachedNetworkStoreClient client1 = new CachedNetworkStoreClient(createDelegate(), null, snapshotCache);
+        CachedNetworkStoreClient client2 = new CachedNetworkStoreClient(createDelegate(), null, snapshotCache);
+
+        List<Resource<LoadAttributes>> loads1 = client1.getLoads(NETWORK_UUID, 0);
+        assertEquals(2, snapshotCache.getResourceCount());
+
+        // the second network shares the attributes of the unchanged collection
+        List<Resource<LoadAttributes>> loads2 = client2.getLoads(NETWORK_UUID, 0);
+        assertEquals(Arrays.asList(null, "r1"), requestedRevisions);
+        assertEquals(2, loads2.size());
+        Resource<LoadAttributes> load1 = loads1.stream().filter(r -> r.getId().equals("l1")).findFirst().orElseThrow();
+        Resource<LoadAttributes> load2 = loads2.stream().filter(r -> r.getId().equals("l1")).findFirst().orElseThrow();
+        assertSame(load1.getAttributes(), load2.getAttributes());
+
+        // and copies them before modifying them
+        client2.prepareResourceUpdate(NETWORK_UUID, load2);
+        assertNotSame(load1.getAttributes(), load2.getAttributes());
+        assertSame(load2, load2.getAttributes().getResource());
+        load2.getAttributes().setP0(20);
+        assertEquals(10, load1.getAttributes().getP0());
+        assertEquals(10, snapshotCache.<LoadAttributes>get(NETWORK_UUID, 0, ResourceType.LOAD).shareResources().get(0).getAttributes().getP0());
+        Resource<LoadAttributes> otherLoad2 = loads2.stream().filter(r -> r.getId().equals("l2")).findFirst().orElseThrow();
+        assertSame(loads1.stream().filter(r -> r.getId().equals("l2")).findFirst().orElseThrow().getAttributes(), otherLoad2.getAttributes());
+
+        // a collection modified on the server is loaded again and replaces the snapshot
+        serverRevision = "r2";
+        CachedNetworkStoreClient client3 = new CachedNetworkStoreClient(createDelegate(), null, snapshotCache);
+        client3.getLoads(NETWORK_UUID, 0);
+        assertEquals(Arrays.asList(null, "r1", "r1"), requestedRevisions);
+        assertEquals("r2", snapshotCache.get(NETWORK_UUID, 0, ResourceType.LOAD).getRevision());
+        assertEquals(2, snapshotCache.getResourceCount());
+
+        client3.deleteNetwork(NETWORK_UUID);
+        assertNull(snapshotCache.get(NETWORK_UUID, 0, ResourceType.LOAD));
+        assertEquals(0, snapshotCache.getResourceCount());
+    }
+
+    @Test
+    void testEviction() {
+        SharedSnapshotCache snapshotCache = new SharedSnapshotCache(5);
+        SharedSnapshotCache.References references = snapshotCache.createReferences();
+        SharedSnapshotCache.Snapshot<LoadAttributes> snapshot0 = snapshotCache.put(NETWORK_UUID, 0, ResourceType.LOAD, "r", List.of(createLoad("l1", 0), createLoad("l2", 0)));
+        references.add(snapshot0);
+        snapshotCache.put(NETWORK_UUID, 1, ResourceType.LOAD, "r", List.of(createLoad("l1", 1), createLoad("l2", 1)));
+        assertEquals(4, snapshotCache.getResourceCount());
+
+        // unreferenced snapshots are dropped first, even if more recently used
+        snapshotCache.put(NETWORK_UUID, 2, ResourceType.LOAD, "r", List.of(createLoad("l1", 2), createLoad("l2", 2)));
+        assertEquals(4, snapshotCache.getResourceCount());
+        assertNotNull(snapshotCache.get(NETWORK_UUID, 0, ResourceType.LOAD));
+        assertNull(snapshotCache.get(NETWORK_UUID, 1, ResourceType.LOAD));
+        assertNotNull(snapshotCache.get(NETWORK_UUID, 2, ResourceType.LOAD));
+
+        // a collection bigger than the cache is not kept
+        List<Resource<LoadAttributes>> loads = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            loads.add(createLoad("l" + i, 3));
+        }
+        assertNull(snapshotCache.put(NETWORK_UUID, 3, ResourceType.LOAD, "r", loads));
+        assertEquals(4, snapshotCache.getResourceCount());
+
+        assertThrows(IllegalArgumentException.class, () -> new SharedSnapshotCache(0));
+
+        // released snapshots can be dropped
+        references.release();
+        snapshotCache.put(NETWORK_UUID, 4, ResourceType.LOAD, "r", List.of(createLoad("l1", 4), createLoad("l2", 4)));
+        assertNull(snapshotCache.get(NETWORK_UUID, 0, ResourceType.LOAD));
+        assertNotNull(snapshotCache.get(NETWORK_UUID, 2, ResourceType.LOAD));
+    }
+
+    @Test
+    void testReleaseOnClose() {
+        SharedSnapshotCache snapshotCache = new SharedSnapshotCache(4);
+        CachedNetworkStoreClient client = new CachedNetworkStoreClient(createDelegate(), null, snapshotCache);
+        client.getLoads(NETWORK_UUID, 0);
+        snapshotCache.put(NETWORK_UUID, 1, ResourceType.LOAD, "r", List.of(createLoad("l1", 1), createLoad("l2", 1)));
+
+        // the snapshot referenced by the open network is kept
+        snapshotCache.put(NETWORK_UUID, 2, ResourceType.LOAD, "r", List.of(createLoad("l1", 2), createLoad("l2", 2)));
+        assertNull(snapshotCache.get(NETWORK_UUID, 1, ResourceType.LOAD));
+
+        // until the network is closed
+        client.closeNetwork(NETWORK_UUID);
+        snapshotCache.put(NETWORK_UUID, 3, ResourceType.LOAD, "r", List.of(createLoad("l1", 3), createLoad("l2", 3)));
+        assertNull(snapshotCache.get(NETWORK_UUID, 0, ResourceType.LOAD));
+        assertNotNull(snapshotCache.get(NETWORK_UUID, 2, ResourceType.LOAD));
+        assertNotNull(snapshotCache.get(NETWORK_UUID, 3, ResourceType.LOAD));
+    }
+}
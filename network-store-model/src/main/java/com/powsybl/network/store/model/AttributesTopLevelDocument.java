@@ -0,0 +1,38 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Top level document of resources whose attributes may be a subset DTO (for instance SV attributes), the attribute
+ * filter of each resource telling which DTO to deserialize.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+@Schema(description = "Top level document compliant with Json API spec")
+public class AttributesTopLevelDocument extends AbstractTopLevelDocument<Resource<Attributes>> {
+
+    @JsonCreator
+    public AttributesTopLevelDocument(@JsonProperty("data") List<Resource<Attributes>> data, @JsonProperty("meta") Map<String, String> meta) {
+        super(data, meta);
+    }
+
+    public static AttributesTopLevelDocument empty() {
+        return new AttributesTopLevelDocument(List.of(), new HashMap<>());
+    }
+
+    public static AttributesTopLevelDocument of(List<Resource<Attributes>> data) {
+        return new AttributesTopLevelDocument(data, new HashMap<>());
+    }
+}
@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.*;
+
+/**
+ * Ids of the resources of a network variant created, updated or removed since a given revision.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+@Data
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Network changes since a revision")
+public class NetworkChanges {
+
+    @Schema(description = "Revision of the network variant including the changes")
+    private String revision;
+
+    @Schema(description = "Ids of the created resources by resource type")
+    @Builder.Default
+    private Map<ResourceType, Set<String>> createdIds = new EnumMap<>(ResourceType.class);
+
+    @Schema(description = "Ids of the updated resources by resource type")
+    @Builder.Default
+    private Map<ResourceType, Set<String>> updatedIds = new EnumMap<>(ResourceType.class);
+
+    @Schema(description = "Ids of the removed resources by resource type")
+    @Builder.Default
+    private Map<ResourceType, Set<String>> removedIds = new EnumMap<>(ResourceType.class);
+
+    private static Set<String> getIds(Map<ResourceType, Set<String>> idsByResourceType, ResourceType resourceType) {
+        return idsByResourceType != null ? idsByResourceType.getOrDefault(resourceType, Collections.emptySet()) : Collections.emptySet();
+    }
+
+    public Set<String> getCreatedIds(ResourceType resourceType) {
+        return getIds(createdIds, resourceType);
+    }
+
+    public Set<String> getUpdatedIds(ResourceType resourceType) {
+        return getIds(updatedIds, resourceType);
+    }
+
+    public Set<String> getRemovedIds(ResourceType resourceType) {
+        return getIds(removedIds, resourceType);
+    }
+
+    /**
+     * @return the resource types having at least one created, updated or removed resource
+     */
+    @JsonIgnore
+    public Set<ResourceType> getChangedResourceTypes() {
+        Set<ResourceType> resourceTypes = EnumSet.noneOf(ResourceType.class);
+        for (Map<ResourceType, Set<String>> idsByResourceType : Arrays.asList(createdIds, updatedIds, removedIds)) {
+            if (idsByResourceType != null) {
+                idsByResourceType.forEach((resourceType, ids) -> {
+                    if (!ids.isEmpty()) {
+                        resourceTypes.add(resourceType);
+                    }
+                });
+            }
+        }
+        return resourceTypes;
+    }
+}
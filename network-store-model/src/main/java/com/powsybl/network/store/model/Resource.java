@@ -8,16 +8,14 @@ package com.powsybl.network.store.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.powsybl.iidm.network.DefaultMessageHeader;
 import com.powsybl.iidm.network.Validable;
+import com.powsybl.network.store.model.utils.AttributesCopier;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 
-import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
@@ -197,24 +195,38 @@ public class Resource<T extends Attributes> implements Validable {
     }
 
     public static <T extends IdentifiableAttributes> List<Resource<T>> cloneResourcesToVariant(
-        Collection<Resource<T>> resources, int newVariantNum,
-        ObjectMapper objectMapper, Consumer<Resource<T>> resourcePostProcessor) {
-        // use json serialization to clone the resources of source collection
-        List<Resource<T>> clonedResources;
-        try {
-            var json = objectMapper.writeValueAsString(resources);
-            clonedResources = objectMapper.readValue(json, new TypeReference<>() {
-            });
-        } catch (JsonProcessingException e) {
-            throw new UncheckedIOException(e);
-        }
-        // reassign cloned resources to new variant number
-        for (Resource<T> clonedResource : clonedResources) {
-            clonedResource.setVariantNum(newVariantNum);
+        Collection<Resource<T>> resources, int newVariantNum, Consumer<Resource<T>> resourcePostProcessor) {
+        List<Resource<T>> clonedResources = new ArrayList<>(resources.size());
+        for (Resource<T> resource : resources) {
+            Resource<T> clonedResource = create(resource.getType(), resource.getId(), newVariantNum, AttributesCopier.deepCopy(resource.getAttributes()));
             if (resourcePostProcessor != null) {
                 resourcePostProcessor.accept(clonedResource);
             }
+            clonedResources.add(clonedResource);
         }
         return clonedResources;
     }
+
+    /**
+     * Same as {@link #cloneResourcesToVariant} without copying the attributes, which are shared between the source
+     * and the new resources. Shared attributes must be copied with {@link #copyAttributes} before being modified.
+     */
+    public static <T extends IdentifiableAttributes> List<Resource<T>> shareResourcesToVariant(Collection<Resource<T>> resources, int newVariantNum) {
+        List<Resource<T>> sharedResources = new ArrayList<>(resources.size());
+        for (Resource<T> resource : resources) {
+            // attributes keep referencing the source resource, only its id being used
+            sharedResources.add(new Resource<>(resource.getType(), resource.getId(), newVariantNum, resource.getFilter(), resource.getAttributes()));
+        }
+        return sharedResources;
+    }
+
+    /**
+     * Replace the attributes of a resource by a deep copy, so that they can be modified without affecting the other
+     * resources sharing them.
+     */
+    public static <T extends IdentifiableAttributes> void copyAttributes(Resource<T> resource) {
+        T attributes = AttributesCopier.deepCopy(resource.getAttributes());
+        attributes.setResource(resource);
+        resource.setAttributes(attributes);
+    }
 }
@@ -24,7 +24,7 @@ public class ResourceDeserializer extends StdDeserializer<Resource> {
         super(Resource.class);
     }
 
-    static Class<? extends Attributes> getTypeClass(ResourceType type, AttributeFilter filter) {
+    public static Class<? extends Attributes> getTypeClass(ResourceType type, AttributeFilter filter) {
         Objects.requireNonNull(type);
         // The client currently doesn't send AttributeFilter.LIMITS or AttributeFilter.FULL, but if it did
         // we don't want to reject it, we know we should deserialize to normal DTOs
@@ -0,0 +1,225 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.model.svattributes;
+
+import com.powsybl.network.store.model.*;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * State variables of resources of a same type and variant, stored by column rather than by resource so that the
+ * attribute names are sent once for all the resources. Columns are named after the attributes of the SV attributes
+ * class of the resource type, nested attributes being separated by dots, and have one value per id.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "State variables of resources by column")
+public class ColumnarSvAttributes {
+
+    public static final String P = "p";
+    public static final String Q = "q";
+    public static final String P1 = "p1";
+    public static final String Q1 = "q1";
+    public static final String P2 = "p2";
+    public static final String Q2 = "q2";
+    public static final String P3 = "p3";
+    public static final String Q3 = "q3";
+    public static final String SOLVED_SECTION_COUNT = "solvedSectionCount";
+    public static final String RATIO_TAP_CHANGER_SOLVED_TAP_POSITION = "ratioTapChangerAttributes.solvedTapPosition";
+    public static final String PHASE_TAP_CHANGER_SOLVED_TAP_POSITION = "phaseTapChangerAttributes.solvedTapPosition";
+
+    private static final String LEG_PREFIX = "leg";
+
+    @Schema(description = "Resource type")
+    private ResourceType type;
+
+    @Schema(description = "Variant number")
+    private int variantNum;
+
+    @Schema(description = "Resource ids")
+    private List<String> ids = new ArrayList<>();
+
+    @Schema(description = "Double attributes columns by attribute name")
+    private Map<String, double[]> doubleColumns = new LinkedHashMap<>();
+
+    @Schema(description = "Integer attributes columns by attribute name, null values being allowed")
+    private Map<String, Integer[]> integerColumns = new LinkedHashMap<>();
+
+    public static boolean isSupported(ResourceType type) {
+        return switch (type) {
+            case LOAD, GENERATOR, BATTERY, VSC_CONVERTER_STATION, LCC_CONVERTER_STATION, STATIC_VAR_COMPENSATOR, BOUNDARY_LINE, GROUND,
+                 SHUNT_COMPENSATOR, LINE, TWO_WINDINGS_TRANSFORMER, THREE_WINDINGS_TRANSFORMER -> true;
+            default -> false;
+        };
+    }
+
+    private static String getLegPrefix(int side) {
+        return LEG_PREFIX + side + ".";
+    }
+
+    public static String getLegColumnName(int side, String columnName) {
+        return getLegPrefix(side) + columnName;
+    }
+
+    /**
+     * Create the columns of the state variables of resources having their full attributes.
+     */
+    public static ColumnarSvAttributes of(ResourceType type, int variantNum, List<? extends Resource<? extends IdentifiableAttributes>> resources) {
+        Objects.requireNonNull(type);
+        ColumnarSvAttributes columns = new ColumnarSvAttributes();
+        columns.type = type;
+        columns.variantNum = variantNum;
+        List<IdentifiableAttributes> attributes = new ArrayList<>(resources.size());
+        for (Resource<? extends IdentifiableAttributes> resource : resources) {
+            if (resource.getType() != type) {
+                throw new IllegalArgumentException("Resource " + resource.getId() + " is a " + resource.getType() + ", not a " + type);
+            }
+            columns.ids.add(resource.getId());
+            attributes.add(resource.getAttributes());
+        }
+        switch (type) {
+            case LOAD, GENERATOR, BATTERY, VSC_CONVERTER_STATION, LCC_CONVERTER_STATION, STATIC_VAR_COMPENSATOR, BOUNDARY_LINE, GROUND -> {
+                columns.addDoubleColumn(P, attributes, a -> ((InjectionAttributes) a).getP());
+                columns.addDoubleColumn(Q, attributes, a -> ((InjectionAttributes) a).getQ());
+            }
+            case SHUNT_COMPENSATOR -> {
+                columns.addDoubleColumn(P, attributes, a -> ((InjectionAttributes) a).getP());
+                columns.addDoubleColumn(Q, attributes, a -> ((InjectionAttributes) a).getQ());
+                columns.addIntegerColumn(SOLVED_SECTION_COUNT, attributes, a -> ((ShuntCompensatorAttributes) a).getSolvedSectionCount());
+            }
+            case LINE, TWO_WINDINGS_TRANSFORMER -> {
+                columns.addDoubleColumn(P1, attributes, a -> ((BranchAttributes) a).getP1());
+                columns.addDoubleColumn(Q1, attributes, a -> ((BranchAttributes) a).getQ1());
+                columns.addDoubleColumn(P2, attributes, a -> ((BranchAttributes) a).getP2());
+                columns.addDoubleColumn(Q2, attributes, a -> ((BranchAttributes) a).getQ2());
+                if (type == ResourceType.TWO_WINDINGS_TRANSFORMER) {
+                    columns.addTapChangerColumns("", attributes, a -> (TapChangerParentAttributes) a);
+                }
+            }
+            case THREE_WINDINGS_TRANSFORMER -> {
+                columns.addDoubleColumn(P1, attributes, a -> ((ThreeWindingsTransformerAttributes) a).getP1());
+                columns.addDoubleColumn(Q1, attributes, a -> ((ThreeWindingsTransformerAttributes) a).getQ1());
+                columns.addDoubleColumn(P2, attributes, a -> ((ThreeWindingsTransformerAttributes) a).getP2());
+                columns.addDoubleColumn(Q2, attributes, a -> ((ThreeWindingsTransformerAttributes) a).getQ2());
+                columns.addDoubleColumn(P3, attributes, a -> ((ThreeWindingsTransformerAttributes) a).getP3());
+                columns.addDoubleColumn(Q3, attributes, a -> ((ThreeWindingsTransformerAttributes) a).getQ3());
+                for (int side = 1; side <= 3; side++) {
+                    int legSide = side;
+                    columns.addTapChangerColumns(getLegPrefix(side), attributes, a -> ((ThreeWindingsTransformerAttributes) a).getLeg(legSide));
+                }
+            }
+            default -> throw new IllegalArgumentException("No columnar state variables for " + type + " resources");
+        }
+        return columns;
+    }
+
+    private void addDoubleColumn(String name, List<IdentifiableAttributes> attributes, ToDoubleFunction<IdentifiableAttributes> getter) {
+        doubleColumns.put(name, attributes.stream().mapToDouble(getter).toArray());
+    }
+
+    private void addIntegerColumn(String name, List<IdentifiableAttributes> attributes, Function<IdentifiableAttributes, Integer> getter) {
+        integerColumns.put(name, attributes.stream().map(getter).toArray(Integer[]::new));
+    }
+
+    private void addTapChangerColumns(String prefix, List<IdentifiableAttributes> attributes, Function<IdentifiableAttributes, TapChangerParentAttributes> parentGetter) {
+        addIntegerColumn(prefix + RATIO_TAP_CHANGER_SOLVED_TAP_POSITION, attributes, a -> {
+            TapChangerParentAttributes parent = parentGetter.apply(a);
+            return parent != null && parent.getRatioTapChangerAttributes() != null ? parent.getRatioTapChangerAttributes().getSolvedTapPosition() : null;
+        });
+        addIntegerColumn(prefix + PHASE_TAP_CHANGER_SOLVED_TAP_POSITION, attributes, a -> {
+            TapChangerParentAttributes parent = parentGetter.apply(a);
+            return parent != null && parent.getPhaseTapChangerAttributes() != null ? parent.getPhaseTapChangerAttributes().getSolvedTapPosition() : null;
+        });
+    }
+
+    /**
+     * Get back the resources with the SV attributes class of the resource type.
+     */
+    public List<Resource<Attributes>> toResources() {
+        Objects.requireNonNull(type);
+        List<Resource<Attributes>> resources = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            Attributes attributes = switch (type) {
+                case LOAD, GENERATOR, BATTERY, VSC_CONVERTER_STATION, LCC_CONVERTER_STATION, STATIC_VAR_COMPENSATOR, BOUNDARY_LINE, GROUND ->
+                    InjectionSvAttributes.builder()
+                            .p(getDouble(P, i))
+                            .q(getDouble(Q, i))
+                            .build();
+                case SHUNT_COMPENSATOR -> ShuntCompensatorSvAttributes.builder()
+                        .p(getDouble(P, i))
+                        .q(getDouble(Q, i))
+                        .solvedSectionCount(getInteger(SOLVED_SECTION_COUNT, i))
+                        .build();
+                case LINE -> BranchSvAttributes.builder()
+                        .p1(getDouble(P1, i))
+                        .q1(getDouble(Q1, i))
+                        .p2(getDouble(P2, i))
+                        .q2(getDouble(Q2, i))
+                        .build();
+                case TWO_WINDINGS_TRANSFORMER -> TwoWindingsTransformerSvAttributes.builder()
+                        .p1(getDouble(P1, i))
+                        .q1(getDouble(Q1, i))
+                        .p2(getDouble(P2, i))
+                        .q2(getDouble(Q2, i))
+                        .ratioTapChangerAttributes(getTapChanger(RATIO_TAP_CHANGER_SOLVED_TAP_POSITION, i))
+                        .phaseTapChangerAttributes(getTapChanger(PHASE_TAP_CHANGER_SOLVED_TAP_POSITION, i))
+                        .build();
+                case THREE_WINDINGS_TRANSFORMER -> ThreeWindingsTransformerSvAttributes.builder()
+                        .p1(getDouble(P1, i))
+                        .q1(getDouble(Q1, i))
+                        .p2(getDouble(P2, i))
+                        .q2(getDouble(Q2, i))
+                        .p3(getDouble(P3, i))
+                        .q3(getDouble(Q3, i))
+                        .leg1(getLeg(1, i))
+                        .leg2(getLeg(2, i))
+                        .leg3(getLeg(3, i))
+                        .build();
+                default -> throw new IllegalArgumentException("No columnar state variables for " + type + " resources");
+            };
+            resources.add(Resource.create(type, ids.get(i), variantNum, attributes));
+        }
+        return resources;
+    }
+
+    private double getDouble(String name, int i) {
+        double[] column = doubleColumns.get(name);
+        if (column == null || column.length != ids.size()) {
+            throw new IllegalArgumentException("Column " + name + " should have " + ids.size() + " values");
+        }
+        return column[i];
+    }
+
+    private Integer getInteger(String name, int i) {
+        Integer[] column = integerColumns.get(name);
+        if (column == null || column.length != ids.size()) {
+            throw new IllegalArgumentException("Column " + name + " should have " + ids.size() + " values");
+        }
+        return column[i];
+    }
+
+    private TapChangerSvAttributes getTapChanger(String name, int i) {
+        Integer solvedTapPosition = getInteger(name, i);
+        return solvedTapPosition != null ? TapChangerSvAttributes.builder().solvedTapPosition(solvedTapPosition).build() : null;
+    }
+
+    private LegSvAttributes getLeg(int side, int i) {
+        return LegSvAttributes.builder()
+                .ratioTapChangerAttributes(getTapChanger(getLegColumnName(side, RATIO_TAP_CHANGER_SOLVED_TAP_POSITION), i))
+                .phaseTapChangerAttributes(getTapChanger(getLegColumnName(side, PHASE_TAP_CHANGER_SOLVED_TAP_POSITION), i))
+                .build();
+    }
+}
@@ -0,0 +1,179 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.model.utils;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.powsybl.iidm.network.extensions.Coordinate;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+
+/**
+ * Deep copy of attributes, used instead of a JSON serialization round trip to clone resources.
+ * <p>
+ * The copy plan of each class (its no-arg constructor and the fields to copy) is computed once. As with JSON, static,
+ * final and {@link JsonIgnore} fields are not copied and keep the value set by the no-arg constructor. Immutable values
+ * are shared, collections are copied to mutable collections keeping the ordering of sorted ones.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public final class AttributesCopier {
+
+    private static final Set<Class<?>> IMMUTABLE_CLASSES = Set.of(String.class, Boolean.class, Character.class, Byte.class,
+            Short.class, Integer.class, Long.class, Float.class, Double.class, BigDecimal.class, BigInteger.class, UUID.class,
+            Coordinate.class);
+
+    private static final ClassValue<ClassCopier> CLASS_COPIERS = new ClassValue<>() {
+        @Override
+        protected ClassCopier computeValue(Class<?> type) {
+            return new ClassCopier(type);
+        }
+    };
+
+    private AttributesCopier() {
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> T deepCopy(T value) {
+        if (value == null) {
+            return null;
+        }
+        Class<?> type = value.getClass();
+        if (isImmutable(type)) {
+            return value;
+        }
+        Object copy;
+        if (value instanceof Collection<?> collection) {
+            copy = copyCollection(collection);
+        } else if (value instanceof Map<?, ?> map) {
+            copy = copyMap(map);
+        } else if (type.isArray()) {
+            copy = copyArray(value);
+        } else {
+            copy = CLASS_COPIERS.get(type).copy(value);
+        }
+        return (T) copy;
+    }
+
+    private static boolean isImmutable(Class<?> type) {
+        return IMMUTABLE_CLASSES.contains(type)
+                || Enum.class.isAssignableFrom(type)
+                || type.getPackageName().startsWith("java.time");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Collection<Object> copyCollection(Collection<?> collection) {
+        Collection<Object> copy;
+        if (collection instanceof SortedSet<?> sortedSet) {
+            copy = new TreeSet<>((Comparator<Object>) sortedSet.comparator());
+        } else if (collection instanceof LinkedHashSet<?>) {
+            copy = new LinkedHashSet<>(collection.size());
+        } else if (collection instanceof Set<?>) {
+            copy = new HashSet<>(collection.size());
+        } else {
+            copy = new ArrayList<>(collection.size());
+        }
+        for (Object element : collection) {
+            copy.add(deepCopy(element));
+        }
+        return copy;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Object, Object> copyMap(Map<?, ?> map) {
+        Map<Object, Object> copy;
+        if (map instanceof SortedMap<?, ?> sortedMap) {
+            copy = new TreeMap<>((Comparator<Object>) sortedMap.comparator());
+        } else if (map instanceof HashMap<?, ?> && !(map instanceof LinkedHashMap<?, ?>)) {
+            copy = new HashMap<>(map.size());
+        } else {
+            copy = new LinkedHashMap<>(map.size());
+        }
+        for (Map.Entry<?, ?> e : map.entrySet()) {
+            copy.put(deepCopy(e.getKey()), deepCopy(e.getValue()));
+        }
+        return copy;
+    }
+
+    private static Object copyArray(Object array) {
+        int length = Array.getLength(array);
+        Object copy = Array.newInstance(array.getClass().getComponentType(), length);
+        if (array.getClass().getComponentType().isPrimitive()) {
+            System.arraycopy(array, 0, copy, 0, length);
+        } else {
+            for (int i = 0; i < length; i++) {
+                Array.set(copy, i, deepCopy(Array.get(array, i)));
+            }
+        }
+        return copy;
+    }
+
+    @FunctionalInterface
+    private interface FieldCopier {
+
+        void copy(Object source, Object target) throws IllegalAccessException;
+    }
+
+    private static final class ClassCopier {
+
+        private final Class<?> type;
+
+        private final Constructor<?> constructor;
+
+        private final List<FieldCopier> fieldCopiers = new ArrayList<>();
+
+        private ClassCopier(Class<?> type) {
+            this.type = type;
+            try {
+                constructor = type.getDeclaredConstructor();
+                constructor.setAccessible(true);
+            } catch (NoSuchMethodException | RuntimeException e) {
+                throw new IllegalArgumentException("Cannot deep copy " + type.getName() + ", no accessible no-arg constructor", e);
+            }
+            for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    int modifiers = field.getModifiers();
+                    if (!Modifier.isStatic(modifiers) && !Modifier.isFinal(modifiers) && !field.isAnnotationPresent(JsonIgnore.class)) {
+                        field.setAccessible(true);
+                        fieldCopiers.add(createFieldCopier(field));
+                    }
+                }
+            }
+        }
+
+        private static FieldCopier createFieldCopier(Field field) {
+            Class<?> fieldType = field.getType();
+            if (fieldType == double.class) {
+                return (source, target) -> field.setDouble(target, field.getDouble(source));
+            } else if (fieldType == int.class) {
+                return (source, target) -> field.setInt(target, field.getInt(source));
+            } else if (fieldType == boolean.class) {
+                return (source, target) -> field.setBoolean(target, field.getBoolean(source));
+            } else if (fieldType.isPrimitive()) {
+                return (source, target) -> field.set(target, field.get(source));
+            }
+            return (source, target) -> field.set(target, deepCopy(field.get(source)));
+        }
+
+        private Object copy(Object source) {
+            try {
+                Object target = constructor.newInstance();
+                for (FieldCopier fieldCopier : fieldCopiers) {
+                    fieldCopier.copy(source, target);
+                }
+                return target;
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Deep copy of " + type.getName() + " failed", e);
+            }
+        }
+    }
+}
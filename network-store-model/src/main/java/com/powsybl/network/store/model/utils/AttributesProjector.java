@@ -0,0 +1,66 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.model.utils;
+
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.powsybl.network.store.model.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+
+/**
+ * Projection of fully loaded resources on an attribute filter, giving the same resources as the ones loaded from the
+ * server with this filter: the attributes of the filter view are serialized and deserialized to the subset DTO of the
+ * filter (for instance {@link com.powsybl.network.store.model.svattributes.InjectionSvAttributes} for
+ * {@link AttributeFilter#SV}).
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public final class AttributesProjector {
+
+    private static final ObjectMapper DEFAULT_OBJECT_MAPPER = createObjectMapper(new ObjectMapper().findAndRegisterModules());
+
+    private AttributesProjector() {
+    }
+
+    /**
+     * Copy of an object mapper configured for projections, attributes without view being part of all the views.
+     */
+    public static ObjectMapper createObjectMapper(ObjectMapper objectMapper) {
+        return objectMapper.copy().enable(MapperFeature.DEFAULT_VIEW_INCLUSION);
+    }
+
+    /**
+     * True if resources of this type have a subset DTO for this filter, false if they are loaded with all their
+     * attributes whatever the filter.
+     */
+    public static boolean hasSubsetAttributes(ResourceType resourceType, AttributeFilter attributeFilter) {
+        return !AttributeFilter.getUrlSuffix(attributeFilter).isEmpty()
+                && ResourceDeserializer.getTypeClass(resourceType, attributeFilter) != ResourceDeserializer.getTypeClass(resourceType, AttributeFilter.PRIMARY_AS_NULL);
+    }
+
+    public static Resource<Attributes> project(Resource<? extends IdentifiableAttributes> resource, AttributeFilter attributeFilter) {
+        return project(resource, attributeFilter, DEFAULT_OBJECT_MAPPER);
+    }
+
+    /**
+     * @param objectMapper an object mapper created by {@link #createObjectMapper(ObjectMapper)}
+     */
+    public static Resource<Attributes> project(Resource<? extends IdentifiableAttributes> resource, AttributeFilter attributeFilter, ObjectMapper objectMapper) {
+        Objects.requireNonNull(resource);
+        Objects.requireNonNull(objectMapper);
+        try {
+            byte[] json = objectMapper.writerWithView(AttributeFilter.getViewClass(attributeFilter)).writeValueAsBytes(resource.getAttributes());
+            Attributes attributes = objectMapper.readValue(json, ResourceDeserializer.getTypeClass(resource.getType(), attributeFilter));
+            return Resource.create(resource.getType(), resource.getId(), resource.getVariantNum(), attributes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.model.svattributes;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.powsybl.network.store.model.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+class ColumnarSvAttributesTest {
+
+    @Test
+    void testInjections() throws Exception {
+        List<Resource<LoadAttributes>> loads = List.of(
+                Resource.create(ResourceType.LOAD, "l1", 1, LoadAttributes.builder().p(10).q(-10).build()),
+                Resource.create(ResourceType.LOAD, "l2", 1, LoadAttributes.builder().p(20).build()));
+        ColumnarSvAttributes columns = ColumnarSvAttributes.of(ResourceType.LOAD, 1, loads);
+        assertEquals(List.of("l1", "l2"), columns.getIds());
+        assertArrayEquals(new double[] {10, 20}, columns.getDoubleColumns().get(ColumnarSvAttributes.P));
+
+        // NaN values go through JSON
+        ObjectMapper objectMapper = new ObjectMapper();
+        ColumnarSvAttributes deserialized = objectMapper.readValue(objectMapper.writeValueAsString(columns), ColumnarSvAttributes.class);
+        List<Resource<Attributes>> resources = deserialized.toResources();
+        assertEquals(2, resources.size());
+        assertEquals("l2", resources.get(1).getId());
+        assertEquals(1, resources.get(1).getVariantNum());
+        InjectionSvAttributes l2 = (InjectionSvAttributes) resources.get(1).getAttributes();
+        assertEquals(20, l2.getP());
+        assertTrue(Double.isNaN(l2.getQ()));
+
+        assertFalse(ColumnarSvAttributes.isSupported(ResourceType.VOLTAGE_LEVEL));
+        assertThrows(IllegalArgumentException.class, () -> ColumnarSvAttributes.of(ResourceType.GENERATOR, 1, loads));
+        deserialized.getDoubleColumns().put(ColumnarSvAttributes.Q, new double[] {1});
+        assertThrows(IllegalArgumentException.class, deserialized::toResources);
+    }
+
+    @Test
+    void testTransformers() {
+        Resource<ThreeWindingsTransformerAttributes> twt = Resource.create(ResourceType.THREE_WINDINGS_TRANSFORMER, "twt", 0, ThreeWindingsTransformerAttributes.builder()
+                .p1(1)
+                .q3(3)
+                .leg1(LegAttributes.builder().build())
+                .leg2(LegAttributes.builder()
+                        .ratioTapChangerAttributes(RatioTapChangerAttributes.builder().solvedTapPosition(4).build())
+                        .build())
+                .build());
+        ColumnarSvAttributes columns = ColumnarSvAttributes.of(ResourceType.THREE_WINDINGS_TRANSFORMER, 0, List.of(twt));
+        assertArrayEquals(new Integer[] {4}, columns.getIntegerColumns().get(ColumnarSvAttributes.getLegColumnName(2, ColumnarSvAttributes.RATIO_TAP_CHANGER_SOLVED_TAP_POSITION)));
+        assertArrayEquals(new Integer[] {null}, columns.getIntegerColumns().get(ColumnarSvAttributes.getLegColumnName(3, ColumnarSvAttributes.RATIO_TAP_CHANGER_SOLVED_TAP_POSITION)));
+
+        ThreeWindingsTransformerSvAttributes attributes = (ThreeWindingsTransformerSvAttributes) columns.toResources().getFirst().getAttributes();
+        assertEquals(1, attributes.getP1());
+        assertEquals(3, attributes.getQ3());
+        assertNull(attributes.getLeg1().getRatioTapChangerAttributes());
+        assertEquals(4, attributes.getLeg2().getRatioTapChangerAttributes().getSolvedTapPosition());
+        assertNull(attributes.getLeg2().getPhaseTapChangerAttributes());
+    }
+}
@@ -0,0 +1,93 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.model.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.powsybl.iidm.network.EnergySource;
+import com.powsybl.network.store.model.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+class AttributesCopierTest {
+
+    @Test
+    void testGenerator() throws Exception {
+        ReactiveCapabilityCurveAttributes curve = new ReactiveCapabilityCurveAttributes();
+        curve.getPoints().put(0.0, ReactiveCapabilityCurvePointAttributes.builder().p(0).minQ(-10).maxQ(10).build());
+        curve.getPoints().put(100.0, ReactiveCapabilityCurvePointAttributes.builder().p(100).minQ(-5).maxQ(5).build());
+        GeneratorAttributes generator = GeneratorAttributes.builder()
+                .voltageLevelId("vl1")
+                .name("g1")
+                .energySource(EnergySource.HYDRO)
+                .targetP(50)
+                .properties(new HashMap<>(Map.of("p1", "v1")))
+                .reactiveLimits(curve)
+                .regulatingEquipments(new HashSet<>(Set.of(new RegulatingEquipmentIdentifier("g2", ResourceType.GENERATOR, null))))
+                .build();
+        Resource<GeneratorAttributes> resource = Resource.generatorBuilder().id("g1").attributes(generator).build();
+
+        GeneratorAttributes copy = AttributesCopier.deepCopy(generator);
+
+        // same content as a JSON round trip
+        ObjectMapper objectMapper = new ObjectMapper();
+        assertEquals(objectMapper.writeValueAsString(generator), objectMapper.writeValueAsString(copy));
+        assertTrue(Double.isNaN(copy.getP()));
+        assertSame(resource, generator.getResource());
+        assertNull(copy.getResource());
+
+        // nothing mutable is shared
+        assertNotSame(generator.getProperties(), copy.getProperties());
+        assertNotSame(generator.getRegulatingEquipments(), copy.getRegulatingEquipments());
+        ReactiveCapabilityCurveAttributes copiedCurve = (ReactiveCapabilityCurveAttributes) copy.getReactiveLimits();
+        assertNotSame(curve, copiedCurve);
+        assertSame(ReactiveCapabilityCurveAttributes.COMPARATOR, copiedCurve.getPoints().comparator());
+        assertNotSame(curve.getPoints().get(0.0), copiedCurve.getPoints().get(-0.0));
+
+        copy.getProperties().put("p2", "v2");
+        copiedCurve.getPoints().get(100.0).setMaxQ(6);
+        assertEquals(Map.of("p1", "v1"), generator.getProperties());
+        assertEquals(5, curve.getPoints().get(100.0).getMaxQ());
+
+        // extensions are copied according to their runtime class
+        ActivePowerControlAttributes activePowerControl = ActivePowerControlAttributes.builder().participate(true).droop(4).build();
+        generator.getExtensionAttributes().put("activePowerControl", activePowerControl);
+        ExtensionAttributes copiedActivePowerControl = AttributesCopier.deepCopy(generator).getExtensionAttributes().get("activePowerControl");
+        assertNotSame(activePowerControl, copiedActivePowerControl);
+        assertEquals(activePowerControl, copiedActivePowerControl);
+    }
+
+    @Test
+    void testLimits() {
+        TreeMap<Integer, TemporaryLimitAttributes> temporaryLimits = new TreeMap<>(Comparator.reverseOrder());
+        temporaryLimits.put(60, TemporaryLimitAttributes.builder().name("1'").value(1200).acceptableDuration(60).build());
+        temporaryLimits.put(600, TemporaryLimitAttributes.builder().name("10'").value(1100).acceptableDuration(600).build());
+        LineAttributes line = LineAttributes.builder()
+                .voltageLevelId1("vl1")
+                .voltageLevelId2("vl2")
+                .aliasesWithoutType(new LinkedHashSet<>(List.of("b", "a")))
+                .build();
+        line.getOperationalLimitsGroups1().put("group", OperationalLimitsGroupAttributes.builder()
+                .id("group")
+                .currentLimits(LimitsAttributes.builder().permanentLimit(1000).temporaryLimits(temporaryLimits).build())
+                .build());
+
+        LineAttributes copy = AttributesCopier.deepCopy(line);
+
+        assertEquals(List.of("b", "a"), new ArrayList<>(copy.getAliasesWithoutType()));
+        LimitsAttributes copiedLimits = copy.getOperationalLimitsGroup1("group").getCurrentLimits();
+        assertNotSame(line.getOperationalLimitsGroup1("group").getCurrentLimits(), copiedLimits);
+        assertEquals(List.of(600, 60), new ArrayList<>(copiedLimits.getTemporaryLimits().keySet()));
+        copiedLimits.getTemporaryLimits().get(60).setValue(1300);
+        assertEquals(1200, temporaryLimits.get(60).getValue());
+    }
+}
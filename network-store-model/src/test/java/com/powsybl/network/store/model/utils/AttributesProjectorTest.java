@@ -0,0 +1,45 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.model.utils;
+
+import com.powsybl.network.store.model.*;
+import com.powsybl.network.store.model.svattributes.InjectionSvAttributes;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+class AttributesProjectorTest {
+
+    @Test
+    void testProject() {
+        Resource<LoadAttributes> resource = Resource.loadBuilder()
+                .id("l1")
+                .variantNum(1)
+                .attributes(LoadAttributes.builder()
+                        .voltageLevelId("vl1")
+                        .p0(100)
+                        .p(99.5)
+                        .q(10.5)
+                        .build())
+                .build();
+
+        assertTrue(AttributesProjector.hasSubsetAttributes(ResourceType.LOAD, AttributeFilter.SV));
+        assertFalse(AttributesProjector.hasSubsetAttributes(ResourceType.LOAD, AttributeFilter.PRIMARY_AS_NULL));
+
+        Resource<Attributes> projected = AttributesProjector.project(resource, AttributeFilter.SV);
+        assertEquals(ResourceType.LOAD, projected.getType());
+        assertEquals("l1", projected.getId());
+        assertEquals(1, projected.getVariantNum());
+        InjectionSvAttributes attributes = assertInstanceOf(InjectionSvAttributes.class, projected.getAttributes());
+        assertEquals(99.5, attributes.getP(), 0);
+        assertEquals(10.5, attributes.getQ(), 0);
+        assertSame(projected, attributes.getResource());
+    }
+}